@@ -0,0 +1,61 @@
+-- 감정 분석용 일 단위 집계 테이블 (PostgreSQL / Supabase)
+-- 쓰기 경로(DiaryTagSupport)에서 증감하고, EmotionInsightService가 원본 diary_emotions 대신 이 테이블을 읽는다.
+-- 1) 테이블 생성 -> 2) 백필 -> 3) 검증 순서로 실행한다.
+
+CREATE TABLE IF NOT EXISTS public.daily_emotion_rollups (
+    profile_id      uuid        NOT NULL,
+    rollup_date     date        NOT NULL,
+    emotion_tag_id  bigint      NOT NULL,
+    category        varchar(20) NOT NULL,
+    tag_name        varchar(50) NOT NULL,
+    color           varchar(20),
+    mention_count   bigint      NOT NULL DEFAULT 0,
+    intensity_sum   bigint      NOT NULL DEFAULT 0,
+    updated_at      timestamptz NOT NULL DEFAULT now(),
+    PRIMARY KEY (profile_id, rollup_date, emotion_tag_id, category)
+);
+
+-- 태그 수정 후 태그 단위 재구축(deleteByProfileIdAndTagId)용
+CREATE INDEX IF NOT EXISTS idx_daily_emotion_rollups_profile_tag
+    ON public.daily_emotion_rollups (profile_id, emotion_tag_id);
+
+-- 2) 백필: 운영 중에는 POST /internal/insights/rollups/rebuild (프로필 단위 트랜잭션)를 권장한다.
+INSERT INTO public.daily_emotion_rollups (
+    profile_id, rollup_date, emotion_tag_id, category, tag_name, color, mention_count, intensity_sum, updated_at
+)
+SELECT
+    de.profile_id,
+    de.diary_date,
+    de.emotion_tag_id,
+    de.category_snapshot,
+    MAX(de.tag_name_snapshot),
+    MAX(de.color_snapshot),
+    COUNT(*),
+    COALESCE(SUM(de.intensity), 0),
+    now()
+FROM public.diary_emotions de
+WHERE EXISTS (
+    SELECT 1
+    FROM public.diaries d
+    WHERE d.id = de.diary_id
+      AND d.is_deleted = false
+)
+GROUP BY de.profile_id, de.diary_date, de.emotion_tag_id, de.category_snapshot
+ON CONFLICT (profile_id, rollup_date, emotion_tag_id, category) DO NOTHING;
+
+-- 3) 검증: 두 쿼리 모두 0행이어야 집계 테이블이 원본과 일치한다.
+WITH raw AS (
+    SELECT de.profile_id, de.diary_date AS rollup_date, de.emotion_tag_id, de.category_snapshot AS category,
+           COUNT(*) AS mention_count, COALESCE(SUM(de.intensity), 0) AS intensity_sum
+    FROM public.diary_emotions de
+    WHERE EXISTS (SELECT 1 FROM public.diaries d WHERE d.id = de.diary_id AND d.is_deleted = false)
+    GROUP BY de.profile_id, de.diary_date, de.emotion_tag_id, de.category_snapshot
+),
+rollup AS (
+    SELECT profile_id, rollup_date, emotion_tag_id, category, mention_count, intensity_sum
+    FROM public.daily_emotion_rollups
+    WHERE mention_count > 0
+)
+SELECT 'missing_in_rollup' AS diff, * FROM (SELECT * FROM raw EXCEPT SELECT * FROM rollup) m
+UNION ALL
+SELECT 'unexpected_in_rollup' AS diff, * FROM (SELECT * FROM rollup EXCEPT SELECT * FROM raw) u;
@@ -0,0 +1,12 @@
+-- 목록/검색 미리보기용 발췌문 컬럼 (PostgreSQL / Supabase)
+-- 목록 쿼리는 situation 전체 대신 excerpt만 읽는다. 백필 전 행은 left(situation, 120)로 대체된다.
+-- 컬럼 추가는 기본값 없는 nullable 컬럼이라 테이블 재작성 없이 즉시 끝난다.
+
+ALTER TABLE public.diaries
+    ADD COLUMN IF NOT EXISTS excerpt text;
+
+-- 백필: 문자소(grapheme) 경계를 지키기 위해 SQL 대신 애플리케이션 작업으로 청크 단위 실행한다.
+-- curl -X POST -H "X-Admin-Token: $DIARY_EXCERPT_BACKFILL_TOKEN" https://<host>/internal/diaries/excerpts/backfill
+
+-- 진행 확인: 0이 되면 백필 완료
+-- SELECT COUNT(*) FROM public.diaries WHERE excerpt IS NULL AND situation IS NOT NULL;
@@ -0,0 +1,24 @@
+-- "오늘의 추억"(이전 해들의 같은 날 일기) 조회용 식 인덱스 (PostgreSQL / Supabase)
+-- DiaryRepository.findSameMonthDayBefore 의 WHERE 식과 완전히 같아야 인덱스가 사용된다.
+-- 연도 수와 무관하게 (profile_id, 월일) 한 번의 범위 탐색으로 끝나며, 정렬도 인덱스 순서를 그대로 쓴다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_diaries_profile_month_day_not_deleted
+    ON public.diaries (
+        profile_id,
+        ((EXTRACT(MONTH FROM date) * 100 + EXTRACT(DAY FROM date))),
+        date DESC,
+        created_at DESC,
+        id DESC
+    )
+    WHERE is_deleted = false;
+
+-- 확인: Index Scan using idx_diaries_profile_month_day_not_deleted 가 나와야 한다.
+-- EXPLAIN
+-- SELECT d.id, d.date
+-- FROM public.diaries d
+-- WHERE d.profile_id = '00000000-0000-0000-0000-000000000000'
+--   AND d.is_deleted = false
+--   AND (EXTRACT(MONTH FROM d.date) * 100 + EXTRACT(DAY FROM d.date)) = 1019
+--   AND d.date < DATE '2026-01-01'
+-- ORDER BY d.date DESC, d.created_at DESC, d.id DESC
+-- LIMIT 5;
@@ -0,0 +1,49 @@
+-- 태그/감정 카테고리 필터 목록용 인덱스 (PostgreSQL / Supabase)
+-- 대상 쿼리: DiaryRepository.findByTagBeforeCursor / findByCategoryBeforeCursor
+--   diary_emotions 에서 (profile_id, 태그 또는 카테고리, 날짜 범위)로 diary_id 를 고른 뒤 diaries 와 세미 조인한다.
+--           DiaryRepository.searchByKeywordOrderByDateDesc / searchByKeywordOrderByDateAsc (태그/카테고리 필터)
+--   EXISTS 서브쿼리를 profile_id, 태그 또는 카테고리, diary_date 로 상관시켜 같은 인덱스를 키 전체로 탄다.
+-- diary_id 를 마지막 컬럼에 두어 서브쿼리가 index-only scan 으로 끝나도록 한다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_diary_emotions_profile_tag_date
+    ON public.diary_emotions (profile_id, emotion_tag_id, diary_date DESC, diary_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_diary_emotions_profile_category_date
+    ON public.diary_emotions (profile_id, category_snapshot, diary_date DESC, diary_id);
+
+-- 확인: 아래 두 쿼리 모두 diary_emotions 쪽에 Index Only Scan using idx_diary_emotions_profile_*_date 가,
+-- diaries 쪽에 Index Scan using diaries_pkey (Nested Loop Semi Join 또는 Hash Semi Join)가 나와야 한다.
+-- 전체 diaries/diary_emotions 에 대한 Seq Scan 이 보이면 ANALYZE 후 다시 확인한다.
+-- 같은 확인을 DiaryFilterIndexPlanTest 가 검색 EXISTS 세미 조인까지 포함해 Testcontainers PostgreSQL 에서 자동으로 수행한다.
+--
+-- EXPLAIN (ANALYZE, BUFFERS)
+-- SELECT d.id, d.date
+-- FROM public.diaries d
+-- WHERE d.id IN (
+--         SELECT de.diary_id
+--         FROM public.diary_emotions de
+--         WHERE de.profile_id = '00000000-0000-0000-0000-000000000000'
+--           AND de.emotion_tag_id = 1
+--           AND de.diary_date BETWEEN DATE '1970-01-01' AND DATE '9999-12-31'
+--   )
+--   AND d.profile_id = '00000000-0000-0000-0000-000000000000'
+--   AND d.is_deleted = false
+--   AND (d.date, d.id) < (DATE '9999-12-31', 9223372036854775807)
+-- ORDER BY d.date DESC, d.id DESC
+-- LIMIT 21;
+--
+-- EXPLAIN (ANALYZE, BUFFERS)
+-- SELECT d.id, d.date
+-- FROM public.diaries d
+-- WHERE d.id IN (
+--         SELECT de.diary_id
+--         FROM public.diary_emotions de
+--         WHERE de.profile_id = '00000000-0000-0000-0000-000000000000'
+--           AND de.category_snapshot = 'NEGATIVE'
+--           AND de.diary_date BETWEEN DATE '1970-01-01' AND DATE '9999-12-31'
+--   )
+--   AND d.profile_id = '00000000-0000-0000-0000-000000000000'
+--   AND d.is_deleted = false
+--   AND (d.date, d.id) < (DATE '9999-12-31', 9223372036854775807)
+-- ORDER BY d.date DESC, d.id DESC
+-- LIMIT 21;
@@ -0,0 +1,6 @@
+-- 태그 수정 후 diary_emotions 스냅샷 전파(TagSnapshotSyncService)용 인덱스 (PostgreSQL / Supabase)
+-- 대상 쿼리: WHERE emotion_tag_id = ? AND id > ? ORDER BY id LIMIT ?
+-- 청크마다 인덱스 범위 스캔 한 번으로 끝나도록 (emotion_tag_id, id) 복합 인덱스를 사용한다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_diary_emotions_tag_id_keyset
+    ON public.diary_emotions (emotion_tag_id, id);
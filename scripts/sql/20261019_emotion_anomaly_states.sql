@@ -0,0 +1,17 @@
+-- 부정 감정 비율 온라인 이상 탐지 상태 (PostgreSQL / Supabase)
+-- daily_emotion_rollups(20261019_daily_emotion_rollups.sql) 적용 후 실행한다.
+-- 프로필당 한 행이며 일기 태그 쓰기 경로에서 O(1)로 갱신된다.
+-- 기존 데이터 백필은 POST /internal/insights/rollups/rebuild 로 수행한다(일 단위 집계를 날짜순으로 재생).
+
+CREATE TABLE IF NOT EXISTS public.emotion_anomaly_states (
+    profile_id             uuid             PRIMARY KEY,
+    latest_date            date,
+    latest_negative_count  bigint           NOT NULL DEFAULT 0,
+    latest_total_count     bigint           NOT NULL DEFAULT 0,
+    ewma_mean              double precision NOT NULL DEFAULT 0,
+    ewma_variance          double precision NOT NULL DEFAULT 0,
+    observed_days          integer          NOT NULL DEFAULT 0,
+    z_score                double precision NOT NULL DEFAULT 0,
+    flagged                boolean          NOT NULL DEFAULT false,
+    updated_at             timestamptz      NOT NULL DEFAULT now()
+);
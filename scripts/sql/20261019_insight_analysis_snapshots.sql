@@ -0,0 +1,14 @@
+-- 기본 감정 분석(최근 30일) 야간 스냅샷 테이블 (PostgreSQL / Supabase)
+-- InsightSnapshotBatchService가 새벽에 채우고, 일기 쓰기/태그 스냅샷 동기화 시 프로필 행을 지운다.
+-- payload는 EmotionAnalysisResponse의 JDK 직렬화 바이트이며, from/to가 오늘 기준과 다르면 읽지 않는다.
+
+CREATE TABLE IF NOT EXISTS public.insight_analysis_snapshots (
+    profile_id   uuid        PRIMARY KEY,
+    from_date    date        NOT NULL,
+    to_date      date        NOT NULL,
+    payload      bytea       NOT NULL,
+    computed_at  timestamptz NOT NULL DEFAULT now()
+);
+
+-- 활동 프로필 조회(date >= :since 인 DISTINCT profile_id)는 기존 diaries (profile_id, date) 인덱스를 사용한다.
+-- 저장 시 계산 이후 쓰기 여부 확인(profile_id, updated_at)은 프로필 단위 일기 수가 작아 별도 인덱스 없이 둔다.
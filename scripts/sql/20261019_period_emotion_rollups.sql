@@ -0,0 +1,58 @@
+-- 감정 분석용 주/월 단위 집계 테이블 (PostgreSQL / Supabase)
+-- daily_emotion_rollups(20261019_daily_emotion_rollups.sql) 적용 후 실행한다.
+-- 긴 기간 조회는 완전한 주/월을 이 테이블에서, 앞뒤 자투리 날짜만 일 단위 집계에서 읽는다.
+
+CREATE TABLE IF NOT EXISTS public.period_emotion_rollups (
+    profile_id      uuid        NOT NULL,
+    resolution      varchar(10) NOT NULL,
+    period_start    date        NOT NULL,
+    emotion_tag_id  bigint      NOT NULL,
+    category        varchar(20) NOT NULL,
+    tag_name        varchar(50) NOT NULL,
+    color           varchar(20),
+    mention_count   bigint      NOT NULL DEFAULT 0,
+    intensity_sum   bigint      NOT NULL DEFAULT 0,
+    updated_at      timestamptz NOT NULL DEFAULT now(),
+    PRIMARY KEY (profile_id, resolution, period_start, emotion_tag_id, category)
+);
+
+CREATE INDEX IF NOT EXISTS idx_period_emotion_rollups_profile_tag
+    ON public.period_emotion_rollups (profile_id, emotion_tag_id);
+
+-- 백필: 일 단위 집계에서 파생 (주는 ISO 기준 월요일 시작)
+INSERT INTO public.period_emotion_rollups (
+    profile_id, resolution, period_start, emotion_tag_id, category, tag_name, color, mention_count, intensity_sum, updated_at
+)
+SELECT d.profile_id, 'WEEK', CAST(date_trunc('week', d.rollup_date) AS date), d.emotion_tag_id, d.category,
+       MAX(d.tag_name), MAX(d.color), SUM(d.mention_count), SUM(d.intensity_sum), now()
+FROM public.daily_emotion_rollups d
+GROUP BY d.profile_id, 3, d.emotion_tag_id, d.category
+ON CONFLICT (profile_id, resolution, period_start, emotion_tag_id, category) DO NOTHING;
+
+INSERT INTO public.period_emotion_rollups (
+    profile_id, resolution, period_start, emotion_tag_id, category, tag_name, color, mention_count, intensity_sum, updated_at
+)
+SELECT d.profile_id, 'MONTH', CAST(date_trunc('month', d.rollup_date) AS date), d.emotion_tag_id, d.category,
+       MAX(d.tag_name), MAX(d.color), SUM(d.mention_count), SUM(d.intensity_sum), now()
+FROM public.daily_emotion_rollups d
+GROUP BY d.profile_id, 3, d.emotion_tag_id, d.category
+ON CONFLICT (profile_id, resolution, period_start, emotion_tag_id, category) DO NOTHING;
+
+-- 검증: 0행이어야 주/월 집계가 일 단위 집계와 일치한다.
+WITH expected AS (
+    SELECT d.profile_id, r.resolution,
+           CAST(date_trunc(lower(r.resolution), d.rollup_date) AS date) AS period_start,
+           d.emotion_tag_id, d.category,
+           SUM(d.mention_count) AS mention_count, SUM(d.intensity_sum) AS intensity_sum
+    FROM public.daily_emotion_rollups d
+    CROSS JOIN (VALUES ('WEEK'), ('MONTH')) AS r(resolution)
+    GROUP BY 1, 2, 3, 4, 5
+),
+actual AS (
+    SELECT profile_id, resolution, period_start, emotion_tag_id, category, mention_count, intensity_sum
+    FROM public.period_emotion_rollups
+    WHERE mention_count > 0
+)
+SELECT 'missing' AS diff, * FROM (SELECT * FROM expected EXCEPT SELECT * FROM actual) m
+UNION ALL
+SELECT 'unexpected' AS diff, * FROM (SELECT * FROM actual EXCEPT SELECT * FROM expected) u;
@@ -0,0 +1,14 @@
+-- 관리자용 전체 사용자 감정 통계 인덱스 (PostgreSQL / Supabase)
+-- PlatformEmotionStatsService는 daily_emotion_rollups를 월 단위로 나눠 병렬 스캔한다.
+-- 기존 PK는 profile_id 선두라 날짜 범위만으로는 인덱스를 탈 수 없으므로 rollup_date 선두 인덱스를 추가한다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_daily_emotion_rollups_date_category
+    ON public.daily_emotion_rollups (rollup_date, category)
+    INCLUDE (emotion_tag_id, mention_count);
+
+-- 확인: 한 달 파티션이 Index Only Scan 또는 Bitmap Index Scan으로 해당 월 행만 읽어야 한다.
+-- EXPLAIN (ANALYZE, BUFFERS)
+-- SELECT r.category, SUM(r.mention_count)
+-- FROM public.daily_emotion_rollups r
+-- WHERE r.rollup_date >= DATE '2026-09-01' AND r.rollup_date < DATE '2026-10-01'
+-- GROUP BY r.category;
@@ -0,0 +1,21 @@
+-- 보안 감사 이벤트 테이블 (PostgreSQL / Supabase)
+-- SecurityAuditListener가 링 버퍼에 넣은 이벤트를 단일 라이터가 배치 INSERT 한다.
+-- DB 기록이 실패한 배치는 mindlog.security.audit.fallback-dir 의 NDJSON 파일에 남는다.
+
+CREATE TABLE IF NOT EXISTS public.security_audit_events (
+    id           bigserial   PRIMARY KEY,
+    occurred_at  timestamptz NOT NULL,
+    event_type   text        NOT NULL,
+    principal    text        NOT NULL,
+    detail       text,
+    client_ip    text,
+    created_at   timestamptz NOT NULL DEFAULT now()
+);
+
+-- 대상 쿼리: WHERE principal = ? ORDER BY occurred_at DESC (사용자별 감사 조회)
+CREATE INDEX IF NOT EXISTS idx_security_audit_events_principal_time
+    ON public.security_audit_events (principal, occurred_at DESC);
+
+-- 보관 기간 정리: DELETE FROM public.security_audit_events WHERE occurred_at < now() - interval '180 days'
+CREATE INDEX IF NOT EXISTS idx_security_audit_events_occurred_at
+    ON public.security_audit_events (occurred_at);
@@ -0,0 +1,32 @@
+-- 태그 동시 출현(희소 행렬) 테이블 (PostgreSQL / Supabase)
+-- 일기 태그 저장/삭제 시 해당 일기 태그 쌍만 증감하고, 상위 K 쌍은 (profile_id, pair_count) 인덱스로 바로 읽는다.
+
+CREATE TABLE IF NOT EXISTS public.tag_cooccurrences (
+    profile_id  uuid        NOT NULL,
+    tag_a_id    bigint      NOT NULL,
+    tag_b_id    bigint      NOT NULL,
+    pair_count  bigint      NOT NULL DEFAULT 0,
+    updated_at  timestamptz NOT NULL DEFAULT now(),
+    PRIMARY KEY (profile_id, tag_a_id, tag_b_id),
+    CHECK (tag_a_id < tag_b_id)
+);
+
+-- 대상 쿼리: WHERE profile_id = ? AND pair_count > 0 ORDER BY pair_count DESC LIMIT ?
+CREATE INDEX IF NOT EXISTS idx_tag_cooccurrences_profile_count
+    ON public.tag_cooccurrences (profile_id, pair_count DESC);
+
+-- 백필 (운영 중에는 POST /internal/insights/rollups/rebuild 로 프로필 단위 재구축을 권장)
+INSERT INTO public.tag_cooccurrences (profile_id, tag_a_id, tag_b_id, pair_count, updated_at)
+SELECT a.profile_id, a.emotion_tag_id, b.emotion_tag_id, COUNT(DISTINCT a.diary_id), now()
+FROM public.diary_emotions a
+JOIN public.diary_emotions b
+  ON b.diary_id = a.diary_id
+ AND b.emotion_tag_id > a.emotion_tag_id
+WHERE EXISTS (
+    SELECT 1
+    FROM public.diaries d
+    WHERE d.id = a.diary_id
+      AND d.is_deleted = false
+)
+GROUP BY a.profile_id, a.emotion_tag_id, b.emotion_tag_id
+ON CONFLICT (profile_id, tag_a_id, tag_b_id) DO NOTHING;
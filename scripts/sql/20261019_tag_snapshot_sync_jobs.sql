@@ -0,0 +1,21 @@
+-- 태그 스냅샷 전파 작업 큐 (PostgreSQL / Supabase)
+-- 태그 수정과 같은 트랜잭션에서 태그당 한 행을 PENDING 으로 upsert 하므로 재시작/배포 후에도 작업이 남는다.
+-- 워커는 FOR UPDATE SKIP LOCKED 로 한 건씩 가져가며, 진행 상황 조회(GET /api/tags/{tagId}/snapshot-sync)도 이 행을 읽는다.
+-- request_seq 는 재요청마다 1씩 늘어나 이전 실행이 새 요청의 상태를 덮어쓰지 못하게 한다.
+
+CREATE TABLE IF NOT EXISTS public.tag_snapshot_sync_jobs (
+    tag_id            bigint      PRIMARY KEY REFERENCES public.emotion_tags (id) ON DELETE CASCADE,
+    profile_id        uuid        NOT NULL,
+    status            varchar(16) NOT NULL,
+    request_seq       bigint      NOT NULL DEFAULT 1,
+    updated_rows      bigint      NOT NULL DEFAULT 0,
+    processed_chunks  integer     NOT NULL DEFAULT 0,
+    requested_at      timestamptz NOT NULL DEFAULT now(),
+    completed_at      timestamptz,
+    updated_at        timestamptz NOT NULL DEFAULT now()
+);
+
+-- 대상 쿼리: WHERE status = 'PENDING' OR (status = 'RUNNING' AND updated_at < ?) ORDER BY requested_at LIMIT 1
+CREATE INDEX IF NOT EXISTS idx_tag_snapshot_sync_jobs_open
+    ON public.tag_snapshot_sync_jobs (requested_at)
+    WHERE status IN ('PENDING', 'RUNNING');
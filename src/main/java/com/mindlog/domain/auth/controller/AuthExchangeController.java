@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Controller;
@@ -31,6 +32,7 @@ public class AuthExchangeController {
     static final String LAST_EXCHANGE_TOKEN_FINGERPRINT = "LAST_EXCHANGE_TOKEN_FINGERPRINT";
 
     private final AuthHandoverService handoverService;
+    private final SessionAuthenticationStrategy concurrentSessionControlStrategy;
     private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
 
     @GetMapping("/exchange")
@@ -62,6 +64,8 @@ public class AuthExchangeController {
             return "redirect:/auth/login?source=app&error=invalid_token";
         }
 
+        concurrentSessionControlStrategy.onAuthentication(result.authentication(), request, response);
+
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         context.setAuthentication(result.authentication());
         SecurityContextHolder.setContext(context);
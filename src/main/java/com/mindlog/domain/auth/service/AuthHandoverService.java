@@ -1,20 +1,25 @@
 package com.mindlog.domain.auth.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.mindlog.global.security.MindlogPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 네이티브 앱(Android)의 Custom Tab ↔ WebView 간 인증 인계(Handover)를 담당하는 서비스.
@@ -23,10 +28,12 @@ import java.util.concurrent.ConcurrentHashMap;
  * WebView가 해당 토큰을 교환하여 세션을 획득합니다.
  * 
  * 운영 환경(다중 서버)에서는 Redis로 대체하는 것을 권장합니다.
+ *
+ * Redis 장애 시에는 인스턴스 로컬 대체 저장소({@link TimingWheelTokenStore})에 보관합니다.
+ * 만료는 리퍼 스레드가 초 단위로 처리하고, 보관 수가 상한에 닿으면 새 토큰 발급을 거절합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthHandoverService {
     private static final String TOKEN_KEY_PREFIX = "auth:handover:";
     private static final Duration TOKEN_TTL = Duration.ofSeconds(60);
@@ -40,6 +47,7 @@ public class AuthHandoverService {
 
     private record StoredHandoverData(
             String principal,
+            @Nullable String displayName,
             List<String> authorities,
             Map<String, Object> sessionAttributes,
             Instant createdAt
@@ -48,7 +56,30 @@ public class AuthHandoverService {
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
-    private final Map<String, HandoverData> fallbackTokenStore = new ConcurrentHashMap<>();
+    private final TimingWheelTokenStore<HandoverData> fallbackTokenStore;
+    private final @Nullable Counter fallbackRejected;
+
+    public AuthHandoverService(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${mindlog.auth.handover.fallback-max-entries:10000}") int fallbackMaxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.fallbackTokenStore = new TimingWheelTokenStore<>(TOKEN_TTL, fallbackMaxEntries, Clock.systemUTC());
+
+        var meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            this.fallbackRejected = null;
+            return;
+        }
+        this.fallbackRejected = Counter.builder("mindlog.auth.handover.fallback.rejected")
+                .description("대체 저장소 상한으로 거절한 Handover 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("mindlog.auth.handover.fallback.size", fallbackTokenStore, TimingWheelTokenStore::size)
+                .description("대체 저장소에 보관 중인 Handover 토큰 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 일회용 토큰을 생성합니다.
@@ -60,16 +91,22 @@ public class AuthHandoverService {
     public String createOneTimeToken(Authentication authentication, Map<String, Object> sessionAttributes) {
         var token = UUID.randomUUID().toString();
         var now = Instant.now();
+        var principal = MindlogPrincipal.from(authentication.getPrincipal());
         var stored = new StoredHandoverData(
                 String.valueOf(authentication.getPrincipal()),
+                (principal != null) ? principal.displayName() : null,
                 authentication.getAuthorities().stream().map(authority -> authority.getAuthority()).toList(),
                 sessionAttributes,
                 now
         );
 
-        if (!saveToRedis(token, stored)) {
-            fallbackTokenStore.put(token, new HandoverData(authentication, sessionAttributes, now));
-            cleanupExpiredFallbackTokens();
+        if (!saveToRedis(token, stored)
+                && !fallbackTokenStore.put(token, new HandoverData(authentication, sessionAttributes, now))) {
+            if (fallbackRejected != null) {
+                fallbackRejected.increment();
+            }
+            log.warn("Handover 대체 저장소가 가득 차 토큰을 발급하지 않습니다. (보관 중: {})", fallbackTokenStore.size());
+            throw new IllegalStateException("로그인 요청이 많아 잠시 후 다시 시도해주세요.");
         }
 
         log.info("Handover 토큰 생성: {} (사용자: {})", token.substring(0, 8) + "...", authentication.getName());
@@ -90,11 +127,11 @@ public class AuthHandoverService {
                 log.warn("Handover 토큰 만료: {} (생성: {})", token.substring(0, 8) + "...", fromRedis.createdAt());
                 return null;
             }
-            var authentication = new UsernamePasswordAuthenticationToken(
-                    fromRedis.principal(),
-                    "N/A",
-                    fromRedis.authorities().stream().map(SimpleGrantedAuthority::new).toList()
-            );
+            var principal = new MindlogPrincipal(
+                    UUID.fromString(fromRedis.principal()),
+                    fromRedis.displayName(),
+                    fromRedis.authorities());
+            var authentication = new UsernamePasswordAuthenticationToken(principal, "N/A", principal.authorities());
             log.info("Handover 토큰 교환 성공: {} (사용자: {})", token.substring(0, 8) + "...", authentication.getName());
             return new HandoverResult(authentication, fromRedis.sessionAttributes());
         }
@@ -114,15 +151,6 @@ public class AuthHandoverService {
         return new HandoverResult(fallback.authentication(), fallback.sessionAttributes());
     }
 
-    /**
-     * 만료된 토큰 정리
-     */
-    private void cleanupExpiredFallbackTokens() {
-        var now = Instant.now();
-        fallbackTokenStore.entrySet()
-                .removeIf(entry -> now.isAfter(entry.getValue().createdAt().plusSeconds(TOKEN_TTL.toSeconds() * 2)));
-    }
-
     private boolean saveToRedis(String token, StoredHandoverData payload) {
         try {
             var serialized = objectMapper.writeValueAsString(payload);
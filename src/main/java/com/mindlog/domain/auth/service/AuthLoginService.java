@@ -4,50 +4,79 @@ import com.mindlog.domain.profile.entity.Profile;
 import com.mindlog.domain.profile.entity.UserRole;
 import com.mindlog.domain.profile.repository.ProfileRepository;
 import com.mindlog.global.exception.SupabaseAuthException;
+import com.mindlog.global.security.MindlogPrincipal;
 import com.mindlog.global.security.SupabaseAuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * OAuth 콜백 로그인 처리.
+ *
+ * <p>Supabase 토큰 교환(원격 호출)은 트랜잭션 밖에서 끝내고, 프로필 동기화는 한 문장 upsert로 짧게 처리한다.
+ * 외부 호출 동안 커넥션 풀의 연결을 잡고 있지 않는다. 최근 동기화한 프로필은 잠시 기억해 재로그인 시 DB를 건너뛴다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthLoginService {
-    private static final String ROLE_USER = "ROLE_USER";
     private static final String ACCESS_TOKEN_KEY = "ACCESS_TOKEN";
     private static final String USER_NAME_KEY = "USER_NAME";
     private static final String REFRESH_TOKEN_KEY = "REFRESH_TOKEN";
+    private static final String ACCESS_TOKEN_EXPIRES_AT_KEY = "ACCESS_TOKEN_EXPIRES_AT";
+    private static final int RECENTLY_SYNCED_MAX_ENTRIES = 10_000;
 
     private final SupabaseAuthService supabaseAuthService;
     private final ProfileRepository profileRepository;
     private final AuthHandoverService authHandoverService;
+    private final SessionAuthenticationStrategy concurrentSessionControlStrategy;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+    private final Map<UUID, SyncedProfile> recentlySyncedProfiles = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, SyncedProfile> eldest) {
+            return size() > RECENTLY_SYNCED_MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * 역할 변경(관리자 지정 등)이 로그인에 반영되기까지 최대 이만큼 늦을 수 있다. 0이면 기억하지 않는다.
+     */
+    @Value("${mindlog.auth.profile-sync-cache-ttl-seconds:600}")
+    private long profileSyncCacheTtlSeconds;
 
-    @Transactional
     public String processLogin(String code, String verifier, HttpServletRequest request, HttpServletResponse response)
             throws Exception {
         var loginContext = authenticateWithSupabase(code, verifier);
-        var auth = createAuthentication(loginContext.userId(), loginContext.accessToken());
+        var auth = createAuthentication(loginContext);
 
+        // 같은 프로필의 이전 세션이 상한을 넘으면 가장 오래 쓰지 않은 세션에 만료 표시를 남긴다.
+        concurrentSessionControlStrategy.onAuthentication(auth, request, response);
         saveSecurityContext(auth, request, response);
-        storeSessionAttributes(request.getSession(), loginContext.metadata().name(), loginContext.accessToken(), loginContext.refreshToken());
+        storeSessionAttributes(request.getSession(), loginContext);
+        // AuthenticationManager를 거치지 않는 로그인이므로 감사 이벤트를 직접 발행한다.
+        eventPublisher.publishEvent(new AuthenticationSuccessEvent(auth));
         return loginContext.userId();
     }
 
@@ -61,12 +90,13 @@ public class AuthLoginService {
      * @param verifier PKCE code verifier
      * @return 일회용 핸드오버 토큰
      */
-    @Transactional
     public String processLoginForNativeApp(String code, String verifier) throws Exception {
         var loginContext = authenticateWithSupabase(code, verifier);
-        var auth = createAuthentication(loginContext.userId(), loginContext.accessToken());
-        var sessionAttributes = createSessionAttributes(loginContext.metadata().name(), loginContext.accessToken(), loginContext.refreshToken());
-        return authHandoverService.createOneTimeToken(auth, sessionAttributes);
+        var auth = createAuthentication(loginContext);
+        var sessionAttributes = createSessionAttributes(loginContext);
+        var handoverToken = authHandoverService.createOneTimeToken(auth, sessionAttributes);
+        eventPublisher.publishEvent(new AuthenticationSuccessEvent(auth));
+        return handoverToken;
     }
 
     /**
@@ -104,6 +134,9 @@ public class AuthLoginService {
         Map<String, Object> tokenData = supabaseAuthService.exchangeCodeForToken(code, verifier);
         var accessToken = (String) tokenData.get("access_token");
         var refreshToken = (String) tokenData.get("refresh_token");
+        var accessTokenExpiresAt = (tokenData.get("expires_at") instanceof Number expiresAt)
+                ? expiresAt.longValue()
+                : null;
 
         var rawUser = tokenData.get("user");
         if (!(rawUser instanceof Map<?, ?>)) {
@@ -119,15 +152,22 @@ public class AuthLoginService {
         var profileId = UUID.fromString(userId);
         var metadata = extractUserMetadata(email, userMap);
 
-        syncUserProfile(profileId, email, metadata.name(), metadata.avatar());
-        return new LoginContext(userId, accessToken, refreshToken, metadata);
+        var role = syncUserProfile(profileId, email, metadata.name(), metadata.avatar());
+        return new LoginContext(userId, accessToken, refreshToken, accessTokenExpiresAt, metadata, profileId, role);
     }
 
-    private UsernamePasswordAuthenticationToken createAuthentication(String userId, String accessToken) {
+    /**
+     * 주체에 프로필 ID/표시 이름/권한을 담아 두어 이후 요청이 UUID 파싱이나 프로필 조회 없이 쓰도록 한다.
+     */
+    private UsernamePasswordAuthenticationToken createAuthentication(LoginContext loginContext) {
+        var roles = (loginContext.role() == UserRole.ADMIN)
+                ? List.of(MindlogPrincipal.ROLE_USER, MindlogPrincipal.ROLE_ADMIN)
+                : List.of(MindlogPrincipal.ROLE_USER);
+        var principal = new MindlogPrincipal(loginContext.profileId(), loginContext.metadata().name(), roles);
         return new UsernamePasswordAuthenticationToken(
-                userId,
-                accessToken,
-                List.of(new SimpleGrantedAuthority(ROLE_USER)));
+                principal,
+                loginContext.accessToken(),
+                principal.authorities());
     }
 
     private void saveSecurityContext(
@@ -140,44 +180,94 @@ public class AuthLoginService {
         securityContextRepository.saveContext(context, request, response);
     }
 
-    private void storeSessionAttributes(HttpSession session, String userName, String accessToken, String refreshToken) {
-        var sessionAttributes = createSessionAttributes(userName, accessToken, refreshToken);
+    private void storeSessionAttributes(HttpSession session, LoginContext loginContext) {
+        var sessionAttributes = createSessionAttributes(loginContext);
         sessionAttributes.forEach(session::setAttribute);
     }
 
-    private Map<String, Object> createSessionAttributes(String userName, String accessToken, String refreshToken) {
+    /**
+     * 만료 시각(epoch 초)을 함께 저장해 두면 토큰 선제 갱신이 요청마다 JWT를 해석하지 않아도 된다.
+     */
+    private Map<String, Object> createSessionAttributes(LoginContext loginContext) {
         Map<String, Object> sessionAttributes = new HashMap<>();
-        sessionAttributes.put(ACCESS_TOKEN_KEY, accessToken);
-        sessionAttributes.put(USER_NAME_KEY, userName);
-        if (refreshToken != null) {
-            sessionAttributes.put(REFRESH_TOKEN_KEY, refreshToken);
+        sessionAttributes.put(ACCESS_TOKEN_KEY, loginContext.accessToken());
+        sessionAttributes.put(USER_NAME_KEY, loginContext.metadata().name());
+        if (loginContext.refreshToken() != null) {
+            sessionAttributes.put(REFRESH_TOKEN_KEY, loginContext.refreshToken());
+        }
+        if (loginContext.accessTokenExpiresAt() != null) {
+            sessionAttributes.put(ACCESS_TOKEN_EXPIRES_AT_KEY, loginContext.accessTokenExpiresAt());
         }
         return sessionAttributes;
     }
 
     /**
      * 사용자 프로필 동기화
-     * 프로필이 존재하지 않으면 새로 생성합니다.
+     * 프로필이 존재하지 않으면 새로 생성합니다(INSERT ... ON CONFLICT DO NOTHING 한 문장).
+     *
+     * @return 주체 권한 계산에 쓰는 프로필 역할
      */
-    private void syncUserProfile(UUID profileId, String email, String name, String avatar) {
-        var existingProfile = profileRepository.findById(profileId);
-        if (existingProfile.isPresent()) {
-            return;
+    private UserRole syncUserProfile(UUID profileId, String email, String name, String avatar) {
+        var cachedRole = recentlySyncedRole(profileId);
+        if (cachedRole != null) {
+            return cachedRole;
         }
 
         String userName = email.split("@")[0] + "_" + profileId.toString().substring(0, 8);
+        var synced = profileRepository.upsertForLogin(profileId, email, name, userName, avatar);
+
+        UserRole role;
+        if (synced == null) {
+            // 같은 신규 프로필을 동시에 삽입해 상대 행을 아직 못 본 경우: 커밋된 행을 다시 읽는다.
+            role = profileRepository.findById(profileId)
+                    .map(Profile::getRole)
+                    .orElseThrow(() -> new SupabaseAuthException("프로필 동기화에 실패했습니다. 다시 시도해주세요."));
+        } else {
+            role = parseRole(synced.getRole());
+            if (Boolean.TRUE.equals(synced.getInserted())) {
+                log.info("신규 유저 프로필 동기화 완료: {} ({})", name, userName);
+            }
+        }
+
+        rememberSynced(profileId, role);
+        return role;
+    }
 
-        Profile newProfile = Profile.builder()
-                .id(profileId)
-                .email(email)
-                .name(name)
-                .userName(userName)
-                .avatar(avatar)
-                .role(UserRole.USER)
-                .build();
-
-        profileRepository.save(newProfile);
-        log.info("신규 유저 프로필 동기화 완료: {} ({})", name, userName);
+    private UserRole parseRole(String role) {
+        if (role == null) {
+            return UserRole.USER;
+        }
+        try {
+            return UserRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return UserRole.USER;
+        }
+    }
+
+    private UserRole recentlySyncedRole(UUID profileId) {
+        if (profileSyncCacheTtlSeconds <= 0) {
+            return null;
+        }
+        synchronized (recentlySyncedProfiles) {
+            var synced = recentlySyncedProfiles.get(profileId);
+            if (synced == null) {
+                return null;
+            }
+            if (synced.syncedAt().plusSeconds(profileSyncCacheTtlSeconds).isBefore(Instant.now())) {
+                recentlySyncedProfiles.remove(profileId);
+                return null;
+            }
+            return synced.role();
+        }
+    }
+
+    private void rememberSynced(UUID profileId, UserRole role) {
+        if (profileSyncCacheTtlSeconds <= 0) {
+            return;
+        }
+        synchronized (recentlySyncedProfiles) {
+            recentlySyncedProfiles.put(profileId, new SyncedProfile(role, Instant.now()));
+        }
     }
 
     /**
@@ -186,10 +276,16 @@ public class AuthLoginService {
     private record UserMetadata(String name, String avatar) {
     }
 
+    private record SyncedProfile(UserRole role, Instant syncedAt) {
+    }
+
     private record LoginContext(
             String userId,
             String accessToken,
             String refreshToken,
-            UserMetadata metadata) {
+            Long accessTokenExpiresAt,
+            UserMetadata metadata,
+            UUID profileId,
+            UserRole role) {
     }
 }
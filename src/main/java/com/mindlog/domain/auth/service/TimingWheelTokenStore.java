@@ -0,0 +1,171 @@
+package com.mindlog.domain.auth.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 크기 상한이 있는 일회용 토큰 저장소. 만료는 초 단위 타이밍 휠로 처리한다.
+ *
+ * <p>토큰은 만료 시각을 올림한 초의 휠 칸(큐)에 한 번 들어가고, 리퍼 스레드가 매초 현재 칸만 비운다.
+ * 올림한 초에 칸을 방문하면 그 칸의 토큰은 모두 이미 만료되었으므로 다시 넣을 일이 없다.
+ * 넣기/꺼내기/만료 모두 토큰당 O(1)이며 요청 스레드는 저장소 전체를 훑지 않는다.</p>
+ *
+ * <ul>
+ *   <li>휠 칸 수는 TTL보다 크므로 한 칸에는 같은 초에 만료되는 토큰만 모인다.</li>
+ *   <li>리퍼는 첫 토큰이 들어올 때 가상 스레드로 시작하고 저장소가 비면 끝난다.
+ *       평소(Redis 정상)에는 스레드가 없다.</li>
+ *   <li>보관 중인 토큰이 {@code maxEntries}에 닿으면 새 토큰을 거절한다(메모리 상한).</li>
+ * </ul>
+ */
+@Slf4j
+final class TimingWheelTokenStore<V> {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<String>[] wheel;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean reaperRunning = new AtomicBoolean(false);
+    private volatile long nextTickSecond;
+
+    @SuppressWarnings("unchecked")
+    TimingWheelTokenStore(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+        int slots = (int) Math.max(2L, ttl.toSeconds() + 2L);
+        this.wheel = new Queue[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * @return 보관했으면 true, 상한에 닿아 거절했으면 false
+     */
+    boolean put(String token, V value) {
+        if (size.incrementAndGet() > maxEntries) {
+            size.decrementAndGet();
+            return false;
+        }
+        var expiresAt = clock.instant().plus(ttl);
+        var previous = entries.put(token, new Entry<>(value, expiresAt));
+        if (previous != null) {
+            size.decrementAndGet();
+        }
+        slotOf(expirySecond(expiresAt)).add(token);
+        startReaperIfIdle();
+        return true;
+    }
+
+    /**
+     * 토큰을 꺼내며 지운다(일회용). 없거나 이미 만료되었으면 null.
+     */
+    @Nullable
+    V remove(String token) {
+        var entry = entries.remove(token);
+        if (entry == null) {
+            return null;
+        }
+        size.decrementAndGet();
+        return entry.expiresAt().isAfter(clock.instant()) ? entry.value() : null;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * 지난 틱부터 현재 초까지의 칸을 비운다. 리퍼가 늦어 휠을 한 바퀴 넘게 밀렸으면 한 바퀴만 돈다.
+     *
+     * @return 만료로 지운 토큰 수
+     */
+    int advance() {
+        var now = clock.instant();
+        long nowSecond = now.getEpochSecond();
+        long from = Math.max(nextTickSecond, nowSecond - wheel.length + 1);
+        int expired = 0;
+        for (long second = from; second <= nowSecond; second++) {
+            expired += drain(slotOf(second), now);
+        }
+        nextTickSecond = nowSecond + 1;
+        return expired;
+    }
+
+    private int drain(Queue<String> slot, Instant now) {
+        int expired = 0;
+        int pending = slot.size();
+        for (int i = 0; i < pending; i++) {
+            var token = slot.poll();
+            if (token == null) {
+                break;
+            }
+            var entry = entries.get(token);
+            if (entry == null) {
+                // 이미 소비된 토큰
+                continue;
+            }
+            if (entry.expiresAt().isAfter(now)) {
+                // 같은 ID로 다시 들어온 토큰 등 아직 살아 있으면 제 칸으로 돌려보낸다.
+                slotOf(expirySecond(entry.expiresAt())).add(token);
+                continue;
+            }
+            if (entries.remove(token, entry)) {
+                size.decrementAndGet();
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    // 만료 시각의 올림 초. 내림 초에 두면 같은 초 안의 남은 시간 때문에 살아 있는 토큰이 한 바퀴 뒤로 밀린다.
+    private static long expirySecond(Instant expiresAt) {
+        return (expiresAt.getNano() == 0) ? expiresAt.getEpochSecond() : expiresAt.getEpochSecond() + 1L;
+    }
+
+    private Queue<String> slotOf(long epochSecond) {
+        return wheel[(int) Math.floorMod(epochSecond, (long) wheel.length)];
+    }
+
+    private void startReaperIfIdle() {
+        if (!reaperRunning.compareAndSet(false, true)) {
+            return;
+        }
+        nextTickSecond = clock.instant().getEpochSecond();
+        Thread.ofVirtual().name("mindlog-handover-reaper").start(this::reapUntilEmpty);
+    }
+
+    private void reapUntilEmpty() {
+        try {
+            while (size.get() > 0) {
+                Thread.sleep(1000L);
+                var expired = advance();
+                if (expired > 0) {
+                    log.debug("[AUTH] Handover 대체 저장소 만료 정리 - expired={}, remaining={}", expired, size.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            reaperRunning.set(false);
+        }
+
+        // 종료 직전에 들어온 토큰이 리퍼 없이 남지 않도록 한 번 더 확인한다.
+        if (size.get() > 0 && !Thread.currentThread().isInterrupted()) {
+            startReaperIfIdle();
+        }
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+}
@@ -6,6 +6,7 @@ import com.mindlog.domain.diary.dto.DiaryWriteAllowance;
 import com.mindlog.domain.diary.service.DiaryFormService;
 import com.mindlog.domain.diary.service.DiaryService;
 import com.mindlog.domain.diary.service.DiaryWritePolicyService;
+import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.global.security.CurrentProfileId;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -48,7 +49,7 @@ public class DiaryController {
     this.diaryService = diaryService;
     this.diaryFormService = diaryFormService;
     this.diaryWritePolicyService = diaryWritePolicyService;
-    this.diaryIndexPageComposer = new DiaryIndexPageComposer(diaryService);
+    this.diaryIndexPageComposer = new DiaryIndexPageComposer(diaryService, diaryFormService);
   }
 
   @GetMapping
@@ -60,6 +61,8 @@ public class DiaryController {
       @RequestParam(name = "_refresh", required = false) Long refreshToken,
       @RequestParam(name = "q", required = false) String keyword,
       @RequestParam(required = false, defaultValue = "0") Integer page,
+      @RequestParam(required = false) String category,
+      @RequestParam(required = false) Long tagId,
       Model model) {
     var pageModel = diaryIndexPageComposer.compose(
         profileId,
@@ -68,6 +71,8 @@ public class DiaryController {
         sort,
         refreshToken,
         keyword,
+        category,
+        tagId,
         page);
     model.addAllAttributes(pageModel.attributes());
     return "diaries/index";
@@ -175,6 +180,25 @@ public class DiaryController {
     return ResponseEntity.ok(diaryWritePolicyService.getAllowance(profileId, date));
   }
 
+  // 태그/감정 카테고리 필터 목록 (키셋 페이지네이션)
+  @GetMapping("/filtered")
+  @ResponseBody
+  public ResponseEntity<?> filtered(
+      @CurrentProfileId UUID profileId,
+      @RequestParam(required = false) Long tagId,
+      @RequestParam(required = false) EmotionCategory category,
+      @RequestParam(required = false) LocalDate from,
+      @RequestParam(required = false) LocalDate cursorDate,
+      @RequestParam(required = false) Long cursorId,
+      @RequestParam(required = false, defaultValue = "20") int size) {
+    try {
+      return ResponseEntity.ok(diaryService.getFilteredDiaries(
+          profileId, tagId, category, from, cursorDate, cursorId, size));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+    }
+  }
+
   private void populateModel(Model model, DiaryFormDTO formData) {
     model.addAttribute("diaryRequest", formData.diaryRequest());
     model.addAttribute("tags", formData.tags());
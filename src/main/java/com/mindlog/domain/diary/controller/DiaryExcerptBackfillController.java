@@ -0,0 +1,48 @@
+package com.mindlog.domain.diary.controller;
+
+import com.mindlog.domain.diary.service.DiaryExcerptBackfillService;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class DiaryExcerptBackfillController {
+
+  private static final String TOKEN_HEADER = "X-Admin-Token";
+
+  @Value("${mindlog.diary.excerpt.backfill-token:}")
+  private String backfillToken;
+
+  private final DiaryExcerptBackfillService diaryExcerptBackfillService;
+
+  public DiaryExcerptBackfillController(DiaryExcerptBackfillService diaryExcerptBackfillService) {
+    this.diaryExcerptBackfillService = diaryExcerptBackfillService;
+  }
+
+  @PostMapping("/internal/diaries/excerpts/backfill")
+  public ResponseEntity<Map<String, String>> triggerBackfill(
+      @RequestHeader(name = TOKEN_HEADER, required = false) String token) {
+    if (!StringUtils.hasText(backfillToken)) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .body(Map.of("message", "excerpt backfill token is not configured"));
+    }
+    if (!backfillToken.equals(token)) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN)
+          .body(Map.of("message", "forbidden"));
+    }
+
+    var triggered = diaryExcerptBackfillService.triggerBackfillAsync();
+    if (!triggered) {
+      return ResponseEntity.status(HttpStatus.ACCEPTED)
+          .body(Map.of("message", "excerpt backfill is already running"));
+    }
+
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .body(Map.of("message", "excerpt backfill started"));
+  }
+}
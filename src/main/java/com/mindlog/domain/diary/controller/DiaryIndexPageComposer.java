@@ -1,12 +1,15 @@
 package com.mindlog.domain.diary.controller;
 
 import com.mindlog.domain.diary.dto.DiaryListItemResponse;
+import com.mindlog.domain.diary.service.DiaryFormService;
 import com.mindlog.domain.diary.service.DiaryService;
+import com.mindlog.domain.tag.entity.EmotionCategory;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.IntStream;
@@ -18,9 +21,11 @@ final class DiaryIndexPageComposer {
   private static final int SEARCH_PAGE_SIZE = 12;
 
   private final DiaryService diaryService;
+  private final DiaryFormService diaryFormService;
 
-  DiaryIndexPageComposer(DiaryService diaryService) {
+  DiaryIndexPageComposer(DiaryService diaryService, DiaryFormService diaryFormService) {
     this.diaryService = diaryService;
+    this.diaryFormService = diaryFormService;
   }
 
   DiaryIndexPage compose(
@@ -30,6 +35,8 @@ final class DiaryIndexPageComposer {
       @Nullable String sort,
       @Nullable Long refreshToken,
       @Nullable String keyword,
+      @Nullable String category,
+      @Nullable Long tagId,
       @Nullable Integer page) {
     var currentYearMonth = resolveYearMonth(year, month);
     var currentYear = currentYearMonth.getYear();
@@ -39,23 +46,29 @@ final class DiaryIndexPageComposer {
     var normalizedSort = "oldest".equalsIgnoreCase(sort) ? "oldest" : "latest";
     var newestFirst = "latest".equals(normalizedSort);
     var normalizedKeyword = normalizeKeyword(keyword);
+    var normalizedCategory = normalizeCategory(category);
+    var normalizedTagId = (tagId != null && tagId > 0) ? tagId : null;
     var normalizedPage = (page != null && page >= 0) ? page : 0;
 
     Map<String, Object> attributes = new LinkedHashMap<>();
     putCommonAttributes(attributes, profileId, currentYearMonth, currentYear, currentMonth, previous, next, normalizedSort);
 
-    if (normalizedKeyword != null) {
+    if (normalizedKeyword != null || normalizedCategory != null || normalizedTagId != null) {
       var searchResult = diaryService.searchDiaries(
           profileId,
           normalizedKeyword,
           null,
           null,
+          normalizedTagId,
+          normalizedCategory,
           newestFirst,
           normalizedPage,
           SEARCH_PAGE_SIZE);
 
       attributes.put("diaries", searchResult.getContent());
       attributes.put("keyword", normalizedKeyword);
+      attributes.put("category", (normalizedCategory == null) ? null : normalizedCategory.name());
+      attributes.put("tagId", normalizedTagId);
       attributes.put("page", normalizedPage);
       attributes.put("hasPrev", searchResult.hasPrevious());
       attributes.put("hasNext", searchResult.hasNext());
@@ -73,7 +86,10 @@ final class DiaryIndexPageComposer {
         : diaryService.getMonthlyDiaries(profileId, currentYear, currentMonth, newestFirst);
 
     attributes.put("diaries", diaries);
+    attributes.put("onThisDay", diaryService.getOnThisDay(profileId, LocalDate.now()));
     attributes.put("keyword", null);
+    attributes.put("category", null);
+    attributes.put("tagId", null);
     attributes.put("page", 0);
     attributes.put("hasPrev", false);
     attributes.put("hasNext", false);
@@ -104,6 +120,7 @@ final class DiaryIndexPageComposer {
     attributes.put("yearOptions", diaryService.getAvailableYears(profileId, year));
     attributes.put("monthOptions", IntStream.rangeClosed(1, 12).boxed().toList());
     attributes.put("sort", normalizedSort);
+    attributes.put("tagOptions", diaryFormService.getTagOptions(profileId));
   }
 
   private YearMonth resolveYearMonth(@Nullable Integer year, @Nullable Integer month) {
@@ -128,6 +145,19 @@ final class DiaryIndexPageComposer {
     return trimmed.isEmpty() ? null : trimmed;
   }
 
+  @Nullable
+  private EmotionCategory normalizeCategory(@Nullable String category) {
+    if (category == null || category.isBlank()) {
+      return null;
+    }
+
+    try {
+      return EmotionCategory.valueOf(category.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ignored) {
+      return null;
+    }
+  }
+
   record DiaryIndexPage(Map<String, Object> attributes) {
   }
 }
@@ -0,0 +1,19 @@
+package com.mindlog.domain.diary.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * (date, id) 키셋 기반 목록 페이지. 다음 페이지는 nextCursorDate/nextCursorId를 그대로 넘겨 조회한다.
+ */
+public record DiaryKeysetPage(
+        List<DiaryListItemResponse> items,
+        boolean hasNext,
+        @Nullable LocalDate nextCursorDate,
+        @Nullable Long nextCursorId
+) {
+    public static DiaryKeysetPage empty() {
+        return new DiaryKeysetPage(List.of(), false, null, null);
+    }
+}
@@ -10,7 +10,7 @@ public record DiaryListItemResponse(
         Long id,
         LocalDate date,
         @Nullable String shortContent,
-        @Nullable String situation,
+        @Nullable String excerpt,
         List<TagResponse> tags
 ) implements Serializable {
     public static DiaryListItemResponse from(DiaryMonthlySummary summary, List<TagResponse> tags) {
@@ -18,7 +18,7 @@ public record DiaryListItemResponse(
                 summary.id(),
                 summary.date(),
                 summary.shortContent(),
-                summary.situation(),
+                summary.excerpt(),
                 tags
         );
     }
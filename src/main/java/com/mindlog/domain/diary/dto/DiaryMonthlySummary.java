@@ -7,6 +7,6 @@ public record DiaryMonthlySummary(
         Long id,
         LocalDate date,
         @Nullable String shortContent,
-        @Nullable String situation
+        @Nullable String excerpt
 ) {
 }
@@ -0,0 +1,23 @@
+package com.mindlog.domain.diary.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import org.jspecify.annotations.Nullable;
+
+public record OnThisDayEntry(
+        Long id,
+        LocalDate date,
+        int yearsAgo,
+        @Nullable String shortContent,
+        @Nullable String excerpt
+) implements Serializable {
+    public static OnThisDayEntry from(DiaryMonthlySummary summary, LocalDate today) {
+        return new OnThisDayEntry(
+                summary.id(),
+                summary.date(),
+                today.getYear() - summary.date().getYear(),
+                summary.shortContent(),
+                summary.excerpt()
+        );
+    }
+}
@@ -43,6 +43,13 @@ public class Diary extends BaseTimeEntity {
     @Column(name = "situation", columnDefinition = "TEXT")
     private String situation;
 
+    /**
+     * situation 앞부분의 발췌문. 목록/검색은 본문 대신 이 컬럼만 읽는다.
+     */
+    @Nullable
+    @Column(name = "excerpt", columnDefinition = "TEXT")
+    private String excerpt;
+
     @Nullable
     @Column(name = "reaction", columnDefinition = "TEXT")
     private String reaction;
@@ -87,6 +94,7 @@ public class Diary extends BaseTimeEntity {
         this.date = date;
         this.shortContent = shortContent;
         this.situation = situation;
+        this.excerpt = DiaryExcerpt.of(situation);
         this.reaction = reaction;
         this.physicalSensation = physicalSensation;
         this.desiredReaction = desiredReaction;
@@ -110,6 +118,7 @@ public class Diary extends BaseTimeEntity {
         this.date = date;
         this.shortContent = shortContent;
         this.situation = situation;
+        this.excerpt = DiaryExcerpt.of(situation);
         this.reaction = reaction;
         this.physicalSensation = physicalSensation;
         this.desiredReaction = desiredReaction;
@@ -0,0 +1,40 @@
+package com.mindlog.domain.diary.entity;
+
+import java.text.BreakIterator;
+import java.util.Locale;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 목록 미리보기용 발췌문 생성기.
+ *
+ * <p>공백을 한 칸으로 접고 앞에서부터 {@link #MAX_GRAPHEMES}개의 문자소(grapheme cluster)까지만 남긴다.
+ * 코드 유닛 단위로 자르면 이모지/결합 문자가 깨지므로 문자소 경계에서만 자른다.</p>
+ */
+public final class DiaryExcerpt {
+
+    /** 목록/검색 쿼리의 {@code left(d.situation, 120)} 대체식과 같은 길이를 유지한다. */
+    public static final int MAX_GRAPHEMES = 120;
+
+    private DiaryExcerpt() {
+    }
+
+    @Nullable
+    public static String of(@Nullable String text) {
+        if (text == null) {
+            return null;
+        }
+
+        var normalized = text.strip().replaceAll("\\s+", " ");
+        if (normalized.length() <= MAX_GRAPHEMES) {
+            return normalized;
+        }
+
+        var boundary = BreakIterator.getCharacterInstance(Locale.ROOT);
+        boundary.setText(normalized);
+        var end = boundary.following(0);
+        for (int count = 1; count < MAX_GRAPHEMES && end != BreakIterator.DONE; count++) {
+            end = boundary.next();
+        }
+        return (end == BreakIterator.DONE) ? normalized : normalized.substring(0, end);
+    }
+}
@@ -10,6 +10,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,7 +22,7 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
                 d.id AS id,
                 d.date AS date,
                 d.short_content AS shortContent,
-                d.situation AS situation
+                COALESCE(d.excerpt, left(d.situation, 120)) AS excerpt
             FROM public.diaries d
             WHERE d.profile_id = :profileId
               AND d.date BETWEEN :start AND :end
@@ -33,17 +34,21 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
             @Param("start") LocalDate start,
             @Param("end") LocalDate end);
 
+    /**
+     * 키워드/태그/카테고리 검색. 키워드가 null이면 본문 LIKE를 건너뛰고, 태그/카테고리 조건은
+     * diary_emotions (profile_id, 태그 또는 카테고리, diary_date, diary_id) 인덱스 한 번 조회로 확인한다.
+     */
     @Query(value = """
             SELECT
                 d.id AS id,
                 d.date AS date,
                 d.short_content AS shortContent,
-                d.situation AS situation
+                COALESCE(d.excerpt, left(d.situation, 120)) AS excerpt
             FROM public.diaries d
             WHERE d.profile_id = :profileId
               AND d.is_deleted = false
               AND d.date BETWEEN :fromDate AND :toDate
-              AND lower(
+              AND (cast(:keyword as text) IS NULL OR lower(
                     coalesce(d.short_content, '') || ' ' ||
                     coalesce(d.situation, '') || ' ' ||
                     coalesce(d.reaction, '') || ' ' ||
@@ -51,7 +56,23 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
                     coalesce(d.desired_reaction, '') || ' ' ||
                     coalesce(d.gratitude_moment, '') || ' ' ||
                     coalesce(d.self_kind_words, '')
-              ) LIKE '%' || lower(cast(:keyword as text)) || '%'
+              ) LIKE '%' || lower(cast(:keyword as text)) || '%')
+              AND (cast(:tagId as bigint) IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.emotion_tag_id = cast(:tagId as bigint)
+                      AND de.diary_date = d.date
+                      AND de.diary_id = d.id
+              ))
+              AND (cast(:category as text) IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.category_snapshot = cast(:category as text)
+                      AND de.diary_date = d.date
+                      AND de.diary_id = d.id
+              ))
             ORDER BY d.date ASC, d.created_at ASC, d.id ASC
             """, countQuery = """
             SELECT COUNT(*)
@@ -59,7 +80,7 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
             WHERE d.profile_id = :profileId
               AND d.is_deleted = false
               AND d.date BETWEEN :fromDate AND :toDate
-              AND lower(
+              AND (cast(:keyword as text) IS NULL OR lower(
                     coalesce(d.short_content, '') || ' ' ||
                     coalesce(d.situation, '') || ' ' ||
                     coalesce(d.reaction, '') || ' ' ||
@@ -67,13 +88,31 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
                     coalesce(d.desired_reaction, '') || ' ' ||
                     coalesce(d.gratitude_moment, '') || ' ' ||
                     coalesce(d.self_kind_words, '')
-              ) LIKE '%' || lower(cast(:keyword as text)) || '%'
+              ) LIKE '%' || lower(cast(:keyword as text)) || '%')
+              AND (cast(:tagId as bigint) IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.emotion_tag_id = cast(:tagId as bigint)
+                      AND de.diary_date = d.date
+                      AND de.diary_id = d.id
+              ))
+              AND (cast(:category as text) IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.category_snapshot = cast(:category as text)
+                      AND de.diary_date = d.date
+                      AND de.diary_id = d.id
+              ))
             """, nativeQuery = true)
     Page<DiaryMonthlySummaryRow> searchByKeywordOrderByDateAsc(
             @Param("profileId") UUID profileId,
-            @Param("keyword") String keyword,
+            @Param("keyword") @Nullable String keyword,
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate,
+            @Param("tagId") @Nullable Long tagId,
+            @Param("category") @Nullable String category,
             Pageable pageable);
 
     @Query(value = """
@@ -81,12 +120,12 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
                 d.id AS id,
                 d.date AS date,
                 d.short_content AS shortContent,
-                d.situation AS situation
+                COALESCE(d.excerpt, left(d.situation, 120)) AS excerpt
             FROM public.diaries d
             WHERE d.profile_id = :profileId
               AND d.is_deleted = false
               AND d.date BETWEEN :fromDate AND :toDate
-              AND lower(
+              AND (cast(:keyword as text) IS NULL OR lower(
                     coalesce(d.short_content, '') || ' ' ||
                     coalesce(d.situation, '') || ' ' ||
                     coalesce(d.reaction, '') || ' ' ||
@@ -94,7 +133,23 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
                     coalesce(d.desired_reaction, '') || ' ' ||
                     coalesce(d.gratitude_moment, '') || ' ' ||
                     coalesce(d.self_kind_words, '')
-              ) LIKE '%' || lower(cast(:keyword as text)) || '%'
+              ) LIKE '%' || lower(cast(:keyword as text)) || '%')
+              AND (cast(:tagId as bigint) IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.emotion_tag_id = cast(:tagId as bigint)
+                      AND de.diary_date = d.date
+                      AND de.diary_id = d.id
+              ))
+              AND (cast(:category as text) IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.category_snapshot = cast(:category as text)
+                      AND de.diary_date = d.date
+                      AND de.diary_id = d.id
+              ))
             ORDER BY d.date DESC, d.created_at DESC, d.id DESC
             """, countQuery = """
             SELECT COUNT(*)
@@ -102,7 +157,7 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
             WHERE d.profile_id = :profileId
               AND d.is_deleted = false
               AND d.date BETWEEN :fromDate AND :toDate
-              AND lower(
+              AND (cast(:keyword as text) IS NULL OR lower(
                     coalesce(d.short_content, '') || ' ' ||
                     coalesce(d.situation, '') || ' ' ||
                     coalesce(d.reaction, '') || ' ' ||
@@ -110,15 +165,154 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
                     coalesce(d.desired_reaction, '') || ' ' ||
                     coalesce(d.gratitude_moment, '') || ' ' ||
                     coalesce(d.self_kind_words, '')
-              ) LIKE '%' || lower(cast(:keyword as text)) || '%'
+              ) LIKE '%' || lower(cast(:keyword as text)) || '%')
+              AND (cast(:tagId as bigint) IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.emotion_tag_id = cast(:tagId as bigint)
+                      AND de.diary_date = d.date
+                      AND de.diary_id = d.id
+              ))
+              AND (cast(:category as text) IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.category_snapshot = cast(:category as text)
+                      AND de.diary_date = d.date
+                      AND de.diary_id = d.id
+              ))
             """, nativeQuery = true)
     Page<DiaryMonthlySummaryRow> searchByKeywordOrderByDateDesc(
             @Param("profileId") UUID profileId,
-            @Param("keyword") String keyword,
+            @Param("keyword") @Nullable String keyword,
             @Param("fromDate") LocalDate fromDate,
             @Param("toDate") LocalDate toDate,
+            @Param("tagId") @Nullable Long tagId,
+            @Param("category") @Nullable String category,
             Pageable pageable);
 
+    /**
+     * 태그 필터 목록. diary_emotions (profile_id, emotion_tag_id, diary_date) 인덱스에서 후보 일기를 고른 뒤
+     * 세미 조인으로 diaries를 읽고, (date, id) 키셋으로 다음 페이지를 이어서 조회한다.
+     */
+    @Query(value = """
+            SELECT
+                d.id AS id,
+                d.date AS date,
+                d.short_content AS shortContent,
+                COALESCE(d.excerpt, left(d.situation, 120)) AS excerpt
+            FROM public.diaries d
+            WHERE d.id IN (
+                    SELECT de.diary_id
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.emotion_tag_id = :tagId
+                      AND de.diary_date BETWEEN :fromDate AND :cursorDate
+                      AND (cast(:category as text) IS NULL OR de.category_snapshot = cast(:category as text))
+              )
+              AND d.profile_id = :profileId
+              AND d.is_deleted = false
+              AND d.date >= :fromDate
+              AND (d.date, d.id) < (:cursorDate, :cursorId)
+            ORDER BY d.date DESC, d.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DiaryMonthlySummaryRow> findByTagBeforeCursor(
+            @Param("profileId") UUID profileId,
+            @Param("tagId") Long tagId,
+            @Param("category") @Nullable String category,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") long cursorId,
+            @Param("limit") int limit);
+
+    /**
+     * 카테고리 필터 목록. diary_emotions (profile_id, category_snapshot, diary_date) 인덱스를 쓰는 세미 조인이다.
+     */
+    @Query(value = """
+            SELECT
+                d.id AS id,
+                d.date AS date,
+                d.short_content AS shortContent,
+                COALESCE(d.excerpt, left(d.situation, 120)) AS excerpt
+            FROM public.diaries d
+            WHERE d.id IN (
+                    SELECT de.diary_id
+                    FROM public.diary_emotions de
+                    WHERE de.profile_id = :profileId
+                      AND de.category_snapshot = :category
+                      AND de.diary_date BETWEEN :fromDate AND :cursorDate
+              )
+              AND d.profile_id = :profileId
+              AND d.is_deleted = false
+              AND d.date >= :fromDate
+              AND (d.date, d.id) < (:cursorDate, :cursorId)
+            ORDER BY d.date DESC, d.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DiaryMonthlySummaryRow> findByCategoryBeforeCursor(
+            @Param("profileId") UUID profileId,
+            @Param("category") String category,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") long cursorId,
+            @Param("limit") int limit);
+
+    /**
+     * 이전 해들의 같은 월/일 일기. 식 인덱스 idx_diaries_profile_month_day_not_deleted 와 같은 식을 써야
+     * 이력 길이와 무관하게 인덱스 한 번 탐색으로 끝난다.
+     */
+    @Query(value = """
+            SELECT
+                d.id AS id,
+                d.date AS date,
+                d.short_content AS shortContent,
+                COALESCE(d.excerpt, left(d.situation, 120)) AS excerpt
+            FROM public.diaries d
+            WHERE d.profile_id = :profileId
+              AND d.is_deleted = false
+              AND (EXTRACT(MONTH FROM d.date) * 100 + EXTRACT(DAY FROM d.date)) = :monthDay
+              AND d.date < :beforeDate
+            ORDER BY d.date DESC, d.created_at DESC, d.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DiaryMonthlySummaryRow> findSameMonthDayBefore(
+            @Param("profileId") UUID profileId,
+            @Param("monthDay") int monthDay,
+            @Param("beforeDate") LocalDate beforeDate,
+            @Param("limit") int limit);
+
+    /**
+     * 발췌문 백필용. 아직 발췌문이 없는 일기를 id 키셋 순서로 읽는다.
+     */
+    @Query(value = """
+            SELECT
+                d.id AS id,
+                d.situation AS situation
+            FROM public.diaries d
+            WHERE d.id > :afterId
+              AND d.excerpt IS NULL
+              AND d.situation IS NOT NULL
+            ORDER BY d.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ExcerptSourceRow> findExcerptSourcesAfter(
+            @Param("afterId") long afterId,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            UPDATE public.diaries AS d
+            SET excerpt = v.excerpt
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:excerpts AS text[])) AS v(id, excerpt)
+            WHERE d.id = v.id
+              AND d.excerpt IS NULL
+            """, nativeQuery = true)
+    int updateExcerpts(
+            @Param("ids") Long[] ids,
+            @Param("excerpts") String[] excerpts);
+
     @Nullable
     @Query("""
             SELECT
@@ -140,6 +334,23 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
             @Param("profileId") UUID profileId,
             @Param("date") LocalDate date);
 
+    /**
+     * 인사이트 스냅샷 배치용. {@code since} 이후 날짜의 일기가 있는 프로필을 profile_id 키셋 순서로 읽는다.
+     */
+    @Query(value = """
+            SELECT DISTINCT d.profile_id
+            FROM public.diaries d
+            WHERE d.date >= :since
+              AND d.is_deleted = false
+              AND d.profile_id > :afterProfileId
+            ORDER BY d.profile_id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findActiveProfileIdsAfter(
+            @Param("since") LocalDate since,
+            @Param("afterProfileId") UUID afterProfileId,
+            @Param("limit") int limit);
+
     interface DateRangeView {
         @Nullable
         LocalDate getMinDate();
@@ -157,10 +368,16 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
         String getShortContent();
 
         @Nullable
-        String getSituation();
+        String getExcerpt();
 
         default DiaryMonthlySummary toSummary() {
-            return new DiaryMonthlySummary(getId(), getDate(), getShortContent(), getSituation());
+            return new DiaryMonthlySummary(getId(), getDate(), getShortContent(), getExcerpt());
         }
     }
+
+    interface ExcerptSourceRow {
+        Long getId();
+
+        String getSituation();
+    }
 }
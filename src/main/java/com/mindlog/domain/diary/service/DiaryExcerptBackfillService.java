@@ -0,0 +1,111 @@
+package com.mindlog.domain.diary.service;
+
+import com.mindlog.domain.diary.entity.DiaryExcerpt;
+import com.mindlog.domain.diary.repository.DiaryRepository;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기존 일기의 excerpt 컬럼 백필 작업.
+ *
+ * <p>새로 저장/수정되는 일기는 엔티티가 발췌문을 채우므로, 컬럼 추가 이전 데이터에만 한 번 실행한다.
+ * id 키셋 순서의 청크마다 짧은 트랜잭션으로 갱신하고 청크 사이에 쉬어 운영 트래픽과 잠금 경합을 줄인다.</p>
+ */
+@Slf4j
+@Service
+public class DiaryExcerptBackfillService {
+
+  private final DiaryRepository diaryRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  @Value("${mindlog.diary.excerpt.backfill-chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${mindlog.diary.excerpt.backfill-pause-ms:50}")
+  private long pauseBetweenChunksMs;
+
+  public DiaryExcerptBackfillService(DiaryRepository diaryRepository, TransactionTemplate transactionTemplate) {
+    this.diaryRepository = diaryRepository;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  public boolean triggerBackfillAsync() {
+    if (!running.compareAndSet(false, true)) {
+      return false;
+    }
+
+    Thread.ofVirtual().name("mindlog-diary-excerpt-backfill").start(() -> {
+      try {
+        backfillAll();
+      } catch (Exception e) {
+        log.warn("[EXCERPT] 발췌문 백필 실패 - exception={}, message={}",
+            e.getClass().getSimpleName(),
+            e.getMessage());
+        log.debug("[EXCERPT] 발췌문 백필 실패 상세", e);
+      } finally {
+        running.set(false);
+      }
+    });
+    return true;
+  }
+
+  void backfillAll() throws InterruptedException {
+    long startedAt = System.currentTimeMillis();
+    long afterId = 0L;
+    long updatedRows = 0L;
+    int processedChunks = 0;
+
+    while (true) {
+      var chunk = backfillNextChunk(afterId);
+      var lastId = chunk.lastId();
+      if (lastId == null) {
+        break;
+      }
+
+      updatedRows += chunk.updatedRows();
+      processedChunks++;
+      afterId = lastId;
+      if (chunk.size() < chunkSize) {
+        break;
+      }
+      if (pauseBetweenChunksMs > 0) {
+        Thread.sleep(pauseBetweenChunksMs);
+      }
+    }
+
+    log.info("[EXCERPT] 발췌문 백필 완료 - updatedRows={}, chunks={}, elapsed={}ms",
+        updatedRows,
+        processedChunks,
+        System.currentTimeMillis() - startedAt);
+  }
+
+  private ChunkResult backfillNextChunk(long afterId) {
+    var result = transactionTemplate.execute(status -> {
+      var rows = diaryRepository.findExcerptSourcesAfter(afterId, chunkSize);
+      if (rows.isEmpty()) {
+        return new ChunkResult(null, 0, 0);
+      }
+
+      var ids = new Long[rows.size()];
+      var excerpts = new String[rows.size()];
+      for (int i = 0; i < rows.size(); i++) {
+        var row = rows.get(i);
+        ids[i] = row.getId();
+        excerpts[i] = Objects.requireNonNullElse(DiaryExcerpt.of(row.getSituation()), "");
+      }
+      var updated = diaryRepository.updateExcerpts(ids, excerpts);
+      return new ChunkResult(ids[ids.length - 1], rows.size(), updated);
+    });
+    return (result == null) ? new ChunkResult(null, 0, 0) : result;
+  }
+
+  private record ChunkResult(@Nullable Long lastId, int size, int updatedRows) {
+  }
+}
@@ -6,6 +6,7 @@ import com.mindlog.domain.tag.dto.TagResponse;
 import com.mindlog.domain.tag.service.TagService;
 import com.mindlog.domain.tag.entity.EmotionTag;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,15 @@ public class DiaryFormService {
     private final DiaryService diaryService;
     private final TagService tagService;
 
+    /**
+     * 일기 목록 검색의 태그 필터 선택지
+     */
+    public List<TagResponse> getTagOptions(UUID profileId) {
+        return tagService.getAllTags(profileId).stream()
+                .map(TagResponse::from)
+                .toList();
+    }
+
     public DiaryFormDTO getCreateForm(UUID profileId) {
         var tags = tagService.getAllTags(profileId).stream()
                 .map(TagResponse::from)
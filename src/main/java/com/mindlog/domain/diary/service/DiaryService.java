@@ -1,15 +1,24 @@
 package com.mindlog.domain.diary.service;
 
+import com.mindlog.domain.diary.dto.DiaryKeysetPage;
 import com.mindlog.domain.diary.dto.DiaryListItemResponse;
 import com.mindlog.domain.diary.dto.DiaryMonthlySummary;
 import com.mindlog.domain.diary.dto.DiaryRequest;
 import com.mindlog.domain.diary.dto.DiaryResponse;
+import com.mindlog.domain.diary.dto.OnThisDayEntry;
 import com.mindlog.domain.diary.entity.Diary;
 import com.mindlog.domain.diary.repository.DiaryRepository;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.PeriodEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.TagCooccurrenceRepository;
+import com.mindlog.domain.insight.service.EmotionAnomalyService;
+import com.mindlog.domain.insight.service.InsightSnapshotService;
 import com.mindlog.domain.tag.dto.TagResponse;
+import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
 import com.mindlog.domain.tag.repository.DiaryTagRepository;
 import com.mindlog.domain.tag.repository.EmotionTagRepository;
+import com.mindlog.global.cache.ProfileCacheEvictor;
 import com.mindlog.global.exception.DiaryAccessDeniedException;
 import java.time.DateTimeException;
 import java.time.LocalDate;
@@ -24,7 +33,6 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,27 +43,39 @@ public class DiaryService {
   private static final String DIARY_NOT_FOUND_MESSAGE = "Diary not found";
   private static final String UNAUTHORIZED_ACCESS_MESSAGE = "Unauthorized access";
   private static final long SEARCH_DEFAULT_RANGE_DAYS = 365;
-  private static final String MONTHLY_DIARIES_CACHE = "v2::monthlyDiaries::";
-  private static final String EMOTION_ANALYSIS_CACHE = "v2::emotionAnalysis::";
+  private static final int ON_THIS_DAY_LIMIT = 5;
+  private static final int FILTER_MAX_PAGE_SIZE = 50;
+  private static final LocalDate FILTER_CURSOR_START_DATE = LocalDate.of(9999, 12, 31);
 
   private final DiaryRepository diaryRepository;
   private final DiaryTagSupport diaryTagSupport;
   private final DiaryYearOptionsSupport diaryYearOptionsSupport;
-  private final StringRedisTemplate redisTemplate;
+  private final ProfileCacheEvictor profileCacheEvictor;
+  private final InsightSnapshotService insightSnapshotService;
 
   public DiaryService(
       DiaryRepository diaryRepository,
       DiaryEmotionRepository diaryEmotionRepository,
       DiaryTagRepository diaryTagRepository,
       EmotionTagRepository emotionTagRepository,
-      StringRedisTemplate redisTemplate) {
+      DailyEmotionRollupRepository dailyEmotionRollupRepository,
+      PeriodEmotionRollupRepository periodEmotionRollupRepository,
+      TagCooccurrenceRepository tagCooccurrenceRepository,
+      EmotionAnomalyService emotionAnomalyService,
+      ProfileCacheEvictor profileCacheEvictor,
+      InsightSnapshotService insightSnapshotService) {
     this.diaryRepository = diaryRepository;
     this.diaryTagSupport = new DiaryTagSupport(
         diaryEmotionRepository,
         diaryTagRepository,
-        emotionTagRepository);
+        emotionTagRepository,
+        dailyEmotionRollupRepository,
+        periodEmotionRollupRepository,
+        tagCooccurrenceRepository,
+        emotionAnomalyService);
     this.diaryYearOptionsSupport = new DiaryYearOptionsSupport(diaryRepository);
-    this.redisTemplate = redisTemplate;
+    this.profileCacheEvictor = profileCacheEvictor;
+    this.insightSnapshotService = insightSnapshotService;
   }
 
   @Cacheable(
@@ -96,6 +116,21 @@ public class DiaryService {
     return buildDiaryListResponses(diaries, tagsByDiaryId);
   }
 
+  /**
+   * 이전 해들의 같은 날 일기. 날짜가 키에 포함되므로 캐시는 자정에 만료되고, 일기 쓰기 시 함께 무효화된다.
+   */
+  @Cacheable(
+      cacheNames = "onThisDay",
+      key = "#profileId.toString() + '|' + #date"
+  )
+  public List<OnThisDayEntry> getOnThisDay(UUID profileId, LocalDate date) {
+    var monthDay = date.getMonthValue() * 100 + date.getDayOfMonth();
+    return diaryRepository.findSameMonthDayBefore(profileId, monthDay, date.withDayOfYear(1), ON_THIS_DAY_LIMIT)
+        .stream()
+        .map(row -> OnThisDayEntry.from(row.toSummary(), date))
+        .toList();
+  }
+
   public List<Integer> getAvailableYears(UUID profileId, int selectedYear) {
     return diaryYearOptionsSupport.getAvailableYears(profileId, selectedYear);
   }
@@ -123,13 +158,18 @@ public class DiaryService {
       @Nullable String keyword,
       @Nullable LocalDate fromDate,
       @Nullable LocalDate toDate,
+      @Nullable Long tagId,
+      @Nullable EmotionCategory category,
       boolean newestFirst,
       int page,
       int size) {
     var normalizedKeyword = normalizeKeyword(keyword);
-    if (normalizedKeyword == null) {
+    var hasFilter = tagId != null || category != null;
+    if (normalizedKeyword == null && !hasFilter) {
       return Page.empty(PageRequest.of(page, size));
     }
+    // 필터만 있는 검색은 키워드를 null로 넘겨 본문 LIKE 없이 태그/카테고리 세미 조인으로만 좁힌다.
+    var categoryName = (category == null) ? null : category.name();
 
     var normalizedDateRange = normalizeDateRange(fromDate, toDate);
     var pageable = PageRequest.of(page, size);
@@ -140,6 +180,8 @@ public class DiaryService {
           normalizedKeyword,
           normalizedDateRange.fromDate(),
           normalizedDateRange.toDate(),
+          tagId,
+          categoryName,
           pageable);
     } else {
       summaryRows = diaryRepository.searchByKeywordOrderByDateAsc(
@@ -147,6 +189,8 @@ public class DiaryService {
           normalizedKeyword,
           normalizedDateRange.fromDate(),
           normalizedDateRange.toDate(),
+          tagId,
+          categoryName,
           pageable);
     }
 
@@ -162,6 +206,51 @@ public class DiaryService {
     return new PageImpl<>(responses, pageable, summaryRows.getTotalElements());
   }
 
+  /**
+   * 태그 또는 감정 카테고리로 거른 최신순 목록. offset 대신 (date, id) 키셋으로 이어 읽어
+   * 뒤 페이지로 갈수록 느려지지 않는다. 태그가 주어지면 태그 인덱스를, 아니면 카테고리 인덱스를 탄다.
+   */
+  public DiaryKeysetPage getFilteredDiaries(
+      UUID profileId,
+      @Nullable Long tagId,
+      @Nullable EmotionCategory category,
+      @Nullable LocalDate fromDate,
+      @Nullable LocalDate cursorDate,
+      @Nullable Long cursorId,
+      int size) {
+    if (tagId == null && category == null) {
+      throw new IllegalArgumentException("태그 또는 감정 카테고리 필터가 필요합니다.");
+    }
+
+    var pageSize = Math.clamp(size, 1, FILTER_MAX_PAGE_SIZE);
+    var resolvedFrom = (fromDate == null) ? LocalDate.EPOCH : fromDate;
+    var resolvedCursorDate = (cursorDate == null) ? FILTER_CURSOR_START_DATE : cursorDate;
+    var resolvedCursorId = (cursorDate == null || cursorId == null) ? Long.MAX_VALUE : cursorId;
+    var categoryName = (category == null) ? null : category.name();
+
+    var rows = (tagId != null)
+        ? diaryRepository.findByTagBeforeCursor(
+            profileId, tagId, categoryName, resolvedFrom, resolvedCursorDate, resolvedCursorId, pageSize + 1)
+        : diaryRepository.findByCategoryBeforeCursor(
+            profileId, Objects.requireNonNull(categoryName), resolvedFrom, resolvedCursorDate, resolvedCursorId, pageSize + 1);
+    if (rows.isEmpty()) {
+      return DiaryKeysetPage.empty();
+    }
+
+    var hasNext = rows.size() > pageSize;
+    var summaries = rows.stream()
+        .limit(pageSize)
+        .map(DiaryRepository.DiaryMonthlySummaryRow::toSummary)
+        .toList();
+    Map<Long, List<TagResponse>> tagsByDiaryId = diaryTagSupport.fetchAndGroupTags(extractDiaryIds(summaries));
+    var last = summaries.getLast();
+    return new DiaryKeysetPage(
+        buildDiaryListResponses(summaries, tagsByDiaryId),
+        hasNext,
+        hasNext ? last.date() : null,
+        hasNext ? last.id() : null);
+  }
+
   @Nullable
   private String normalizeKeyword(@Nullable String keyword) {
     if (keyword == null) {
@@ -294,20 +383,8 @@ public class DiaryService {
   }
 
   private void evictCachesForProfile(UUID profileId) {
-    var prefix = profileId.toString();
-    evictByPattern(MONTHLY_DIARIES_CACHE + prefix);
-    evictByPattern(EMOTION_ANALYSIS_CACHE + prefix);
-  }
-
-  private void evictByPattern(String pattern) {
-    try {
-      var keys = redisTemplate.keys(pattern + "*");
-      if (keys != null && !keys.isEmpty()) {
-        redisTemplate.delete(keys);
-      }
-    } catch (Exception e) {
-      // Redis 장애 시 캐시 eviction 실패는 무시 (TTL로 자연 만료)
-    }
+    insightSnapshotService.invalidate(profileId);
+    profileCacheEvictor.evict(profileId);
   }
 
   private record DateRange(@Nullable LocalDate fromDate, @Nullable LocalDate toDate) {
@@ -1,14 +1,23 @@
 package com.mindlog.domain.diary.service;
 
 import com.mindlog.domain.diary.entity.Diary;
+import com.mindlog.domain.insight.entity.RollupResolution;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.PeriodEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.TagCooccurrenceRepository;
+import com.mindlog.domain.insight.service.EmotionAnomalyService;
+import com.mindlog.domain.insight.service.TagPairDeltas;
 import com.mindlog.domain.tag.dto.TagResponse;
 import com.mindlog.domain.tag.entity.DiaryEmotion;
 import com.mindlog.domain.tag.entity.DiaryTag;
+import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.domain.tag.entity.EmotionTag;
 import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
 import com.mindlog.domain.tag.repository.DiaryTagRepository;
 import com.mindlog.domain.tag.repository.EmotionTagRepository;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -21,14 +30,26 @@ final class DiaryTagSupport {
   private final DiaryEmotionRepository diaryEmotionRepository;
   private final DiaryTagRepository diaryTagRepository;
   private final EmotionTagRepository emotionTagRepository;
+  private final DailyEmotionRollupRepository dailyEmotionRollupRepository;
+  private final PeriodEmotionRollupRepository periodEmotionRollupRepository;
+  private final TagCooccurrenceRepository tagCooccurrenceRepository;
+  private final EmotionAnomalyService emotionAnomalyService;
 
   DiaryTagSupport(
       DiaryEmotionRepository diaryEmotionRepository,
       DiaryTagRepository diaryTagRepository,
-      EmotionTagRepository emotionTagRepository) {
+      EmotionTagRepository emotionTagRepository,
+      DailyEmotionRollupRepository dailyEmotionRollupRepository,
+      PeriodEmotionRollupRepository periodEmotionRollupRepository,
+      TagCooccurrenceRepository tagCooccurrenceRepository,
+      EmotionAnomalyService emotionAnomalyService) {
     this.diaryEmotionRepository = diaryEmotionRepository;
     this.diaryTagRepository = diaryTagRepository;
     this.emotionTagRepository = emotionTagRepository;
+    this.dailyEmotionRollupRepository = dailyEmotionRollupRepository;
+    this.periodEmotionRollupRepository = periodEmotionRollupRepository;
+    this.tagCooccurrenceRepository = tagCooccurrenceRepository;
+    this.emotionAnomalyService = emotionAnomalyService;
   }
 
   Map<Long, List<TagResponse>> fetchAndGroupTags(List<Long> diaryIds) {
@@ -76,12 +97,22 @@ final class DiaryTagSupport {
 
     diaryTagRepository.saveAll(diaryTags);
     diaryEmotionRepository.saveAll(diaryEmotions);
+    incrementRollups(profileId, diaryEmotions);
+    applyCooccurrences(profileId, resolvedTags.stream().map(EmotionTag::getId).toList(), 1);
   }
 
   void deleteDiaryTagRelations(Long diaryId) {
+    var existingEmotions = diaryEmotionRepository.findByDiaryId(diaryId);
     emotionTagRepository.decrementUsageCountByDiaryId(diaryId);
     diaryTagRepository.deleteAllByDiaryId(diaryId);
     diaryEmotionRepository.deleteAllByDiaryId(diaryId);
+    decrementRollups(existingEmotions);
+    if (existingEmotions != null && !existingEmotions.isEmpty()) {
+      applyCooccurrences(
+          existingEmotions.getFirst().getProfileId(),
+          existingEmotions.stream().map(emotion -> emotion.getEmotionTag().getId()).toList(),
+          -1);
+    }
   }
 
   List<EmotionTag> findEmotionTagsByDiaryId(Long diaryId) {
@@ -96,24 +127,145 @@ final class DiaryTagSupport {
         .toList();
   }
 
+  // 일/주/월 감정 집계는 원본 행과 같은 트랜잭션에서 증감해 항상 일치시킨다.
+  private void incrementRollups(UUID profileId, List<DiaryEmotion> diaryEmotions) {
+    var deltas = aggregateByRollupKey(diaryEmotions);
+    deltas.forEach((key, delta) -> {
+      dailyEmotionRollupRepository.increment(
+          profileId,
+          key.date(),
+          key.tagId(),
+          key.category().name(),
+          delta.tagName(),
+          delta.color(),
+          delta.mentionCount(),
+          delta.intensitySum());
+      for (var resolution : RollupResolution.values()) {
+        periodEmotionRollupRepository.increment(
+            profileId,
+            resolution.name(),
+            resolution.periodStart(key.date()),
+            key.tagId(),
+            key.category().name(),
+            delta.tagName(),
+            delta.color(),
+            delta.mentionCount(),
+            delta.intensitySum());
+      }
+    });
+    recordAnomalyDeltas(profileId, deltas, 1L);
+  }
+
+  private void decrementRollups(@Nullable List<DiaryEmotion> diaryEmotions) {
+    if (diaryEmotions == null || diaryEmotions.isEmpty()) {
+      return;
+    }
+
+    var profileId = diaryEmotions.getFirst().getProfileId();
+    var deltas = aggregateByRollupKey(diaryEmotions);
+    if (deltas.isEmpty()) {
+      return;
+    }
+    deltas.forEach((key, delta) -> {
+      dailyEmotionRollupRepository.decrement(
+          profileId,
+          key.date(),
+          key.tagId(),
+          key.category().name(),
+          delta.mentionCount(),
+          delta.intensitySum());
+      for (var resolution : RollupResolution.values()) {
+        periodEmotionRollupRepository.decrement(
+            profileId,
+            resolution.name(),
+            resolution.periodStart(key.date()),
+            key.tagId(),
+            key.category().name(),
+            delta.mentionCount(),
+            delta.intensitySum());
+      }
+    });
+
+    var touchedDates = deltas.keySet().stream()
+        .map(RollupKey::date)
+        .distinct()
+        .toList();
+    dailyEmotionRollupRepository.deleteEmptyRows(profileId, touchedDates);
+
+    var touchedPeriodStarts = touchedDates.stream()
+        .flatMap(date -> Arrays.stream(RollupResolution.values()).map(resolution -> resolution.periodStart(date)))
+        .distinct()
+        .toList();
+    periodEmotionRollupRepository.deleteEmptyRows(profileId, touchedPeriodStarts);
+    recordAnomalyDeltas(profileId, deltas, -1L);
+  }
+
+  // 이상 탐지는 날짜별 부정/전체 언급 수 변화만 필요하므로 집계 키를 날짜 단위로 한 번 더 접는다.
+  private void recordAnomalyDeltas(UUID profileId, Map<RollupKey, RollupDelta> deltas, long sign) {
+    Map<LocalDate, long[]> byDate = new LinkedHashMap<>();
+    deltas.forEach((key, delta) -> {
+      var counts = byDate.computeIfAbsent(key.date(), date -> new long[2]);
+      if (key.category() == EmotionCategory.NEGATIVE) {
+        counts[0] += delta.mentionCount();
+      }
+      counts[1] += delta.mentionCount();
+    });
+    byDate.forEach((date, counts) ->
+        emotionAnomalyService.recordDelta(profileId, date, sign * counts[0], sign * counts[1]));
+  }
+
+  // 태그 동시 출현은 일기 한 건의 태그 쌍만 증감하므로 쓰기 비용이 프로필 전체 데이터 크기와 무관하다.
+  private void applyCooccurrences(UUID profileId, List<Long> tagIds, int delta) {
+    var pairDeltas = new TagPairDeltas();
+    pairDeltas.addAllPairs(tagIds, delta);
+    var pairCount = pairDeltas.nonZeroCount();
+    if (pairCount == 0) {
+      return;
+    }
+
+    var tagAIds = new Long[pairCount];
+    var tagBIds = new Long[pairCount];
+    var deltas = new Long[pairCount];
+    var index = new int[1];
+    pairDeltas.forEachNonZero((tagAId, tagBId, pairDelta) -> {
+      tagAIds[index[0]] = tagAId;
+      tagBIds[index[0]] = tagBId;
+      deltas[index[0]] = (long) pairDelta;
+      index[0]++;
+    });
+
+    tagCooccurrenceRepository.applyDeltas(profileId, tagAIds, tagBIds, deltas);
+    if (pairDeltas.hasNegative()) {
+      tagCooccurrenceRepository.deleteEmptyPairs(profileId, tagAIds, tagBIds);
+    }
+  }
+
+  private Map<RollupKey, RollupDelta> aggregateByRollupKey(List<DiaryEmotion> diaryEmotions) {
+    Map<RollupKey, RollupDelta> deltas = new LinkedHashMap<>();
+    for (var emotion : diaryEmotions) {
+      var key = new RollupKey(
+          emotion.getDiaryDate(),
+          emotion.getEmotionTag().getId(),
+          emotion.getCategorySnapshot());
+      deltas.merge(
+          key,
+          new RollupDelta(emotion.getTagNameSnapshot(), emotion.getColorSnapshot(), 1L, emotion.getIntensity()),
+          RollupDelta::plus);
+    }
+    return deltas;
+  }
+
   private List<EmotionTag> resolveEmotionTags(List<Long> normalizedTagIds) {
     var fetchedTags = emotionTagRepository.findAllById(normalizedTagIds);
     var tagsById = fetchedTags.stream()
-        .filter(tag -> tag.getId() != null)
         .collect(Collectors.toMap(EmotionTag::getId, tag -> tag));
 
     if (tagsById.size() == normalizedTagIds.size()) {
       return normalizedTagIds.stream()
           .map(tagsById::get)
-          .filter(Objects::nonNull)
           .toList();
     }
 
-    // 테스트 더블처럼 id가 없는 엔티티를 반환하는 경우를 대비한 fallback.
-    if (fetchedTags.size() == normalizedTagIds.size()) {
-      return fetchedTags;
-    }
-
     throw new IllegalStateException("일부 감정 태그를 찾을 수 없습니다.");
   }
 
@@ -126,4 +278,17 @@ final class DiaryTagSupport {
         .distinct()
         .toList();
   }
+
+  private record RollupKey(LocalDate date, Long tagId, EmotionCategory category) {
+  }
+
+  private record RollupDelta(String tagName, @Nullable String color, long mentionCount, long intensitySum) {
+    private RollupDelta plus(RollupDelta other) {
+      return new RollupDelta(
+          tagName,
+          color,
+          mentionCount + other.mentionCount,
+          intensitySum + other.intensitySum);
+    }
+  }
 }
@@ -1,6 +1,9 @@
 package com.mindlog.domain.insight.controller;
 
+import com.mindlog.domain.insight.service.EmotionAnomalyService;
 import com.mindlog.domain.insight.service.EmotionInsightService;
+import com.mindlog.domain.insight.service.MoodCalendarService;
+import com.mindlog.domain.insight.service.TagCooccurrenceService;
 import com.mindlog.global.security.CurrentProfileId;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -20,6 +23,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmotionInsightController {
 
     private final EmotionInsightService emotionInsightService;
+    private final TagCooccurrenceService tagCooccurrenceService;
+    private final MoodCalendarService moodCalendarService;
+    private final EmotionAnomalyService emotionAnomalyService;
 
     @GetMapping("/emotions")
     public ResponseEntity<?> getEmotionAnalysis(
@@ -34,4 +40,44 @@ public class EmotionInsightController {
             return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
         }
     }
+
+    @GetMapping("/emotions/compare")
+    public ResponseEntity<?> getEmotionComparison(
+            @CurrentProfileId UUID profileId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Nullable LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Nullable LocalDate to,
+            @RequestParam(required = false) @Nullable Integer topN
+    ) {
+        try {
+            return ResponseEntity.ok(emotionInsightService.getEmotionComparison(profileId, from, to, topN));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/tags/cooccurrences")
+    public ResponseEntity<?> getTagCooccurrences(
+            @CurrentProfileId UUID profileId,
+            @RequestParam(required = false) @Nullable Integer topK
+    ) {
+        return ResponseEntity.ok(tagCooccurrenceService.getTopPairs(profileId, topK));
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<?> getMoodCalendar(
+            @CurrentProfileId UUID profileId,
+            @RequestParam(required = false) @Nullable Integer year
+    ) {
+        try {
+            return ResponseEntity.ok(moodCalendarService.getCalendar(profileId, year, LocalDate.now()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/anomaly")
+    public ResponseEntity<?> getEmotionAnomaly(@CurrentProfileId UUID profileId) {
+        var status = emotionAnomalyService.getStatus(profileId);
+        return (status == null) ? ResponseEntity.noContent().build() : ResponseEntity.ok(status);
+    }
 }
@@ -1,5 +1,6 @@
 package com.mindlog.domain.insight.controller;
 
+import com.mindlog.domain.insight.service.EmotionAnomalyService;
 import com.mindlog.domain.insight.service.EmotionInsightService;
 import com.mindlog.global.security.CurrentProfileId;
 import java.time.LocalDate;
@@ -21,6 +22,7 @@ import org.springframework.web.server.ResponseStatusException;
 public class EmotionInsightPageController {
 
     private final EmotionInsightService emotionInsightService;
+    private final EmotionAnomalyService emotionAnomalyService;
 
     @GetMapping("/emotions")
     public String emotionInsightPage(
@@ -28,14 +30,22 @@ public class EmotionInsightPageController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Nullable LocalDate from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @Nullable LocalDate to,
             @RequestParam(required = false) @Nullable Integer topN,
+            @RequestParam(defaultValue = "false") boolean compare,
             Model model
     ) {
         try {
-            var analysis = emotionInsightService.getEmotionAnalysis(profileId, from, to, topN);
+            // 비교 모드는 두 기간을 한 번에 읽은 결과에서 현재 기간 분석도 꺼내 쓰므로 분석 조회를 따로 하지 않는다.
+            var comparison = compare ? emotionInsightService.getEmotionComparison(profileId, from, to, topN) : null;
+            var analysis = (comparison != null)
+                    ? comparison.current()
+                    : emotionInsightService.getEmotionAnalysis(profileId, from, to, topN);
             model.addAttribute("analysis", analysis);
             model.addAttribute("from", analysis.fromDate());
             model.addAttribute("to", analysis.toDate());
             model.addAttribute("topN", (topN == null) ? 10 : topN);
+            model.addAttribute("compare", compare);
+            model.addAttribute("anomaly", emotionAnomalyService.getStatus(profileId));
+            model.addAttribute("comparison", comparison);
             return "insights/emotions";
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage(), e);
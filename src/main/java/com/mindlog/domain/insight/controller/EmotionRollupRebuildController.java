@@ -0,0 +1,49 @@
+package com.mindlog.domain.insight.controller;
+
+import com.mindlog.domain.insight.service.EmotionRollupRebuildService;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class EmotionRollupRebuildController {
+
+    private static final String TOKEN_HEADER = "X-Admin-Token";
+
+    @Value("${mindlog.insight.rollup.rebuild-token:}")
+    private String rebuildToken;
+
+    private final EmotionRollupRebuildService emotionRollupRebuildService;
+
+    public EmotionRollupRebuildController(EmotionRollupRebuildService emotionRollupRebuildService) {
+        this.emotionRollupRebuildService = emotionRollupRebuildService;
+    }
+
+    @PostMapping("/internal/insights/rollups/rebuild")
+    public ResponseEntity<Map<String, String>> triggerRebuild(
+            @RequestHeader(name = TOKEN_HEADER, required = false) String token
+    ) {
+        if (!StringUtils.hasText(rebuildToken)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("message", "rollup rebuild token is not configured"));
+        }
+        if (!rebuildToken.equals(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("message", "forbidden"));
+        }
+
+        var triggered = emotionRollupRebuildService.triggerRebuildAllAsync();
+        if (!triggered) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(Map.of("message", "rollup rebuild is already running"));
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Map.of("message", "rollup rebuild started"));
+    }
+}
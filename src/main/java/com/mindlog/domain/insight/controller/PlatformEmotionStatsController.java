@@ -0,0 +1,57 @@
+package com.mindlog.domain.insight.controller;
+
+import com.mindlog.domain.insight.service.PlatformEmotionStatsService;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class PlatformEmotionStatsController {
+
+    private static final String TOKEN_HEADER = "X-Admin-Token";
+    private static final int DEFAULT_RANGE_MONTHS = 12;
+
+    @Value("${mindlog.insight.platform.admin-token:}")
+    private String adminToken;
+
+    private final PlatformEmotionStatsService platformEmotionStatsService;
+
+    public PlatformEmotionStatsController(PlatformEmotionStatsService platformEmotionStatsService) {
+        this.platformEmotionStatsService = platformEmotionStatsService;
+    }
+
+    @GetMapping("/internal/insights/platform")
+    public ResponseEntity<?> getPlatformStats(
+            @RequestHeader(name = TOKEN_HEADER, required = false) String token,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") @Nullable YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") @Nullable YearMonth to
+    ) {
+        if (!StringUtils.hasText(adminToken)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("message", "platform stats token is not configured"));
+        }
+        if (!adminToken.equals(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("message", "forbidden"));
+        }
+
+        var today = LocalDate.now();
+        var toMonth = (to != null) ? to : YearMonth.from(today);
+        var fromMonth = (from != null) ? from : toMonth.minusMonths(DEFAULT_RANGE_MONTHS - 1L);
+        try {
+            return ResponseEntity.ok(platformEmotionStatsService.getStats(fromMonth, toMonth, today));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+}
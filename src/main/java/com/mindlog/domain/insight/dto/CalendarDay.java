@@ -0,0 +1,11 @@
+package com.mindlog.domain.insight.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import org.jspecify.annotations.Nullable;
+
+public record CalendarDay(
+        LocalDate date,
+        @Nullable String category
+) implements Serializable {
+}
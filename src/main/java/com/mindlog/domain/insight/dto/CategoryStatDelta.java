@@ -0,0 +1,14 @@
+package com.mindlog.domain.insight.dto;
+
+import java.io.Serializable;
+
+public record CategoryStatDelta(
+        String category,
+        long currentCount,
+        long previousCount,
+        long countDelta,
+        double currentRatio,
+        double previousRatio,
+        double ratioDelta
+) implements Serializable {
+}
@@ -4,13 +4,31 @@ import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * 기간 감정 분석 결과.
+ *
+ * <p>합계/카테고리/상위 태그/주간 추이는 항상 {@code fromDate}~{@code toDate} 전체를 덮는다.
+ * 일별 추이는 {@code dailyTrendFromDate}~{@code toDate}만 담는다. 기간이
+ * {@code mindlog.insight.multi-resolution-threshold-days}를 넘으면 일별 추이는 마지막 그 일수만 내려주므로
+ * {@code dailyTrendFromDate}가 {@code fromDate}보다 늦다. 그보다 앞선 구간은 주간 추이로 본다.</p>
+ */
 public record EmotionAnalysisResponse(
         LocalDate fromDate,
         LocalDate toDate,
         long totalMentions,
         List<CategoryStat> categories,
         List<TagStat> topTags,
+        LocalDate dailyTrendFromDate,
         List<DailyTrendPoint> dailyTrend,
-        List<WeeklyTrendPoint> weeklyTrend
+        List<WeeklyTrendPoint> weeklyTrend,
+        List<String> failedSections
 ) implements Serializable {
+
+    /**
+     * 일부 하위 조회가 실패/시간 초과되어 해당 섹션이 비어 있는 응답인지 여부.
+     */
+    public boolean partial() {
+        // 필드 추가 전에 캐시된 응답은 역직렬화 시 null이 들어온다.
+        return failedSections != null && !failedSections.isEmpty();
+    }
 }
@@ -0,0 +1,13 @@
+package com.mindlog.domain.insight.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+public record EmotionAnomalyStatus(
+        LocalDate date,
+        boolean flagged,
+        double negativeRatio,
+        double baselineRatio,
+        double zScore
+) implements Serializable {
+}
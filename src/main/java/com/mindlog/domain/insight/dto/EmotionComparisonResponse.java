@@ -0,0 +1,29 @@
+package com.mindlog.domain.insight.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 현재 기간과 이전 기간의 감정 비교.
+ *
+ * <p>{@code previousPeriodType}이 {@code PREVIOUS_MONTHS}이면 현재 기간이 달력 월 단위(1일~말일)라서
+ * 이전 기간도 같은 개수의 직전 달력 월이고, {@code PREVIOUS_DAYS}이면 현재 기간 바로 앞의
+ * {@code previousPeriodDays}일이다. {@code current}는 같은 조회로 만든 현재 기간 분석 결과다.</p>
+ */
+public record EmotionComparisonResponse(
+        LocalDate currentFromDate,
+        LocalDate currentToDate,
+        LocalDate previousFromDate,
+        LocalDate previousToDate,
+        String previousPeriodType,
+        long previousPeriodDays,
+        long currentTotalMentions,
+        long previousTotalMentions,
+        long totalMentionsDelta,
+        List<CategoryStatDelta> categories,
+        List<TagStatDelta> topTags,
+        List<WeeklyTrendDelta> weeklyTrend,
+        EmotionAnalysisResponse current
+) implements Serializable {
+}
@@ -0,0 +1,13 @@
+package com.mindlog.domain.insight.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record MoodCalendarResponse(
+        int year,
+        int entryDays,
+        int longestStreak,
+        int currentStreak,
+        List<CalendarDay> days
+) implements Serializable {
+}
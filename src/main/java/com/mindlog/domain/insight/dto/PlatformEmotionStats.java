@@ -0,0 +1,20 @@
+package com.mindlog.domain.insight.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 관리자용 전체 사용자 감정 통계. 월 단위 파티션 결과를 합친 값이다.
+ *
+ * @param cachedMonths 지난 달 캐시에서 재사용한 파티션 수 (나머지는 이번 요청에서 스캔)
+ */
+public record PlatformEmotionStats(
+        YearMonth fromMonth,
+        YearMonth toMonth,
+        long totalMentions,
+        List<CategoryStat> categories,
+        List<PlatformMonthlyPoint> monthlyTrend,
+        List<TagStat> topDefaultTags,
+        int cachedMonths
+) {
+}
@@ -0,0 +1,15 @@
+package com.mindlog.domain.insight.dto;
+
+import java.time.YearMonth;
+
+public record PlatformMonthlyPoint(
+        YearMonth month,
+        long positiveCount,
+        long negativeCount,
+        long neutralCount,
+        long totalCount,
+        double positiveRatio,
+        double negativeRatio,
+        double neutralRatio
+) {
+}
@@ -0,0 +1,15 @@
+package com.mindlog.domain.insight.dto;
+
+import java.io.Serializable;
+import org.jspecify.annotations.Nullable;
+
+public record TagPairStat(
+        Long tagAId,
+        String tagAName,
+        @Nullable String tagAColor,
+        Long tagBId,
+        String tagBName,
+        @Nullable String tagBColor,
+        long count
+) implements Serializable {
+}
@@ -0,0 +1,15 @@
+package com.mindlog.domain.insight.dto;
+
+import java.io.Serializable;
+import org.jspecify.annotations.Nullable;
+
+public record TagStatDelta(
+        Long tagId,
+        String name,
+        @Nullable String color,
+        String category,
+        long currentCount,
+        long previousCount,
+        long countDelta
+) implements Serializable {
+}
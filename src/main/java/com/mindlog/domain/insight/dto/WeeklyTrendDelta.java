@@ -0,0 +1,20 @@
+package com.mindlog.domain.insight.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 비교 모드의 주차별 변화량. 주차는 달력 주가 아니라 각 기간 시작일부터 7일 단위로 자른 구간이다.
+ */
+public record WeeklyTrendDelta(
+        int weekIndex,
+        LocalDate currentWeekStart,
+        LocalDate previousWeekStart,
+        long currentTotalCount,
+        long previousTotalCount,
+        long totalCountDelta,
+        double avgIntensityDelta,
+        double positiveRatioDelta,
+        double negativeRatioDelta
+) implements Serializable {
+}
@@ -0,0 +1,79 @@
+package com.mindlog.domain.insight.entity;
+
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 프로필/날짜/태그/카테고리 단위로 미리 합산해 둔 감정 집계.
+ *
+ * <p>diary_emotions에 쓰기가 일어날 때 같은 트랜잭션에서 증감되며,
+ * 인사이트 조회는 원본 언급 행 대신 이 테이블을 읽어 조회 기간의 일 수에 비례하는 비용만 든다.</p>
+ *
+ * <p>값은 항상 네이티브 upsert로만 갱신하므로 엔티티는 읽기 전용 매핑으로 사용한다.</p>
+ *
+ * @see com.mindlog.domain.insight.repository.DailyEmotionRollupRepository
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "daily_emotion_rollups")
+@IdClass(DailyEmotionRollup.RollupId.class)
+public class DailyEmotionRollup {
+
+    @Id
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Id
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Id
+    @Column(name = "emotion_tag_id", nullable = false)
+    private Long emotionTagId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false)
+    private EmotionCategory category;
+
+    @Column(name = "tag_name", nullable = false)
+    private String tagName;
+
+    @Nullable
+    @Column(name = "color")
+    private String color;
+
+    @Column(name = "mention_count", nullable = false)
+    private long mentionCount;
+
+    @Column(name = "intensity_sum", nullable = false)
+    private long intensitySum;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class RollupId implements Serializable {
+        private UUID profileId;
+        private LocalDate rollupDate;
+        private Long emotionTagId;
+        private EmotionCategory category;
+    }
+}
@@ -0,0 +1,151 @@
+package com.mindlog.domain.insight.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 프로필별 부정 감정 비율의 온라인 이상 탐지 상태.
+ *
+ * <p>완료된 날짜들의 일별 부정 비율을 EWMA 평균/분산으로 요약해 두고, 가장 최근 날짜(latest_date)는
+ * 언급 수만 누적한다. 일기 태그가 바뀔 때마다 O(1)로 갱신되고, 최근 날짜의 비율이 기준선보다
+ * z 점수 임계값 이상 높으면 flagged 로 표시한다.</p>
+ *
+ * <p>과거 날짜에 대한 수정은 이미 접힌 EWMA에 반영할 수 없으므로 무시하며, 재구축 작업이 바로잡는다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "emotion_anomaly_states")
+public class EmotionAnomalyState {
+
+    @Id
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Nullable
+    @Column(name = "latest_date")
+    private LocalDate latestDate;
+
+    @Column(name = "latest_negative_count", nullable = false)
+    private long latestNegativeCount;
+
+    @Column(name = "latest_total_count", nullable = false)
+    private long latestTotalCount;
+
+    @Column(name = "ewma_mean", nullable = false)
+    private double ewmaMean;
+
+    @Column(name = "ewma_variance", nullable = false)
+    private double ewmaVariance;
+
+    @Column(name = "observed_days", nullable = false)
+    private int observedDays;
+
+    @Column(name = "z_score", nullable = false)
+    private double zScore;
+
+    @Column(name = "flagged", nullable = false)
+    private boolean flagged;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public static EmotionAnomalyState initial(UUID profileId) {
+        var state = new EmotionAnomalyState();
+        state.profileId = profileId;
+        state.updatedAt = Instant.now();
+        return state;
+    }
+
+    /**
+     * 재구축 전에 상태를 초기값으로 되돌린다.
+     */
+    public void reset() {
+        latestDate = null;
+        latestNegativeCount = 0L;
+        latestTotalCount = 0L;
+        ewmaMean = 0.0;
+        ewmaVariance = 0.0;
+        observedDays = 0;
+        zScore = 0.0;
+        flagged = false;
+        updatedAt = Instant.now();
+    }
+
+    /**
+     * {@code date}의 부정/전체 언급 수 변화량을 반영한다.
+     */
+    public void apply(LocalDate date, long negativeDelta, long totalDelta, Parameters parameters) {
+        if (latestDate == null || date.isAfter(latestDate)) {
+            foldLatestDay(parameters.alpha());
+            latestDate = date;
+            latestNegativeCount = 0L;
+            latestTotalCount = 0L;
+        } else if (date.isBefore(latestDate)) {
+            return;
+        }
+
+        latestNegativeCount = Math.max(0L, latestNegativeCount + negativeDelta);
+        latestTotalCount = Math.max(0L, latestTotalCount + totalDelta);
+        evaluate(parameters);
+        updatedAt = Instant.now();
+    }
+
+    /**
+     * 재구축용. 날짜 오름차순으로 하루치 집계를 그대로 재생한다.
+     */
+    public void replayDay(LocalDate date, long negativeCount, long totalCount, Parameters parameters) {
+        apply(date, negativeCount, totalCount, parameters);
+    }
+
+    public double latestNegativeRatio() {
+        return (latestTotalCount == 0L) ? 0.0 : (double) latestNegativeCount / latestTotalCount;
+    }
+
+    private void foldLatestDay(double alpha) {
+        if (latestDate == null || latestTotalCount == 0L) {
+            return;
+        }
+        var ratio = latestNegativeRatio();
+        if (observedDays == 0) {
+            ewmaMean = ratio;
+            ewmaVariance = 0.0;
+        } else {
+            // 지수가중 평균/분산 점화식: 과거 전체를 다시 보지 않고 하루치만으로 갱신한다.
+            var diff = ratio - ewmaMean;
+            var increment = alpha * diff;
+            ewmaMean += increment;
+            ewmaVariance = (1.0 - alpha) * (ewmaVariance + diff * increment);
+        }
+        observedDays++;
+    }
+
+    private void evaluate(Parameters parameters) {
+        if (observedDays < parameters.minObservedDays() || latestTotalCount < parameters.minDailyMentions()) {
+            zScore = 0.0;
+            flagged = false;
+            return;
+        }
+        var stdDev = Math.sqrt(Math.max(ewmaVariance, parameters.minVariance()));
+        zScore = (latestNegativeRatio() - ewmaMean) / stdDev;
+        flagged = zScore >= parameters.zThreshold();
+    }
+
+    public record Parameters(
+            double alpha,
+            double zThreshold,
+            int minObservedDays,
+            long minDailyMentions,
+            double minVariance
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.mindlog.domain.insight.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 야간 배치가 미리 계산해 둔 프로필별 기본 감정 분석(최근 30일) 결과.
+ *
+ * <p>payload는 {@code EmotionAnalysisResponse}의 JDK 직렬화 바이트로, Redis 캐시 값과 같은 형식이다.
+ * 일기 쓰기 시 행을 지우고, 조회 기간(from/to)이 오늘 기준과 다르면 쓰지 않는다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "insight_analysis_snapshots")
+public class InsightAnalysisSnapshot {
+
+    @Id
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Column(name = "from_date", nullable = false)
+    private LocalDate fromDate;
+
+    @Column(name = "to_date", nullable = false)
+    private LocalDate toDate;
+
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+}
@@ -0,0 +1,83 @@
+package com.mindlog.domain.insight.entity;
+
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 주/월 단위 감정 집계. {@link DailyEmotionRollup}과 같은 트랜잭션에서 함께 증감된다.
+ *
+ * <p>긴 기간 조회는 기간 안에 완전히 포함되는 주/월을 이 테이블에서 읽고,
+ * 양 끝의 자투리 날짜만 일 단위 집계에서 보충한다.</p>
+ *
+ * @see com.mindlog.domain.insight.repository.PeriodEmotionRollupRepository
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "period_emotion_rollups")
+@IdClass(PeriodEmotionRollup.RollupId.class)
+public class PeriodEmotionRollup {
+
+    @Id
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false)
+    private RollupResolution resolution;
+
+    @Id
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Id
+    @Column(name = "emotion_tag_id", nullable = false)
+    private Long emotionTagId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false)
+    private EmotionCategory category;
+
+    @Column(name = "tag_name", nullable = false)
+    private String tagName;
+
+    @Nullable
+    @Column(name = "color")
+    private String color;
+
+    @Column(name = "mention_count", nullable = false)
+    private long mentionCount;
+
+    @Column(name = "intensity_sum", nullable = false)
+    private long intensitySum;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class RollupId implements Serializable {
+        private UUID profileId;
+        private RollupResolution resolution;
+        private LocalDate periodStart;
+        private Long emotionTagId;
+        private EmotionCategory category;
+    }
+}
@@ -0,0 +1,54 @@
+package com.mindlog.domain.insight.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 일 단위보다 거친 집계 해상도. 각 기간은 {@link #periodStart(LocalDate)}로 정규화된 시작일로 식별한다.
+ * 주는 ISO 기준(월요일 시작)으로 PostgreSQL {@code date_trunc('week', ...)}와 같다.
+ */
+public enum RollupResolution {
+    WEEK {
+        @Override
+        public LocalDate periodStart(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate periodEnd(LocalDate periodStart) {
+            return periodStart.plusDays(6);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate periodStart(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate periodEnd(LocalDate periodStart) {
+            return periodStart.with(TemporalAdjusters.lastDayOfMonth());
+        }
+    };
+
+    public abstract LocalDate periodStart(LocalDate date);
+
+    public abstract LocalDate periodEnd(LocalDate periodStart);
+
+    /**
+     * {@code from} 이후(포함) 처음으로 시작하는 완전한 기간의 시작일.
+     */
+    public LocalDate firstFullPeriodStart(LocalDate from) {
+        var start = periodStart(from);
+        return start.equals(from) ? start : periodStart(periodEnd(start).plusDays(1));
+    }
+
+    /**
+     * {@code to} 이전(포함)에 끝나는 마지막 완전한 기간의 시작일.
+     */
+    public LocalDate lastFullPeriodStart(LocalDate to) {
+        var start = periodStart(to);
+        return periodEnd(start).equals(to) ? start : periodStart(start.minusDays(1));
+    }
+}
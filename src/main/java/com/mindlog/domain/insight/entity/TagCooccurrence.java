@@ -0,0 +1,55 @@
+package com.mindlog.domain.insight.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로필별 태그 쌍 동시 출현 횟수(희소 행렬의 0이 아닌 칸). 항상 tag_a_id &lt; tag_b_id 로 저장한다.
+ *
+ * <p>일기 태그 저장/삭제 시 해당 일기의 태그 쌍만큼 증감되며, 네이티브 upsert로만 갱신한다.</p>
+ *
+ * @see com.mindlog.domain.insight.repository.TagCooccurrenceRepository
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tag_cooccurrences")
+@IdClass(TagCooccurrence.PairId.class)
+public class TagCooccurrence {
+
+    @Id
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Id
+    @Column(name = "tag_a_id", nullable = false)
+    private Long tagAId;
+
+    @Id
+    @Column(name = "tag_b_id", nullable = false)
+    private Long tagBId;
+
+    @Column(name = "pair_count", nullable = false)
+    private long pairCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class PairId implements Serializable {
+        private UUID profileId;
+        private Long tagAId;
+        private Long tagBId;
+    }
+}
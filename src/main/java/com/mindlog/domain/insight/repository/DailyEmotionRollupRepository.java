@@ -0,0 +1,312 @@
+package com.mindlog.domain.insight.repository;
+
+import com.mindlog.domain.insight.entity.DailyEmotionRollup;
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyEmotionRollupRepository extends JpaRepository<DailyEmotionRollup, DailyEmotionRollup.RollupId> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.daily_emotion_rollups AS r (
+                profile_id, rollup_date, emotion_tag_id, category,
+                tag_name, color, mention_count, intensity_sum, updated_at
+            )
+            VALUES (
+                :profileId, :rollupDate, :tagId, :category,
+                :tagName, cast(:color as text), :mentionCount, :intensitySum, now()
+            )
+            ON CONFLICT (profile_id, rollup_date, emotion_tag_id, category)
+            DO UPDATE SET
+                mention_count = r.mention_count + EXCLUDED.mention_count,
+                intensity_sum = r.intensity_sum + EXCLUDED.intensity_sum,
+                tag_name = EXCLUDED.tag_name,
+                color = EXCLUDED.color,
+                updated_at = now()
+            """, nativeQuery = true)
+    void increment(
+            @Param("profileId") UUID profileId,
+            @Param("rollupDate") LocalDate rollupDate,
+            @Param("tagId") Long tagId,
+            @Param("category") String category,
+            @Param("tagName") String tagName,
+            @Param("color") @Nullable String color,
+            @Param("mentionCount") long mentionCount,
+            @Param("intensitySum") long intensitySum);
+
+    @Modifying
+    @Query(value = """
+            UPDATE public.daily_emotion_rollups
+            SET mention_count = mention_count - :mentionCount,
+                intensity_sum = intensity_sum - :intensitySum,
+                updated_at = now()
+            WHERE profile_id = :profileId
+              AND rollup_date = :rollupDate
+              AND emotion_tag_id = :tagId
+              AND category = :category
+            """, nativeQuery = true)
+    void decrement(
+            @Param("profileId") UUID profileId,
+            @Param("rollupDate") LocalDate rollupDate,
+            @Param("tagId") Long tagId,
+            @Param("category") String category,
+            @Param("mentionCount") long mentionCount,
+            @Param("intensitySum") long intensitySum);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM public.daily_emotion_rollups
+            WHERE profile_id = :profileId
+              AND rollup_date IN (:dates)
+              AND mention_count <= 0
+            """, nativeQuery = true)
+    void deleteEmptyRows(
+            @Param("profileId") UUID profileId,
+            @Param("dates") List<LocalDate> dates);
+
+    @Modifying
+    @Query(value = "DELETE FROM public.daily_emotion_rollups WHERE profile_id = :profileId", nativeQuery = true)
+    void deleteByProfileId(@Param("profileId") UUID profileId);
+
+    /**
+     * 재구축 전용. DELETE 이후 같은 프로필의 일기 쓰기가 먼저 행을 만들었을 수 있으므로
+     * 충돌 시 원본에서 다시 센 값으로 덮어쓴다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.daily_emotion_rollups (
+                profile_id, rollup_date, emotion_tag_id, category,
+                tag_name, color, mention_count, intensity_sum, updated_at
+            )
+            SELECT
+                de.profile_id,
+                de.diary_date,
+                de.emotion_tag_id,
+                de.category_snapshot,
+                MAX(de.tag_name_snapshot),
+                MAX(de.color_snapshot),
+                COUNT(*),
+                SUM(de.intensity),
+                now()
+            FROM public.diary_emotions de
+            WHERE de.profile_id = :profileId
+              AND EXISTS (
+                  SELECT 1
+                  FROM public.diaries d
+                  WHERE d.id = de.diary_id
+                    AND d.is_deleted = false
+              )
+            GROUP BY de.profile_id, de.diary_date, de.emotion_tag_id, de.category_snapshot
+            ON CONFLICT (profile_id, rollup_date, emotion_tag_id, category)
+            DO UPDATE SET
+                tag_name = EXCLUDED.tag_name,
+                color = EXCLUDED.color,
+                mention_count = EXCLUDED.mention_count,
+                intensity_sum = EXCLUDED.intensity_sum,
+                updated_at = now()
+            """, nativeQuery = true)
+    int insertAggregatedForProfile(@Param("profileId") UUID profileId);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM public.daily_emotion_rollups
+            WHERE profile_id = :profileId
+              AND emotion_tag_id = :tagId
+            """, nativeQuery = true)
+    void deleteByProfileIdAndTagId(
+            @Param("profileId") UUID profileId,
+            @Param("tagId") Long tagId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.daily_emotion_rollups (
+                profile_id, rollup_date, emotion_tag_id, category,
+                tag_name, color, mention_count, intensity_sum, updated_at
+            )
+            SELECT
+                de.profile_id,
+                de.diary_date,
+                de.emotion_tag_id,
+                de.category_snapshot,
+                MAX(de.tag_name_snapshot),
+                MAX(de.color_snapshot),
+                COUNT(*),
+                SUM(de.intensity),
+                now()
+            FROM public.diary_emotions de
+            WHERE de.profile_id = :profileId
+              AND de.emotion_tag_id = :tagId
+              AND EXISTS (
+                  SELECT 1
+                  FROM public.diaries d
+                  WHERE d.id = de.diary_id
+                    AND d.is_deleted = false
+              )
+            GROUP BY de.profile_id, de.diary_date, de.emotion_tag_id, de.category_snapshot
+            ON CONFLICT (profile_id, rollup_date, emotion_tag_id, category)
+            DO UPDATE SET
+                tag_name = EXCLUDED.tag_name,
+                color = EXCLUDED.color,
+                mention_count = EXCLUDED.mention_count,
+                intensity_sum = EXCLUDED.intensity_sum,
+                updated_at = now()
+            """, nativeQuery = true)
+    int insertAggregatedForTag(
+            @Param("profileId") UUID profileId,
+            @Param("tagId") Long tagId);
+
+    @Query(value = """
+            SELECT
+                r.rollup_date AS date,
+                CAST(SUM(CASE WHEN r.category = 'POSITIVE' THEN r.mention_count ELSE 0 END) AS bigint) AS positiveCount,
+                CAST(SUM(CASE WHEN r.category = 'NEGATIVE' THEN r.mention_count ELSE 0 END) AS bigint) AS negativeCount,
+                CAST(SUM(CASE WHEN r.category = 'NEUTRAL' THEN r.mention_count ELSE 0 END) AS bigint) AS neutralCount,
+                CAST(SUM(r.mention_count) AS bigint) AS totalCount,
+                CAST(SUM(r.intensity_sum) AS double precision) / NULLIF(SUM(r.mention_count), 0) AS avgIntensity
+            FROM public.daily_emotion_rollups r
+            WHERE r.profile_id = :profileId
+              AND r.rollup_date BETWEEN :fromDate AND :toDate
+            GROUP BY r.rollup_date
+            ORDER BY r.rollup_date ASC
+            """, nativeQuery = true)
+    List<DiaryEmotionRepository.DailyTrendView> findDailyTrendInRange(
+            @Param("profileId") UUID profileId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    @Query(value = """
+            SELECT
+                r.emotion_tag_id AS tagId,
+                r.tag_name AS tagName,
+                r.color AS color,
+                r.category AS category,
+                CAST(SUM(r.mention_count) AS bigint) AS count
+            FROM public.daily_emotion_rollups r
+            WHERE r.profile_id = :profileId
+              AND r.rollup_date BETWEEN :fromDate AND :toDate
+            GROUP BY r.emotion_tag_id, r.tag_name, r.color, r.category
+            ORDER BY SUM(r.mention_count) DESC, r.tag_name ASC
+            """, nativeQuery = true)
+    List<DiaryEmotionRepository.TagCountView> findTopTagsInRange(
+            @Param("profileId") UUID profileId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            Pageable pageable);
+
+    @Query(value = """
+            SELECT
+                r.rollup_date AS date,
+                r.emotion_tag_id AS tagId,
+                r.tag_name AS tagName,
+                r.color AS color,
+                r.category AS category,
+                r.mention_count AS mentionCount,
+                r.intensity_sum AS intensitySum
+            FROM public.daily_emotion_rollups r
+            WHERE r.profile_id = :profileId
+              AND r.rollup_date BETWEEN :fromDate AND :toDate
+              AND r.mention_count > 0
+            ORDER BY r.rollup_date ASC
+            """, nativeQuery = true)
+    Stream<DiaryEmotionRepository.DailyTagCountView> streamDailyTagCountsInRange(
+            @Param("profileId") UUID profileId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    /**
+     * 연간 감정 캘린더용. 일기가 있는 날짜마다 카테고리별 언급 수를 한 번에 읽는다(감정이 없으면 0).
+     */
+    @Query(value = """
+            SELECT
+                days.date AS date,
+                COALESCE(r.positive_count, 0) AS positiveCount,
+                COALESCE(r.negative_count, 0) AS negativeCount,
+                COALESCE(r.neutral_count, 0) AS neutralCount
+            FROM (
+                SELECT DISTINCT d.date
+                FROM public.diaries d
+                WHERE d.profile_id = :profileId
+                  AND d.is_deleted = false
+                  AND d.date BETWEEN :fromDate AND :toDate
+            ) days
+            LEFT JOIN (
+                SELECT
+                    rollup_date,
+                    CAST(SUM(CASE WHEN category = 'POSITIVE' THEN mention_count ELSE 0 END) AS bigint) AS positive_count,
+                    CAST(SUM(CASE WHEN category = 'NEGATIVE' THEN mention_count ELSE 0 END) AS bigint) AS negative_count,
+                    CAST(SUM(CASE WHEN category = 'NEUTRAL' THEN mention_count ELSE 0 END) AS bigint) AS neutral_count
+                FROM public.daily_emotion_rollups
+                WHERE profile_id = :profileId
+                  AND rollup_date BETWEEN :fromDate AND :toDate
+                GROUP BY rollup_date
+            ) r ON r.rollup_date = days.date
+            ORDER BY days.date ASC
+            """, nativeQuery = true)
+    List<CalendarDayView> findCalendarDays(
+            @Param("profileId") UUID profileId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    /**
+     * 전체 사용자 대상 통계용. 한 기간(보통 한 달) 파티션의 카테고리별 언급 수를 읽는다.
+     * rollup_date 선두 인덱스(20261019_platform_emotion_stats.sql)로 해당 기간 행만 스캔한다.
+     */
+    @Query(value = """
+            SELECT
+                r.category AS category,
+                CAST(SUM(r.mention_count) AS bigint) AS count
+            FROM public.daily_emotion_rollups r
+            WHERE r.rollup_date >= :fromDate
+              AND r.rollup_date < :toDateExclusive
+            GROUP BY r.category
+            """, nativeQuery = true)
+    List<CategoryCountView> findPlatformCategoryCounts(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDateExclusive") LocalDate toDateExclusive);
+
+    /**
+     * 전체 사용자 대상 통계용. 기본 태그(profile_id IS NULL)만 모아 한 기간 파티션의 언급 수를 읽는다.
+     */
+    @Query(value = """
+            SELECT
+                r.emotion_tag_id AS tagId,
+                MAX(r.tag_name) AS tagName,
+                MAX(r.color) AS color,
+                r.category AS category,
+                CAST(SUM(r.mention_count) AS bigint) AS count
+            FROM public.daily_emotion_rollups r
+            WHERE r.rollup_date >= :fromDate
+              AND r.rollup_date < :toDateExclusive
+              AND r.emotion_tag_id IN (
+                  SELECT t.id
+                  FROM public.emotion_tags t
+                  WHERE t.profile_id IS NULL
+              )
+            GROUP BY r.emotion_tag_id, r.category
+            """, nativeQuery = true)
+    List<DiaryEmotionRepository.TagCountView> findPlatformDefaultTagCounts(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDateExclusive") LocalDate toDateExclusive);
+
+    interface CategoryCountView {
+        EmotionCategory getCategory();
+        Long getCount();
+    }
+
+    interface CalendarDayView {
+        LocalDate getDate();
+        Long getPositiveCount();
+        Long getNegativeCount();
+        Long getNeutralCount();
+    }
+}
@@ -0,0 +1,32 @@
+package com.mindlog.domain.insight.repository;
+
+import com.mindlog.domain.insight.entity.EmotionAnomalyState;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EmotionAnomalyStateRepository extends JpaRepository<EmotionAnomalyState, UUID> {
+
+    /**
+     * 상태 행이 없을 때만 빈 행을 만든다. 동시 첫 쓰기에서도 행 잠금 대상이 항상 존재하도록 한다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.emotion_anomaly_states (
+                profile_id, latest_negative_count, latest_total_count,
+                ewma_mean, ewma_variance, observed_days, z_score, flagged, updated_at
+            )
+            VALUES (:profileId, 0, 0, 0, 0, 0, 0, false, now())
+            ON CONFLICT (profile_id) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("profileId") UUID profileId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EmotionAnomalyState s WHERE s.profileId = :profileId")
+    Optional<EmotionAnomalyState> findForUpdate(@Param("profileId") UUID profileId);
+}
@@ -0,0 +1,51 @@
+package com.mindlog.domain.insight.repository;
+
+import com.mindlog.domain.insight.entity.InsightAnalysisSnapshot;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InsightAnalysisSnapshotRepository extends JpaRepository<InsightAnalysisSnapshot, UUID> {
+
+    Optional<InsightAnalysisSnapshot> findByProfileIdAndFromDateAndToDate(
+            UUID profileId,
+            LocalDate fromDate,
+            LocalDate toDate);
+
+    /**
+     * 계산을 시작한 뒤 일기 쓰기가 있었다면 저장하지 않는다(0 반환). 쓰기 경로의 무효화와 배치 저장이 겹쳐
+     * 이미 지난 결과가 다시 들어가는 것을 막는다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.insight_analysis_snapshots AS s (profile_id, from_date, to_date, payload, computed_at)
+            SELECT :profileId, :fromDate, :toDate, :payload, now()
+            WHERE NOT EXISTS (
+                SELECT 1
+                FROM public.diaries d
+                WHERE d.profile_id = :profileId
+                  AND d.updated_at >= :computeStartedAt
+            )
+            ON CONFLICT (profile_id)
+            DO UPDATE SET
+                from_date = EXCLUDED.from_date,
+                to_date = EXCLUDED.to_date,
+                payload = EXCLUDED.payload,
+                computed_at = now()
+            """, nativeQuery = true)
+    int upsertUnlessWrittenSince(
+            @Param("profileId") UUID profileId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("payload") byte[] payload,
+            @Param("computeStartedAt") Instant computeStartedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM public.insight_analysis_snapshots WHERE profile_id = :profileId", nativeQuery = true)
+    void deleteByProfileId(@Param("profileId") UUID profileId);
+}
@@ -0,0 +1,189 @@
+package com.mindlog.domain.insight.repository;
+
+import com.mindlog.domain.insight.entity.PeriodEmotionRollup;
+import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PeriodEmotionRollupRepository extends JpaRepository<PeriodEmotionRollup, PeriodEmotionRollup.RollupId> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.period_emotion_rollups AS r (
+                profile_id, resolution, period_start, emotion_tag_id, category,
+                tag_name, color, mention_count, intensity_sum, updated_at
+            )
+            VALUES (
+                :profileId, :resolution, :periodStart, :tagId, :category,
+                :tagName, cast(:color as text), :mentionCount, :intensitySum, now()
+            )
+            ON CONFLICT (profile_id, resolution, period_start, emotion_tag_id, category)
+            DO UPDATE SET
+                mention_count = r.mention_count + EXCLUDED.mention_count,
+                intensity_sum = r.intensity_sum + EXCLUDED.intensity_sum,
+                tag_name = EXCLUDED.tag_name,
+                color = EXCLUDED.color,
+                updated_at = now()
+            """, nativeQuery = true)
+    void increment(
+            @Param("profileId") UUID profileId,
+            @Param("resolution") String resolution,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("tagId") Long tagId,
+            @Param("category") String category,
+            @Param("tagName") String tagName,
+            @Param("color") @Nullable String color,
+            @Param("mentionCount") long mentionCount,
+            @Param("intensitySum") long intensitySum);
+
+    @Modifying
+    @Query(value = """
+            UPDATE public.period_emotion_rollups
+            SET mention_count = mention_count - :mentionCount,
+                intensity_sum = intensity_sum - :intensitySum,
+                updated_at = now()
+            WHERE profile_id = :profileId
+              AND resolution = :resolution
+              AND period_start = :periodStart
+              AND emotion_tag_id = :tagId
+              AND category = :category
+            """, nativeQuery = true)
+    void decrement(
+            @Param("profileId") UUID profileId,
+            @Param("resolution") String resolution,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("tagId") Long tagId,
+            @Param("category") String category,
+            @Param("mentionCount") long mentionCount,
+            @Param("intensitySum") long intensitySum);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM public.period_emotion_rollups
+            WHERE profile_id = :profileId
+              AND period_start IN (:periodStarts)
+              AND mention_count <= 0
+            """, nativeQuery = true)
+    void deleteEmptyRows(
+            @Param("profileId") UUID profileId,
+            @Param("periodStarts") List<LocalDate> periodStarts);
+
+    @Modifying
+    @Query(value = "DELETE FROM public.period_emotion_rollups WHERE profile_id = :profileId", nativeQuery = true)
+    void deleteByProfileId(@Param("profileId") UUID profileId);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM public.period_emotion_rollups
+            WHERE profile_id = :profileId
+              AND emotion_tag_id = :tagId
+            """, nativeQuery = true)
+    void deleteByProfileIdAndTagId(
+            @Param("profileId") UUID profileId,
+            @Param("tagId") Long tagId);
+
+    /**
+     * 일 단위 집계에서 주/월 집계를 다시 만든다. 재구축 시 일 단위 집계를 먼저 채운 뒤 호출한다.
+     * {@code tagId}가 null이면 프로필 전체 태그를 대상으로 한다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.period_emotion_rollups (
+                profile_id, resolution, period_start, emotion_tag_id, category,
+                tag_name, color, mention_count, intensity_sum, updated_at
+            )
+            SELECT
+                d.profile_id,
+                :resolution,
+                CAST(date_trunc(:truncUnit, d.rollup_date) AS date),
+                d.emotion_tag_id,
+                d.category,
+                MAX(d.tag_name),
+                MAX(d.color),
+                SUM(d.mention_count),
+                SUM(d.intensity_sum),
+                now()
+            FROM public.daily_emotion_rollups d
+            WHERE d.profile_id = :profileId
+              AND (CAST(:tagId AS bigint) IS NULL OR d.emotion_tag_id = :tagId)
+            GROUP BY d.profile_id, 3, d.emotion_tag_id, d.category
+            ON CONFLICT (profile_id, resolution, period_start, emotion_tag_id, category)
+            DO UPDATE SET
+                tag_name = EXCLUDED.tag_name,
+                color = EXCLUDED.color,
+                mention_count = EXCLUDED.mention_count,
+                intensity_sum = EXCLUDED.intensity_sum,
+                updated_at = now()
+            """, nativeQuery = true)
+    int insertAggregatedFromDaily(
+            @Param("profileId") UUID profileId,
+            @Param("tagId") @Nullable Long tagId,
+            @Param("resolution") String resolution,
+            @Param("truncUnit") String truncUnit);
+
+    @Query(value = """
+            SELECT
+                r.period_start AS date,
+                CAST(SUM(CASE WHEN r.category = 'POSITIVE' THEN r.mention_count ELSE 0 END) AS bigint) AS positiveCount,
+                CAST(SUM(CASE WHEN r.category = 'NEGATIVE' THEN r.mention_count ELSE 0 END) AS bigint) AS negativeCount,
+                CAST(SUM(CASE WHEN r.category = 'NEUTRAL' THEN r.mention_count ELSE 0 END) AS bigint) AS neutralCount,
+                CAST(SUM(r.mention_count) AS bigint) AS totalCount,
+                CAST(SUM(r.intensity_sum) AS double precision) / NULLIF(SUM(r.mention_count), 0) AS avgIntensity
+            FROM public.period_emotion_rollups r
+            WHERE r.profile_id = :profileId
+              AND r.resolution = :resolution
+              AND r.period_start BETWEEN :fromStart AND :toStart
+            GROUP BY r.period_start
+            ORDER BY r.period_start ASC
+            """, nativeQuery = true)
+    List<DiaryEmotionRepository.DailyTrendView> findPeriodTrendInRange(
+            @Param("profileId") UUID profileId,
+            @Param("resolution") String resolution,
+            @Param("fromStart") LocalDate fromStart,
+            @Param("toStart") LocalDate toStart);
+
+    /**
+     * 완전히 포함되는 기간은 주/월 집계에서, 양 끝 자투리 날짜는 일 단위 집계에서 읽어 한 번에 합산한다.
+     * 빈 구간은 from > to로 넘기면 조건에 걸리는 행이 없다.
+     */
+    @Query(value = """
+            SELECT
+                t.emotion_tag_id AS tagId,
+                t.tag_name AS tagName,
+                t.color AS color,
+                t.category AS category,
+                CAST(SUM(t.mention_count) AS bigint) AS count
+            FROM (
+                SELECT p.emotion_tag_id, p.tag_name, p.color, p.category, p.mention_count
+                FROM public.period_emotion_rollups p
+                WHERE p.profile_id = :profileId
+                  AND p.resolution = :resolution
+                  AND p.period_start BETWEEN :fromStart AND :toStart
+                UNION ALL
+                SELECT d.emotion_tag_id, d.tag_name, d.color, d.category, d.mention_count
+                FROM public.daily_emotion_rollups d
+                WHERE d.profile_id = :profileId
+                  AND (d.rollup_date BETWEEN :headFrom AND :headTo
+                       OR d.rollup_date BETWEEN :tailFrom AND :tailTo)
+            ) t
+            GROUP BY t.emotion_tag_id, t.tag_name, t.color, t.category
+            ORDER BY SUM(t.mention_count) DESC, t.tag_name ASC
+            """, nativeQuery = true)
+    List<DiaryEmotionRepository.TagCountView> findTopTagsAcrossResolutions(
+            @Param("profileId") UUID profileId,
+            @Param("resolution") String resolution,
+            @Param("fromStart") LocalDate fromStart,
+            @Param("toStart") LocalDate toStart,
+            @Param("headFrom") LocalDate headFrom,
+            @Param("headTo") LocalDate headTo,
+            @Param("tailFrom") LocalDate tailFrom,
+            @Param("tailTo") LocalDate tailTo,
+            Pageable pageable);
+}
@@ -0,0 +1,113 @@
+package com.mindlog.domain.insight.repository;
+
+import com.mindlog.domain.insight.entity.TagCooccurrence;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TagCooccurrenceRepository extends JpaRepository<TagCooccurrence, TagCooccurrence.PairId> {
+
+    /**
+     * 태그 쌍 증감량을 배열로 받아 한 문장으로 반영한다. 쌍 개수와 무관하게 왕복은 한 번이다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.tag_cooccurrences AS c (profile_id, tag_a_id, tag_b_id, pair_count, updated_at)
+            SELECT :profileId, d.tag_a_id, d.tag_b_id, d.delta, now()
+            FROM unnest(
+                CAST(:tagAIds AS bigint[]),
+                CAST(:tagBIds AS bigint[]),
+                CAST(:deltas AS bigint[])
+            ) AS d(tag_a_id, tag_b_id, delta)
+            ON CONFLICT (profile_id, tag_a_id, tag_b_id)
+            DO UPDATE SET
+                pair_count = c.pair_count + EXCLUDED.pair_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    void applyDeltas(
+            @Param("profileId") UUID profileId,
+            @Param("tagAIds") Long[] tagAIds,
+            @Param("tagBIds") Long[] tagBIds,
+            @Param("deltas") Long[] deltas);
+
+    /**
+     * 방금 감소시킨 쌍 중 0 이하가 된 행만 지운다. 프로필의 다른 쌍은 건드리지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM public.tag_cooccurrences tc
+            USING unnest(CAST(:tagAIds AS bigint[]), CAST(:tagBIds AS bigint[])) AS touched(tag_a_id, tag_b_id)
+            WHERE tc.profile_id = :profileId
+              AND tc.tag_a_id = touched.tag_a_id
+              AND tc.tag_b_id = touched.tag_b_id
+              AND tc.pair_count <= 0
+            """, nativeQuery = true)
+    void deleteEmptyPairs(
+            @Param("profileId") UUID profileId,
+            @Param("tagAIds") Long[] tagAIds,
+            @Param("tagBIds") Long[] tagBIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM public.tag_cooccurrences WHERE profile_id = :profileId", nativeQuery = true)
+    void deleteByProfileId(@Param("profileId") UUID profileId);
+
+    /**
+     * 재구축 전용. 일기 단위 self-join이므로 평소 조회 경로에서는 사용하지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.tag_cooccurrences (profile_id, tag_a_id, tag_b_id, pair_count, updated_at)
+            SELECT a.profile_id, a.emotion_tag_id, b.emotion_tag_id, COUNT(DISTINCT a.diary_id), now()
+            FROM public.diary_emotions a
+            JOIN public.diary_emotions b
+              ON b.diary_id = a.diary_id
+             AND b.emotion_tag_id > a.emotion_tag_id
+            WHERE a.profile_id = :profileId
+              AND EXISTS (
+                  SELECT 1
+                  FROM public.diaries d
+                  WHERE d.id = a.diary_id
+                    AND d.is_deleted = false
+              )
+            GROUP BY a.profile_id, a.emotion_tag_id, b.emotion_tag_id
+            ON CONFLICT (profile_id, tag_a_id, tag_b_id)
+            DO UPDATE SET
+                pair_count = EXCLUDED.pair_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    int insertAggregatedForProfile(@Param("profileId") UUID profileId);
+
+    @Query(value = """
+            SELECT
+                c.tag_a_id AS tagAId,
+                ta.name AS tagAName,
+                ta.color AS tagAColor,
+                c.tag_b_id AS tagBId,
+                tb.name AS tagBName,
+                tb.color AS tagBColor,
+                c.pair_count AS count
+            FROM public.tag_cooccurrences c
+            JOIN public.emotion_tags ta ON ta.id = c.tag_a_id
+            JOIN public.emotion_tags tb ON tb.id = c.tag_b_id
+            WHERE c.profile_id = :profileId
+              AND c.pair_count > 0
+            ORDER BY c.pair_count DESC, c.tag_a_id ASC, c.tag_b_id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TagPairView> findTopPairs(
+            @Param("profileId") UUID profileId,
+            @Param("limit") int limit);
+
+    interface TagPairView {
+        Long getTagAId();
+        String getTagAName();
+        String getTagAColor();
+        Long getTagBId();
+        String getTagBName();
+        String getTagBColor();
+        Long getCount();
+    }
+}
@@ -0,0 +1,86 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.EmotionAnomalyStatus;
+import com.mindlog.domain.insight.entity.EmotionAnomalyState;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.EmotionAnomalyStateRepository;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 부정 감정 급증 탐지. 일기 태그 쓰기 경로에서 호출되어 프로필 상태 행 하나만 갱신한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmotionAnomalyService {
+
+    private static final LocalDate REBUILD_FROM = LocalDate.of(1970, 1, 1);
+    private static final LocalDate REBUILD_TO = LocalDate.of(9999, 12, 31);
+
+    private final EmotionAnomalyStateRepository emotionAnomalyStateRepository;
+    private final DailyEmotionRollupRepository dailyEmotionRollupRepository;
+    private final EmotionAnomalyState.Parameters parameters;
+
+    public EmotionAnomalyService(
+            EmotionAnomalyStateRepository emotionAnomalyStateRepository,
+            DailyEmotionRollupRepository dailyEmotionRollupRepository,
+            @Value("${mindlog.insight.anomaly.alpha:0.2}") double alpha,
+            @Value("${mindlog.insight.anomaly.z-threshold:2.0}") double zThreshold,
+            @Value("${mindlog.insight.anomaly.min-observed-days:7}") int minObservedDays,
+            @Value("${mindlog.insight.anomaly.min-daily-mentions:2}") long minDailyMentions) {
+        this.emotionAnomalyStateRepository = emotionAnomalyStateRepository;
+        this.dailyEmotionRollupRepository = dailyEmotionRollupRepository;
+        // 분산이 0에 가까우면 작은 변화도 큰 z 점수가 되므로 하한(표준편차 0.1)을 둔다.
+        this.parameters = new EmotionAnomalyState.Parameters(alpha, zThreshold, minObservedDays, minDailyMentions, 0.01);
+    }
+
+    /**
+     * 호출자의 쓰기 트랜잭션 안에서 실행된다. 상태 행을 잠그고 변화량만 반영한다.
+     */
+    @Transactional
+    public void recordDelta(UUID profileId, LocalDate date, long negativeDelta, long totalDelta) {
+        if (negativeDelta == 0L && totalDelta == 0L) {
+            return;
+        }
+        emotionAnomalyStateRepository.insertIfAbsent(profileId);
+        emotionAnomalyStateRepository.findForUpdate(profileId)
+                .ifPresent(state -> state.apply(date, negativeDelta, totalDelta, parameters));
+    }
+
+    public @Nullable EmotionAnomalyStatus getStatus(UUID profileId) {
+        return emotionAnomalyStateRepository.findById(profileId)
+                .filter(state -> state.getLatestDate() != null)
+                .map(state -> new EmotionAnomalyStatus(
+                        state.getLatestDate(),
+                        state.isFlagged(),
+                        state.latestNegativeRatio(),
+                        state.getEwmaMean(),
+                        state.getZScore()))
+                .orElse(null);
+    }
+
+    /**
+     * 일 단위 집계를 날짜순으로 재생해 상태를 처음부터 다시 만든다. 일 단위 집계 재구축 이후에 호출한다.
+     */
+    @Transactional
+    public void rebuild(UUID profileId) {
+        emotionAnomalyStateRepository.insertIfAbsent(profileId);
+        var state = emotionAnomalyStateRepository.findForUpdate(profileId)
+                .orElseGet(() -> emotionAnomalyStateRepository.save(EmotionAnomalyState.initial(profileId)));
+        state.reset();
+        dailyEmotionRollupRepository.findDailyTrendInRange(profileId, REBUILD_FROM, REBUILD_TO)
+                .forEach(day -> state.replayDay(
+                        day.getDate(),
+                        nonNullLong(day.getNegativeCount()),
+                        nonNullLong(day.getTotalCount()),
+                        parameters));
+    }
+
+    private long nonNullLong(@Nullable Long value) {
+        return (value == null) ? 0L : value;
+    }
+}
@@ -0,0 +1,265 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.CategoryStat;
+import com.mindlog.domain.insight.dto.CategoryStatDelta;
+import com.mindlog.domain.insight.dto.DailyTrendPoint;
+import com.mindlog.domain.insight.dto.EmotionAnalysisResponse;
+import com.mindlog.domain.insight.dto.TagStat;
+import com.mindlog.domain.insight.dto.TagStatDelta;
+import com.mindlog.domain.insight.dto.WeeklyTrendDelta;
+import com.mindlog.domain.insight.entity.RollupResolution;
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 이전 기간 + 현재 기간을 합친 범위의 날짜/태그 행을 한 번 순회하면서 두 기간의 집계를 동시에 쌓는다.
+ * 주차는 각 기간 시작일 기준 7일 단위 블록으로 맞춰 비교한다(달력 월 비교처럼 두 기간 길이가 다르면 긴 쪽에 맞춘다).
+ * 같은 순회에서 현재 기간의 일별/주간 추이와 상위 태그도 함께 쌓아, 비교 화면이 현재 기간 분석을 다시 조회하지 않게 한다.
+ * 태그는 분석 화면의 상위 태그 쿼리와 같이 (태그 ID, 이름/색상/카테고리 스냅샷) 단위로 묶어,
+ * 태그 이름이나 색상을 바꾼 뒤에도 두 화면의 상위 태그가 같게 나오도록 한다.
+ */
+final class EmotionComparisonAccumulator {
+
+    private static final int DAYS_PER_BLOCK = 7;
+
+    private final LocalDate currentFromDate;
+    private final LocalDate currentToDate;
+    private final Window current;
+    private final Window previous;
+    private final TrendBucketAggregator currentDaily;
+    private final TrendBucketAggregator currentWeekly;
+
+    EmotionComparisonAccumulator(
+            LocalDate previousFromDate,
+            LocalDate previousToDate,
+            LocalDate currentFromDate,
+            LocalDate currentToDate
+    ) {
+        this.currentFromDate = currentFromDate;
+        this.currentToDate = currentToDate;
+        var windowDays = Math.max(
+                ChronoUnit.DAYS.between(currentFromDate, currentToDate) + 1,
+                ChronoUnit.DAYS.between(previousFromDate, previousToDate) + 1);
+        var blockCount = (int) ((windowDays + DAYS_PER_BLOCK - 1) / DAYS_PER_BLOCK);
+        this.current = new Window(currentFromDate, blockCount);
+        this.previous = new Window(previousFromDate, blockCount);
+        this.currentDaily = TrendBucketAggregator.ofDays(1, currentFromDate, currentToDate);
+        this.currentWeekly = TrendBucketAggregator.of(RollupResolution.WEEK, currentFromDate, currentToDate);
+    }
+
+    void add(DiaryEmotionRepository.DailyTagCountView row) {
+        if (row.getDate().isBefore(currentFromDate)) {
+            previous.add(row);
+            return;
+        }
+        current.add(row);
+        addToCurrentTrend(row);
+    }
+
+    private void addToCurrentTrend(DiaryEmotionRepository.DailyTagCountView row) {
+        var mentions = nonNullLong(row.getMentionCount());
+        if (mentions == 0L) {
+            return;
+        }
+        var category = row.getCategory();
+        var epochDay = row.getDate().toEpochDay();
+        var positive = (category == EmotionCategory.POSITIVE) ? mentions : 0L;
+        var negative = (category == EmotionCategory.NEGATIVE) ? mentions : 0L;
+        var neutral = (category == EmotionCategory.NEUTRAL) ? mentions : 0L;
+        var avgIntensity = (double) nonNullLong(row.getIntensitySum()) / mentions;
+        currentDaily.add(epochDay, positive, negative, neutral, mentions, avgIntensity);
+        currentWeekly.add(epochDay, positive, negative, neutral, mentions, avgIntensity);
+    }
+
+    /**
+     * 현재 기간만의 분석 결과. {@link EmotionInsightService#getEmotionAnalysis}와 같은 모양으로 만든다.
+     */
+    EmotionAnalysisResponse currentAnalysis(int topN) {
+        var categories = new ArrayList<CategoryStat>(EmotionCategory.values().length);
+        for (var category : EmotionCategory.values()) {
+            var count = current.categoryCounts[category.ordinal()];
+            categories.add(new CategoryStat(category.name(), count, ratio(count, current.total)));
+        }
+
+        var topTags = current.tags.entrySet().stream()
+                .map(entry -> new TagStat(
+                        entry.getKey().tagId(),
+                        entry.getKey().name(),
+                        entry.getKey().color(),
+                        entry.getKey().category().name(),
+                        entry.getValue()))
+                .sorted(Comparator.comparingLong(TagStat::count).reversed()
+                        .thenComparing(TagStat::name))
+                .limit(topN)
+                .toList();
+
+        var dailyTrend = currentDaily.toTrend().stream()
+                .map(day -> new DailyTrendPoint(
+                        day.weekStart(),
+                        day.positiveCount(),
+                        day.negativeCount(),
+                        day.neutralCount(),
+                        day.totalCount(),
+                        day.avgIntensity()))
+                .toList();
+
+        return new EmotionAnalysisResponse(
+                currentFromDate,
+                currentToDate,
+                current.total,
+                List.copyOf(categories),
+                topTags,
+                currentFromDate,
+                dailyTrend,
+                currentWeekly.toTrend(),
+                List.of());
+    }
+
+    long currentTotal() {
+        return current.total;
+    }
+
+    long previousTotal() {
+        return previous.total;
+    }
+
+    List<CategoryStatDelta> categoryDeltas() {
+        var result = new ArrayList<CategoryStatDelta>(EmotionCategory.values().length);
+        for (var category : EmotionCategory.values()) {
+            var currentCount = current.categoryCounts[category.ordinal()];
+            var previousCount = previous.categoryCounts[category.ordinal()];
+            var currentRatio = ratio(currentCount, current.total);
+            var previousRatio = ratio(previousCount, previous.total);
+            result.add(new CategoryStatDelta(
+                    category.name(),
+                    currentCount,
+                    previousCount,
+                    currentCount - previousCount,
+                    currentRatio,
+                    previousRatio,
+                    currentRatio - previousRatio));
+        }
+        return result;
+    }
+
+    /**
+     * 현재 기간 언급 수 기준 상위 태그. 이전 기간에만 있던 태그도 현재 0건으로 후보에 포함된다.
+     * 두 기간은 같은 스냅샷 키끼리 비교하므로, 기간 사이에 이름을 바꾼 태그는 이전 이름과 새 이름이 따로 나온다.
+     */
+    List<TagStatDelta> topTagDeltas(int limit) {
+        var candidates = new HashSet<TagKey>(current.tags.keySet());
+        candidates.addAll(previous.tags.keySet());
+
+        return candidates.stream()
+                .map(key -> {
+                    var currentCount = current.tags.getOrDefault(key, 0L);
+                    var previousCount = previous.tags.getOrDefault(key, 0L);
+                    return new TagStatDelta(
+                            key.tagId(),
+                            key.name(),
+                            key.color(),
+                            key.category().name(),
+                            currentCount,
+                            previousCount,
+                            currentCount - previousCount);
+                })
+                .sorted(Comparator.comparingLong(TagStatDelta::currentCount).reversed()
+                        .thenComparing(TagStatDelta::name))
+                .limit(limit)
+                .toList();
+    }
+
+    List<WeeklyTrendDelta> weeklyDeltas() {
+        var result = new ArrayList<WeeklyTrendDelta>(current.blocks.length);
+        for (int i = 0; i < current.blocks.length; i++) {
+            var currentBlock = current.blocks[i];
+            var previousBlock = previous.blocks[i];
+            if (currentBlock.total == 0L && previousBlock.total == 0L) {
+                continue;
+            }
+            result.add(new WeeklyTrendDelta(
+                    i,
+                    current.fromDate.plusDays((long) i * DAYS_PER_BLOCK),
+                    previous.fromDate.plusDays((long) i * DAYS_PER_BLOCK),
+                    currentBlock.total,
+                    previousBlock.total,
+                    currentBlock.total - previousBlock.total,
+                    currentBlock.avgIntensity() - previousBlock.avgIntensity(),
+                    currentBlock.ratio(EmotionCategory.POSITIVE) - previousBlock.ratio(EmotionCategory.POSITIVE),
+                    currentBlock.ratio(EmotionCategory.NEGATIVE) - previousBlock.ratio(EmotionCategory.NEGATIVE)));
+        }
+        return result;
+    }
+
+    private static double ratio(long count, long total) {
+        return (total == 0L) ? 0.0 : (double) count / total;
+    }
+
+    private static long nonNullLong(@Nullable Long value) {
+        return (value == null) ? 0L : value;
+    }
+
+    private static final class Window {
+        private final LocalDate fromDate;
+        private final long[] categoryCounts = new long[EmotionCategory.values().length];
+        private final Map<TagKey, Long> tags = new HashMap<>();
+        private final Block[] blocks;
+        private long total;
+
+        private Window(LocalDate fromDate, int blockCount) {
+            this.fromDate = fromDate;
+            this.blocks = new Block[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                blocks[i] = new Block();
+            }
+        }
+
+        private void add(DiaryEmotionRepository.DailyTagCountView row) {
+            var mentions = nonNullLong(row.getMentionCount());
+            var intensitySum = nonNullLong(row.getIntensitySum());
+            var category = row.getCategory();
+
+            total += mentions;
+            categoryCounts[category.ordinal()] += mentions;
+
+            tags.merge(new TagKey(row.getTagId(), row.getTagName(), row.getColor(), category), mentions, Long::sum);
+
+            var blockIndex = (int) (ChronoUnit.DAYS.between(fromDate, row.getDate()) / DAYS_PER_BLOCK);
+            if (blockIndex >= 0 && blockIndex < blocks.length) {
+                var block = blocks[blockIndex];
+                block.total += mentions;
+                block.intensitySum += intensitySum;
+                block.categoryCounts[category.ordinal()] += mentions;
+            }
+        }
+    }
+
+    private static final class Block {
+        private final long[] categoryCounts = new long[EmotionCategory.values().length];
+        private long total;
+        private long intensitySum;
+
+        private double avgIntensity() {
+            return (total == 0L) ? 0.0 : (double) intensitySum / total;
+        }
+
+        private double ratio(EmotionCategory category) {
+            return EmotionComparisonAccumulator.ratio(categoryCounts[category.ordinal()], total);
+        }
+    }
+
+    /**
+     * {@code findTopTagsInRange}의 GROUP BY (emotion_tag_id, tag_name, color, category)와 같은 묶음 키.
+     */
+    private record TagKey(Long tagId, String name, @Nullable String color, EmotionCategory category) {
+    }
+}
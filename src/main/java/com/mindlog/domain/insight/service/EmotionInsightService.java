@@ -3,26 +3,46 @@ package com.mindlog.domain.insight.service;
 import com.mindlog.domain.insight.dto.CategoryStat;
 import com.mindlog.domain.insight.dto.DailyTrendPoint;
 import com.mindlog.domain.insight.dto.EmotionAnalysisResponse;
+import com.mindlog.domain.insight.dto.EmotionComparisonResponse;
 import com.mindlog.domain.insight.dto.TagStat;
 import com.mindlog.domain.insight.dto.WeeklyTrendPoint;
+import com.mindlog.domain.insight.entity.RollupResolution;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.PeriodEmotionRollupRepository;
 import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
-import java.time.DayOfWeek;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
-import java.util.Arrays;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class EmotionInsightService {
 
@@ -30,13 +50,78 @@ public class EmotionInsightService {
     private static final int MIN_TOP_TAG_COUNT = 1;
     private static final int MAX_TOP_TAG_COUNT = 30;
     private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int DEFAULT_MAX_CONCURRENT_QUERIES = 6;
+
+    private static final String SECTION_DAILY_TREND = "dailyTrend";
+    private static final String SECTION_WEEKLY_TREND = "weeklyTrend";
+    private static final String SECTION_TOP_TAGS = "topTags";
+
+    private static final String PREVIOUS_PERIOD_MONTHS = "PREVIOUS_MONTHS";
+    private static final String PREVIOUS_PERIOD_DAYS = "PREVIOUS_DAYS";
 
     private final DiaryEmotionRepository diaryEmotionRepository;
+    private final DailyEmotionRollupRepository dailyEmotionRollupRepository;
+    private final PeriodEmotionRollupRepository periodEmotionRollupRepository;
+    private final InsightSnapshotService insightSnapshotService;
+
+    // 하위 조회는 각자 가상 스레드에서 별도 커넥션/읽기 전용 트랜잭션으로 실행한다.
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ExecutorService insightQueryExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mindlog-insight-", 0).factory());
+    // 가상 스레드 하위 조회가 동시에 잡을 수 있는 커넥션 수. 허가가 없으면 호출 스레드에서 순차 실행한다.
+    private Semaphore insightQueryPermits = new Semaphore(DEFAULT_MAX_CONCURRENT_QUERIES);
+
+    @Value("${mindlog.insight.max-concurrent-queries:" + DEFAULT_MAX_CONCURRENT_QUERIES + "}")
+    private int maxConcurrentQueries;
+
+    @Value("${mindlog.insight.query-timeout-ms:3000}")
+    private long queryTimeoutMs;
+
+    // 일 단위 집계 테이블(daily_emotion_rollups) 사용 여부. 재구축 중 원본 집계로 되돌릴 때 false로 둔다.
+    @Value("${mindlog.insight.read-from-rollup:true}")
+    private boolean readFromRollup;
 
+    // 이 일수를 넘는 기간은 주/월 집계를 사용하고, 일별 추이는 마지막 이 일수만큼만 내려준다(응답의 dailyTrendFromDate).
+    @Value("${mindlog.insight.multi-resolution-threshold-days:92}")
+    private int multiResolutionThresholdDays;
+
+    public EmotionInsightService(
+            DiaryEmotionRepository diaryEmotionRepository,
+            DailyEmotionRollupRepository dailyEmotionRollupRepository,
+            PeriodEmotionRollupRepository periodEmotionRollupRepository,
+            InsightSnapshotService insightSnapshotService,
+            PlatformTransactionManager transactionManager) {
+        this.diaryEmotionRepository = diaryEmotionRepository;
+        this.dailyEmotionRollupRepository = dailyEmotionRollupRepository;
+        this.periodEmotionRollupRepository = periodEmotionRollupRepository;
+        this.insightSnapshotService = insightSnapshotService;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void applyQueryLimits() {
+        // 트랜잭션 타임아웃은 JPA 쿼리 타임아웃으로 전달되어 DB 쪽 쿼리도 함께 취소된다.
+        readOnlyTransactionTemplate.setTimeout((int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(queryTimeoutMs + 999L)));
+        insightQueryPermits = new Semaphore(Math.max(1, maxConcurrentQueries));
+    }
+
+    @PreDestroy
+    void shutdownQueryExecutor() {
+        insightQueryExecutor.shutdownNow();
+    }
+
+    /**
+     * 일별 추이/주간 추이/상위 태그 조회를 동시에 실행해 가장 느린 조회만큼만 기다린다.
+     * 한 조회가 실패하거나 시간 초과되면 해당 섹션만 비운 부분 결과를 반환하며, 부분 결과는 캐시하지 않는다.
+     * 호출 스레드는 하위 조회를 기다리기만 하므로 커넥션을 잡지 않도록 트랜잭션 밖에서 실행한다.
+     */
     @Cacheable(
             cacheNames = "emotionAnalysis",
-            key = "#profileId.toString() + '|' + (#fromDate == null ? 'null' : #fromDate.toString()) + '|' + (#toDate == null ? 'null' : #toDate.toString()) + '|' + (#topN == null ? 'null' : #topN)"
+            key = "#profileId.toString() + '|' + (#fromDate == null ? 'null' : #fromDate.toString()) + '|' + (#toDate == null ? 'null' : #toDate.toString()) + '|' + (#topN == null ? 'null' : #topN)",
+            unless = "#result.partial()"
     )
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EmotionAnalysisResponse getEmotionAnalysis(
             UUID profileId,
             @Nullable LocalDate fromDate,
@@ -44,16 +129,66 @@ public class EmotionInsightService {
             @Nullable Integer topN
     ) {
         var dateRange = resolveDateRange(fromDate, toDate);
+        var normalizedTopN = normalizeTopN(topN);
+
+        // 기본 조회(최근 30일, 상위 10개)는 야간 배치가 만들어 둔 스냅샷이 있으면 그대로 쓴다.
+        if (fromDate == null && toDate == null && normalizedTopN == DEFAULT_TOP_TAG_COUNT) {
+            var snapshot = insightSnapshotService.find(profileId, dateRange.fromDate(), dateRange.toDate());
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+        }
+        return analyze(profileId, dateRange, normalizedTopN);
+    }
+
+    /**
+     * 야간 스냅샷 배치용. 캐시와 스냅샷을 거치지 않고 {@code today} 기준 기본 분석을 새로 계산한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmotionAnalysisResponse computeDefaultAnalysis(UUID profileId, LocalDate today) {
+        return analyze(profileId, resolveDateRange(null, today), DEFAULT_TOP_TAG_COUNT);
+    }
+
+    private EmotionAnalysisResponse analyze(UUID profileId, DateRange dateRange, int normalizedTopN) {
         var resolvedFromDate = dateRange.fromDate();
         var resolvedToDate = dateRange.toDate();
 
-        var normalizedTopN = normalizeTopN(topN);
+        var multiResolution = useMultiResolution(resolvedFromDate, resolvedToDate);
+        var dailyTrendFromDate = multiResolution
+                ? resolvedToDate.minusDays(multiResolutionThresholdDays - 1L)
+                : resolvedFromDate;
+
+        var dailyTrendTask = fork(() -> loadDailyTrend(profileId, dailyTrendFromDate, resolvedToDate));
+        var topTagsTask = fork(() -> multiResolution
+                ? loadTopTagsAcrossResolutions(profileId, resolvedFromDate, resolvedToDate, normalizedTopN)
+                : loadTopTags(profileId, resolvedFromDate, resolvedToDate, normalizedTopN));
+        var weeklyTrendTask = multiResolution
+                ? fork(() -> loadWeeklyTrendAcrossResolutions(profileId, resolvedFromDate, resolvedToDate))
+                : null;
 
-        var dailyTrend = loadDailyTrend(profileId, resolvedFromDate, resolvedToDate);
-        var totalMentions = calculateTotalMentions(dailyTrend);
-        var categoryStats = toCategoryStats(dailyTrend, totalMentions);
-        var topTags = loadTopTags(profileId, resolvedFromDate, resolvedToDate, normalizedTopN);
-        var weeklyTrend = buildWeeklyTrend(dailyTrend);
+        var deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queryTimeoutMs);
+        var failedSections = new ArrayList<String>();
+        var dailyTrend = join(dailyTrendTask, SECTION_DAILY_TREND, deadlineNanos, failedSections);
+        var topTags = join(topTagsTask, SECTION_TOP_TAGS, deadlineNanos, failedSections);
+
+        List<WeeklyTrendPoint> weeklyTrend;
+        if (weeklyTrendTask != null) {
+            weeklyTrend = join(weeklyTrendTask, SECTION_WEEKLY_TREND, deadlineNanos, failedSections);
+        } else if (failedSections.contains(SECTION_DAILY_TREND)) {
+            // 짧은 기간의 주간 추이는 일별 추이에서 파생되므로 함께 비운다.
+            failedSections.add(SECTION_WEEKLY_TREND);
+            weeklyTrend = List.of();
+        } else {
+            weeklyTrend = buildWeeklyTrend(dailyTrend, dailyTrendFromDate, resolvedToDate);
+        }
+
+        if (failedSections.containsAll(List.of(SECTION_DAILY_TREND, SECTION_WEEKLY_TREND, SECTION_TOP_TAGS))) {
+            throw new IllegalStateException("감정 분석 조회에 모두 실패했습니다.");
+        }
+
+        // 주간 추이는 기간 전체를 덮으므로 합계/카테고리 비율은 두 경로 모두 주간 추이에서 계산한다.
+        var totalMentions = calculateTotalMentions(weeklyTrend);
+        var categoryStats = toCategoryStats(weeklyTrend, totalMentions);
 
         return new EmotionAnalysisResponse(
                 resolvedFromDate,
@@ -61,11 +196,124 @@ public class EmotionInsightService {
                 totalMentions,
                 categoryStats,
                 topTags,
+                dailyTrendFromDate,
                 dailyTrend,
-                weeklyTrend
+                weeklyTrend,
+                List.copyOf(failedSections)
+        );
+    }
+
+    /**
+     * 허가가 남아 있으면 가상 스레드로 넘기고, 없으면 호출 스레드에서 바로 실행한다.
+     * 동시 요청이 몰려도 하위 조회가 잡는 커넥션은 허가 수 + 요청당 1개를 넘지 않는다.
+     */
+    private <T> Future<List<T>> fork(Supplier<List<T>> query) {
+        if (insightQueryPermits.tryAcquire()) {
+            try {
+                return insightQueryExecutor.submit(() -> {
+                    try {
+                        return readOnlyTransactionTemplate.execute(status -> query.get());
+                    } finally {
+                        insightQueryPermits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                insightQueryPermits.release();
+            }
+        }
+        return runInline(query);
+    }
+
+    private <T> Future<List<T>> runInline(Supplier<List<T>> query) {
+        try {
+            return CompletableFuture.completedFuture(readOnlyTransactionTemplate.execute(status -> query.get()));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> List<T> join(Future<List<T>> task, String section, long deadlineNanos, List<String> failedSections) {
+        try {
+            var result = task.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return (result == null) ? List.of() : result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(true);
+            failedSections.add(section);
+            return List.of();
+        } catch (ExecutionException | TimeoutException e) {
+            task.cancel(true);
+            var cause = (e instanceof ExecutionException && e.getCause() != null) ? e.getCause() : e;
+            log.warn("[INSIGHT] 하위 조회 실패, 부분 결과로 응답 - section={}, exception={}, message={}",
+                    section,
+                    cause.getClass().getSimpleName(),
+                    cause.getMessage());
+            failedSections.add(section);
+            return List.of();
+        }
+    }
+
+    /**
+     * 현재 기간과 이전 기간을 비교한다. 현재 기간이 달력 월 단위(1일~말일)면 같은 개수의 직전 달력 월과,
+     * 아니면 바로 앞의 같은 길이 기간과 비교한다.
+     * 두 기간을 합친 범위를 한 번만 조회하고, 행을 한 번 순회하며 두 기간의 집계와 현재 기간 분석을 동시에 만든다.
+     */
+    @Cacheable(
+            cacheNames = "emotionComparison",
+            key = "#profileId.toString() + '|' + (#fromDate == null ? 'null' : #fromDate.toString()) + '|' + (#toDate == null ? 'null' : #toDate.toString()) + '|' + (#topN == null ? 'null' : #topN)"
+    )
+    public EmotionComparisonResponse getEmotionComparison(
+            UUID profileId,
+            @Nullable LocalDate fromDate,
+            @Nullable LocalDate toDate,
+            @Nullable Integer topN
+    ) {
+        var current = resolveDateRange(fromDate, toDate);
+        var calendarMonths = isCalendarMonthRange(current);
+        var previous = calendarMonths ? previousCalendarMonths(current) : previousSameLength(current);
+        var normalizedTopN = normalizeTopN(topN);
+
+        var accumulator = new EmotionComparisonAccumulator(
+                previous.fromDate(), previous.toDate(), current.fromDate(), current.toDate());
+        try (var rows = readFromRollup
+                ? dailyEmotionRollupRepository.streamDailyTagCountsInRange(profileId, previous.fromDate(), current.toDate())
+                : diaryEmotionRepository.streamDailyTagCountsInRange(profileId, previous.fromDate(), current.toDate())) {
+            rows.forEach(accumulator::add);
+        }
+
+        return new EmotionComparisonResponse(
+                current.fromDate(),
+                current.toDate(),
+                previous.fromDate(),
+                previous.toDate(),
+                calendarMonths ? PREVIOUS_PERIOD_MONTHS : PREVIOUS_PERIOD_DAYS,
+                ChronoUnit.DAYS.between(previous.fromDate(), previous.toDate()) + 1,
+                accumulator.currentTotal(),
+                accumulator.previousTotal(),
+                accumulator.currentTotal() - accumulator.previousTotal(),
+                accumulator.categoryDeltas(),
+                accumulator.topTagDeltas(normalizedTopN),
+                accumulator.weeklyDeltas(),
+                accumulator.currentAnalysis(normalizedTopN)
         );
     }
 
+    private boolean isCalendarMonthRange(DateRange range) {
+        return range.fromDate().getDayOfMonth() == 1
+                && range.toDate().equals(range.toDate().with(TemporalAdjusters.lastDayOfMonth()));
+    }
+
+    // 10월 1일~31일이면 9월 1일~30일처럼 같은 개수의 직전 달력 월을 고른다.
+    private DateRange previousCalendarMonths(DateRange current) {
+        var months = ChronoUnit.MONTHS.between(YearMonth.from(current.fromDate()), YearMonth.from(current.toDate())) + 1;
+        return new DateRange(current.fromDate().minusMonths(months), current.fromDate().minusDays(1));
+    }
+
+    private DateRange previousSameLength(DateRange current) {
+        var windowDays = ChronoUnit.DAYS.between(current.fromDate(), current.toDate()) + 1;
+        return new DateRange(current.fromDate().minusDays(windowDays), current.fromDate().minusDays(1));
+    }
+
     private DateRange resolveDateRange(@Nullable LocalDate fromDate, @Nullable LocalDate toDate) {
         var resolvedToDate = (toDate != null) ? toDate : LocalDate.now();
         var resolvedFromDate = (fromDate != null) ? fromDate : resolvedToDate.minusDays(DEFAULT_RANGE_DAYS - 1L);
@@ -75,35 +323,76 @@ public class EmotionInsightService {
         return new DateRange(resolvedFromDate, resolvedToDate);
     }
 
-    private long calculateTotalMentions(List<DailyTrendPoint> dailyTrend) {
-        return dailyTrend.stream().mapToLong(DailyTrendPoint::totalCount).sum();
+    private boolean useMultiResolution(LocalDate fromDate, LocalDate toDate) {
+        return readFromRollup && ChronoUnit.DAYS.between(fromDate, toDate) + 1 > multiResolutionThresholdDays;
     }
 
-    private List<CategoryStat> toCategoryStats(List<DailyTrendPoint> dailyTrend, long totalMentions) {
-        long positiveCount = dailyTrend.stream().mapToLong(DailyTrendPoint::positiveCount).sum();
-        long negativeCount = dailyTrend.stream().mapToLong(DailyTrendPoint::negativeCount).sum();
-        long neutralCount = dailyTrend.stream().mapToLong(DailyTrendPoint::neutralCount).sum();
+    // 합계와 카테고리별 개수를 주간 추이 한 번 순회로 함께 구한다.
+    private List<CategoryStat> toCategoryStats(List<WeeklyTrendPoint> weeklyTrend, long totalMentions) {
+        long positiveCount = 0L;
+        long negativeCount = 0L;
+        long neutralCount = 0L;
+        for (var week : weeklyTrend) {
+            positiveCount += week.positiveCount();
+            negativeCount += week.negativeCount();
+            neutralCount += week.neutralCount();
+        }
 
-        return Arrays.stream(EmotionCategory.values())
-                .map(category -> {
-                    var count = switch (category) {
-                        case POSITIVE -> positiveCount;
-                        case NEGATIVE -> negativeCount;
-                        case NEUTRAL -> neutralCount;
-                    };
-                    var ratio = (totalMentions == 0L) ? 0.0 : (double) count / (double) totalMentions;
-                    return new CategoryStat(category.name(), count, ratio);
-                })
-                .toList();
+        var categories = EmotionCategory.values();
+        var stats = new ArrayList<CategoryStat>(categories.length);
+        for (var category : categories) {
+            var count = switch (category) {
+                case POSITIVE -> positiveCount;
+                case NEGATIVE -> negativeCount;
+                case NEUTRAL -> neutralCount;
+            };
+            var ratio = (totalMentions == 0L) ? 0.0 : (double) count / (double) totalMentions;
+            stats.add(new CategoryStat(category.name(), count, ratio));
+        }
+        return List.copyOf(stats);
+    }
+
+    private long calculateTotalMentions(List<WeeklyTrendPoint> weeklyTrend) {
+        long total = 0L;
+        for (var week : weeklyTrend) {
+            total += week.totalCount();
+        }
+        return total;
     }
 
     private List<TagStat> loadTopTags(UUID profileId, LocalDate fromDate, LocalDate toDate, int normalizedTopN) {
-        return diaryEmotionRepository.findTopTagsInRange(
-                        profileId,
-                        fromDate,
-                        toDate,
-                        PageRequest.of(0, normalizedTopN))
-                .stream()
+        var pageable = PageRequest.of(0, normalizedTopN);
+        var rows = readFromRollup
+                ? dailyEmotionRollupRepository.findTopTagsInRange(profileId, fromDate, toDate, pageable)
+                : diaryEmotionRepository.findTopTagsInRange(profileId, fromDate, toDate, pageable);
+        return toTagStats(rows);
+    }
+
+    /**
+     * 기간 안에 완전히 들어오는 월은 월 집계에서, 앞뒤 자투리 날짜는 일 단위 집계에서 읽어 한 쿼리로 합산한다.
+     */
+    private List<TagStat> loadTopTagsAcrossResolutions(
+            UUID profileId,
+            LocalDate fromDate,
+            LocalDate toDate,
+            int normalizedTopN
+    ) {
+        var plan = RangePlan.of(RollupResolution.MONTH, fromDate, toDate);
+        var rows = periodEmotionRollupRepository.findTopTagsAcrossResolutions(
+                profileId,
+                RollupResolution.MONTH.name(),
+                plan.fullFromStart(),
+                plan.fullToStart(),
+                plan.headFrom(),
+                plan.headTo(),
+                plan.tailFrom(),
+                plan.tailTo(),
+                PageRequest.of(0, normalizedTopN));
+        return toTagStats(rows);
+    }
+
+    private List<TagStat> toTagStats(List<DiaryEmotionRepository.TagCountView> rows) {
+        return rows.stream()
                 .map(it -> new TagStat(
                         it.getTagId(),
                         it.getTagName(),
@@ -114,14 +403,16 @@ public class EmotionInsightService {
     }
 
     private List<DailyTrendPoint> loadDailyTrend(UUID profileId, LocalDate fromDate, LocalDate toDate) {
-        return diaryEmotionRepository.findDailyTrendInRange(
+        var rows = readFromRollup
+                ? dailyEmotionRollupRepository.findDailyTrendInRange(profileId, fromDate, toDate)
+                : diaryEmotionRepository.findDailyTrendInRange(
                         profileId,
                         fromDate,
                         toDate,
                         EmotionCategory.POSITIVE,
                         EmotionCategory.NEGATIVE,
-                        EmotionCategory.NEUTRAL)
-                .stream()
+                        EmotionCategory.NEUTRAL);
+        return rows.stream()
                 .map(it -> new DailyTrendPoint(
                         it.getDate(),
                         nonNullLong(it.getPositiveCount()),
@@ -132,43 +423,50 @@ public class EmotionInsightService {
                 .toList();
     }
 
-    private List<WeeklyTrendPoint> buildWeeklyTrend(List<DailyTrendPoint> dailyTrend) {
-        var buckets = new LinkedHashMap<LocalDate, WeeklyAccumulator>();
-
-        for (var day : dailyTrend) {
-            var weekStart = day.date().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-            var bucket = buckets.computeIfAbsent(weekStart, ignored -> new WeeklyAccumulator());
-            bucket.positiveCount += day.positiveCount();
-            bucket.negativeCount += day.negativeCount();
-            bucket.neutralCount += day.neutralCount();
-            bucket.totalCount += day.totalCount();
-            bucket.intensityWeightedSum += day.avgIntensity() * day.totalCount();
-        }
-
-        return buckets.entrySet().stream()
-                .map(entry -> {
-                    var weekStart = entry.getKey();
-                    var weekEnd = weekStart.plusDays(6);
-                    var acc = entry.getValue();
-                    var total = acc.totalCount;
-                    var avgIntensity = (total == 0L) ? 0.0 : acc.intensityWeightedSum / total;
-                    var positiveRatio = (total == 0L) ? 0.0 : (double) acc.positiveCount / total;
-                    var negativeRatio = (total == 0L) ? 0.0 : (double) acc.negativeCount / total;
-                    var neutralRatio = (total == 0L) ? 0.0 : (double) acc.neutralCount / total;
-                    return new WeeklyTrendPoint(
-                            weekStart,
-                            weekEnd,
-                            acc.positiveCount,
-                            acc.negativeCount,
-                            acc.neutralCount,
-                            total,
-                            avgIntensity,
-                            positiveRatio,
-                            negativeRatio,
-                            neutralRatio
-                    );
-                })
-                .toList();
+    private List<WeeklyTrendPoint> buildWeeklyTrend(List<DailyTrendPoint> dailyTrend, LocalDate fromDate, LocalDate toDate) {
+        var aggregator = TrendBucketAggregator.of(RollupResolution.WEEK, fromDate, toDate);
+        dailyTrend.forEach(day -> accumulate(aggregator, day));
+        return aggregator.toTrend();
+    }
+
+    /**
+     * 기간 안에 완전히 들어오는 주는 주 집계 한 행으로 읽고, 양 끝의 잘린 주만 일 단위 집계로 채운다.
+     */
+    private List<WeeklyTrendPoint> loadWeeklyTrendAcrossResolutions(UUID profileId, LocalDate fromDate, LocalDate toDate) {
+        var plan = RangePlan.of(RollupResolution.WEEK, fromDate, toDate);
+        var aggregator = TrendBucketAggregator.of(RollupResolution.WEEK, fromDate, toDate);
+
+        if (plan.hasHead()) {
+            loadDailyTrend(profileId, plan.headFrom(), plan.headTo()).forEach(day -> accumulate(aggregator, day));
+        }
+        if (plan.hasFullPeriods()) {
+            periodEmotionRollupRepository.findPeriodTrendInRange(
+                            profileId,
+                            RollupResolution.WEEK.name(),
+                            plan.fullFromStart(),
+                            plan.fullToStart())
+                    .forEach(week -> aggregator.add(
+                            week.getDate().toEpochDay(),
+                            nonNullLong(week.getPositiveCount()),
+                            nonNullLong(week.getNegativeCount()),
+                            nonNullLong(week.getNeutralCount()),
+                            nonNullLong(week.getTotalCount()),
+                            (week.getAvgIntensity() == null) ? 0.0 : week.getAvgIntensity()));
+        }
+        if (plan.hasTail()) {
+            loadDailyTrend(profileId, plan.tailFrom(), plan.tailTo()).forEach(day -> accumulate(aggregator, day));
+        }
+        return aggregator.toTrend();
+    }
+
+    private void accumulate(TrendBucketAggregator aggregator, DailyTrendPoint point) {
+        aggregator.add(
+                point.date().toEpochDay(),
+                point.positiveCount(),
+                point.negativeCount(),
+                point.neutralCount(),
+                point.totalCount(),
+                point.avgIntensity());
     }
 
     private int normalizeTopN(@Nullable Integer topN) {
@@ -182,14 +480,46 @@ public class EmotionInsightService {
         return (value == null) ? 0L : value;
     }
 
-    private static final class WeeklyAccumulator {
-        private long positiveCount;
-        private long negativeCount;
-        private long neutralCount;
-        private long totalCount;
-        private double intensityWeightedSum;
+    private record DateRange(LocalDate fromDate, LocalDate toDate) {
     }
 
-    private record DateRange(LocalDate fromDate, LocalDate toDate) {
+    /**
+     * 조회 기간을 [head 자투리 날짜] + [완전한 기간들] + [tail 자투리 날짜]로 나눈 계획.
+     * 빈 구간은 from > to로 표현해 BETWEEN 조건에 걸리는 행이 없게 한다.
+     */
+    private record RangePlan(
+            LocalDate fullFromStart,
+            LocalDate fullToStart,
+            LocalDate headFrom,
+            LocalDate headTo,
+            LocalDate tailFrom,
+            LocalDate tailTo
+    ) {
+        static RangePlan of(RollupResolution resolution, LocalDate fromDate, LocalDate toDate) {
+            var fullFromStart = resolution.firstFullPeriodStart(fromDate);
+            var fullToStart = resolution.lastFullPeriodStart(toDate);
+            if (fullFromStart.isAfter(fullToStart)) {
+                return new RangePlan(fullFromStart, fullToStart, fromDate, toDate, toDate.plusDays(1), toDate);
+            }
+            return new RangePlan(
+                    fullFromStart,
+                    fullToStart,
+                    fromDate,
+                    fullFromStart.minusDays(1),
+                    resolution.periodEnd(fullToStart).plusDays(1),
+                    toDate);
+        }
+
+        boolean hasFullPeriods() {
+            return !fullFromStart.isAfter(fullToStart);
+        }
+
+        boolean hasHead() {
+            return !headFrom.isAfter(headTo);
+        }
+
+        boolean hasTail() {
+            return !tailFrom.isAfter(tailTo);
+        }
     }
 }
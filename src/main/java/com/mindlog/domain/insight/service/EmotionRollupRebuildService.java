@@ -0,0 +1,154 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.entity.RollupResolution;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.PeriodEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.TagCooccurrenceRepository;
+import com.mindlog.domain.profile.repository.ProfileRepository;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * daily_emotion_rollups / period_emotion_rollups / tag_cooccurrences / emotion_anomaly_states 재구축 작업.
+ *
+ * <p>쓰기 경로가 집계를 증감하므로 평소에는 필요 없고, 최초 백필이나 데이터 보정 시에만 실행한다.
+ * 프로필 단위로 짧은 트랜잭션을 나눠 실행해 전체 테이블 잠금 없이 진행한다.
+ * 재구축 도중 들어온 쓰기와 키가 겹치면 집계 INSERT가 원본에서 다시 센 값으로 덮어쓴다.</p>
+ */
+@Slf4j
+@Service
+public class EmotionRollupRebuildService {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final DailyEmotionRollupRepository dailyEmotionRollupRepository;
+    private final PeriodEmotionRollupRepository periodEmotionRollupRepository;
+    private final TagCooccurrenceRepository tagCooccurrenceRepository;
+    private final EmotionAnomalyService emotionAnomalyService;
+    private final ProfileRepository profileRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${mindlog.insight.rollup.rebuild-batch-size:200}")
+    private int batchSize;
+
+    @Value("${mindlog.insight.rollup.rebuild-pause-ms:20}")
+    private long pauseBetweenProfilesMs;
+
+    public EmotionRollupRebuildService(
+            DailyEmotionRollupRepository dailyEmotionRollupRepository,
+            PeriodEmotionRollupRepository periodEmotionRollupRepository,
+            TagCooccurrenceRepository tagCooccurrenceRepository,
+            EmotionAnomalyService emotionAnomalyService,
+            ProfileRepository profileRepository,
+            TransactionTemplate transactionTemplate) {
+        this.dailyEmotionRollupRepository = dailyEmotionRollupRepository;
+        this.periodEmotionRollupRepository = periodEmotionRollupRepository;
+        this.tagCooccurrenceRepository = tagCooccurrenceRepository;
+        this.emotionAnomalyService = emotionAnomalyService;
+        this.profileRepository = profileRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public boolean triggerRebuildAllAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        Thread.ofVirtual().name("mindlog-rollup-rebuild").start(() -> {
+            try {
+                rebuildAll();
+            } catch (Exception e) {
+                log.warn("[ROLLUP] 전체 재구축 실패 - exception={}, message={}",
+                        e.getClass().getSimpleName(),
+                        e.getMessage());
+                log.debug("[ROLLUP] 전체 재구축 실패 상세", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public void rebuildProfile(UUID profileId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            dailyEmotionRollupRepository.deleteByProfileId(profileId);
+            dailyEmotionRollupRepository.insertAggregatedForProfile(profileId);
+            periodEmotionRollupRepository.deleteByProfileId(profileId);
+            rebuildPeriodsFromDaily(profileId, null);
+            tagCooccurrenceRepository.deleteByProfileId(profileId);
+            tagCooccurrenceRepository.insertAggregatedForProfile(profileId);
+            emotionAnomalyService.rebuild(profileId);
+        });
+    }
+
+    /**
+     * 태그 속성(이름/색상/카테고리)이 바뀐 뒤 해당 태그의 집계 행만 다시 만든다.
+     */
+    public void rebuildTag(UUID profileId, Long tagId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            dailyEmotionRollupRepository.deleteByProfileIdAndTagId(profileId, tagId);
+            dailyEmotionRollupRepository.insertAggregatedForTag(profileId, tagId);
+            periodEmotionRollupRepository.deleteByProfileIdAndTagId(profileId, tagId);
+            rebuildPeriodsFromDaily(profileId, tagId);
+            // 카테고리가 바뀌면 일별 부정 비율도 달라지므로 이상 탐지 상태도 다시 재생한다.
+            emotionAnomalyService.rebuild(profileId);
+        });
+    }
+
+    // 주/월 집계는 방금 채운 일 단위 집계에서 파생시켜 원본 diary_emotions를 다시 읽지 않는다.
+    private void rebuildPeriodsFromDaily(UUID profileId, @Nullable Long tagId) {
+        for (var resolution : RollupResolution.values()) {
+            periodEmotionRollupRepository.insertAggregatedFromDaily(
+                    profileId,
+                    tagId,
+                    resolution.name(),
+                    resolution.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private void rebuildAll() throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        var afterId = MIN_UUID;
+        int rebuiltProfiles = 0;
+        int failedProfiles = 0;
+
+        while (true) {
+            var profileIds = profileRepository.findIdsAfter(afterId, batchSize);
+            if (profileIds.isEmpty()) {
+                break;
+            }
+
+            for (var profileId : profileIds) {
+                // 한 프로필의 실패가 나머지 프로필 재구축을 막지 않도록 프로필 단위로 격리한다.
+                try {
+                    rebuildProfile(profileId);
+                    rebuiltProfiles++;
+                } catch (RuntimeException e) {
+                    failedProfiles++;
+                    log.warn("[ROLLUP] 프로필 재구축 실패 - profileId={}, exception={}, message={}",
+                            profileId,
+                            e.getClass().getSimpleName(),
+                            e.getMessage());
+                    log.debug("[ROLLUP] 프로필 재구축 실패 상세", e);
+                }
+                if (pauseBetweenProfilesMs > 0) {
+                    Thread.sleep(pauseBetweenProfilesMs);
+                }
+            }
+            afterId = profileIds.getLast();
+        }
+
+        log.info("[ROLLUP] 전체 재구축 완료 - profiles={}, failed={}, elapsed={}ms",
+                rebuiltProfiles,
+                failedProfiles,
+                System.currentTimeMillis() - startedAt);
+    }
+}
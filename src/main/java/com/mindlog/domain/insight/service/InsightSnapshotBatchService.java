@@ -0,0 +1,218 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.diary.repository.DiaryRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 최근 활동한 프로필의 기본 감정 분석(최근 30일)을 새벽에 미리 계산해 insight_analysis_snapshots에 저장한다.
+ *
+ * <p>emotionAnalysis 캐시는 TTL이 짧아 하루의 첫 방문은 항상 원본 집계를 읽는다.
+ * 스냅샷이 있으면 {@link EmotionInsightService}가 한 행 조회로 응답한다.</p>
+ *
+ * <ul>
+ *   <li>프로필은 profile_id 키셋 순서의 청크로 나눠 읽고, 청크 안에서는 세마포어로 동시 계산 수를 제한한다.
+ *       한 계산이 내부적으로 하위 조회 두세 개를 병렬 실행하므로 커넥션 사용량은 동시 계산 수의 몇 배가 된다.</li>
+ *   <li>청크의 프로필당 평균 소요 시간이 기준을 넘으면 DB가 바쁜 것으로 보고 청크 사이 휴식을 두 배로 늘리고,
+ *       기준 아래로 돌아오면 절반씩 줄인다.</li>
+ *   <li>부분 결과는 저장하지 않으며, 계산 도중 일기 쓰기가 있었던 프로필도 저장하지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class InsightSnapshotBatchService {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final DiaryRepository diaryRepository;
+    private final EmotionInsightService emotionInsightService;
+    private final InsightSnapshotService insightSnapshotService;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${mindlog.insight.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${mindlog.insight.snapshot.active-days:30}")
+    private int activeDays;
+
+    @Value("${mindlog.insight.snapshot.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${mindlog.insight.snapshot.parallelism:4}")
+    private int parallelism;
+
+    @Value("${mindlog.insight.snapshot.base-pause-ms:100}")
+    private long basePauseMs;
+
+    @Value("${mindlog.insight.snapshot.max-pause-ms:5000}")
+    private long maxPauseMs;
+
+    @Value("${mindlog.insight.snapshot.slow-profile-threshold-ms:500}")
+    private long slowProfileThresholdMs;
+
+    public InsightSnapshotBatchService(
+            DiaryRepository diaryRepository,
+            EmotionInsightService emotionInsightService,
+            InsightSnapshotService insightSnapshotService) {
+        this.diaryRepository = diaryRepository;
+        this.emotionInsightService = emotionInsightService;
+        this.insightSnapshotService = insightSnapshotService;
+    }
+
+    @Scheduled(cron = "${mindlog.insight.snapshot.cron:0 30 4 * * *}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("[INSIGHT-SNAPSHOT] 이전 배치가 아직 실행 중이라 건너뜀");
+            return;
+        }
+
+        try {
+            materializeAll(LocalDate.now());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[INSIGHT-SNAPSHOT] 배치 중단");
+        } catch (Exception e) {
+            log.warn("[INSIGHT-SNAPSHOT] 배치 실패 - exception={}, message={}",
+                    e.getClass().getSimpleName(),
+                    e.getMessage());
+            log.debug("[INSIGHT-SNAPSHOT] 배치 실패 상세", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    BatchResult materializeAll(LocalDate today) throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        var since = today.minusDays(Math.max(1, activeDays) - 1L);
+        var permits = new Semaphore(Math.max(1, parallelism));
+        var afterId = MIN_UUID;
+        var pauseMs = Math.max(0L, basePauseMs);
+        var total = BatchResult.empty();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                var profileIds = diaryRepository.findActiveProfileIdsAfter(since, afterId, chunkSize);
+                if (profileIds.isEmpty()) {
+                    break;
+                }
+
+                long chunkStartedAt = System.nanoTime();
+                total = total.plus(runChunk(executor, permits, profileIds, today));
+                long perProfileMs = (System.nanoTime() - chunkStartedAt) / 1_000_000L
+                        * Math.max(1, parallelism) / profileIds.size();
+                pauseMs = nextPauseMs(pauseMs, perProfileMs);
+
+                afterId = profileIds.getLast();
+                if (profileIds.size() < chunkSize) {
+                    break;
+                }
+                if (pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+        }
+
+        log.info("[INSIGHT-SNAPSHOT] 배치 완료 - saved={}, skipped={}, failed={}, elapsed={}ms",
+                total.saved(),
+                total.skipped(),
+                total.failed(),
+                System.currentTimeMillis() - startedAt);
+        return total;
+    }
+
+    long nextPauseMs(long currentPauseMs, long perProfileMs) {
+        var floor = Math.max(0L, basePauseMs);
+        if (perProfileMs > slowProfileThresholdMs) {
+            return Math.min(Math.max(maxPauseMs, floor), Math.max(1L, currentPauseMs) * 2);
+        }
+        return Math.max(floor, currentPauseMs / 2);
+    }
+
+    private BatchResult runChunk(
+            ExecutorService executor,
+            Semaphore permits,
+            List<UUID> profileIds,
+            LocalDate today) throws InterruptedException {
+        var futures = new ArrayList<Future<Outcome>>(profileIds.size());
+        for (var profileId : profileIds) {
+            permits.acquire();
+            futures.add(executor.submit(() -> {
+                try {
+                    return materializeProfile(profileId, today);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        var result = BatchResult.empty();
+        for (var future : futures) {
+            try {
+                result = result.plus(future.get());
+            } catch (ExecutionException e) {
+                result = result.plus(Outcome.FAILED);
+            }
+        }
+        return result;
+    }
+
+    private Outcome materializeProfile(UUID profileId, LocalDate today) {
+        try {
+            var computeStartedAt = Instant.now();
+            var response = emotionInsightService.computeDefaultAnalysis(profileId, today);
+            if (response.partial()) {
+                return Outcome.SKIPPED;
+            }
+            return insightSnapshotService.save(profileId, response, computeStartedAt)
+                    ? Outcome.SAVED
+                    : Outcome.SKIPPED;
+        } catch (Exception e) {
+            log.debug("[INSIGHT-SNAPSHOT] 프로필 계산 실패 - profileId={}, exception={}, message={}",
+                    profileId,
+                    e.getClass().getSimpleName(),
+                    e.getMessage());
+            return Outcome.FAILED;
+        }
+    }
+
+    enum Outcome {
+        SAVED,
+        SKIPPED,
+        FAILED
+    }
+
+    record BatchResult(int saved, int skipped, int failed) {
+        static BatchResult empty() {
+            return new BatchResult(0, 0, 0);
+        }
+
+        BatchResult plus(Outcome outcome) {
+            return switch (outcome) {
+                case SAVED -> new BatchResult(saved + 1, skipped, failed);
+                case SKIPPED -> new BatchResult(saved, skipped + 1, failed);
+                case FAILED -> new BatchResult(saved, skipped, failed + 1);
+            };
+        }
+
+        BatchResult plus(BatchResult other) {
+            return new BatchResult(saved + other.saved, skipped + other.skipped, failed + other.failed);
+        }
+    }
+}
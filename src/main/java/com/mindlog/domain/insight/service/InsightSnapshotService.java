@@ -0,0 +1,79 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.EmotionAnalysisResponse;
+import com.mindlog.domain.insight.repository.InsightAnalysisSnapshotRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기본 감정 분석 스냅샷 저장소. 읽기는 PK 한 행 조회이며, 형식이 맞지 않는 값은 없는 것으로 취급한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InsightSnapshotService {
+
+    private final InsightAnalysisSnapshotRepository insightAnalysisSnapshotRepository;
+
+    public Optional<EmotionAnalysisResponse> find(UUID profileId, LocalDate fromDate, LocalDate toDate) {
+        return insightAnalysisSnapshotRepository.findByProfileIdAndFromDateAndToDate(profileId, fromDate, toDate)
+                .flatMap(snapshot -> deserialize(profileId, snapshot.getPayload()));
+    }
+
+    /**
+     * @return 저장했으면 true, 계산 도중 일기 쓰기가 있어 버렸으면 false
+     */
+    @Transactional
+    public boolean save(UUID profileId, EmotionAnalysisResponse response, Instant computeStartedAt) {
+        return insightAnalysisSnapshotRepository.upsertUnlessWrittenSince(
+                profileId,
+                response.fromDate(),
+                response.toDate(),
+                serialize(response),
+                computeStartedAt) > 0;
+    }
+
+    /**
+     * 일기 쓰기 트랜잭션 안에서 호출되어 오래된 스냅샷이 읽히지 않게 한다.
+     */
+    @Transactional
+    public void invalidate(UUID profileId) {
+        insightAnalysisSnapshotRepository.deleteByProfileId(profileId);
+    }
+
+    private byte[] serialize(EmotionAnalysisResponse response) {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Optional<EmotionAnalysisResponse> deserialize(UUID profileId, byte[] payload) {
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            return (in.readObject() instanceof EmotionAnalysisResponse response)
+                    ? Optional.of(response)
+                    : Optional.empty();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.debug("[INSIGHT-SNAPSHOT] 스냅샷 역직렬화 실패 - profileId={}, exception={}",
+                    profileId,
+                    e.getClass().getSimpleName());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 한 프로필의 1년치 감정 캘린더.
+ *
+ * <p>일기 작성 여부는 연중 일자(0부터) 비트셋으로, 그날의 대표 감정은 하루 1바이트(0 = 없음,
+ * 그 외 {@code EmotionCategory.ordinal() + 1})로 보관한다. 366일 기준 약 420바이트라 그대로 캐시하고,
+ * 연속 작성일(streak)은 비트 연산으로 계산한다.</p>
+ */
+public final class MoodCalendar implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final byte NO_CATEGORY = 0;
+
+    private final int year;
+    private final long[] entryBits;
+    private final byte[] dominantCategories;
+
+    private MoodCalendar(int year, long[] entryBits, byte[] dominantCategories) {
+        this.year = year;
+        this.entryBits = entryBits;
+        this.dominantCategories = dominantCategories;
+    }
+
+    public static Builder builder(int year) {
+        return new Builder(year);
+    }
+
+    public int year() {
+        return year;
+    }
+
+    public boolean hasEntry(LocalDate date) {
+        return date.getYear() == year && bits().get(date.getDayOfYear() - 1);
+    }
+
+    public @Nullable EmotionCategory dominantCategory(LocalDate date) {
+        if (date.getYear() != year) {
+            return null;
+        }
+        var code = dominantCategories[date.getDayOfYear() - 1];
+        return (code == NO_CATEGORY) ? null : EmotionCategory.values()[code - 1];
+    }
+
+    public int entryDayCount() {
+        int count = 0;
+        for (var word : entryBits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 연중 가장 긴 연속 작성일 수. 1 비트 구간(run)마다 한 번씩만 건너뛴다.
+     */
+    public int longestStreak() {
+        var bits = bits();
+        int longest = 0;
+        int start = bits.nextSetBit(0);
+        while (start >= 0) {
+            int end = bits.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = bits.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    /**
+     * {@code date}에서 끝나는 연속 작성일 수(이 연도 범위 안에서만).
+     */
+    public int streakEndingAt(LocalDate date) {
+        if (!hasEntry(date)) {
+            return 0;
+        }
+        int index = date.getDayOfYear() - 1;
+        return index - bits().previousClearBit(index);
+    }
+
+    /**
+     * 연속 작성이 1월 1일까지 이어져 이전 연도를 이어서 봐야 하는지 여부.
+     */
+    public boolean streakReachesYearStart(LocalDate date) {
+        return streakEndingAt(date) == date.getDayOfYear();
+    }
+
+    private BitSet bits() {
+        return BitSet.valueOf(entryBits);
+    }
+
+    public static final class Builder {
+        private final int year;
+        private final BitSet bits;
+        private final byte[] dominantCategories;
+
+        private Builder(int year) {
+            this.year = year;
+            var days = Year.of(year).length();
+            this.bits = new BitSet(days);
+            this.dominantCategories = new byte[days];
+        }
+
+        public Builder entry(LocalDate date, @Nullable EmotionCategory dominantCategory) {
+            if (date.getYear() != year) {
+                throw new IllegalArgumentException("캘린더 연도와 다른 날짜입니다.");
+            }
+            int index = date.getDayOfYear() - 1;
+            bits.set(index);
+            dominantCategories[index] = (dominantCategory == null)
+                    ? NO_CATEGORY
+                    : (byte) (dominantCategory.ordinal() + 1);
+            return this;
+        }
+
+        public MoodCalendar build() {
+            return new MoodCalendar(year, bits.toLongArray(), dominantCategories);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 연간 감정 캘린더를 집계 쿼리 한 번으로 만들어 캐시한다.
+ * 일기 쓰기 시 {@code ProfileCacheEvictor}가 프로필 단위로 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MoodCalendarLoader {
+
+    private final DailyEmotionRollupRepository dailyEmotionRollupRepository;
+
+    @Cacheable(cacheNames = "moodCalendar", key = "#profileId.toString() + '|' + #year")
+    public MoodCalendar load(UUID profileId, int year) {
+        var builder = MoodCalendar.builder(year);
+        dailyEmotionRollupRepository.findCalendarDays(
+                        profileId,
+                        LocalDate.of(year, 1, 1),
+                        LocalDate.of(year, 12, 31))
+                .forEach(day -> builder.entry(day.getDate(), dominantCategory(
+                        nonNullLong(day.getPositiveCount()),
+                        nonNullLong(day.getNegativeCount()),
+                        nonNullLong(day.getNeutralCount()))));
+        return builder.build();
+    }
+
+    // 동률이면 enum 선언 순서(긍정 > 부정 > 중립)를 따른다.
+    private @Nullable EmotionCategory dominantCategory(long positive, long negative, long neutral) {
+        if (positive == 0L && negative == 0L && neutral == 0L) {
+            return null;
+        }
+        if (positive >= negative && positive >= neutral) {
+            return EmotionCategory.POSITIVE;
+        }
+        return (negative >= neutral) ? EmotionCategory.NEGATIVE : EmotionCategory.NEUTRAL;
+    }
+
+    private long nonNullLong(@Nullable Long value) {
+        return (value == null) ? 0L : value;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.CalendarDay;
+import com.mindlog.domain.insight.dto.MoodCalendarResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class MoodCalendarService {
+
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 9999;
+
+    // 연속 작성일이 연초까지 이어질 때 거슬러 올라가는 최대 연도 수
+    private static final int MAX_STREAK_LOOKBACK_YEARS = 5;
+
+    private final MoodCalendarLoader moodCalendarLoader;
+
+    public MoodCalendarResponse getCalendar(UUID profileId, @Nullable Integer year, LocalDate today) {
+        var resolvedYear = (year == null) ? today.getYear() : year;
+        if (resolvedYear < MIN_YEAR || resolvedYear > MAX_YEAR) {
+            throw new IllegalArgumentException("조회할 수 없는 연도입니다.");
+        }
+
+        var calendar = moodCalendarLoader.load(profileId, resolvedYear);
+
+        var days = new ArrayList<CalendarDay>(calendar.entryDayCount());
+        for (var date = LocalDate.of(resolvedYear, 1, 1); date.getYear() == resolvedYear; date = date.plusDays(1)) {
+            if (calendar.hasEntry(date)) {
+                var category = calendar.dominantCategory(date);
+                days.add(new CalendarDay(date, (category == null) ? null : category.name()));
+            }
+        }
+
+        return new MoodCalendarResponse(
+                resolvedYear,
+                calendar.entryDayCount(),
+                calendar.longestStreak(),
+                currentStreak(profileId, today),
+                days
+        );
+    }
+
+    /**
+     * 오늘(아직 안 썼으면 어제)에서 끝나는 연속 작성일 수. 연초까지 이어지면 이전 연도 캘린더를 이어 붙인다.
+     */
+    int currentStreak(UUID profileId, LocalDate today) {
+        var calendar = moodCalendarLoader.load(profileId, today.getYear());
+        var endDate = calendar.hasEntry(today) ? today : today.minusDays(1);
+        if (endDate.getYear() != calendar.year()) {
+            calendar = moodCalendarLoader.load(profileId, endDate.getYear());
+        }
+
+        int streak = 0;
+        for (int i = 0; i < MAX_STREAK_LOOKBACK_YEARS; i++) {
+            streak += calendar.streakEndingAt(endDate);
+            if (!calendar.streakReachesYearStart(endDate)) {
+                break;
+            }
+            endDate = LocalDate.of(endDate.getYear() - 1, 12, 31);
+            calendar = moodCalendarLoader.load(profileId, endDate.getYear());
+        }
+        return streak;
+    }
+}
@@ -0,0 +1,261 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.CategoryStat;
+import com.mindlog.domain.insight.dto.PlatformEmotionStats;
+import com.mindlog.domain.insight.dto.PlatformMonthlyPoint;
+import com.mindlog.domain.insight.dto.TagStat;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관리자용 전체 사용자 감정 통계.
+ *
+ * <p>daily_emotion_rollups를 월 단위 파티션으로 나눠 가상 스레드에서 병렬로 스캔하고 결과를 합친다.
+ * 파티션마다 별도 커넥션/읽기 전용 트랜잭션을 쓰며, 세마포어로 동시에 DB를 두드리는 파티션 수를 제한해
+ * 사용자 요청용 커넥션 풀을 잠식하지 않게 한다.</p>
+ *
+ * <p>지난 달 파티션은 결과가 거의 바뀌지 않으므로 인스턴스 메모리에 보관해 다음 요청에서 재사용한다.
+ * 과거 날짜로 일기를 쓰면 지난 달도 바뀔 수 있어, 보관 기간({@code closed-period-ttl-minutes})이 지나면 다시 스캔한다.
+ * 이번 달 파티션은 매번 스캔한다.</p>
+ */
+@Slf4j
+@Service
+public class PlatformEmotionStatsService {
+
+    private static final int MAX_RANGE_MONTHS = 24;
+    private static final int TOP_DEFAULT_TAG_COUNT = 10;
+
+    private final DailyEmotionRollupRepository dailyEmotionRollupRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Semaphore dbPermits;
+    private final ExecutorService partitionScanExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mindlog-platform-stats-", 0).factory());
+    private final Map<YearMonth, CachedPartition> closedPartitions = new ConcurrentHashMap<>();
+
+    @Value("${mindlog.insight.platform.scan-timeout-ms:30000}")
+    private long scanTimeoutMs;
+
+    @Value("${mindlog.insight.platform.closed-period-ttl-minutes:1440}")
+    private long closedPeriodTtlMinutes;
+
+    public PlatformEmotionStatsService(
+            DailyEmotionRollupRepository dailyEmotionRollupRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${mindlog.insight.platform.max-db-concurrency:3}") int maxDbConcurrency) {
+        this.dailyEmotionRollupRepository = dailyEmotionRollupRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.dbPermits = new Semaphore(Math.max(1, maxDbConcurrency));
+    }
+
+    @PreDestroy
+    void shutdownScanExecutor() {
+        partitionScanExecutor.shutdownNow();
+    }
+
+    /**
+     * {@code fromMonth}~{@code toMonth}(포함) 기간의 통계. 미래 달은 이번 달로 잘라낸다.
+     * 관리자 화면용이라 부분 결과 대신 실패한 파티션이 있으면 예외를 던진다.
+     */
+    public PlatformEmotionStats getStats(YearMonth fromMonth, YearMonth toMonth, LocalDate today) {
+        var currentMonth = YearMonth.from(today);
+        var resolvedToMonth = toMonth.isAfter(currentMonth) ? currentMonth : toMonth;
+        if (fromMonth.isAfter(resolvedToMonth)) {
+            throw new IllegalArgumentException("from 월은 to 월보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.MONTHS.between(fromMonth, resolvedToMonth) + 1 > MAX_RANGE_MONTHS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_MONTHS + "개월입니다.");
+        }
+
+        var now = Instant.now();
+        var partitions = new ArrayList<Partition>();
+        var pending = new ArrayList<Future<Partition>>();
+        int cachedMonths = 0;
+        for (var month = fromMonth; !month.isAfter(resolvedToMonth); month = month.plusMonths(1)) {
+            var cached = month.isBefore(currentMonth) ? findFreshClosedPartition(month, now) : null;
+            if (cached != null) {
+                partitions.add(cached);
+                cachedMonths++;
+            } else {
+                var target = month;
+                pending.add(partitionScanExecutor.submit(() -> scanPartition(target)));
+            }
+        }
+
+        var deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scanTimeoutMs);
+        for (var task : pending) {
+            var partition = join(task, pending, deadlineNanos);
+            if (partition.month().isBefore(currentMonth)) {
+                closedPartitions.put(partition.month(), new CachedPartition(partition, now));
+            }
+            partitions.add(partition);
+        }
+        partitions.sort(Comparator.comparing(Partition::month));
+
+        return merge(fromMonth, resolvedToMonth, partitions, cachedMonths);
+    }
+
+    @Nullable
+    private Partition findFreshClosedPartition(YearMonth month, Instant now) {
+        var cached = closedPartitions.get(month);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.cachedAt().plus(Duration.ofMinutes(closedPeriodTtlMinutes)).isBefore(now)) {
+            closedPartitions.remove(month, cached);
+            return null;
+        }
+        return cached.partition();
+    }
+
+    private Partition scanPartition(YearMonth month) throws InterruptedException {
+        var fromDate = month.atDay(1);
+        var toDateExclusive = month.plusMonths(1).atDay(1);
+
+        dbPermits.acquire();
+        try {
+            return readOnlyTransactionTemplate.execute(status -> {
+                var categoryCounts = new long[EmotionCategory.values().length];
+                for (var row : dailyEmotionRollupRepository.findPlatformCategoryCounts(fromDate, toDateExclusive)) {
+                    categoryCounts[row.getCategory().ordinal()] += row.getCount();
+                }
+
+                var tagCounts = new ArrayList<TagCount>();
+                for (var row : dailyEmotionRollupRepository.findPlatformDefaultTagCounts(fromDate, toDateExclusive)) {
+                    tagCounts.add(new TagCount(
+                            row.getTagId(),
+                            row.getTagName(),
+                            row.getColor(),
+                            row.getCategory(),
+                            row.getCount()));
+                }
+                return new Partition(month, categoryCounts, List.copyOf(tagCounts));
+            });
+        } finally {
+            dbPermits.release();
+        }
+    }
+
+    private Partition join(Future<Partition> task, List<Future<Partition>> allTasks, long deadlineNanos) {
+        try {
+            var partition = task.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (partition == null) {
+                throw new IllegalStateException("전체 감정 통계 파티션 결과가 비어 있습니다.");
+            }
+            return partition;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            allTasks.forEach(it -> it.cancel(true));
+            throw new IllegalStateException("전체 감정 통계 조회가 중단되었습니다.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            allTasks.forEach(it -> it.cancel(true));
+            var cause = (e instanceof ExecutionException && e.getCause() != null) ? e.getCause() : e;
+            log.warn("[PLATFORM-STATS] 파티션 스캔 실패 - exception={}, message={}",
+                    cause.getClass().getSimpleName(),
+                    cause.getMessage());
+            throw new IllegalStateException("전체 감정 통계 조회에 실패했습니다.", cause);
+        }
+    }
+
+    private PlatformEmotionStats merge(
+            YearMonth fromMonth,
+            YearMonth toMonth,
+            List<Partition> partitions,
+            int cachedMonths) {
+        var categories = EmotionCategory.values();
+        var totals = new long[categories.length];
+        var monthlyTrend = new ArrayList<PlatformMonthlyPoint>(partitions.size());
+        var tagTotals = new HashMap<TagKey, TagCount>();
+
+        for (var partition : partitions) {
+            var counts = partition.categoryCounts();
+            long monthTotal = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                totals[i] += counts[i];
+                monthTotal += counts[i];
+            }
+            monthlyTrend.add(new PlatformMonthlyPoint(
+                    partition.month(),
+                    counts[EmotionCategory.POSITIVE.ordinal()],
+                    counts[EmotionCategory.NEGATIVE.ordinal()],
+                    counts[EmotionCategory.NEUTRAL.ordinal()],
+                    monthTotal,
+                    ratio(counts[EmotionCategory.POSITIVE.ordinal()], monthTotal),
+                    ratio(counts[EmotionCategory.NEGATIVE.ordinal()], monthTotal),
+                    ratio(counts[EmotionCategory.NEUTRAL.ordinal()], monthTotal)));
+
+            for (var tag : partition.tagCounts()) {
+                tagTotals.merge(new TagKey(tag.tagId(), tag.category()), tag, TagCount::plus);
+            }
+        }
+
+        long totalMentions = 0L;
+        for (var count : totals) {
+            totalMentions += count;
+        }
+        var categoryStats = new ArrayList<CategoryStat>(categories.length);
+        for (var category : categories) {
+            var count = totals[category.ordinal()];
+            categoryStats.add(new CategoryStat(category.name(), count, ratio(count, totalMentions)));
+        }
+
+        var topDefaultTags = tagTotals.values().stream()
+                .sorted(Comparator.comparingLong(TagCount::count).reversed().thenComparing(TagCount::name))
+                .limit(TOP_DEFAULT_TAG_COUNT)
+                .map(it -> new TagStat(it.tagId(), it.name(), it.color(), it.category().name(), it.count()))
+                .toList();
+
+        return new PlatformEmotionStats(
+                fromMonth,
+                toMonth,
+                totalMentions,
+                List.copyOf(categoryStats),
+                List.copyOf(monthlyTrend),
+                topDefaultTags,
+                cachedMonths);
+    }
+
+    private static double ratio(long count, long total) {
+        return (total == 0L) ? 0.0 : (double) count / total;
+    }
+
+    private record Partition(YearMonth month, long[] categoryCounts, List<TagCount> tagCounts) {
+    }
+
+    private record CachedPartition(Partition partition, Instant cachedAt) {
+    }
+
+    private record TagKey(Long tagId, EmotionCategory category) {
+    }
+
+    private record TagCount(Long tagId, String name, @Nullable String color, EmotionCategory category, long count) {
+        private TagCount plus(TagCount other) {
+            return new TagCount(tagId, name, color, category, count + other.count);
+        }
+    }
+}
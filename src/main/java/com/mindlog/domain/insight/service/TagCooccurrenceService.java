@@ -0,0 +1,36 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.TagPairStat;
+import com.mindlog.domain.insight.repository.TagCooccurrenceRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TagCooccurrenceService {
+
+    private static final int DEFAULT_TOP_K = 10;
+    private static final int MIN_TOP_K = 1;
+    private static final int MAX_TOP_K = 50;
+
+    private final TagCooccurrenceRepository tagCooccurrenceRepository;
+
+    public List<TagPairStat> getTopPairs(UUID profileId, @Nullable Integer topK) {
+        var limit = (topK == null) ? DEFAULT_TOP_K : Math.clamp(topK, MIN_TOP_K, MAX_TOP_K);
+        return tagCooccurrenceRepository.findTopPairs(profileId, limit).stream()
+                .map(it -> new TagPairStat(
+                        it.getTagAId(),
+                        it.getTagAName(),
+                        it.getTagAColor(),
+                        it.getTagBId(),
+                        it.getTagBName(),
+                        it.getTagBColor(),
+                        (it.getCount() == null) ? 0L : it.getCount()))
+                .toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.mindlog.domain.insight.service;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 태그 쌍별 동시 출현 증감량을 모으는 원시 타입 해시맵.
+ *
+ * <p>두 태그 id를 {@code (작은 id << 32) | 큰 id} 하나의 long 키로 묶고 개방 주소법으로 저장해
+ * 박싱 없이 일기 한 건의 태그 쌍(보통 수 개~수십 개)을 집계한다.
+ * 태그 id는 양수이므로 키 0은 빈 슬롯 표시로 사용한다.</p>
+ */
+public final class TagPairDeltas {
+
+    private static final long EMPTY_KEY = 0L;
+    private static final long MAX_TAG_ID = 0xFFFF_FFFFL;
+
+    private long[] keys;
+    private int[] deltas;
+    private int size;
+
+    public TagPairDeltas() {
+        this.keys = new long[16];
+        this.deltas = new int[16];
+    }
+
+    /**
+     * 한 일기에 함께 달린 태그 목록의 모든 쌍에 {@code delta}를 더한다. null/중복 id는 무시한다.
+     */
+    public void addAllPairs(Collection<Long> tagIds, int delta) {
+        var ids = tagIds.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .distinct()
+                .sorted()
+                .toArray();
+        for (int i = 0; i < ids.length; i++) {
+            for (int j = i + 1; j < ids.length; j++) {
+                add(pairKey(ids[i], ids[j]), delta);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return nonZeroCount() == 0;
+    }
+
+    public boolean hasNegative() {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY && deltas[i] < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void forEachNonZero(PairDeltaConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY && deltas[i] != 0) {
+                consumer.accept(keys[i] >>> 32, keys[i] & MAX_TAG_ID, deltas[i]);
+            }
+        }
+    }
+
+    public int nonZeroCount() {
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY && deltas[i] != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static long pairKey(long smallerTagId, long largerTagId) {
+        if (smallerTagId <= 0 || largerTagId > MAX_TAG_ID || smallerTagId >= largerTagId) {
+            throw new IllegalArgumentException("태그 쌍 키를 만들 수 없는 id입니다.");
+        }
+        return (smallerTagId << 32) | largerTagId;
+    }
+
+    private void add(long key, int delta) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int slot = indexOf(key, keys);
+        if (keys[slot] == EMPTY_KEY) {
+            keys[slot] = key;
+            size++;
+        }
+        deltas[slot] += delta;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldDeltas = deltas;
+        keys = new long[oldKeys.length * 2];
+        deltas = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = indexOf(oldKeys[i], keys);
+                keys[slot] = oldKeys[i];
+                deltas[slot] = oldDeltas[i];
+            }
+        }
+    }
+
+    private static int indexOf(long key, long[] table) {
+        int mask = table.length - 1;
+        int slot = Long.hashCode(key * 0x9E37_79B9_7F4A_7C15L) & mask;
+        while (table[slot] != EMPTY_KEY && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    @FunctionalInterface
+    public interface PairDeltaConsumer {
+        void accept(long tagAId, long tagBId, int delta);
+    }
+}
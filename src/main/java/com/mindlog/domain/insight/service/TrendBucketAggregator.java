@@ -0,0 +1,133 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.WeeklyTrendPoint;
+import com.mindlog.domain.insight.entity.RollupResolution;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 일별 감정 집계를 고정 구간(주/월/N일)으로 묶는 원시 배열 기반 집계기.
+ *
+ * <p>구간 경계를 epoch day {@code long[]}로 한 번만 계산해 두고, 입력은 epoch day로 구간 번호를 찾아
+ * 병렬 배열에 더한다. 날짜 오름차순 입력이면 커서만 앞으로 옮기므로 한 번의 순회로 끝나고,
+ * 날짜마다 맵 엔트리나 {@link LocalDate}를 만들지 않는다.</p>
+ */
+final class TrendBucketAggregator {
+
+    private final long[] bucketStarts;
+    private final long[] positiveCounts;
+    private final long[] negativeCounts;
+    private final long[] neutralCounts;
+    private final long[] totalCounts;
+    private final double[] intensityWeightedSums;
+    private final boolean[] touched;
+
+    private int cursor;
+
+    private TrendBucketAggregator(long[] bucketStarts) {
+        var bucketCount = bucketStarts.length - 1;
+        this.bucketStarts = bucketStarts;
+        this.positiveCounts = new long[bucketCount];
+        this.negativeCounts = new long[bucketCount];
+        this.neutralCounts = new long[bucketCount];
+        this.totalCounts = new long[bucketCount];
+        this.intensityWeightedSums = new double[bucketCount];
+        this.touched = new boolean[bucketCount];
+    }
+
+    /**
+     * 주(월요일 시작) 또는 월 단위 구간. 첫 구간은 {@code fromDate}가 속한 기간의 시작일부터다.
+     */
+    static TrendBucketAggregator of(RollupResolution resolution, LocalDate fromDate, LocalDate toDate) {
+        var starts = new ArrayList<LocalDate>();
+        var start = resolution.periodStart(fromDate);
+        while (!start.isAfter(toDate)) {
+            starts.add(start);
+            start = resolution.periodEnd(start).plusDays(1);
+        }
+        starts.add(start);
+        return new TrendBucketAggregator(starts.stream().mapToLong(LocalDate::toEpochDay).toArray());
+    }
+
+    /**
+     * {@code fromDate}부터 {@code days}일씩 자른 구간.
+     */
+    static TrendBucketAggregator ofDays(int days, LocalDate fromDate, LocalDate toDate) {
+        if (days < 1) {
+            throw new IllegalArgumentException("구간 길이는 1일 이상이어야 합니다.");
+        }
+        var from = fromDate.toEpochDay();
+        var span = Math.max(0L, toDate.toEpochDay() - from + 1);
+        var bucketCount = (int) Math.max(1L, (span + days - 1) / days);
+        var starts = new long[bucketCount + 1];
+        for (int i = 0; i <= bucketCount; i++) {
+            starts[i] = from + (long) i * days;
+        }
+        return new TrendBucketAggregator(starts);
+    }
+
+    /**
+     * 하루(또는 구간 시작일로 정규화된 상위 집계 한 행)를 더한다. 구간 밖의 날짜는 무시한다.
+     */
+    void add(long epochDay, long positiveCount, long negativeCount, long neutralCount, long totalCount,
+             double avgIntensity) {
+        var index = bucketIndex(epochDay);
+        if (index < 0) {
+            return;
+        }
+        positiveCounts[index] += positiveCount;
+        negativeCounts[index] += negativeCount;
+        neutralCounts[index] += neutralCount;
+        totalCounts[index] += totalCount;
+        intensityWeightedSums[index] += avgIntensity * totalCount;
+        touched[index] = true;
+    }
+
+    /**
+     * 값이 한 번이라도 더해진 구간만 시작일 순으로 반환한다.
+     */
+    List<WeeklyTrendPoint> toTrend() {
+        var points = new ArrayList<WeeklyTrendPoint>();
+        for (int i = 0; i < touched.length; i++) {
+            if (!touched[i]) {
+                continue;
+            }
+            var total = totalCounts[i];
+            points.add(new WeeklyTrendPoint(
+                    LocalDate.ofEpochDay(bucketStarts[i]),
+                    LocalDate.ofEpochDay(bucketStarts[i + 1] - 1),
+                    positiveCounts[i],
+                    negativeCounts[i],
+                    neutralCounts[i],
+                    total,
+                    (total == 0L) ? 0.0 : intensityWeightedSums[i] / total,
+                    ratio(positiveCounts[i], total),
+                    ratio(negativeCounts[i], total),
+                    ratio(neutralCounts[i], total)
+            ));
+        }
+        return points;
+    }
+
+    private int bucketIndex(long epochDay) {
+        if (epochDay < bucketStarts[0] || epochDay >= bucketStarts[bucketStarts.length - 1]) {
+            return -1;
+        }
+        // 오름차순 입력은 커서 전진만으로 찾고, 순서가 어긋난 입력만 이진 탐색한다.
+        if (epochDay < bucketStarts[cursor]) {
+            var found = Arrays.binarySearch(bucketStarts, epochDay);
+            cursor = (found >= 0) ? found : -found - 2;
+            return cursor;
+        }
+        while (epochDay >= bucketStarts[cursor + 1]) {
+            cursor++;
+        }
+        return cursor;
+    }
+
+    private static double ratio(long count, long total) {
+        return (total == 0L) ? 0.0 : (double) count / total;
+    }
+}
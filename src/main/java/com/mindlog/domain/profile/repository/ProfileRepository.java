@@ -1,8 +1,13 @@
 package com.mindlog.domain.profile.repository;
 
 import com.mindlog.domain.profile.entity.Profile;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,4 +20,50 @@ public interface ProfileRepository extends JpaRepository<Profile, UUID> {
     boolean existsByUserName(String userName);
 
     boolean existsByEmail(String email);
+
+    /**
+     * 배치 작업용 프로필 id 키셋 순회. 첫 호출은 {@code afterId}에 최소 UUID(0...0)를 넘긴다.
+     */
+    @Query(value = """
+            SELECT p.id
+            FROM public.profiles p
+            WHERE p.id > :afterId
+            ORDER BY p.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+    /**
+     * 로그인 시 프로필 동기화. 없으면 만들고, 있으면 건드리지 않은 채 역할만 읽는다(한 번의 왕복).
+     *
+     * <p>같은 문장 안의 SELECT는 INSERT 이전 스냅샷을 보므로 보통 두 갈래 중 하나만 행을 낸다.
+     * 같은 신규 프로필을 동시에 삽입하면 진 쪽은 상대 행을 아직 보지 못해 null이 될 수 있으니 호출 측에서 다시 읽는다.</p>
+     */
+    @Nullable
+    @Transactional
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO public.profiles (id, email, name, user_name, avatar, role, created_at, updated_at)
+                VALUES (:id, :email, :name, :userName, cast(:avatar as text), 'USER', now(), now())
+                ON CONFLICT (id) DO NOTHING
+                RETURNING role
+            )
+            SELECT i.role AS role, true AS inserted FROM inserted i
+            UNION ALL
+            SELECT p.role AS role, false AS inserted FROM public.profiles p WHERE p.id = :id
+            LIMIT 1
+            """, nativeQuery = true)
+    ProfileSyncView upsertForLogin(
+            @Param("id") UUID id,
+            @Param("email") String email,
+            @Param("name") String name,
+            @Param("userName") String userName,
+            @Param("avatar") @Nullable String avatar);
+
+    interface ProfileSyncView {
+        @Nullable
+        String getRole();
+
+        Boolean getInserted();
+    }
 }
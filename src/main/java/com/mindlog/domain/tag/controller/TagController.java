@@ -1,11 +1,13 @@
 package com.mindlog.domain.tag.controller;
 
 import com.mindlog.domain.tag.dto.TagResponse;
+import com.mindlog.domain.tag.dto.TagSnapshotSyncProgress;
 import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.domain.tag.entity.EmotionTag;
 import com.mindlog.domain.tag.service.TagService;
 import com.mindlog.global.security.CurrentProfileId;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -54,6 +56,55 @@ public class TagController {
     // 요청 데이터를 받을 DTO
     public record CreateTagRequest(String name, String color, EmotionCategory category) {}
 
+    // 커스텀 태그 수정 (PATCH /api/tags/{tagId})
+    // 과거 일기의 스냅샷은 백그라운드에서 갱신되며, 응답에 전파 진행 상황을 함께 담는다.
+    @PatchMapping("/{tagId}")
+    public ResponseEntity<?> updateTag(
+            @CurrentProfileId UUID profileId,
+            @PathVariable Long tagId,
+            @RequestBody UpdateTagRequest request
+    ) {
+        try {
+            var result = tagService.updateCustomTag(
+                    profileId,
+                    tagId,
+                    request.name(),
+                    request.color(),
+                    request.category()
+            );
+            var body = new UpdateTagResponse(TagResponse.from(result.tag()), result.snapshotSync());
+            // 바뀐 값이 없어 전파를 예약하지 않았다면 처리할 비동기 작업이 없으므로 200으로 응답한다.
+            return result.snapshotSyncScheduled()
+                    ? ResponseEntity.accepted().body(body)
+                    : ResponseEntity.ok(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 존재하는 태그 이름입니다.");
+        }
+    }
+
+    // 스냅샷 전파 진행 상황 조회 (GET /api/tags/{tagId}/snapshot-sync)
+    @GetMapping("/{tagId}/snapshot-sync")
+    public ResponseEntity<?> getSnapshotSyncProgress(
+            @CurrentProfileId UUID profileId,
+            @PathVariable Long tagId
+    ) {
+        try {
+            var progress = tagService.getSnapshotSyncProgress(profileId, tagId);
+            if (progress == null) {
+                return ResponseEntity.noContent().build();
+            }
+            return ResponseEntity.ok(progress);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(e.getMessage());
+        }
+    }
+
+    public record UpdateTagRequest(String name, String color, EmotionCategory category) {}
+
+    public record UpdateTagResponse(TagResponse tag, @Nullable TagSnapshotSyncProgress snapshotSync) {}
+
     // 커스텀 태그 삭제 (DELETE /api/tags/{tagId})
     @DeleteMapping("/{tagId}")
     public ResponseEntity<?> deleteTag(
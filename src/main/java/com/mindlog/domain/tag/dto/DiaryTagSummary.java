@@ -11,13 +11,16 @@ public record DiaryTagSummary(
         EmotionCategory category,
         boolean defaultTag
 ) {
+    /**
+     * 목록 응답에서 같은 태그가 인스턴스를 공유하도록 인터닝된 값을 반환한다.
+     */
     public TagResponse toTagResponse() {
-        return new TagResponse(
+        return TagResponseInterner.intern(new TagResponse(
                 tagId,
                 tagName,
                 color,
                 category.name(),
                 defaultTag
-        );
+        ));
     }
 }
@@ -1,6 +1,7 @@
 package com.mindlog.domain.tag.dto;
 
 import com.mindlog.domain.tag.entity.EmotionTag;
+import java.io.Serial;
 import java.io.Serializable;
 
 public record TagResponse(
@@ -21,4 +22,10 @@ public record TagResponse(
         tag.isDefault()
     );
   }
+
+  // 캐시에서 역직렬화된 값도 기존 인스턴스로 합쳐 월별 캐시 간 중복을 없앤다.
+  @Serial
+  private Object readResolve() {
+    return TagResponseInterner.intern(this);
+  }
 }
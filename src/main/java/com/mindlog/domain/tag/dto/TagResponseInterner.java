@@ -0,0 +1,38 @@
+package com.mindlog.domain.tag.dto;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 같은 값의 {@link TagResponse}를 힙에서 하나의 인스턴스로 공유하기 위한 인터너.
+ *
+ * <p>일기 목록은 같은 태그를 수백 번 반복해서 담는다. 인스턴스를 공유하면 힙에서는 이름/색상 문자열이 한 벌만 남고,
+ * JDK 직렬화는 같은 객체를 두 번째부터 역참조 핸들로만 기록하므로 Redis 캐시 값에도 태그가 응답당 한 번만 실린다.
+ * 값은 약한 참조로만 보관해 더 이상 쓰이지 않는 태그는 GC가 회수한다.</p>
+ */
+public final class TagResponseInterner {
+
+  private static final Map<TagResponse, WeakReference<TagResponse>> INSTANCES =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private TagResponseInterner() {
+  }
+
+  public static TagResponse intern(TagResponse candidate) {
+    synchronized (INSTANCES) {
+      var reference = INSTANCES.get(candidate);
+      var existing = (reference == null) ? null : reference.get();
+      if (existing != null) {
+        return existing;
+      }
+      INSTANCES.put(candidate, new WeakReference<>(candidate));
+      return candidate;
+    }
+  }
+
+  static int size() {
+    return INSTANCES.size();
+  }
+}
@@ -0,0 +1,38 @@
+package com.mindlog.domain.tag.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
+
+public record TagSnapshotSyncProgress(
+        Long tagId,
+        Status status,
+        long updatedRows,
+        int processedChunks,
+        Instant requestedAt,
+        @Nullable Instant completedAt
+) implements Serializable {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static TagSnapshotSyncProgress pending(Long tagId) {
+        return new TagSnapshotSyncProgress(tagId, Status.PENDING, 0L, 0, Instant.now(), null);
+    }
+
+    public TagSnapshotSyncProgress running(long updatedRows, int processedChunks) {
+        return new TagSnapshotSyncProgress(tagId, Status.RUNNING, updatedRows, processedChunks, requestedAt, null);
+    }
+
+    public TagSnapshotSyncProgress finished(Status finalStatus) {
+        return new TagSnapshotSyncProgress(tagId, finalStatus, updatedRows, processedChunks, requestedAt, Instant.now());
+    }
+
+    public boolean isDone() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -85,6 +85,16 @@ public class EmotionTag extends BaseTimeEntity {
         this.usageCount = 0;
     }
 
+    /**
+     * 커스텀 태그의 표시 속성을 변경한다.
+     * 과거 일기에 기록된 스냅샷(diary_emotions)은 {@code TagSnapshotSyncService}가 백그라운드에서 따라잡는다.
+     */
+    public void update(String name, @Nullable String color, EmotionCategory category) {
+        this.name = name;
+        this.color = color;
+        this.category = category;
+    }
+
     public void incrementUsageCount() {
         this.usageCount++;
     }
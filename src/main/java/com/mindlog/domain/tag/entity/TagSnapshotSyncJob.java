@@ -0,0 +1,73 @@
+package com.mindlog.domain.tag.entity;
+
+import com.mindlog.domain.tag.dto.TagSnapshotSyncProgress;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 태그별 스냅샷 전파 작업. 태그당 한 행이며 가장 최근 요청의 상태와 진행 상황을 담는다.
+ *
+ * <p>같은 태그가 다시 수정되면 request_seq 가 증가하고 PENDING 으로 되돌아간다.
+ * 워커의 진행/완료 기록은 자신이 가져간 request_seq 와 일치할 때만 반영된다.</p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tag_snapshot_sync_jobs")
+public class TagSnapshotSyncJob {
+
+    @Id
+    @Column(name = "tag_id", nullable = false)
+    private Long tagId;
+
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private TagSnapshotSyncProgress.Status status;
+
+    @Column(name = "request_seq", nullable = false)
+    private long requestSeq;
+
+    @Column(name = "updated_rows", nullable = false)
+    private long updatedRows;
+
+    @Column(name = "processed_chunks", nullable = false)
+    private int processedChunks;
+
+    @Column(name = "requested_at", nullable = false)
+    private Instant requestedAt;
+
+    @Nullable
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * 워커가 작업을 가져갈 때 호출한다. 중단된 실행을 이어받는 경우에도 진행 수치를 처음부터 다시 센다.
+     */
+    public void start() {
+        status = TagSnapshotSyncProgress.Status.RUNNING;
+        updatedRows = 0L;
+        processedChunks = 0;
+        completedAt = null;
+        updatedAt = Instant.now();
+    }
+
+    public TagSnapshotSyncProgress toProgress() {
+        return new TagSnapshotSyncProgress(tagId, status, updatedRows, processedChunks, requestedAt, completedAt);
+    }
+}
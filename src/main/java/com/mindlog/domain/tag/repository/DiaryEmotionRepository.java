@@ -6,6 +6,8 @@ import com.mindlog.domain.tag.entity.EmotionCategory;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -38,6 +40,45 @@ public interface DiaryEmotionRepository extends JpaRepository<DiaryEmotion, Long
     @Query("DELETE FROM DiaryEmotion de WHERE de.diaryId = :diaryId")
     void deleteAllByDiaryId(@Param("diaryId") Long diaryId);
 
+    /**
+     * 태그 스냅샷이 현재 태그 속성과 다른 행을 id 키셋 순서로 잘라서 조회한다.
+     * idx_diary_emotions_tag_id_keyset 인덱스를 타므로 청크마다 비용이 일정하다.
+     */
+    @Query(value = """
+            SELECT de.id
+            FROM public.diary_emotions de
+            WHERE de.emotion_tag_id = :tagId
+              AND de.id > :afterId
+              AND (
+                  de.tag_name_snapshot <> :name
+                  OR de.color_snapshot IS DISTINCT FROM cast(:color as text)
+                  OR de.category_snapshot <> :category
+              )
+            ORDER BY de.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findStaleSnapshotIdsAfter(
+            @Param("tagId") Long tagId,
+            @Param("afterId") Long afterId,
+            @Param("name") String name,
+            @Param("color") @Nullable String color,
+            @Param("category") String category,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            UPDATE DiaryEmotion de
+            SET de.tagNameSnapshot = :name,
+                de.colorSnapshot = :color,
+                de.categorySnapshot = :category
+            WHERE de.id IN :ids
+            """)
+    int updateSnapshotsByIds(
+            @Param("ids") List<Long> ids,
+            @Param("name") String name,
+            @Param("color") @Nullable String color,
+            @Param("category") EmotionCategory category);
+
     @Query("""
             SELECT
                 de.categorySnapshot AS category,
@@ -111,6 +152,35 @@ public interface DiaryEmotionRepository extends JpaRepository<DiaryEmotion, Long
             @Param("negative") EmotionCategory negative,
             @Param("neutral") EmotionCategory neutral);
 
+    /**
+     * 비교 모드용 날짜/태그 단위 원본 집계. 집계 테이블을 쓰지 않을 때의 대체 경로다.
+     */
+    @Query(value = """
+            SELECT
+                de.diary_date AS date,
+                de.emotion_tag_id AS tagId,
+                MAX(de.tag_name_snapshot) AS tagName,
+                MAX(de.color_snapshot) AS color,
+                de.category_snapshot AS category,
+                CAST(COUNT(*) AS bigint) AS mentionCount,
+                CAST(SUM(de.intensity) AS bigint) AS intensitySum
+            FROM public.diary_emotions de
+            WHERE de.profile_id = :profileId
+              AND de.diary_date BETWEEN :fromDate AND :toDate
+              AND EXISTS (
+                  SELECT 1
+                  FROM public.diaries d
+                  WHERE d.id = de.diary_id
+                    AND d.is_deleted = false
+              )
+            GROUP BY de.diary_date, de.emotion_tag_id, de.category_snapshot
+            ORDER BY de.diary_date ASC
+            """, nativeQuery = true)
+    Stream<DailyTagCountView> streamDailyTagCountsInRange(
+            @Param("profileId") UUID profileId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
     interface CategoryCountView {
         EmotionCategory getCategory();
         Long getCount();
@@ -132,4 +202,14 @@ public interface DiaryEmotionRepository extends JpaRepository<DiaryEmotion, Long
         Long getTotalCount();
         Double getAvgIntensity();
     }
+
+    interface DailyTagCountView {
+        LocalDate getDate();
+        Long getTagId();
+        String getTagName();
+        String getColor();
+        EmotionCategory getCategory();
+        Long getMentionCount();
+        Long getIntensitySum();
+    }
 }
@@ -0,0 +1,85 @@
+package com.mindlog.domain.tag.repository;
+
+import com.mindlog.domain.tag.entity.TagSnapshotSyncJob;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TagSnapshotSyncJobRepository extends JpaRepository<TagSnapshotSyncJob, Long> {
+
+    /**
+     * 태그 수정과 같은 트랜잭션에서 호출한다. 이미 행이 있으면 요청 번호를 올리고 PENDING 으로 되돌린다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.tag_snapshot_sync_jobs (
+                tag_id, profile_id, status, request_seq, updated_rows, processed_chunks,
+                requested_at, completed_at, updated_at
+            )
+            VALUES (:tagId, :profileId, 'PENDING', 1, 0, 0, now(), NULL, now())
+            ON CONFLICT (tag_id)
+            DO UPDATE SET
+                profile_id = EXCLUDED.profile_id,
+                status = 'PENDING',
+                request_seq = public.tag_snapshot_sync_jobs.request_seq + 1,
+                updated_rows = 0,
+                processed_chunks = 0,
+                requested_at = now(),
+                completed_at = NULL,
+                updated_at = now()
+            """, nativeQuery = true)
+    void upsertPending(@Param("tagId") Long tagId, @Param("profileId") UUID profileId);
+
+    /**
+     * 대기 중인 작업 또는 {@code staleBefore} 이후로 진행 기록이 없는(중단된 노드의) 작업 한 건을 잠근다.
+     * 다른 노드가 잠근 행은 건너뛴다.
+     */
+    @Query(value = """
+            SELECT *
+            FROM public.tag_snapshot_sync_jobs
+            WHERE status = 'PENDING'
+               OR (status = 'RUNNING' AND updated_at < :staleBefore)
+            ORDER BY requested_at
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<TagSnapshotSyncJob> lockNextOpenJob(@Param("staleBefore") Instant staleBefore);
+
+    @Modifying
+    @Query(value = """
+            UPDATE public.tag_snapshot_sync_jobs
+            SET updated_rows = :updatedRows,
+                processed_chunks = :processedChunks,
+                updated_at = now()
+            WHERE tag_id = :tagId
+              AND request_seq = :requestSeq
+              AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int updateProgress(
+            @Param("tagId") Long tagId,
+            @Param("requestSeq") long requestSeq,
+            @Param("updatedRows") long updatedRows,
+            @Param("processedChunks") int processedChunks);
+
+    /**
+     * 실행 중에 같은 태그가 다시 요청되었다면 request_seq 가 달라 0건이 갱신되고, 작업은 PENDING 으로 남는다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE public.tag_snapshot_sync_jobs
+            SET status = :status,
+                completed_at = now(),
+                updated_at = now()
+            WHERE tag_id = :tagId
+              AND request_seq = :requestSeq
+              AND status = 'RUNNING'
+            """, nativeQuery = true)
+    int finish(
+            @Param("tagId") Long tagId,
+            @Param("requestSeq") long requestSeq,
+            @Param("status") String status);
+}
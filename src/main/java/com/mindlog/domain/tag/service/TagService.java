@@ -1,14 +1,17 @@
 package com.mindlog.domain.tag.service;
 
+import com.mindlog.domain.tag.dto.TagSnapshotSyncProgress;
 import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.domain.tag.entity.EmotionTag;
 import com.mindlog.domain.tag.repository.EmotionTagRepository;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -19,8 +22,12 @@ public class TagService {
     private static final String EMPTY_CATEGORY_MESSAGE = "카테고리를 선택해주세요.";
     private static final String TAG_NOT_FOUND_MESSAGE = "삭제할 태그를 찾을 수 없습니다.";
     private static final String DEFAULT_TAG_DELETE_MESSAGE = "기본 태그는 삭제할 수 없습니다.";
+    private static final String TAG_NOT_FOUND_FOR_UPDATE_MESSAGE = "수정할 태그를 찾을 수 없습니다.";
+    private static final String DEFAULT_TAG_UPDATE_MESSAGE = "기본 태그는 수정할 수 없습니다.";
+    private static final String DUPLICATE_TAG_NAME_MESSAGE = "이미 존재하는 태그 이름입니다.";
 
     private final EmotionTagRepository emotionTagRepository;
+    private final TagSnapshotSyncService tagSnapshotSyncService;
 
     /**
      * 일기 작성 시 보여줄 태그 목록 조회
@@ -55,6 +62,56 @@ public class TagService {
         }
     }
 
+    /**
+     * 커스텀 태그 수정
+     * - emotion_tags는 즉시 갱신하고, 과거 일기의 감정 스냅샷은 백그라운드에서 청크 단위로 전파한다.
+     */
+    @Transactional
+    public TagUpdateResult updateCustomTag(
+            UUID profileId,
+            Long tagId,
+            String name,
+            String color,
+            EmotionCategory category
+    ) {
+        var tag = emotionTagRepository.findByIdAndProfileId(tagId, profileId)
+                .orElseThrow(() -> new IllegalArgumentException(TAG_NOT_FOUND_FOR_UPDATE_MESSAGE));
+
+        if (tag.isDefault()) {
+            throw new IllegalArgumentException(DEFAULT_TAG_UPDATE_MESSAGE);
+        }
+
+        var normalizedName = normalizeTagName(name);
+        validateCategory(category);
+
+        if (!normalizedName.equals(tag.getName()) && emotionTagRepository.existsByProfileIdAndName(profileId, normalizedName)) {
+            throw new DataIntegrityViolationException(DUPLICATE_TAG_NAME_MESSAGE);
+        }
+
+        var changed = !normalizedName.equals(tag.getName())
+                || !Objects.equals(color, tag.getColor())
+                || category != tag.getCategory();
+        if (!changed) {
+            return new TagUpdateResult(tag, tagSnapshotSyncService.getProgress(tagId), false);
+        }
+
+        tag.update(normalizedName, color, category);
+        emotionTagRepository.saveAndFlush(tag);
+
+        var progress = tagSnapshotSyncService.requestSync(profileId, tagId);
+        return new TagUpdateResult(tag, progress, true);
+    }
+
+    /**
+     * 태그 스냅샷 전파 진행 상황 조회
+     */
+    @Nullable
+    public TagSnapshotSyncProgress getSnapshotSyncProgress(UUID profileId, Long tagId) {
+        emotionTagRepository.findByIdAndProfileId(tagId, profileId)
+                .orElseThrow(() -> new IllegalArgumentException(TAG_NOT_FOUND_FOR_UPDATE_MESSAGE));
+        return tagSnapshotSyncService.getProgress(tagId);
+    }
+
     /**
      * 커스텀 태그 삭제
      */
@@ -97,4 +154,13 @@ public class TagService {
     private EmotionTag findExistingTag(UUID profileId, String normalizedName) {
         return emotionTagRepository.findByProfileIdAndName(profileId, normalizedName).orElse(null);
     }
+
+    /**
+     * @param snapshotSyncScheduled 이번 수정으로 스냅샷 전파가 새로 예약되었는지 여부
+     */
+    public record TagUpdateResult(
+            EmotionTag tag,
+            @Nullable TagSnapshotSyncProgress snapshotSync,
+            boolean snapshotSyncScheduled) {
+    }
 }
@@ -0,0 +1,280 @@
+package com.mindlog.domain.tag.service;
+
+import com.mindlog.domain.insight.service.EmotionRollupRebuildService;
+import com.mindlog.domain.insight.service.InsightSnapshotService;
+import com.mindlog.domain.tag.dto.TagSnapshotSyncProgress;
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import com.mindlog.domain.tag.entity.EmotionTag;
+import com.mindlog.domain.tag.entity.TagSnapshotSyncJob;
+import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
+import com.mindlog.domain.tag.repository.EmotionTagRepository;
+import com.mindlog.domain.tag.repository.TagSnapshotSyncJobRepository;
+import com.mindlog.global.cache.ProfileCacheEvictor;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 태그 이름/색상/카테고리 변경을 과거 diary_emotions 스냅샷에 전파하는 백그라운드 작업.
+ *
+ * <p>사용자의 전체 이력을 한 번의 UPDATE로 바꾸면 긴 행 잠금과 지연 급증이 생기므로,
+ * id 키셋 순서로 잘게 나눈 청크를 각각 짧은 트랜잭션으로 갱신하고 청크 사이에 쉬어간다.</p>
+ *
+ * <ul>
+ *   <li>예약은 태그 수정과 같은 트랜잭션에서 tag_snapshot_sync_jobs 행으로 남으므로 재시작 후에도 이어서 처리된다.</li>
+ *   <li>워커는 FOR UPDATE SKIP LOCKED 로 한 건씩 가져가므로 여러 노드가 같은 작업을 동시에 집지 않는다.
+ *       진행 기록이 오래 멈춘 RUNNING 작업은 중단된 노드의 것으로 보고 다시 가져간다.</li>
+ *   <li>스냅샷이 이미 최신인 행은 조회 단계에서 제외되므로 재실행해도 안전하다.</li>
+ *   <li>진행 중에 같은 태그가 다시 수정되면 현재 실행을 멈추고 최신 값으로 다시 실행한다.</li>
+ *   <li>완료 시 프로필 캐시를 무효화해 목록/인사이트가 새 스냅샷을 읽도록 한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class TagSnapshotSyncService {
+
+    private final DiaryEmotionRepository diaryEmotionRepository;
+    private final EmotionTagRepository emotionTagRepository;
+    private final TagSnapshotSyncJobRepository tagSnapshotSyncJobRepository;
+    private final EmotionRollupRebuildService emotionRollupRebuildService;
+    private final ProfileCacheEvictor profileCacheEvictor;
+    private final InsightSnapshotService insightSnapshotService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean(false);
+
+    @Value("${mindlog.tag.snapshot-sync.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${mindlog.tag.snapshot-sync.pause-between-chunks-ms:50}")
+    private long pauseBetweenChunksMs;
+
+    @Value("${mindlog.tag.snapshot-sync.stale-after-ms:300000}")
+    private long staleAfterMs;
+
+    public TagSnapshotSyncService(
+            DiaryEmotionRepository diaryEmotionRepository,
+            EmotionTagRepository emotionTagRepository,
+            TagSnapshotSyncJobRepository tagSnapshotSyncJobRepository,
+            EmotionRollupRebuildService emotionRollupRebuildService,
+            ProfileCacheEvictor profileCacheEvictor,
+            InsightSnapshotService insightSnapshotService,
+            TransactionTemplate transactionTemplate) {
+        this.diaryEmotionRepository = diaryEmotionRepository;
+        this.emotionTagRepository = emotionTagRepository;
+        this.tagSnapshotSyncJobRepository = tagSnapshotSyncJobRepository;
+        this.emotionRollupRebuildService = emotionRollupRebuildService;
+        this.profileCacheEvictor = profileCacheEvictor;
+        this.insightSnapshotService = insightSnapshotService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 스냅샷 전파를 예약한다.
+     * 트랜잭션 안에서 호출되면 작업 행을 같은 트랜잭션에 기록하고, 커밋 이후에 워커를 깨워
+     * 워커가 항상 커밋된 태그 값을 읽도록 한다.
+     */
+    public TagSnapshotSyncProgress requestSync(UUID profileId, Long tagId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            tagSnapshotSyncJobRepository.upsertPending(tagId, profileId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    startWorkerIfIdle();
+                }
+            });
+            return TagSnapshotSyncProgress.pending(tagId);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> tagSnapshotSyncJobRepository.upsertPending(tagId, profileId));
+        startWorkerIfIdle();
+        return TagSnapshotSyncProgress.pending(tagId);
+    }
+
+    @Nullable
+    public TagSnapshotSyncProgress getProgress(Long tagId) {
+        return tagSnapshotSyncJobRepository.findById(tagId)
+                .map(TagSnapshotSyncJob::toProgress)
+                .orElse(null);
+    }
+
+    /**
+     * 기동 직후와 이후 주기적으로 남은 작업을 확인한다.
+     * 재시작 전에 예약된 작업과 다른 노드가 처리하다 멈춘 작업을 이어받는다.
+     */
+    @Scheduled(fixedDelayString = "${mindlog.tag.snapshot-sync.rescan-interval-ms:60000}")
+    public void resumeOpenJobs() {
+        startWorkerIfIdle();
+    }
+
+    private void startWorkerIfIdle() {
+        wakeUpRequested.set(true);
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("mindlog-tag-snapshot-sync").start(this::drainJobs);
+    }
+
+    private void drainJobs() {
+        try {
+            while (wakeUpRequested.getAndSet(false)) {
+                ClaimedJob job;
+                while ((job = claimNextJob()) != null) {
+                    runSync(job);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[TAG-SYNC] 작업 조회 실패 - exception={}, message={}",
+                    e.getClass().getSimpleName(),
+                    e.getMessage());
+            log.debug("[TAG-SYNC] 작업 조회 실패 상세", e);
+        } finally {
+            running.set(false);
+        }
+
+        // 종료 직전에 들어온 요청이 워커 없이 남지 않도록 한 번 더 확인한다.
+        if (wakeUpRequested.get()) {
+            startWorkerIfIdle();
+        }
+    }
+
+    @Nullable
+    private ClaimedJob claimNextJob() {
+        var staleBefore = Instant.now().minusMillis(staleAfterMs);
+        return transactionTemplate.execute(status -> tagSnapshotSyncJobRepository.lockNextOpenJob(staleBefore)
+                .map(job -> {
+                    job.start();
+                    return new ClaimedJob(job.getProfileId(), job.getTagId(), job.getRequestSeq());
+                })
+                .orElse(null));
+    }
+
+    private void runSync(ClaimedJob job) {
+        var tagId = job.tagId();
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            var tag = emotionTagRepository.findById(tagId).orElse(null);
+            if (tag == null) {
+                finish(job, TagSnapshotSyncProgress.Status.COMPLETED);
+                return;
+            }
+
+            var target = SnapshotTarget.from(tag);
+            long updatedRows = 0L;
+            int processedChunks = 0;
+            long afterId = 0L;
+
+            while (true) {
+                var chunk = updateNextChunk(job, afterId, target, updatedRows, processedChunks);
+                if (chunk.superseded()) {
+                    // 실행 중에 다시 요청되었다. 작업은 PENDING 으로 남아 최신 값으로 다시 실행된다.
+                    log.info("[TAG-SYNC] 재요청으로 현재 실행 중단 - tagId={}, updatedRows={}", tagId, updatedRows);
+                    return;
+                }
+                if (chunk.ids().isEmpty()) {
+                    break;
+                }
+
+                updatedRows += chunk.updatedRows();
+                processedChunks++;
+                afterId = chunk.ids().getLast();
+
+                if (chunk.ids().size() < chunkSize) {
+                    break;
+                }
+                pauseBetweenChunks();
+            }
+
+            // 일 단위 집계는 태그 이름/색상/카테고리를 함께 보관하므로 해당 태그 행만 다시 만든다.
+            emotionRollupRebuildService.rebuildTag(job.profileId(), tagId);
+            insightSnapshotService.invalidate(job.profileId());
+            profileCacheEvictor.evict(job.profileId());
+            finish(job, TagSnapshotSyncProgress.Status.COMPLETED);
+            log.info("[TAG-SYNC] 스냅샷 전파 완료 - tagId={}, updatedRows={}, chunks={}, elapsed={}ms",
+                    tagId,
+                    updatedRows,
+                    processedChunks,
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            finish(job, TagSnapshotSyncProgress.Status.FAILED);
+            log.warn("[TAG-SYNC] 스냅샷 전파 실패 - tagId={}, exception={}, message={}",
+                    tagId,
+                    e.getClass().getSimpleName(),
+                    e.getMessage());
+            log.debug("[TAG-SYNC] 스냅샷 전파 실패 상세", e);
+        }
+    }
+
+    private void finish(ClaimedJob job, TagSnapshotSyncProgress.Status finalStatus) {
+        transactionTemplate.executeWithoutResult(status ->
+                tagSnapshotSyncJobRepository.finish(job.tagId(), job.requestSeq(), finalStatus.name()));
+    }
+
+    // 청크 갱신과 진행 기록을 같은 트랜잭션에 묶어, 진행 수치가 실제 커밋된 행 수와 어긋나지 않게 한다.
+    private ChunkResult updateNextChunk(
+            ClaimedJob job,
+            long afterId,
+            SnapshotTarget target,
+            long updatedRowsSoFar,
+            int processedChunksSoFar) {
+        var result = transactionTemplate.execute(status -> {
+            List<Long> ids = diaryEmotionRepository.findStaleSnapshotIdsAfter(
+                    job.tagId(),
+                    afterId,
+                    target.name(),
+                    target.color(),
+                    target.category().name(),
+                    chunkSize);
+            if (ids.isEmpty()) {
+                return new ChunkResult(List.of(), 0, false);
+            }
+            var updated = diaryEmotionRepository.updateSnapshotsByIds(
+                    ids,
+                    target.name(),
+                    target.color(),
+                    target.category());
+            var recorded = tagSnapshotSyncJobRepository.updateProgress(
+                    job.tagId(),
+                    job.requestSeq(),
+                    updatedRowsSoFar + updated,
+                    processedChunksSoFar + 1);
+            return new ChunkResult(ids, updated, recorded == 0);
+        });
+        return (result == null) ? new ChunkResult(List.of(), 0, false) : result;
+    }
+
+    private void pauseBetweenChunks() {
+        if (pauseBetweenChunksMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunksMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("태그 스냅샷 전파가 중단되었습니다.", e);
+        }
+    }
+
+    private record ClaimedJob(UUID profileId, Long tagId, long requestSeq) {
+    }
+
+    private record SnapshotTarget(String name, @Nullable String color, EmotionCategory category) {
+        private static SnapshotTarget from(EmotionTag tag) {
+            return new SnapshotTarget(tag.getName(), tag.getColor(), tag.getCategory());
+        }
+    }
+
+    private record ChunkResult(List<Long> ids, int updatedRows, boolean superseded) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.mindlog.global.cache;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필 단위로 묶인 Redis 캐시(월별 목록, 오늘의 추억, 감정 분석/비교, 감정 캘린더)를 한 번에 무효화한다.
+ *
+ * <p>일기 쓰기와 태그 스냅샷 동기화처럼 사용자의 조회 결과를 바꾸는 모든 경로가 같은 키 규칙을 공유한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileCacheEvictor {
+
+    private static final String MONTHLY_DIARIES_CACHE = "v2::monthlyDiaries::";
+    private static final String ON_THIS_DAY_CACHE = "v2::onThisDay::";
+    private static final String EMOTION_ANALYSIS_CACHE = "v2::emotionAnalysis::";
+    private static final String EMOTION_COMPARISON_CACHE = "v2::emotionComparison::";
+    private static final String MOOD_CALENDAR_CACHE = "v2::moodCalendar::";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void evict(UUID profileId) {
+        var prefix = profileId.toString();
+        evictByPattern(MONTHLY_DIARIES_CACHE + prefix);
+        evictByPattern(ON_THIS_DAY_CACHE + prefix);
+        evictByPattern(EMOTION_ANALYSIS_CACHE + prefix);
+        evictByPattern(EMOTION_COMPARISON_CACHE + prefix);
+        evictByPattern(MOOD_CALENDAR_CACHE + prefix);
+    }
+
+    private void evictByPattern(String pattern) {
+        try {
+            var keys = redisTemplate.keys(pattern + "*");
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 캐시 eviction 실패는 무시 (TTL로 자연 만료)
+        }
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package com.mindlog.global.cache;
+
+import org.jspecify.annotations.NullMarked;
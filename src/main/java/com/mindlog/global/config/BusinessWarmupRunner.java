@@ -1,6 +1,7 @@
 package com.mindlog.global.config;
 
 import com.mindlog.domain.auth.service.AuthHandoverService;
+import com.mindlog.global.security.MindlogPrincipal;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -19,7 +20,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -123,11 +123,8 @@ public class BusinessWarmupRunner implements ApplicationRunner {
     }
 
     private String bootstrapAuthenticatedSession(HttpClient client, UUID profileId) throws Exception {
-        var auth = new UsernamePasswordAuthenticationToken(
-                profileId.toString(),
-                "N/A",
-                List.of(new SimpleGrantedAuthority("ROLE_USER"))
-        );
+        var principal = MindlogPrincipal.user(profileId, "warmup-user");
+        var auth = new UsernamePasswordAuthenticationToken(principal, "N/A", principal.authorities());
 
         var token = authHandoverService.createOneTimeToken(auth, Map.of(
                 USER_NAME_KEY, "warmup-user",
@@ -1,12 +1,15 @@
 package com.mindlog.global.config;
 
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Map;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -33,6 +36,24 @@ public class CacheConfig {
                         .serializeValuesWith(valueSerializer)
                         .entryTtl(Duration.ofSeconds(90))
                         .disableCachingNullValues(),
+                "emotionComparison",
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .prefixCacheNameWith("v2::")
+                        .serializeValuesWith(valueSerializer)
+                        .entryTtl(Duration.ofSeconds(90))
+                        .disableCachingNullValues(),
+                "moodCalendar",
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .prefixCacheNameWith("v2::")
+                        .serializeValuesWith(valueSerializer)
+                        .entryTtl(Duration.ofMinutes(10))
+                        .disableCachingNullValues(),
+                "onThisDay",
+                RedisCacheConfiguration.defaultCacheConfig()
+                        .prefixCacheNameWith("v2::")
+                        .serializeValuesWith(valueSerializer)
+                        .entryTtl(untilMidnight())
+                        .disableCachingNullValues(),
                 "monthlyDiaries",
                 RedisCacheConfiguration.defaultCacheConfig()
                         .prefixCacheNameWith("v2::")
@@ -46,4 +67,13 @@ public class CacheConfig {
                 .withInitialCacheConfigurations(cacheConfigs)
                 .build();
     }
+
+    // "오늘" 기준 결과는 날짜가 바뀌면 쓸모가 없으므로 다음 자정까지만 보관한다.
+    private static RedisCacheWriter.TtlFunction untilMidnight() {
+        return (key, value) -> {
+            var now = LocalDateTime.now();
+            var ttl = Duration.between(now, LocalDate.now().plusDays(1).atStartOfDay());
+            return ttl.isNegative() || ttl.isZero() ? Duration.ofSeconds(1) : ttl;
+        };
+    }
 }
@@ -1,7 +1,6 @@
 package com.mindlog.global.config;
 
-import com.mindlog.domain.profile.entity.Profile;
-import com.mindlog.domain.profile.repository.ProfileRepository;
+import com.mindlog.global.security.MindlogPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -10,14 +9,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
-import java.util.UUID;
-
 @Slf4j
 @ControllerAdvice
 @RequiredArgsConstructor
 public class GlobalModelAdvice {
 
-    private final ProfileRepository profileRepository;
     private final AppSourceContext appSourceContext;
 
     @ModelAttribute("isNative")
@@ -35,38 +31,25 @@ public class GlobalModelAdvice {
         return (request.getHeader("Turbo-Frame") != null) ? "layout/turbo" : "layout/base";
     }
 
+    /**
+     * 로그인 시 주체에 담아 둔 표시 이름을 쓴다. 이름을 모르는 이관 세션만 세션의 USER_NAME, 프로필 ID 순으로 대신한다.
+     */
     @ModelAttribute("userName")
     public String userName(HttpServletRequest request, Authentication authentication) {
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            String cachedName = (String) session.getAttribute("USER_NAME");
-            if (cachedName != null && !cachedName.isBlank()) {
-                return cachedName;
-            }
-        }
-
         if (authentication == null || !authentication.isAuthenticated()
                 || "anonymousUser".equals(authentication.getPrincipal())) {
             return null;
         }
 
-        String principalName = authentication.getName();
-
-        try {
-            UUID profileId = UUID.fromString(principalName);
-            Profile profile = profileRepository.findById(profileId).orElse(null);
-            if (profile != null) {
-                String name = profile.getName();
-                if (name != null && !name.isBlank()) {
-                    if (session != null) {
-                        session.setAttribute("USER_NAME", name);
-                    }
-                    return name;
-                }
-            }
-        } catch (Exception e) {
+        var principal = MindlogPrincipal.from(authentication.getPrincipal());
+        if (principal != null && principal.displayName() != null && !principal.displayName().isBlank()) {
+            return principal.displayName();
         }
 
-        return principalName;
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute("USER_NAME") instanceof String cachedName && !cachedName.isBlank()) {
+            return cachedName;
+        }
+        return authentication.getName();
     }
 }
@@ -1,5 +1,11 @@
 package com.mindlog.global.config;
 
+import com.mindlog.domain.profile.repository.ProfileRepository;
+import com.mindlog.global.ratelimit.RateLimitFilter;
+import com.mindlog.global.ratelimit.RateLimitService;
+import com.mindlog.global.security.LegacyPrincipalUpgradeFilter;
+import com.mindlog.global.security.SupabaseTokenLifecycleService;
+import com.mindlog.global.security.SupabaseTokenRefreshFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -8,7 +14,9 @@ import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
 
@@ -19,6 +27,9 @@ public class SecurityConfig {
     @Value("${mindlog.security.require-https:false}")
     private boolean requireHttps;
 
+    @Value("${mindlog.session.maximum-sessions:1}")
+    private int maximumSessions;
+
     private final AppSourceContext appSourceContext;
 
     public SecurityConfig(AppSourceContext appSourceContext) {
@@ -26,10 +37,18 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            ProfileRepository profileRepository,
+            SessionRegistry sessionRegistry,
+            SupabaseTokenLifecycleService tokenLifecycleService,
+            RateLimitService rateLimitService) throws Exception {
         http.csrf(csrf -> csrf
                 .csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
-                .ignoringRequestMatchers(PathPatternRequestMatcher.pathPattern(HttpMethod.POST, "/internal/warmup/run")));
+                .ignoringRequestMatchers(
+                        PathPatternRequestMatcher.pathPattern(HttpMethod.POST, "/internal/warmup/run"),
+                        PathPatternRequestMatcher.pathPattern(HttpMethod.POST, "/internal/insights/rollups/rebuild"),
+                        PathPatternRequestMatcher.pathPattern(HttpMethod.POST, "/internal/diaries/excerpts/backfill")));
 
         if (requireHttps) {
             http.headers(headers -> headers
@@ -38,9 +57,18 @@ public class SecurityConfig {
                             .includeSubDomains(true)));
         }
 
+        // 이전 버전의 String 주체 세션을 첫 요청에서 MindlogPrincipal로 바꿔 저장한다.
+        http.addFilterAfter(new LegacyPrincipalUpgradeFilter(profileRepository), SecurityContextHolderFilter.class);
+        // Supabase 토큰이 곧 만료되면 요청을 막지 않고 백그라운드 갱신만 예약한다.
+        http.addFilterAfter(new SupabaseTokenRefreshFilter(tokenLifecycleService), LegacyPrincipalUpgradeFilter.class);
+        // 로그인/키워드 검색 요청 한도. 주체를 읽어야 하므로 세션 컨텍스트 복원 뒤, CSRF 검사 전에 둔다.
+        http.addFilterAfter(new RateLimitFilter(rateLimitService), SupabaseTokenRefreshFilter.class);
+
         http.sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
-                        .maximumSessions(1))
+                        // 레지스트리는 Redis 주체 인덱스를 읽으므로 여러 인스턴스에서도 같은 상한이 적용된다.
+                        .maximumSessions(maximumSessions)
+                        .sessionRegistry(sessionRegistry))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/",
@@ -52,6 +80,9 @@ public class SecurityConfig {
                                 "/actuator/health/**",
                                 "/healthz",
                                 "/internal/warmup/run",
+                                "/internal/insights/rollups/rebuild",
+                                "/internal/diaries/excerpts/backfill",
+                                "/internal/insights/platform",
                                 "/favicon.ico",
                                 "/error")
                         .permitAll()
@@ -1,14 +1,140 @@
 package com.mindlog.global.config;
 
+import com.mindlog.global.session.CompactSessionSerializer;
+import com.mindlog.global.session.NearCacheSessionRepository;
+import com.mindlog.global.session.RedisIndexedSessionRegistry;
+import java.time.Clock;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.web.authentication.session.ConcurrentSessionControlAuthenticationStrategy;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.config.ConfigureRedisAction;
+import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisIndexedHttpSession;
 import org.springframework.session.web.http.CookieSerializer;
 import org.springframework.session.web.http.DefaultCookieSerializer;
 
+/**
+ * Spring Session Redis 설정.
+ *
+ * <p>세션 저장소 앞에 근거리 캐시({@link NearCacheSessionRepository})를 두기 위해 저장소를 직접 활성화한다.
+ * 사용자 정의 SessionRepository 빈이 있으면 Spring Boot 자동 구성이 물러나므로 {@link EnableRedisIndexedHttpSession}으로
+ * Redis 저장소와 SessionRepositoryFilter를 등록하고, 자동 구성이 하던 만료 시간 설정은 커스터마이저에서 옮겨 적용한다.</p>
+ *
+ * <p>인덱스 저장소는 세션을 주체 이름(프로필 ID)별 SET에도 기록하므로, 동시 세션 제한이 인스턴스 메모리 대신
+ * 이 인덱스를 읽어 클러스터 전체에서 같은 판단을 내린다.</p>
+ */
 @Configuration
+@EnableRedisIndexedHttpSession
 public class SessionConfig {
 
+    /**
+     * Spring Session Redis가 세션 속성 직렬화에 쓰는 기본 직렬화기를 압축 형식으로 바꾼다.
+     * 빈 이름이 Spring Session이 찾는 한정자와 같아야 적용된다.
+     */
+    @Bean("springSessionDefaultRedisSerializer")
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
+        return new CompactSessionSerializer(getClass().getClassLoader());
+    }
+
+    /**
+     * 자동 구성이 하던 세션 만료 시간 설정을 옮겨 적용한다.
+     * 쓰기 방식은 저장소 기본값(FlushMode.ON_SAVE, SaveMode.ON_SET_ATTRIBUTE)을 그대로 쓴다.
+     * 바뀐 속성만 요청 끝에 HSET으로 쓰지만, 인덱스 저장소는 요청마다 lastAccessedTime과 함께 만료 키(EXPIRE, 만료 버킷 SET)도 갱신한다.
+     */
+    @Bean
+    public SessionRepositoryCustomizer<RedisIndexedSessionRepository> sessionTimeoutCustomizer(
+            @Value("${spring.session.timeout:2592000s}") Duration sessionTimeout) {
+        return repository -> repository.setDefaultMaxInactiveInterval(sessionTimeout);
+    }
+
+    /**
+     * SessionRepositoryFilter가 쓰는 저장소. 같은 세션의 연속 요청이 Redis를 다시 읽지 않도록 한다.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "mindlog.session.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public NearCacheSessionRepository nearCacheSessionRepository(
+            RedisIndexedSessionRepository redisSessionRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${mindlog.session.near-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${mindlog.session.near-cache.max-entries:10000}") int maxEntries
+    ) {
+        return new NearCacheSessionRepository(
+                redisSessionRepository,
+                redisTemplate,
+                Duration.ofSeconds(Math.max(1L, ttlSeconds)),
+                Math.max(1, maxEntries),
+                Clock.systemUTC());
+    }
+
+    /**
+     * 다른 인스턴스가 세션을 저장/삭제했다는 알림을 받아 근거리 캐시 항목을 지운다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "mindlog.session.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer sessionNearCacheListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            NearCacheSessionRepository nearCacheSessionRepository
+    ) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                nearCacheSessionRepository,
+                new ChannelTopic(NearCacheSessionRepository.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    /**
+     * 인덱스 저장소는 기동 시 CONFIG SET으로 키스페이스 알림을 켜려 하지만 Upstash는 CONFIG 명령을 막는다.
+     * 알림 없이 만료된 세션의 인덱스 항목은 {@link RedisIndexedSessionRegistry}가 조회 시점에 지운다.
+     */
+    @Bean
+    public ConfigureRedisAction configureRedisAction() {
+        return ConfigureRedisAction.NO_OP;
+    }
+
+    /**
+     * 주체 이름 인덱스 기반 세션 레지스트리. 인스턴스 메모리에 세션 목록을 두지 않는다.
+     * 근거리 캐시가 켜져 있으면 만료 표시 저장이 캐시를 거쳐 다른 인스턴스에도 무효화되도록 최상위 저장소를 쓴다.
+     */
+    @Bean
+    public SessionRegistry sessionRegistry(
+            FindByIndexNameSessionRepository<? extends Session> sessionRepository,
+            RedisIndexedSessionRepository redisSessionRepository
+    ) {
+        return new RedisIndexedSessionRegistry(
+                sessionRepository,
+                redisSessionRepository.getSessionRedisOperations(),
+                RedisIndexedSessionRepository.DEFAULT_NAMESPACE);
+    }
+
+    /**
+     * 직접 SecurityContext를 저장하는 로그인 경로(웹 콜백, 앱 토큰 교환)에서 쓰는 동시 세션 제한.
+     * 필터 체인의 {@code maximumSessions}와 같은 레지스트리/상한을 쓴다.
+     */
+    @Bean
+    public ConcurrentSessionControlAuthenticationStrategy concurrentSessionControlStrategy(
+            SessionRegistry sessionRegistry,
+            @Value("${mindlog.session.maximum-sessions:1}") int maximumSessions
+    ) {
+        var strategy = new ConcurrentSessionControlAuthenticationStrategy(sessionRegistry);
+        strategy.setMaximumSessions(maximumSessions);
+        return strategy;
+    }
+
     @Bean
     public CookieSerializer cookieSerializer(
             @Value("${server.servlet.session.cookie.name:SESSION}") String cookieName,
@@ -1,9 +1,6 @@
 package com.mindlog.global.config;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import com.mindlog.global.http.SupabaseHttpClient;
 import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,25 +17,19 @@ public class SupabaseWarmupRunner implements ApplicationRunner {
     @Value("${mindlog.performance.warmup-supabase-on-startup:false}")
     private boolean warmupEnabled;
 
-    @Value("${mindlog.performance.warmup-supabase-connect-timeout-ms:2000}")
-    private long connectTimeoutMs;
-
     @Value("${mindlog.performance.warmup-supabase-request-timeout-ms:5000}")
     private long requestTimeoutMs;
 
     @Value("${mindlog.performance.warmup-supabase-path:/auth/v1/settings}")
     private String warmupPath;
 
-    @Value("${mindlog.supabase.url}")
-    private String supabaseUrl;
-
-    @Value("${mindlog.supabase.anon-key}")
-    private String supabaseAnonKey;
-
     private final WarmupStatus warmupStatus;
+    // 로그인과 같은 클라이언트로 호출해야 워밍업에서 맺은 연결이 실제 요청에 재사용된다.
+    private final SupabaseHttpClient supabaseHttpClient;
 
-    public SupabaseWarmupRunner(WarmupStatus warmupStatus) {
+    public SupabaseWarmupRunner(WarmupStatus warmupStatus, SupabaseHttpClient supabaseHttpClient) {
         this.warmupStatus = warmupStatus;
+        this.supabaseHttpClient = supabaseHttpClient;
     }
 
     @Override
@@ -58,19 +49,7 @@ public class SupabaseWarmupRunner implements ApplicationRunner {
     private void executeWarmup() {
         long startedAt = System.currentTimeMillis();
         try {
-            var client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(connectTimeoutMs))
-                    .build();
-
-            var request = HttpRequest.newBuilder()
-                    .uri(URI.create(buildWarmupUrl()))
-                    .timeout(Duration.ofMillis(requestTimeoutMs))
-                    .header("apikey", supabaseAnonKey)
-                    .header("Accept", "application/json")
-                    .GET()
-                    .build();
-
-            var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            var response = supabaseHttpClient.get("warmup", warmupPath, Duration.ofMillis(requestTimeoutMs));
             long elapsed = System.currentTimeMillis() - startedAt;
             int status = response.statusCode();
 
@@ -93,10 +72,4 @@ public class SupabaseWarmupRunner implements ApplicationRunner {
             warmupStatus.markSupabaseWarmupCompleted();
         }
     }
-
-    private String buildWarmupUrl() {
-        String base = supabaseUrl.endsWith("/") ? supabaseUrl.substring(0, supabaseUrl.length() - 1) : supabaseUrl;
-        String path = warmupPath.startsWith("/") ? warmupPath : "/" + warmupPath;
-        return base + path;
-    }
 }
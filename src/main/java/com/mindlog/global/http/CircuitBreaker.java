@@ -0,0 +1,86 @@
+package com.mindlog.global.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연속 실패 횟수 기반의 단순 서킷 브레이커.
+ *
+ * <ul>
+ *   <li>CLOSED: 모든 호출을 통과시키고 연속 실패가 {@code failureThreshold}에 닿으면 OPEN.</li>
+ *   <li>OPEN: {@code openDuration} 동안 호출 없이 바로 거절한다.</li>
+ *   <li>HALF_OPEN: 시험 호출 하나만 통과시켜 성공하면 CLOSED, 실패하면 다시 OPEN.</li>
+ * </ul>
+ *
+ * <p>잠금 없이 원자 변수만 쓰므로 요청 스레드에서 바로 호출해도 된다.</p>
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean(false);
+    private volatile Instant openedAt = Instant.EPOCH;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출해도 되면 true. HALF_OPEN에서 true를 받은 호출은 반드시 {@link #onSuccess()},
+     * {@link #onFailure()}, {@link #releasePermission()} 중 하나를 불러야 한다.
+     */
+    boolean tryAcquirePermission() {
+        var current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                return false;
+            }
+            state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+        trialInFlight.set(false);
+    }
+
+    void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+        trialInFlight.set(false);
+    }
+
+    /**
+     * 결과 없이 끝난 호출(인터럽트 등)이 HALF_OPEN 시험 자리를 계속 차지하지 않도록 돌려준다.
+     */
+    void releasePermission() {
+        trialInFlight.set(false);
+    }
+
+    State state() {
+        return state.get();
+    }
+
+    private void open() {
+        openedAt = clock.instant();
+        consecutiveFailures.set(0);
+        state.set(State.OPEN);
+    }
+}
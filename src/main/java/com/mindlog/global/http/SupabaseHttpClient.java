@@ -0,0 +1,250 @@
+package com.mindlog.global.http;
+
+import com.mindlog.global.exception.SupabaseAuthException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Supabase 호출 전용 HTTP 클라이언트.
+ *
+ * <p>애플리케이션 전체가 하나의 {@link HttpClient}를 공유해 HTTP/2 연결 하나를 다중화해 쓴다.
+ * 호출마다 클라이언트를 만들던 워밍업도 이 클라이언트를 거치므로 기동 시 맺은 TLS 연결이 로그인 요청에 재사용된다.</p>
+ *
+ * <ul>
+ *   <li>벌크헤드: 동시 호출을 {@code max-concurrent-requests}로 묶고, 자리가 나지 않으면
+ *       {@code bulkhead-wait-ms} 뒤 바로 거절한다. 느린 Supabase가 요청 스레드를 무한정 붙잡지 않는다.</li>
+ *   <li>재시도: 멱등 호출만 IO 오류/5xx/429에서 지터를 섞은 지수 백오프로 다시 보낸다.
+ *       연결 자체가 실패한 경우(요청이 나가지 않음)는 멱등이 아니어도 다시 보낸다.</li>
+ *   <li>서킷 브레이커: IO 오류/5xx가 연속되면 {@code circuit-open-seconds} 동안 호출 없이 실패시킨다.</li>
+ *   <li>지표: 엔드포인트/결과별 지연 히스토그램({@code mindlog.supabase.http.requests}), 재시도/거절 수, 브레이커 상태.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SupabaseHttpClient {
+
+    private static final String METRIC_PREFIX = "mindlog.supabase.http";
+
+    private final String baseUrl;
+    private final String anonKey;
+    private final Settings settings;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SupabaseHttpClient(
+            @Value("${mindlog.supabase.url}") String supabaseUrl,
+            @Value("${mindlog.supabase.anon-key}") String anonKey,
+            @Value("${mindlog.supabase.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${mindlog.supabase.http.request-timeout-ms:5000}") long requestTimeoutMs,
+            @Value("${mindlog.supabase.http.max-concurrent-requests:32}") int maxConcurrentRequests,
+            @Value("${mindlog.supabase.http.bulkhead-wait-ms:200}") long bulkheadWaitMs,
+            @Value("${mindlog.supabase.http.max-attempts:3}") int maxAttempts,
+            @Value("${mindlog.supabase.http.retry-base-delay-ms:100}") long retryBaseDelayMs,
+            @Value("${mindlog.supabase.http.retry-max-delay-ms:1000}") long retryMaxDelayMs,
+            @Value("${mindlog.supabase.http.circuit-failure-threshold:5}") int circuitFailureThreshold,
+            @Value("${mindlog.supabase.http.circuit-open-seconds:30}") long circuitOpenSeconds,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(supabaseUrl, anonKey, new Settings(
+                        Duration.ofMillis(connectTimeoutMs),
+                        Duration.ofMillis(requestTimeoutMs),
+                        maxConcurrentRequests,
+                        Duration.ofMillis(bulkheadWaitMs),
+                        maxAttempts,
+                        Duration.ofMillis(retryBaseDelayMs),
+                        Duration.ofMillis(retryMaxDelayMs),
+                        circuitFailureThreshold,
+                        Duration.ofSeconds(circuitOpenSeconds)),
+                // Actuator가 없는 테스트 등에서도 같은 코드 경로를 쓰도록 메모리 레지스트리로 대신한다.
+                meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new),
+                Clock.systemUTC());
+    }
+
+    public SupabaseHttpClient(String supabaseUrl, String anonKey, Settings settings, MeterRegistry meterRegistry, Clock clock) {
+        this.baseUrl = supabaseUrl.endsWith("/") ? supabaseUrl.substring(0, supabaseUrl.length() - 1) : supabaseUrl;
+        this.anonKey = anonKey;
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(settings.connectTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.bulkhead = new Semaphore(Math.max(1, settings.maxConcurrentRequests()));
+        this.circuitBreaker = new CircuitBreaker(settings.circuitFailureThreshold(), settings.circuitOpenDuration(), clock);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_PREFIX + ".circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("Supabase 서킷 브레이커 상태(0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * GET은 멱등이므로 재시도 대상이다.
+     */
+    public HttpResponse<String> get(String endpoint, String path) throws IOException, InterruptedException {
+        return get(endpoint, path, settings.requestTimeout());
+    }
+
+    public HttpResponse<String> get(String endpoint, String path, Duration timeout)
+            throws IOException, InterruptedException {
+        var request = baseRequest(path, timeout).GET().build();
+        return send(endpoint, request, true);
+    }
+
+    /**
+     * @param idempotent 같은 요청을 두 번 보내도 결과가 같으면 true. 일회용 코드 교환이나 토큰 갱신(회전)은 false다.
+     */
+    public HttpResponse<String> postJson(String endpoint, String path, String jsonBody, boolean idempotent)
+            throws IOException, InterruptedException {
+        var request = baseRequest(path, settings.requestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
+                .build();
+        return send(endpoint, request, idempotent);
+    }
+
+    private HttpRequest.Builder baseRequest(String path, Duration timeout) {
+        var normalizedPath = path.startsWith("/") ? path : "/" + path;
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + normalizedPath))
+                .timeout(timeout)
+                .header("apikey", anonKey)
+                .header("Accept", "application/json");
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request, boolean idempotent)
+            throws IOException, InterruptedException {
+        if (!bulkhead.tryAcquire(settings.bulkheadWait().toMillis(), TimeUnit.MILLISECONDS)) {
+            rejected(endpoint, "bulkhead");
+            throw new SupabaseAuthException("인증 서버 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            int attempt = 1;
+            while (true) {
+                if (!circuitBreaker.tryAcquirePermission()) {
+                    rejected(endpoint, "circuit_open");
+                    throw new SupabaseAuthException("인증 서버에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
+                }
+
+                long startedAt = System.nanoTime();
+                try {
+                    var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    int status = response.statusCode();
+                    record(endpoint, outcomeOf(status), startedAt);
+                    if (status >= 500) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+
+                    boolean retryableStatus = status >= 500 || status == 429;
+                    if (!retryableStatus || !idempotent || attempt >= settings.maxAttempts()) {
+                        return response;
+                    }
+                } catch (IOException e) {
+                    record(endpoint, "IO_ERROR", startedAt);
+                    circuitBreaker.onFailure();
+                    // 연결 실패는 요청이 서버에 닿지 않았으므로 멱등 여부와 무관하게 다시 보내도 안전하다.
+                    boolean safeToRetry = idempotent || e instanceof ConnectException;
+                    if (!safeToRetry || attempt >= settings.maxAttempts()) {
+                        throw e;
+                    }
+                    log.debug("[SUPABASE] 호출 재시도 - endpoint={}, attempt={}, exception={}",
+                            endpoint,
+                            attempt,
+                            e.getClass().getSimpleName());
+                } catch (InterruptedException | RuntimeException e) {
+                    // 결과를 알 수 없는 중단은 브레이커 판단에 넣지 않고 시험 호출 자리만 돌려준다.
+                    circuitBreaker.releasePermission();
+                    throw e;
+                }
+
+                Counter.builder(METRIC_PREFIX + ".retries")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry)
+                        .increment();
+                Thread.sleep(backoffMillis(attempt));
+                attempt++;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 전체 지터(full jitter): 0 ~ min(최대, 기본 * 2^(시도-1)) 사이에서 고른다.
+     * 여러 인스턴스가 같은 순간 실패해도 재시도가 한꺼번에 몰리지 않는다.
+     */
+    private long backoffMillis(int attempt) {
+        long base = Math.max(1L, settings.retryBaseDelay().toMillis());
+        long cap = Math.max(base, settings.retryMaxDelay().toMillis());
+        long exponential = Math.min(cap, base << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(exponential + 1);
+    }
+
+    private void record(String endpoint, String outcome, long startedAt) {
+        Timer.builder(METRIC_PREFIX + ".requests")
+                .description("Supabase 호출 지연")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void rejected(String endpoint, String reason) {
+        Counter.builder(METRIC_PREFIX + ".rejected")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("[SUPABASE] 호출 거절 - endpoint={}, reason={}", endpoint, reason);
+    }
+
+    private static String outcomeOf(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    public record Settings(
+            Duration connectTimeout,
+            Duration requestTimeout,
+            int maxConcurrentRequests,
+            Duration bulkheadWait,
+            int maxAttempts,
+            Duration retryBaseDelay,
+            Duration retryMaxDelay,
+            int circuitFailureThreshold,
+            Duration circuitOpenDuration) {
+    }
+}
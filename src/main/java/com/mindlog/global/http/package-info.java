@@ -0,0 +1,4 @@
+@NullMarked
+package com.mindlog.global.http;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,88 @@
+package com.mindlog.global.logging.security;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 크기가 고정된 잠금 없는 링 버퍼(다중 생산자, 단일 소비자).
+ *
+ * <p>칸마다 순번을 두어 생산자는 쓰기 위치를 CAS로 예약한 뒤 값을 채우고 순번을 올린다.
+ * 소비자는 순번이 올라간 칸만 꺼내므로 쓰는 중인 칸을 읽지 않는다. 가득 차면 기다리지 않고 false를 돌려준다.</p>
+ */
+final class AuditRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<@Nullable E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    AuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return 넣었으면 true, 가득 차서 넣지 못했으면 false
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 {@code maxElements}개를 꺼내 {@code target}에 담는다. 소비자 스레드 하나에서만 호출한다.
+     *
+     * @return 꺼낸 개수
+     */
+    int drainTo(List<E> target, int maxElements) {
+        int drained = 0;
+        long position = head.get();
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                // 비었거나 생산자가 아직 값을 채우는 중
+                break;
+            }
+            var element = slots.get(index);
+            slots.set(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            target.add(element);
+            drained++;
+        }
+        head.set(position);
+        return drained;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    int size() {
+        return (int) Math.max(0L, tail.get() - head.get());
+    }
+}
@@ -0,0 +1,44 @@
+package com.mindlog.global.logging.security;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 보안 감사 이벤트 한 건. 쓰기는 {@link SecurityAuditWriter}의 배치 INSERT로만 한다.
+ *
+ * @see SecurityAuditEventRepository
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "security_audit_events")
+public class SecurityAuditEvent {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "principal", nullable = false)
+    private String principal;
+
+    @Nullable
+    @Column(name = "detail")
+    private String detail;
+
+    @Nullable
+    @Column(name = "client_ip")
+    private String clientIp;
+}
@@ -0,0 +1,32 @@
+package com.mindlog.global.logging.security;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SecurityAuditEventRepository extends JpaRepository<SecurityAuditEvent, Long> {
+
+    /**
+     * 이벤트 묶음을 배열로 받아 한 문장으로 넣는다. 건수와 무관하게 왕복은 한 번이다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO public.security_audit_events (occurred_at, event_type, principal, detail, client_ip)
+            SELECT e.occurred_at, e.event_type, e.principal, e.detail, e.client_ip
+            FROM unnest(
+                CAST(:occurredAts AS timestamptz[]),
+                CAST(:eventTypes AS text[]),
+                CAST(:principals AS text[]),
+                CAST(:details AS text[]),
+                CAST(:clientIps AS text[])
+            ) AS e(occurred_at, event_type, principal, detail, client_ip)
+            """, nativeQuery = true)
+    int insertBatch(
+            @Param("occurredAts") Instant[] occurredAts,
+            @Param("eventTypes") String[] eventTypes,
+            @Param("principals") String[] principals,
+            @Param("details") String[] details,
+            @Param("clientIps") String[] clientIps);
+}
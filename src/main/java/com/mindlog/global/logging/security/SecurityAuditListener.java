@@ -1,26 +1,38 @@
 package com.mindlog.global.logging.security;
 
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
 import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.authentication.event.LogoutSuccessEvent;
 import org.springframework.security.authorization.event.AuthorizationDeniedEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
 
 /**
  * Spring Security 인증/인가 이벤트를 감사 로깅하는 리스너.
- * 보안 관련 이벤트를 별도 로그 파일에 기록합니다.
+ * 보안 관련 이벤트를 로그로 남기고, 감사 기록은 {@link SecurityAuditWriter} 버퍼에 넣어 비동기로 저장합니다.
+ * 요청 스레드는 DB/파일 I/O를 기다리지 않습니다.
  */
 @Component
 public class SecurityAuditListener {
 
     private static final Logger log = LoggerFactory.getLogger(SecurityAuditListener.class);
 
+    private final SecurityAuditWriter auditWriter;
+
+    public SecurityAuditListener(SecurityAuditWriter auditWriter) {
+        this.auditWriter = auditWriter;
+    }
+
     /**
      * 인증 성공 이벤트 처리
      */
@@ -39,6 +51,7 @@ public class SecurityAuditListener {
         } finally {
             MDC.remove("profileId");
         }
+        audit("AUTH_SUCCESS", principal, authentication.getAuthorities().toString(), true);
     }
 
     /**
@@ -56,6 +69,21 @@ public class SecurityAuditListener {
                 kv("reason", exception.getClass().getSimpleName()),
                 kv("message", exception.getMessage())
         );
+        audit("AUTH_FAILURE", principal, exception.getClass().getSimpleName(), true);
+    }
+
+    /**
+     * 로그아웃 성공 이벤트 처리
+     */
+    @EventListener
+    public void onLogoutSuccess(LogoutSuccessEvent event) {
+        String principal = extractPrincipal(event.getAuthentication().getPrincipal());
+
+        log.info("Logout successful",
+                kv("event", "LOGOUT"),
+                kv("principal", principal)
+        );
+        audit("LOGOUT", principal, null, true);
     }
 
     /**
@@ -80,9 +108,24 @@ public class SecurityAuditListener {
                 kv("principal", principal),
                 kv("source", event.getSource().toString())
         );
+        // 익명 거부는 로그인 전 페이지 접근마다 생기므로 기록하지 않고, 나머지도 버퍼가 붐비면 먼저 버린다.
+        audit("AUTHZ_DENIED", principal, event.getSource().toString(), false);
+    }
+
+    private void audit(String eventType, String principal, @Nullable String detail, boolean critical) {
+        auditWriter.submit(new SecurityAuditRecord(
+                Instant.now(), eventType, principal, detail, currentClientIp(), critical));
+    }
+
+    @Nullable
+    private String currentClientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRemoteAddr();
+        }
+        return null;
     }
 
-    private String extractPrincipal(Object principal) {
+    private String extractPrincipal(@Nullable Object principal) {
         if (principal == null) {
             return "anonymous";
         }
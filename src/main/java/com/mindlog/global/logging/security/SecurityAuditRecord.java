@@ -0,0 +1,19 @@
+package com.mindlog.global.logging.security;
+
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 링 버퍼에 넣는 감사 이벤트. 요청 스레드에서 만들어지므로 세션/요청 객체를 참조하지 않는 값만 담는다.
+ *
+ * @param critical 로그인/로그아웃처럼 버퍼가 붐벼도 먼저 버리지 않을 이벤트면 true
+ */
+public record SecurityAuditRecord(
+        Instant occurredAt,
+        String eventType,
+        String principal,
+        @Nullable String detail,
+        @Nullable String clientIp,
+        boolean critical
+) {
+}
@@ -0,0 +1,343 @@
+package com.mindlog.global.logging.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보안 감사 이벤트를 모아 배치로 기록하는 단일 라이터.
+ *
+ * <p>요청 스레드는 {@link #submit(SecurityAuditRecord)}로 링 버퍼에 넣기만 하고 I/O를 기다리지 않는다.
+ * 가상 스레드 라이터 하나가 버퍼를 비우며 묶음마다 INSERT 한 번을 실행하고, DB 기록이 실패한 묶음은
+ * 크기 기준으로 회전하는 NDJSON 파일에 남긴다.</p>
+ *
+ * <ul>
+ *   <li>라이터는 첫 이벤트가 들어올 때 시작해 잠시 기다리며 묶음을 모으고, 버퍼가 비면 끝난다.</li>
+ *   <li>버퍼가 3/4을 넘으면 인가 거부처럼 중요도가 낮은 이벤트부터 버리고(shed), 가득 차면 모두 버린다(dropped).
+ *       어느 경우에도 요청은 막지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SecurityAuditWriter {
+
+    static final String OUTCOME_ACCEPTED = "accepted";
+    static final String OUTCOME_SHED = "shed";
+    static final String OUTCOME_DROPPED = "dropped";
+    static final String TARGET_DB = "db";
+    static final String TARGET_FILE = "file";
+    static final String TARGET_FAILED = "failed";
+
+    private static final String FALLBACK_FILE_NAME = "security-audit.ndjson";
+    private static final long SHUTDOWN_WAIT_MILLIS = 5_000L;
+
+    private final SecurityAuditEventRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Settings settings;
+    private final AuditRingBuffer<SecurityAuditRecord> buffer;
+    private final int shedThreshold;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong droppedTotal = new AtomicLong();
+    private final Object fallbackFileLock = new Object();
+    private volatile @Nullable Thread writerThread;
+
+    private final @Nullable Counter acceptedCounter;
+    private final @Nullable Counter shedCounter;
+    private final @Nullable Counter droppedCounter;
+    private final @Nullable Counter dbWriteCounter;
+    private final @Nullable Counter fileWriteCounter;
+    private final @Nullable Counter failedWriteCounter;
+
+    /**
+     * @param batchSize          INSERT 한 번에 넣을 최대 건수
+     * @param lingerMillis       라이터가 시작한 뒤 묶음을 모으려고 기다리는 최대 시간
+     * @param fallbackDir        DB 기록 실패 시 NDJSON 파일을 쓸 디렉터리
+     * @param fallbackMaxBytes   이 크기를 넘으면 파일을 회전한다
+     * @param fallbackMaxFiles   보관할 회전 파일 수(.1 ~ .N)
+     */
+    public record Settings(
+            boolean enabled,
+            int bufferCapacity,
+            int batchSize,
+            long lingerMillis,
+            Path fallbackDir,
+            long fallbackMaxBytes,
+            int fallbackMaxFiles) {
+    }
+
+    @Autowired
+    public SecurityAuditWriter(
+            SecurityAuditEventRepository repository,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${mindlog.security.audit.enabled:true}") boolean enabled,
+            @Value("${mindlog.security.audit.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${mindlog.security.audit.batch-size:200}") int batchSize,
+            @Value("${mindlog.security.audit.linger-ms:200}") long lingerMillis,
+            @Value("${mindlog.security.audit.fallback-dir:logs/audit}") String fallbackDir,
+            @Value("${mindlog.security.audit.fallback-max-file-bytes:10485760}") long fallbackMaxBytes,
+            @Value("${mindlog.security.audit.fallback-max-files:5}") int fallbackMaxFiles) {
+        this(repository, transactionTemplate, objectMapper,
+                new Settings(enabled, bufferCapacity, batchSize, lingerMillis, Path.of(fallbackDir),
+                        fallbackMaxBytes, fallbackMaxFiles),
+                meterRegistryProvider.getIfAvailable());
+    }
+
+    public SecurityAuditWriter(
+            SecurityAuditEventRepository repository,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            Settings settings,
+            @Nullable MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.buffer = new AuditRingBuffer<>(settings.bufferCapacity());
+        this.shedThreshold = buffer.capacity() / 4 * 3;
+
+        if (meterRegistry == null) {
+            this.acceptedCounter = null;
+            this.shedCounter = null;
+            this.droppedCounter = null;
+            this.dbWriteCounter = null;
+            this.fileWriteCounter = null;
+            this.failedWriteCounter = null;
+            return;
+        }
+        this.acceptedCounter = eventCounter(meterRegistry, OUTCOME_ACCEPTED);
+        this.shedCounter = eventCounter(meterRegistry, OUTCOME_SHED);
+        this.droppedCounter = eventCounter(meterRegistry, OUTCOME_DROPPED);
+        this.dbWriteCounter = writeCounter(meterRegistry, TARGET_DB);
+        this.fileWriteCounter = writeCounter(meterRegistry, TARGET_FILE);
+        this.failedWriteCounter = writeCounter(meterRegistry, TARGET_FAILED);
+        Gauge.builder("mindlog.security.audit.buffer.size", buffer, AuditRingBuffer::size)
+                .description("기록 대기 중인 감사 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 감사 이벤트를 버퍼에 넣는다. 기다리지 않으며, 버퍼가 붐비면 버리고 카운터만 올린다.
+     */
+    public void submit(SecurityAuditRecord record) {
+        if (!settings.enabled()) {
+            return;
+        }
+        if (!record.critical() && buffer.size() >= shedThreshold) {
+            increment(shedCounter);
+            return;
+        }
+        if (!buffer.offer(record)) {
+            increment(droppedCounter);
+            var dropped = droppedTotal.incrementAndGet();
+            if (dropped == 1 || dropped % 1000 == 0) {
+                log.warn("[AUDIT] 감사 버퍼가 가득 차 이벤트를 버렸습니다 - droppedTotal={}, capacity={}",
+                        dropped, buffer.capacity());
+            }
+            return;
+        }
+        increment(acceptedCounter);
+
+        if (buffer.size() >= settings.batchSize()) {
+            var writer = writerThread;
+            if (writer != null) {
+                LockSupport.unpark(writer);
+            }
+        }
+        startWriterIfIdle();
+    }
+
+    int pending() {
+        return buffer.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        // 실행 중인 라이터가 끝나길 기다렸다가 남은 이벤트를 직접 기록한다(소비자는 항상 하나).
+        long deadline = System.currentTimeMillis() + SHUTDOWN_WAIT_MILLIS;
+        while (!running.compareAndSet(false, true)) {
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("[AUDIT] 종료 시 감사 라이터 대기 시간 초과 - pending={}", buffer.size());
+                return;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        try {
+            drainAll();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void startWriterIfIdle() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("mindlog-security-audit-writer").start(this::drainBuffer);
+    }
+
+    private void drainBuffer() {
+        writerThread = Thread.currentThread();
+        try {
+            lingerForBatch();
+            drainAll();
+        } finally {
+            writerThread = null;
+            running.set(false);
+        }
+
+        // 종료 직전에 들어온 이벤트가 라이터 없이 남지 않도록 한 번 더 확인한다.
+        if (buffer.size() > 0) {
+            startWriterIfIdle();
+        }
+    }
+
+    private void lingerForBatch() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.lingerMillis());
+        while (buffer.size() < settings.batchSize()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private void drainAll() {
+        var batch = new ArrayList<SecurityAuditRecord>(settings.batchSize());
+        while (buffer.drainTo(batch, settings.batchSize()) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<SecurityAuditRecord> batch) {
+        try {
+            insertBatch(batch);
+            increment(dbWriteCounter, batch.size());
+        } catch (RuntimeException e) {
+            log.warn("[AUDIT] 감사 이벤트 DB 기록 실패, 파일로 대체 - size={}, exception={}, message={}",
+                    batch.size(), e.getClass().getSimpleName(), e.getMessage());
+            appendToFallbackFile(batch);
+        }
+    }
+
+    private void insertBatch(List<SecurityAuditRecord> batch) {
+        int size = batch.size();
+        var occurredAts = new Instant[size];
+        var eventTypes = new String[size];
+        var principals = new String[size];
+        var details = new String[size];
+        var clientIps = new String[size];
+        for (int i = 0; i < size; i++) {
+            var record = batch.get(i);
+            occurredAts[i] = record.occurredAt();
+            eventTypes[i] = record.eventType();
+            principals[i] = record.principal();
+            details[i] = record.detail();
+            clientIps[i] = record.clientIp();
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                repository.insertBatch(occurredAts, eventTypes, principals, details, clientIps));
+    }
+
+    private void appendToFallbackFile(List<SecurityAuditRecord> batch) {
+        synchronized (fallbackFileLock) {
+            try {
+                Files.createDirectories(settings.fallbackDir());
+                var file = settings.fallbackDir().resolve(FALLBACK_FILE_NAME);
+                rotateIfNeeded(file);
+
+                var lines = new StringBuilder();
+                for (var record : batch) {
+                    lines.append(objectMapper.writeValueAsString(toJsonFields(record))).append('\n');
+                }
+                Files.writeString(file, lines, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                increment(fileWriteCounter, batch.size());
+            } catch (IOException | RuntimeException e) {
+                increment(failedWriteCounter, batch.size());
+                log.error("[AUDIT] 감사 이벤트 파일 기록 실패, 이벤트 유실 - size={}, exception={}, message={}",
+                        batch.size(), e.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private void rotateIfNeeded(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) < settings.fallbackMaxBytes()) {
+            return;
+        }
+        int maxFiles = Math.max(1, settings.fallbackMaxFiles());
+        Files.deleteIfExists(rotated(file, maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            var source = rotated(file, i);
+            if (Files.exists(source)) {
+                Files.move(source, rotated(file, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, rotated(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Path rotated(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private static LinkedHashMap<String, @Nullable Object> toJsonFields(SecurityAuditRecord record) {
+        var fields = new LinkedHashMap<String, @Nullable Object>();
+        fields.put("occurredAt", record.occurredAt().toString());
+        fields.put("eventType", record.eventType());
+        fields.put("principal", record.principal());
+        fields.put("detail", record.detail());
+        fields.put("clientIp", record.clientIp());
+        return fields;
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("mindlog.security.audit.events")
+                .description("감사 버퍼에 들어온 이벤트 처리 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter writeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("mindlog.security.audit.writes")
+                .description("기록 대상별 감사 이벤트 수")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private static void increment(@Nullable Counter counter) {
+        increment(counter, 1);
+    }
+
+    private static void increment(@Nullable Counter counter, int amount) {
+        if (counter != null) {
+            counter.increment(amount);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.mindlog.global.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 로컬 토큰 버킷. 버킷 상태를 불변 값으로 두고 CAS로 바꾸므로 잠금이 없다.
+ *
+ * <p>거절할 때는 상태를 바꾸지 않는다. 가득 찬 버킷은 새로 만든 버킷과 구분되지 않으므로
+ * {@link #evictIdle()}로 지워도 동작이 바뀌지 않는다. 그래서 맵 크기는 최근에 실제로 제한을 받은 키 수로 묶인다.</p>
+ */
+public class LocalTokenBucketRateLimiter implements TokenBucketRateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    public LocalTokenBucketRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    LocalTokenBucketRateLimiter(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Decision tryConsume(String bucketKey, BucketSpec spec) {
+        long now = nanoTime.getAsLong();
+        var bucket = buckets.computeIfAbsent(bucketKey,
+                key -> new Bucket(spec, new AtomicReference<>(new State(spec.capacity(), now))));
+        while (true) {
+            var current = bucket.state().get();
+            double tokens = refilled(current, spec, now);
+            if (tokens < 1.0) {
+                return Decision.rejected((1.0 - tokens) / spec.refillPerSecond());
+            }
+            if (bucket.state().compareAndSet(current, new State(tokens - 1.0, Math.max(now, current.updatedAtNanos())))) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * 다시 가득 찬 버킷을 지운다. 주기 작업에서 호출한다.
+     *
+     * @return 지운 버킷 수
+     */
+    public int evictIdle() {
+        long now = nanoTime.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> refilled(bucket.state().get(), bucket.spec(), now) >= bucket.spec().capacity());
+        return before - buckets.size();
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private static double refilled(State state, BucketSpec spec, long now) {
+        double elapsedSeconds = Math.max(0L, now - state.updatedAtNanos()) / NANOS_PER_SECOND;
+        return Math.min(spec.capacity(), state.tokens() + elapsedSeconds * spec.refillPerSecond());
+    }
+
+    private record State(double tokens, long updatedAtNanos) {
+    }
+
+    private record Bucket(BucketSpec spec, AtomicReference<State> state) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.mindlog.global.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * {@link RateLimitService} 규칙에 걸린 요청을 한도를 넘으면 429와 {@code Retry-After}로 바로 돌려보낸다.
+ *
+ * <p>프로필별 버킷은 SecurityContext의 주체를 읽어야 하므로 빈으로 등록하지 않고
+ * {@code SecurityConfig}에서 보안 필터 체인에 직접 추가한다. CSRF 검사와 컨트롤러보다 앞에서 거절하므로
+ * 거절된 요청은 DB 커넥션도, Supabase 호출도 쓰지 않는다.</p>
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+
+    public RateLimitFilter(RateLimitService rateLimitService) {
+        this.rateLimitService = rateLimitService;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        var rule = rateLimitService.match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var admission = rateLimitService.admit(rule, request);
+        if (!admission.allowed()) {
+            writeTooManyRequests(request, response, admission.retryAfterSeconds());
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            rateLimitService.release(rule);
+        }
+    }
+
+    private void writeTooManyRequests(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            long retryAfterSeconds) throws IOException {
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setHeader("Cache-Control", "no-store");
+
+        var accept = request.getHeader("Accept");
+        if (accept != null && accept.contains("text/html") && !"XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
+            response.setContentType("text/html;charset=UTF-8");
+            response.getWriter().write("""
+                    <!doctype html>
+                    <html lang="ko">
+                    <head><meta charset="utf-8"><title>Mindlog</title></head>
+                    <body>
+                      <p>요청이 너무 많습니다. 약 %d초 뒤에 다시 시도해 주세요.</p>
+                    </body>
+                    </html>
+                    """.formatted(retryAfterSeconds));
+            return;
+        }
+
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"message\":\"Too many requests\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+}
@@ -0,0 +1,221 @@
+package com.mindlog.global.ratelimit;
+
+import com.mindlog.global.ratelimit.TokenBucketRateLimiter.BucketSpec;
+import com.mindlog.global.security.MindlogPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Service;
+
+/**
+ * 경로별 요청 한도를 판단한다.
+ *
+ * <ul>
+ *   <li>{@code auth}: {@code /auth/**}. 로그인 전 요청이므로 클라이언트 IP별 버킷.</li>
+ *   <li>{@code search}: 일기 검색({@code GET /diaries}에 {@code q}/{@code category}/{@code tagId}). 로그인한 프로필별 버킷이며,
+ *       LIKE 검색이 공용 Hikari 풀을 다 차지하지 않도록 동시 실행 수도 묶는다.</li>
+ * </ul>
+ *
+ * <p>버킷은 기본적으로 인스턴스 로컬이고, {@code mindlog.rate-limit.backend=redis}면 Redis에서 모든 인스턴스가 공유한다.</p>
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+
+    static final String OUTCOME_ALLOWED = "allowed";
+    static final String OUTCOME_LIMITED = "limited";
+    static final String OUTCOME_SATURATED = "saturated";
+
+    private final boolean enabled;
+    private final List<RateLimitRule> rules;
+    private final LocalTokenBucketRateLimiter localLimiter;
+    private final TokenBucketRateLimiter limiter;
+    private final Map<String, Counter> decisionCounters = new HashMap<>();
+
+    public RateLimitService(
+            StringRedisTemplate redisTemplate,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${mindlog.rate-limit.enabled:true}") boolean enabled,
+            @Value("${mindlog.rate-limit.backend:local}") String backend,
+            @Value("${mindlog.rate-limit.auth.capacity:20}") int authCapacity,
+            @Value("${mindlog.rate-limit.auth.refill-per-minute:10}") int authRefillPerMinute,
+            @Value("${mindlog.rate-limit.search.capacity:20}") int searchCapacity,
+            @Value("${mindlog.rate-limit.search.refill-per-minute:30}") int searchRefillPerMinute,
+            @Value("${mindlog.rate-limit.search.max-concurrent:4}") int searchMaxConcurrent) {
+        this(enabled,
+                List.of(
+                        new RateLimitRule(
+                                "auth",
+                                PathPatternRequestMatcher.pathPattern("/auth/**"),
+                                BucketSpec.perMinute(authCapacity, authRefillPerMinute),
+                                false,
+                                null),
+                        new RateLimitRule(
+                                "search",
+                                diarySearchMatcher(),
+                                BucketSpec.perMinute(searchCapacity, searchRefillPerMinute),
+                                true,
+                                searchMaxConcurrent > 0 ? new Semaphore(searchMaxConcurrent) : null)),
+                new LocalTokenBucketRateLimiter(),
+                "redis".equalsIgnoreCase(backend) ? redisTemplate : null,
+                meterRegistryProvider.getIfAvailable());
+    }
+
+    RateLimitService(
+            boolean enabled,
+            List<RateLimitRule> rules,
+            LocalTokenBucketRateLimiter localLimiter,
+            @Nullable StringRedisTemplate redisTemplate,
+            @Nullable MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.rules = List.copyOf(rules);
+        this.localLimiter = localLimiter;
+        this.limiter = (redisTemplate != null)
+                ? new RedisTokenBucketRateLimiter(redisTemplate, localLimiter)
+                : localLimiter;
+
+        if (meterRegistry != null) {
+            for (var rule : this.rules) {
+                for (var outcome : List.of(OUTCOME_ALLOWED, OUTCOME_LIMITED, OUTCOME_SATURATED)) {
+                    decisionCounters.put(rule.name() + ":" + outcome, Counter.builder("mindlog.ratelimit.decisions")
+                            .description("요청 한도 판단 결과")
+                            .tag("rule", rule.name())
+                            .tag("outcome", outcome)
+                            .register(meterRegistry));
+                }
+            }
+            Gauge.builder("mindlog.ratelimit.local.buckets", localLimiter, LocalTokenBucketRateLimiter::size)
+                    .description("인스턴스 로컬에 보관 중인 토큰 버킷 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 요청에 적용할 규칙을 찾는다. 한도 대상이 아니면 null.
+     */
+    @Nullable
+    public RateLimitRule match(HttpServletRequest request) {
+        if (!enabled) {
+            return null;
+        }
+        for (var rule : rules) {
+            if (rule.matcher().matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 버킷에서 토큰을 꺼내고, 동시 실행 상한이 있으면 슬롯도 잡는다.
+     * 허용된 경우 요청 처리가 끝난 뒤 반드시 {@link #release(RateLimitRule)}를 호출해야 한다.
+     */
+    public Admission admit(RateLimitRule rule, HttpServletRequest request) {
+        var decision = limiter.tryConsume(rule.name() + ":" + resolveClientKey(rule, request), rule.bucketSpec());
+        if (!decision.allowed()) {
+            record(rule, OUTCOME_LIMITED);
+            return Admission.rejected(decision.retryAfterSeconds());
+        }
+
+        var concurrency = rule.concurrency();
+        if (concurrency != null && !concurrency.tryAcquire()) {
+            // 동시 실행 상한은 짧게 끝나는 요청이 대상이므로 1초 뒤 재시도를 안내한다.
+            record(rule, OUTCOME_SATURATED);
+            return Admission.rejected(1L);
+        }
+
+        record(rule, OUTCOME_ALLOWED);
+        return Admission.ALLOWED;
+    }
+
+    public void release(RateLimitRule rule) {
+        var concurrency = rule.concurrency();
+        if (concurrency != null) {
+            concurrency.release();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mindlog.rate-limit.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        var evicted = localLimiter.evictIdle();
+        if (evicted > 0) {
+            log.debug("[RATE_LIMIT] 가득 찬 로컬 버킷 정리 - evicted={}", evicted);
+        }
+    }
+
+    /**
+     * 프로필 기준 규칙이면 로그인한 프로필 ID를, 아니면 클라이언트 IP를 키로 쓴다.
+     * IP는 {@code getRemoteAddr()}만 본다. 운영에서는 {@code forward-headers-strategy: framework}가
+     * 신뢰 프록시의 X-Forwarded-For를 이미 반영하므로, 헤더를 직접 읽어 위조된 값으로 버킷을 바꾸지 못하게 한다.
+     */
+    private String resolveClientKey(RateLimitRule rule, HttpServletRequest request) {
+        if (rule.perProfile()) {
+            var authentication = SecurityContextHolder.getContext().getAuthentication();
+            var principal = (authentication != null) ? MindlogPrincipal.from(authentication.getPrincipal()) : null;
+            if (principal != null) {
+                return "profile:" + principal.profileId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void record(RateLimitRule rule, String outcome) {
+        var counter = decisionCounters.get(rule.name() + ":" + outcome);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * 목록 화면 중 검색 경로({@code searchDiaries})를 타는 요청. 키워드뿐 아니라 카테고리/태그 필터만 있어도
+     * 같은 검색 쿼리와 count 쿼리가 실행되므로 함께 묶는다.
+     */
+    static RequestMatcher diarySearchMatcher() {
+        var diaryIndex = PathPatternRequestMatcher.pathPattern(HttpMethod.GET, "/diaries");
+        return request -> diaryIndex.matches(request)
+                && (hasText(request.getParameter("q"))
+                || hasText(request.getParameter("category"))
+                || hasText(request.getParameter("tagId")));
+    }
+
+    private static boolean hasText(@Nullable String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * @param name        지표 태그와 버킷 키 접두사로 쓰는 규칙 이름
+     * @param perProfile  true면 로그인한 프로필별 버킷(비로그인은 IP), false면 IP별 버킷
+     * @param concurrency 동시 실행 상한. 없으면 null
+     */
+    public record RateLimitRule(
+            String name,
+            RequestMatcher matcher,
+            BucketSpec bucketSpec,
+            boolean perProfile,
+            @Nullable Semaphore concurrency) {
+    }
+
+    public record Admission(boolean allowed, long retryAfterSeconds) {
+
+        static final Admission ALLOWED = new Admission(true, 0L);
+
+        static Admission rejected(long retryAfterSeconds) {
+            return new Admission(false, retryAfterSeconds);
+        }
+    }
+}
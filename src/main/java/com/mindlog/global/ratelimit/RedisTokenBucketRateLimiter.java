@@ -0,0 +1,77 @@
+package com.mindlog.global.ratelimit;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis Lua 스크립트로 버킷을 갱신해 여러 인스턴스가 같은 한도를 나눠 쓰게 하는 제한기.
+ *
+ * <p>충전 계산과 차감을 스크립트 하나에서 원자적으로 처리하므로 왕복은 요청당 한 번이다.
+ * Redis 호출이 실패하면 요청을 막지 않고 인스턴스 로컬 버킷으로 대신 판단한다.</p>
+ */
+@Slf4j
+public class RedisTokenBucketRateLimiter implements TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "mindlog:ratelimit:";
+
+    // KEYS[1]=버킷 키, ARGV = 버킷 크기, ms당 충전량, 현재 시각(ms)
+    // 반환: {허용 여부(1/0), 다음 토큰까지 남은 ms}
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil or ts == nil then
+              tokens = capacity
+              ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+            local allowed = 0
+            local wait_ms = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            else
+              wait_ms = math.ceil((1 - tokens) / refill_per_ms)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(math.max(now, ts)))
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / refill_per_ms) + 1000)
+            return {allowed, wait_ms}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TokenBucketRateLimiter fallback;
+
+    public RedisTokenBucketRateLimiter(StringRedisTemplate redisTemplate, TokenBucketRateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Decision tryConsume(String bucketKey, BucketSpec spec) {
+        try {
+            List<?> result = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(KEY_PREFIX + bucketKey),
+                    String.valueOf(spec.capacity()),
+                    String.valueOf(spec.refillPerSecond() / 1000.0),
+                    String.valueOf(System.currentTimeMillis()));
+            if (result == null || result.size() < 2) {
+                return fallback.tryConsume(bucketKey, spec);
+            }
+            if (((Number) result.get(0)).longValue() == 1L) {
+                return Decision.ALLOWED;
+            }
+            return Decision.rejected(((Number) result.get(1)).longValue() / 1000.0);
+        } catch (RuntimeException e) {
+            log.warn("[RATE_LIMIT] Redis 버킷 갱신 실패, 로컬 버킷으로 대체 - key={}, reason={}",
+                    bucketKey, e.getMessage());
+            return fallback.tryConsume(bucketKey, spec);
+        }
+    }
+}
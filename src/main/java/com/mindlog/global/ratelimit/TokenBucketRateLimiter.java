@@ -0,0 +1,41 @@
+package com.mindlog.global.ratelimit;
+
+/**
+ * 키별 토큰 버킷에서 토큰 하나를 꺼내는 제한기.
+ *
+ * @see LocalTokenBucketRateLimiter
+ * @see RedisTokenBucketRateLimiter
+ */
+public interface TokenBucketRateLimiter {
+
+    Decision tryConsume(String bucketKey, BucketSpec spec);
+
+    /**
+     * @param capacity        버킷 크기(허용 버스트)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     */
+    record BucketSpec(int capacity, double refillPerSecond) {
+
+        public BucketSpec {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("버킷 크기와 충전 속도는 양수여야 합니다.");
+            }
+        }
+
+        public static BucketSpec perMinute(int capacity, int refillPerMinute) {
+            return new BucketSpec(capacity, refillPerMinute / 60.0);
+        }
+    }
+
+    /**
+     * @param retryAfterSeconds 거절된 경우 토큰 하나가 찰 때까지의 시간(초, 올림)
+     */
+    record Decision(boolean allowed, long retryAfterSeconds) {
+
+        static final Decision ALLOWED = new Decision(true, 0L);
+
+        static Decision rejected(double secondsUntilToken) {
+            return new Decision(false, Math.max(1L, (long) Math.ceil(secondsUntilToken)));
+        }
+    }
+}
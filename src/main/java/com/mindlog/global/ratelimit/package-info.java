@@ -0,0 +1,4 @@
+@NullMarked
+package com.mindlog.global.ratelimit;
+
+import org.jspecify.annotations.NullMarked;
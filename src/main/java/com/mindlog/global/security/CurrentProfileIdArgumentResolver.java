@@ -39,8 +39,12 @@ public class CurrentProfileIdArgumentResolver implements HandlerMethodArgumentRe
 
         Object principal = authentication.getPrincipal();
 
-        // 2. Principal이 String(UUID 문자열)인지 확인
-        // AuthController에서 UsernamePasswordAuthenticationToken의 첫 번째 인자로 넣은 값이 여기에 들어옵니다.
+        // 2. 로그인 시 저장한 타입 있는 주체면 파싱 없이 바로 꺼낸다.
+        if (principal instanceof MindlogPrincipal mindlogPrincipal) {
+            return mindlogPrincipal.profileId();
+        }
+
+        // 3. 이관 전 세션의 String(UUID 문자열) 주체. LegacyPrincipalUpgradeFilter가 첫 요청에서 바꿔 저장한다.
         if (principal instanceof String userIdStr) {
             try {
                 return UUID.fromString(userIdStr); // String -> UUID 변환
@@ -49,7 +53,7 @@ public class CurrentProfileIdArgumentResolver implements HandlerMethodArgumentRe
             }
         }
 
-        // 3. 만약 타입이 String이 아니라면 에러 (디버깅용)
+        // 4. 그 외 타입이면 에러 (디버깅용)
         throw new IllegalStateException(
                 "지원하지 않는 Principal 타입입니다. 현재 타입: " + principal.getClass().getName()
         );
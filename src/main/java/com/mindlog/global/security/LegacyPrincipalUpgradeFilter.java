@@ -0,0 +1,97 @@
+package com.mindlog.global.security;
+
+import com.mindlog.domain.profile.entity.Profile;
+import com.mindlog.domain.profile.repository.ProfileRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 이전 버전이 String(UUID 문자열) 주체로 저장한 세션을 {@link MindlogPrincipal}로 한 번만 바꿔 저장한다.
+ *
+ * <p>세션 수명(30일) 동안 남아 있는 기존 로그인을 끊지 않기 위한 이관 경로다. 표시 이름은 세션의 USER_NAME을
+ * 우선 쓰고, 없을 때만 프로필을 한 번 조회한다. 바뀐 SecurityContext를 세션에 다시 저장하므로
+ * 같은 세션의 다음 요청부터는 아무 일도 하지 않는다.</p>
+ *
+ * <p>보안 필터 체인 안에서만 동작해야 하므로 빈으로 등록하지 않고 {@code SecurityConfig}에서 직접 추가한다.</p>
+ */
+@Slf4j
+public class LegacyPrincipalUpgradeFilter extends OncePerRequestFilter {
+
+    private static final String USER_NAME_KEY = "USER_NAME";
+
+    private final ProfileRepository profileRepository;
+    private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+
+    public LegacyPrincipalUpgradeFilter(ProfileRepository profileRepository) {
+        this.profileRepository = profileRepository;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof String) {
+            upgrade(authentication, request, response);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void upgrade(Authentication authentication, HttpServletRequest request, HttpServletResponse response) {
+        var legacy = MindlogPrincipal.from(authentication.getPrincipal());
+        if (legacy == null) {
+            // anonymousUser 등 UUID가 아닌 주체는 그대로 둔다.
+            return;
+        }
+
+        var displayName = resolveDisplayName(request, legacy);
+        var roles = authentication.getAuthorities().stream()
+                .map(authority -> authority.getAuthority())
+                .toList();
+        var principal = new MindlogPrincipal(
+                legacy.profileId(),
+                displayName,
+                roles.isEmpty() ? legacy.roles() : roles);
+        var upgraded = new UsernamePasswordAuthenticationToken(
+                principal,
+                authentication.getCredentials(),
+                principal.authorities());
+
+        var context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(upgraded);
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+        log.debug("[AUTH] String 주체 세션을 이관 - profileId={}", legacy.profileId());
+    }
+
+    @Nullable
+    private String resolveDisplayName(HttpServletRequest request, MindlogPrincipal legacy) {
+        var session = request.getSession(false);
+        if (session != null && session.getAttribute(USER_NAME_KEY) instanceof String cachedName && !cachedName.isBlank()) {
+            return cachedName;
+        }
+        try {
+            return profileRepository.findById(legacy.profileId())
+                    .map(Profile::getName)
+                    .filter(name -> !name.isBlank())
+                    .orElse(null);
+        } catch (Exception e) {
+            log.debug("[AUTH] 이관 중 프로필 조회 실패 - profileId={}, exception={}",
+                    legacy.profileId(),
+                    e.getClass().getSimpleName());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mindlog.global.security;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 로그인 시 만들어 SecurityContext(세션)에 저장하는 인증 주체.
+ *
+ * <p>프로필 ID와 화면 표시 이름을 함께 들고 있어 요청마다 문자열을 UUID로 파싱하거나
+ * 프로필을 조회하지 않는다. {@link #getName()}과 {@link #toString()}은 기존 String 주체와 같은
+ * 프로필 ID 문자열을 돌려주므로 {@code Authentication#getName()}과 감사 로그 형식은 그대로다.</p>
+ *
+ * @param profileId   프로필(= Supabase 사용자) ID
+ * @param displayName 화면 표시 이름. 이전 세션에서 이관되어 이름을 모르면 null
+ * @param roles       {@code ROLE_} 접두사를 포함한 권한 이름
+ */
+public record MindlogPrincipal(
+        UUID profileId,
+        @Nullable String displayName,
+        List<String> roles
+) implements Principal, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final String ROLE_USER = "ROLE_USER";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    public MindlogPrincipal {
+        roles = List.copyOf(roles);
+    }
+
+    public static MindlogPrincipal user(UUID profileId, @Nullable String displayName) {
+        return new MindlogPrincipal(profileId, displayName, List.of(ROLE_USER));
+    }
+
+    /**
+     * SecurityContext의 주체를 타입 있는 주체로 읽는다.
+     * 이전 버전이 저장한 String(UUID 문자열) 주체는 이름 없이 변환하고, 그 외에는 null을 반환한다.
+     */
+    @Nullable
+    public static MindlogPrincipal from(@Nullable Object principal) {
+        if (principal instanceof MindlogPrincipal mindlogPrincipal) {
+            return mindlogPrincipal;
+        }
+        if (principal instanceof String legacyPrincipal) {
+            try {
+                return user(UUID.fromString(legacyPrincipal), null);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    @Override
+    public String getName() {
+        return profileId.toString();
+    }
+
+    @Override
+    public String toString() {
+        return profileId.toString();
+    }
+}
@@ -2,40 +2,25 @@ package com.mindlog.global.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mindlog.global.exception.SupabaseAuthException;
+import com.mindlog.global.http.SupabaseHttpClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
 import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SupabaseAuthService {
-    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
-    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
-
-    @Value("${mindlog.supabase.url}")
-    private String supabaseUrl;
-
-    @Value("${mindlog.supabase.anon-key}")
-    private String supabaseAnonKey;
-
     private final ObjectMapper objectMapper;
-    private final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(CONNECT_TIMEOUT)
-            .build();
+    // 타임아웃/재시도/서킷 브레이커/지표는 공유 클라이언트가 맡는다.
+    private final SupabaseHttpClient supabaseHttpClient;
 
     // [신규] PKCE 흐름: 인증 코드를 토큰으로 교환
     public Map<String, Object> exchangeCodeForToken(String code, String codeVerifier) throws Exception {
         // Supabase 토큰 교환 엔드포인트
-        String tokenUrl = supabaseUrl + "/auth/v1/token?grant_type=pkce";
+        String tokenPath = "/auth/v1/token?grant_type=pkce";
 
         // 요청 바디: 코드와 검증기(Verifier)를 함께 보냄
         Map<String, String> body = Map.of(
@@ -44,16 +29,8 @@ public class SupabaseAuthService {
         );
         String jsonBody = objectMapper.writeValueAsString(body);
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(tokenUrl))
-                .timeout(REQUEST_TIMEOUT)
-                .header("apikey", supabaseAnonKey)
-                .header("Accept", "application/json")
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                .build();
-
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        // 인증 코드는 일회용이므로 멱등 호출이 아니다(연결 실패만 재시도).
+        var response = supabaseHttpClient.postJson("token.pkce", tokenPath, jsonBody, false);
 
         if (response.statusCode() != 200) {
             log.error("[Supabase] 토큰 교환 실패 (HTTP {}): {}", response.statusCode(), response.body());
@@ -64,21 +41,13 @@ public class SupabaseAuthService {
     }
 
     public Map<String, Object> refreshToken(String refreshToken) throws Exception {
-        String tokenUrl = supabaseUrl + "/auth/v1/token?grant_type=refresh_token";
+        String tokenPath = "/auth/v1/token?grant_type=refresh_token";
 
         Map<String, String> body = Map.of("refresh_token", refreshToken);
         String jsonBody = objectMapper.writeValueAsString(body);
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(tokenUrl))
-                .timeout(REQUEST_TIMEOUT)
-                .header("apikey", supabaseAnonKey)
-                .header("Accept", "application/json")
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                .build();
-
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        // 갱신 토큰은 사용 시 회전되므로 멱등 호출이 아니다.
+        var response = supabaseHttpClient.postJson("token.refresh", tokenPath, jsonBody, false);
 
         if (response.statusCode() != 200) {
             log.error("[Supabase] 토큰 갱신 실패 (HTTP {}): {}", response.statusCode(), response.body());
@@ -0,0 +1,64 @@
+package com.mindlog.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Supabase 액세스 토큰(JWT)을 원격 호출 없이 검증해 만료 시각을 읽는다.
+ *
+ * <p>{@code mindlog.supabase.jwt-secret}이 있으면 HS256 공유 비밀로, 없으면 프로젝트 JWKS
+ * ({@code /auth/v1/.well-known/jwks.json}, ES256/RS256)로 서명을 확인한다. JWKS는 첫 검증 때 한 번 받아
+ * Nimbus JWK 소스가 캐시하므로 이후 검증은 로컬 연산뿐이다.</p>
+ *
+ * <p>만료된 토큰도 서명이 맞으면 만료 시각을 돌려준다. 갱신 시점 판단은 호출 측이 한다.</p>
+ */
+@Slf4j
+@Component
+public class SupabaseJwtVerifier {
+
+    private final JwtDecoder jwtDecoder;
+
+    public SupabaseJwtVerifier(
+            @Value("${mindlog.supabase.url}") String supabaseUrl,
+            @Value("${mindlog.supabase.jwt-secret:}") String jwtSecret) {
+        var baseUrl = supabaseUrl.endsWith("/") ? supabaseUrl.substring(0, supabaseUrl.length() - 1) : supabaseUrl;
+        var decoder = (jwtSecret.isBlank())
+                ? NimbusJwtDecoder.withJwkSetUri(baseUrl + "/auth/v1/.well-known/jwks.json")
+                        .jwsAlgorithm(SignatureAlgorithm.ES256)
+                        .jwsAlgorithm(SignatureAlgorithm.RS256)
+                        .build()
+                : NimbusJwtDecoder.withSecretKey(
+                                new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+                        .macAlgorithm(MacAlgorithm.HS256)
+                        .build();
+        // 기본 검증기의 만료 검사는 빼고 발급자만 확인한다.
+        decoder.setJwtValidator(new JwtIssuerValidator(baseUrl + "/auth/v1"));
+        this.jwtDecoder = decoder;
+    }
+
+    /**
+     * 서명과 발급자가 맞으면 만료 시각을, 아니면(위조/다른 프로젝트/형식 오류/JWKS 조회 실패) null을 돌려준다.
+     */
+    @Nullable
+    public Instant verifiedExpiry(String accessToken) {
+        try {
+            return jwtDecoder.decode(accessToken).getExpiresAt();
+        } catch (JwtException e) {
+            log.debug("[AUTH] 액세스 토큰 로컬 검증 실패 - exception={}, message={}",
+                    e.getClass().getSimpleName(),
+                    e.getMessage());
+            return null;
+        }
+    }
+}
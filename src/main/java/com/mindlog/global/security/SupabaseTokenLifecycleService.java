@@ -0,0 +1,201 @@
+package com.mindlog.global.security;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpSession;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * 세션에 보관한 Supabase 액세스 토큰을 만료 전에 미리 갱신한다.
+ *
+ * <p>요청 스레드는 세션 속성({@code ACCESS_TOKEN_EXPIRES_AT})만 비교하고, 갱신 시점이 되었으면
+ * 가상 스레드에 갱신을 맡긴 뒤 바로 진행한다. 원격 호출과 JWT 검증은 모두 백그라운드에서 일어난다.</p>
+ *
+ * <ul>
+ *   <li>만료 시각이 없는 기존 세션은 백그라운드에서 토큰을 로컬 검증해 만료 시각을 채운다({@link SupabaseJwtVerifier}).</li>
+ *   <li>같은 세션(동시 세션 상한이 1이므로 곧 같은 사용자)의 갱신은 한 번만 진행된다.
+ *       여러 탭이 동시에 요청해도 나머지는 진행 중인 갱신에 합류하지 않고 그냥 지나간다.</li>
+ *   <li>갱신 결과는 세션 저장소에 직접 저장한다. 요청 쪽은 토큰 속성을 쓰지 않으므로
+ *       요청 종료 시 저장(SaveMode.ON_SET_ATTRIBUTE)이 새 토큰을 덮어쓰지 않는다.</li>
+ *   <li>갱신이 실패하면 {@code retry-backoff-seconds} 동안 다시 시도하지 않는다.
+ *       세션 인증은 토큰과 별개이므로 사용자 요청은 실패하지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class SupabaseTokenLifecycleService {
+
+    static final String ACCESS_TOKEN_KEY = "ACCESS_TOKEN";
+    static final String REFRESH_TOKEN_KEY = "REFRESH_TOKEN";
+    static final String ACCESS_TOKEN_EXPIRES_AT_KEY = "ACCESS_TOKEN_EXPIRES_AT";
+    static final String TOKEN_REFRESH_RETRY_AT_KEY = "TOKEN_REFRESH_RETRY_AT";
+
+    private final SupabaseJwtVerifier jwtVerifier;
+    private final SupabaseAuthService supabaseAuthService;
+    private final SessionRepository<Session> sessionRepository;
+    private final Set<String> inFlightSessionIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mindlog-token-refresh-", 0).factory());
+
+    private Clock clock = Clock.systemUTC();
+
+    @Value("${mindlog.supabase.token.refresh-enabled:true}")
+    private boolean refreshEnabled;
+
+    @Value("${mindlog.supabase.token.refresh-ahead-seconds:300}")
+    private long refreshAheadSeconds;
+
+    @Value("${mindlog.supabase.token.retry-backoff-seconds:60}")
+    private long retryBackoffSeconds;
+
+    @SuppressWarnings("unchecked")
+    public SupabaseTokenLifecycleService(
+            SupabaseJwtVerifier jwtVerifier,
+            SupabaseAuthService supabaseAuthService,
+            SessionRepository<? extends Session> sessionRepository) {
+        this.jwtVerifier = jwtVerifier;
+        this.supabaseAuthService = supabaseAuthService;
+        this.sessionRepository = (SessionRepository<Session>) sessionRepository;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 요청 경로에서 호출한다. 세션 속성만 읽으며 원격 호출이나 세션 쓰기는 하지 않는다.
+     *
+     * @return 백그라운드 갱신을 예약했으면 true
+     */
+    public boolean onRequest(HttpSession session) {
+        if (!refreshEnabled
+                || !(session.getAttribute(ACCESS_TOKEN_KEY) instanceof String)
+                || !(session.getAttribute(REFRESH_TOKEN_KEY) instanceof String)) {
+            return false;
+        }
+
+        var now = clock.instant();
+        var retryAt = epochSecondsAttribute(session.getAttribute(TOKEN_REFRESH_RETRY_AT_KEY));
+        if (retryAt != null && now.isBefore(retryAt)) {
+            return false;
+        }
+        var expiresAt = epochSecondsAttribute(session.getAttribute(ACCESS_TOKEN_EXPIRES_AT_KEY));
+        if (expiresAt != null && !isDue(expiresAt, now)) {
+            return false;
+        }
+        return scheduleRefresh(session.getId());
+    }
+
+    private boolean scheduleRefresh(String sessionId) {
+        if (!inFlightSessionIds.add(sessionId)) {
+            return false;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshIfDue(sessionId);
+                } finally {
+                    inFlightSessionIds.remove(sessionId);
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            // 종료 중 등으로 예약하지 못하면 다음 요청에서 다시 시도한다.
+            inFlightSessionIds.remove(sessionId);
+            return false;
+        }
+    }
+
+    /**
+     * 저장소에서 세션을 다시 읽어 갱신이 여전히 필요한지 확인한 뒤 토큰을 갱신한다.
+     * 다른 스레드/인스턴스가 이미 갱신했다면 새 만료 시각을 보고 그대로 끝난다.
+     */
+    void refreshIfDue(String sessionId) {
+        var session = sessionRepository.findById(sessionId);
+        if (session == null) {
+            return;
+        }
+        String accessToken = session.getAttribute(ACCESS_TOKEN_KEY);
+        String refreshToken = session.getAttribute(REFRESH_TOKEN_KEY);
+        if (accessToken == null || refreshToken == null) {
+            return;
+        }
+
+        var now = clock.instant();
+        var storedExpiry = epochSecondsAttribute(session.getAttribute(ACCESS_TOKEN_EXPIRES_AT_KEY));
+        var expiresAt = (storedExpiry != null) ? storedExpiry : jwtVerifier.verifiedExpiry(accessToken);
+        if (expiresAt != null && !isDue(expiresAt, now)) {
+            if (storedExpiry == null) {
+                session.setAttribute(ACCESS_TOKEN_EXPIRES_AT_KEY, expiresAt.getEpochSecond());
+                sessionRepository.save(session);
+            }
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            var tokenData = supabaseAuthService.refreshToken(refreshToken);
+            var newAccessToken = (tokenData.get("access_token") instanceof String s) ? s : null;
+            if (newAccessToken == null) {
+                throw new IllegalStateException("갱신 응답에 access_token이 없습니다.");
+            }
+            var newRefreshToken = (tokenData.get("refresh_token") instanceof String s) ? s : refreshToken;
+            var newExpiresAt = resolveExpiry(newAccessToken, tokenData, now);
+
+            session.setAttribute(ACCESS_TOKEN_KEY, newAccessToken);
+            session.setAttribute(REFRESH_TOKEN_KEY, newRefreshToken);
+            session.setAttribute(ACCESS_TOKEN_EXPIRES_AT_KEY, newExpiresAt.getEpochSecond());
+            session.removeAttribute(TOKEN_REFRESH_RETRY_AT_KEY);
+            sessionRepository.save(session);
+            log.debug("[AUTH] 액세스 토큰 선제 갱신 완료 - expiresAt={}, elapsed={}ms",
+                    newExpiresAt,
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } catch (Exception e) {
+            session.setAttribute(TOKEN_REFRESH_RETRY_AT_KEY,
+                    now.plusSeconds(Math.max(1L, retryBackoffSeconds)).getEpochSecond());
+            sessionRepository.save(session);
+            log.warn("[AUTH] 액세스 토큰 선제 갱신 실패 - exception={}, message={}",
+                    e.getClass().getSimpleName(),
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 새 토큰은 로컬 검증한 만료 시각을 우선 쓰고, 검증할 수 없으면(JWKS 조회 실패 등) 응답의 expires_at/expires_in을 쓴다.
+     */
+    private Instant resolveExpiry(String accessToken, Map<String, Object> tokenData, Instant now) {
+        var verified = jwtVerifier.verifiedExpiry(accessToken);
+        if (verified != null) {
+            return verified;
+        }
+        if (tokenData.get("expires_at") instanceof Number expiresAt) {
+            return Instant.ofEpochSecond(expiresAt.longValue());
+        }
+        if (tokenData.get("expires_in") instanceof Number expiresIn) {
+            return now.plusSeconds(expiresIn.longValue());
+        }
+        return now;
+    }
+
+    private boolean isDue(Instant expiresAt, Instant now) {
+        return !now.isBefore(expiresAt.minusSeconds(refreshAheadSeconds));
+    }
+
+    @Nullable
+    private static Instant epochSecondsAttribute(@Nullable Object value) {
+        return (value instanceof Number epochSeconds) ? Instant.ofEpochSecond(epochSeconds.longValue()) : null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mindlog.global.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 인증된 세션의 요청마다 Supabase 토큰 만료 시각을 확인해, 곧 만료되면 백그라운드 갱신을 예약한다.
+ *
+ * <p>세션 속성 비교만 하므로 요청 지연에 영향이 없다. {@link LegacyPrincipalUpgradeFilter}처럼
+ * 보안 필터 체인 안에서만 동작해야 하므로 빈으로 등록하지 않고 {@code SecurityConfig}에서 직접 추가한다.</p>
+ */
+public class SupabaseTokenRefreshFilter extends OncePerRequestFilter {
+
+    private final SupabaseTokenLifecycleService tokenLifecycleService;
+
+    public SupabaseTokenRefreshFilter(SupabaseTokenLifecycleService tokenLifecycleService) {
+        this.tokenLifecycleService = tokenLifecycleService;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        var session = request.getSession(false);
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (session != null && authentication != null && authentication.getPrincipal() instanceof MindlogPrincipal) {
+            tokenLifecycleService.onRequest(session);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
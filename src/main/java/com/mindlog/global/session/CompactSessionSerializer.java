@@ -0,0 +1,226 @@
+package com.mindlog.global.session;
+
+import com.mindlog.global.security.MindlogPrincipal;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+/**
+ * Spring Session Redis 해시 필드(세션 메타데이터와 속성)용 직렬화기.
+ *
+ * <p>세션에 실제로 들어가는 타입만 명시적으로 등록해 1바이트 타입 태그 + 최소 페이로드로 쓴다.</p>
+ * <ul>
+ *   <li>String / Long / Integer / Boolean: 토큰, 사용자 이름, 생성/접근 시각, 만료 간격</li>
+ *   <li>SecurityContext: {@link MindlogPrincipal}을 주체로 한 {@link UsernamePasswordAuthenticationToken}만
+ *       프로필 ID·이름·권한·자격 증명 문자열로 풀어 쓴다.</li>
+ *   <li>그 외 타입(저장된 요청 등)은 태그 뒤에 JDK 직렬화 바이트를 붙인다.</li>
+ * </ul>
+ *
+ * <p>JDK 직렬화 스트림은 항상 0xAC로 시작하고 등록 태그는 이 값을 쓰지 않으므로, 이전 버전이 JDK 직렬화로
+ * 저장한 세션도 그대로 읽힌다. 해당 필드는 다음에 다시 쓰일 때 새 형식으로 바뀐다.</p>
+ *
+ * <p>읽고 쓴 바이트 수는 {@link SessionBytesTracker}에 더해 요청 단위로 집계한다.</p>
+ */
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+
+    private static final byte TYPE_STRING = 0x01;
+    private static final byte TYPE_LONG = 0x02;
+    private static final byte TYPE_INTEGER = 0x03;
+    private static final byte TYPE_BOOLEAN = 0x04;
+    private static final byte TYPE_SECURITY_CONTEXT = 0x10;
+    private static final byte TYPE_JDK = 0x7F;
+
+    private final JdkSerializationRedisSerializer jdkSerializer;
+
+    public CompactSessionSerializer(@Nullable ClassLoader classLoader) {
+        this.jdkSerializer = new JdkSerializationRedisSerializer(classLoader);
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        var bytes = write(value);
+        SessionBytesTracker.addWritten(bytes.length);
+        return bytes;
+    }
+
+    @Override
+    @Nullable
+    public Object deserialize(byte @Nullable [] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        SessionBytesTracker.addRead(bytes.length);
+        if (bytes[0] == JDK_STREAM_MAGIC) {
+            // 새 형식 도입 전에 저장된 세션 필드
+            return jdkSerializer.deserialize(bytes);
+        }
+        return read(bytes);
+    }
+
+    private byte[] write(Object value) {
+        var buffer = new ByteArrayOutputStream(64);
+        try (var out = new DataOutputStream(buffer)) {
+            switch (value) {
+                case String text -> {
+                    out.writeByte(TYPE_STRING);
+                    out.write(text.getBytes(StandardCharsets.UTF_8));
+                }
+                case Long number -> {
+                    out.writeByte(TYPE_LONG);
+                    out.writeLong(number);
+                }
+                case Integer number -> {
+                    out.writeByte(TYPE_INTEGER);
+                    out.writeInt(number);
+                }
+                case Boolean flag -> {
+                    out.writeByte(TYPE_BOOLEAN);
+                    out.writeBoolean(flag);
+                }
+                case SecurityContext context when isCompactAuthentication(context) -> {
+                    out.writeByte(TYPE_SECURITY_CONTEXT);
+                    writeSecurityContext(out, context);
+                }
+                default -> {
+                    out.writeByte(TYPE_JDK);
+                    out.write(jdkSerializer.serialize(value));
+                }
+            }
+        } catch (IOException e) {
+            throw new SerializationException("세션 속성 직렬화 실패: " + value.getClass().getName(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private Object read(byte[] bytes) {
+        var type = bytes[0];
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return switch (type) {
+                case TYPE_STRING -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+                case TYPE_LONG -> in.readLong();
+                case TYPE_INTEGER -> in.readInt();
+                case TYPE_BOOLEAN -> in.readBoolean();
+                case TYPE_SECURITY_CONTEXT -> readSecurityContext(in);
+                case TYPE_JDK -> {
+                    var jdkBytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+                    var value = jdkSerializer.deserialize(jdkBytes);
+                    if (value == null) {
+                        throw new SerializationException("세션 속성 JDK 페이로드가 비어 있습니다.");
+                    }
+                    yield value;
+                }
+                default -> throw new SerializationException("알 수 없는 세션 속성 타입 태그: " + type);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("세션 속성 역직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 필드 단위로 풀어 써도 복원 결과가 같은 인증만 압축 형식으로 쓴다.
+     */
+    private boolean isCompactAuthentication(SecurityContext context) {
+        if (context.getClass() != SecurityContextImpl.class) {
+            return false;
+        }
+        var authentication = context.getAuthentication();
+        if (authentication == null) {
+            return true;
+        }
+        if (authentication.getClass() != UsernamePasswordAuthenticationToken.class
+                || !authentication.isAuthenticated()
+                || authentication.getDetails() != null
+                || !(authentication.getPrincipal() instanceof MindlogPrincipal principal)) {
+            return false;
+        }
+        var credentials = authentication.getCredentials();
+        if (credentials != null && !(credentials instanceof String)) {
+            return false;
+        }
+        var authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        return authorities.equals(principal.roles());
+    }
+
+    private void writeSecurityContext(DataOutputStream out, SecurityContext context) throws IOException {
+        var authentication = context.getAuthentication();
+        out.writeBoolean(authentication != null);
+        if (authentication == null) {
+            return;
+        }
+        var principal = (MindlogPrincipal) authentication.getPrincipal();
+        out.writeLong(principal.profileId().getMostSignificantBits());
+        out.writeLong(principal.profileId().getLeastSignificantBits());
+        writeNullableString(out, principal.displayName());
+        out.writeByte(principal.roles().size());
+        for (var role : principal.roles()) {
+            writeString(out, role);
+        }
+        writeNullableString(out, (String) authentication.getCredentials());
+    }
+
+    private SecurityContext readSecurityContext(DataInputStream in) throws IOException {
+        var context = new SecurityContextImpl();
+        if (!in.readBoolean()) {
+            return context;
+        }
+        var profileId = new UUID(in.readLong(), in.readLong());
+        var displayName = readNullableString(in);
+        int roleCount = in.readUnsignedByte();
+        var roles = new ArrayList<String>(roleCount);
+        for (int i = 0; i < roleCount; i++) {
+            roles.add(readString(in));
+        }
+        var credentials = readNullableString(in);
+
+        var principal = new MindlogPrincipal(profileId, displayName, roles);
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(principal, credentials, principal.authorities()));
+        return context;
+    }
+
+    private static void writeNullableString(DataOutputStream out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nullable
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        var bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,223 @@
+package com.mindlog.global.session;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/**
+ * Redis 세션 저장소 앞에 두는 짧은 수명의 인스턴스 로컬 세션 캐시.
+ *
+ * <p>Turbo 페이지 이동처럼 같은 세션으로 연달아 들어오는 요청이 매번 세션 해시를 읽지 않도록,
+ * 읽은 세션 상태를 세션 ID 기준으로 {@code ttl} 동안 보관한다(최대 {@code maxEntries}개, LRU).</p>
+ *
+ * <ul>
+ *   <li>적중 시에는 스냅샷 복사본({@link NearCachedSession})을 내어주며, 속성 변경이 없으면 저장도 생략한다.
+ *       마지막 접근 시각은 캐시가 만료되어 저장소에서 다시 읽는 요청에서 갱신되므로 최대 {@code ttl}만큼 늦다.</li>
+ *   <li>속성이 바뀌었거나 세션 ID를 바꿔야 하면 저장소 세션을 다시 읽어 변경을 옮긴 뒤 저장소에 저장한다.</li>
+ *   <li>저장/삭제가 일어나면 Redis pub/sub으로 다른 인스턴스에 알려 해당 항목을 지우게 한다.
+ *       메시지가 유실되어도 {@code ttl}이 지나면 저장소 값을 다시 읽는다.</li>
+ * </ul>
+ *
+ * <p>로그아웃(세션 무효화)과 동시 세션 제한이 세션을 만료시키는 경로는 모두 저장소 저장/삭제를 거치므로
+ * 이 캐시를 두어도 의미가 바뀌지 않는다.</p>
+ *
+ * <p>주체 이름 인덱스 조회는 캐시하지 않고 저장소에 그대로 넘긴다. 동시 세션 판단은 항상 Redis의 최신 인덱스를 본다.</p>
+ */
+@Slf4j
+public class NearCacheSessionRepository implements FindByIndexNameSessionRepository<Session>, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "mindlog:session:invalidate";
+
+    private static final char MESSAGE_SEPARATOR = '|';
+
+    private final SessionRepository<Session> delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Clock clock;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, CachedEntry> entries;
+
+    @SuppressWarnings("unchecked")
+    public NearCacheSessionRepository(
+            SessionRepository<? extends Session> delegate,
+            StringRedisTemplate redisTemplate,
+            Duration ttl,
+            int maxEntries,
+            Clock clock) {
+        this.delegate = (SessionRepository<Session>) delegate;
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Session createSession() {
+        return delegate.createSession();
+    }
+
+    @Override
+    public void save(Session session) {
+        if (!(session instanceof NearCachedSession cached)) {
+            saveToStore(session, null);
+            return;
+        }
+
+        var originalId = cached.originalId();
+        var promoted = cached.promoted();
+        if (promoted == null && !cached.hasChanges()) {
+            // 읽기만 한 요청: 저장소 쓰기 없음
+            return;
+        }
+        if (promoted == null) {
+            promoted = promote(cached);
+            if (promoted == null) {
+                return;
+            }
+        }
+        saveToStore(promoted, originalId);
+    }
+
+    @Override
+    @Nullable
+    public Session findById(String id) {
+        var cached = getFresh(id);
+        if (cached != null) {
+            return new NearCachedSession(cached, this);
+        }
+
+        var stored = delegate.findById(id);
+        if (stored != null) {
+            put(stored);
+        }
+        return stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Session> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        if (!(delegate instanceof FindByIndexNameSessionRepository<?> indexed)) {
+            throw new UnsupportedOperationException("인덱스 조회를 지원하지 않는 세션 저장소입니다.");
+        }
+        return (Map<String, Session>) indexed.findByIndexNameAndIndexValue(indexName, indexValue);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        evict(id);
+        publishInvalidation(id);
+    }
+
+    @Override
+    public void onMessage(Message message, byte @Nullable [] pattern) {
+        var body = new String(message.getBody(), StandardCharsets.UTF_8);
+        var separator = body.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        evict(body.substring(separator + 1));
+    }
+
+    /**
+     * 저장소 세션을 다시 읽어 캐시 세션의 변경을 옮긴다. 그 사이 다른 곳에서 삭제되었다면(로그아웃 등) null.
+     */
+    @Nullable
+    Session promote(NearCachedSession cached) {
+        var existing = cached.promoted();
+        if (existing != null) {
+            return existing;
+        }
+        var id = cached.originalId();
+        var stored = delegate.findById(id);
+        if (stored == null) {
+            evict(id);
+            return null;
+        }
+        cached.promote(stored);
+        return stored;
+    }
+
+    String changeSessionId(NearCachedSession cached) {
+        var stored = promote(cached);
+        if (stored == null) {
+            throw new IllegalStateException("세션이 저장소에 없어 ID를 바꿀 수 없습니다.");
+        }
+        return stored.changeSessionId();
+    }
+
+    private void saveToStore(Session session, @Nullable String originalId) {
+        delegate.save(session);
+        if (originalId != null && !originalId.equals(session.getId())) {
+            evict(originalId);
+            publishInvalidation(originalId);
+        }
+        put(session);
+        publishInvalidation(session.getId());
+    }
+
+    @Nullable
+    private MapSession getFresh(String id) {
+        var now = clock.instant();
+        synchronized (entries) {
+            var entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.loadedAt().plus(ttl).isBefore(now) || entry.session().isExpired()) {
+                entries.remove(id);
+                return null;
+            }
+            return entry.session();
+        }
+    }
+
+    private void put(Session session) {
+        var entry = new CachedEntry(new MapSession(session), clock.instant());
+        synchronized (entries) {
+            entries.put(session.getId(), entry);
+        }
+    }
+
+    private void evict(String id) {
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void publishInvalidation(String sessionId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + MESSAGE_SEPARATOR + sessionId);
+        } catch (Exception e) {
+            // 다른 인스턴스는 ttl이 지나면 저장소 값을 다시 읽는다.
+            log.debug("[SESSION] 근거리 캐시 무효화 발행 실패 - exception={}", e.getClass().getSimpleName());
+        }
+    }
+
+    private record CachedEntry(MapSession session, Instant loadedAt) {
+    }
+}
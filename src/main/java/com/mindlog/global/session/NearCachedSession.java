@@ -0,0 +1,138 @@
+package com.mindlog.global.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+/**
+ * 근거리 캐시 적중 시 요청에 내어주는 세션. 캐시 스냅샷의 얕은 복사본 위에서 동작하며 바뀐 속성 이름만 기억한다.
+ *
+ * <p>세션 ID 변경처럼 저장소 세션이 꼭 필요한 동작을 만나면 {@link NearCacheSessionRepository}가
+ * 저장소 세션을 읽어 지금까지의 변경을 옮긴 뒤({@link #promote}) 그 세션으로 모든 호출을 넘긴다.</p>
+ */
+final class NearCachedSession implements Session {
+
+    private final MapSession local;
+    private final Instant persistedLastAccessedTime;
+    private final NearCacheSessionRepository repository;
+    private final Set<String> changedAttributeNames = new HashSet<>();
+    private boolean maxInactiveIntervalChanged;
+
+    private @Nullable Session promoted;
+
+    NearCachedSession(MapSession snapshot, NearCacheSessionRepository repository) {
+        this.local = new MapSession(snapshot);
+        this.persistedLastAccessedTime = snapshot.getLastAccessedTime();
+        this.repository = repository;
+    }
+
+    @Override
+    public String getId() {
+        return (promoted != null) ? promoted.getId() : local.getId();
+    }
+
+    @Override
+    public String changeSessionId() {
+        return repository.changeSessionId(this);
+    }
+
+    @Override
+    @Nullable
+    public <T> T getAttribute(String attributeName) {
+        return (promoted != null) ? promoted.getAttribute(attributeName) : local.getAttribute(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return (promoted != null) ? promoted.getAttributeNames() : local.getAttributeNames();
+    }
+
+    @Override
+    public void setAttribute(String attributeName, @Nullable Object attributeValue) {
+        if (promoted != null) {
+            promoted.setAttribute(attributeName, attributeValue);
+            return;
+        }
+        local.setAttribute(attributeName, attributeValue);
+        changedAttributeNames.add(attributeName);
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+        setAttribute(attributeName, null);
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return (promoted != null) ? promoted.getCreationTime() : local.getCreationTime();
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        if (promoted != null) {
+            promoted.setLastAccessedTime(lastAccessedTime);
+            return;
+        }
+        local.setLastAccessedTime(lastAccessedTime);
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return (promoted != null) ? promoted.getLastAccessedTime() : local.getLastAccessedTime();
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        if (promoted != null) {
+            promoted.setMaxInactiveInterval(interval);
+            return;
+        }
+        local.setMaxInactiveInterval(interval);
+        maxInactiveIntervalChanged = true;
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return (promoted != null) ? promoted.getMaxInactiveInterval() : local.getMaxInactiveInterval();
+    }
+
+    @Override
+    public boolean isExpired() {
+        return (promoted != null) ? promoted.isExpired() : local.isExpired();
+    }
+
+    String originalId() {
+        return local.getId();
+    }
+
+    boolean hasChanges() {
+        return !changedAttributeNames.isEmpty() || maxInactiveIntervalChanged;
+    }
+
+    Instant persistedLastAccessedTime() {
+        return persistedLastAccessedTime;
+    }
+
+    @Nullable
+    Session promoted() {
+        return promoted;
+    }
+
+    /**
+     * 저장소에서 다시 읽은 세션에 지금까지의 변경을 옮기고, 이후 호출은 그 세션으로 넘긴다.
+     */
+    void promote(Session stored) {
+        for (var name : changedAttributeNames) {
+            stored.setAttribute(name, local.getAttribute(name));
+        }
+        if (maxInactiveIntervalChanged) {
+            stored.setMaxInactiveInterval(local.getMaxInactiveInterval());
+        }
+        stored.setLastAccessedTime(local.getLastAccessedTime());
+        this.promoted = stored;
+    }
+}
@@ -0,0 +1,195 @@
+package com.mindlog.global.session;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+
+/**
+ * Spring Session의 주체 이름 인덱스(Redis SET)를 그대로 읽는 동시 세션 레지스트리.
+ *
+ * <p>메모리 기반 {@code SessionRegistryImpl}과 달리 인스턴스마다 세션 목록을 들고 있지 않는다.
+ * 상태는 모두 Redis에 있으므로 어느 인스턴스에서 로그인하든 같은 목록으로 {@code maximumSessions}를 판단하고,
+ * 활성 사용자 수가 늘어도 힙 사용량은 변하지 않는다.</p>
+ *
+ * <ul>
+ *   <li>세션 등록/삭제는 저장소가 세션을 저장/삭제할 때 인덱스를 함께 고치므로 여기서는 아무 일도 하지 않는다.</li>
+ *   <li>TTL로 사라진 세션의 ID는 키스페이스 알림이 없으면 인덱스에 남는다.
+ *       주체의 세션 목록을 읽을 때 저장소에 없는 ID를 찾아 그 자리에서 인덱스에서 지운다(지연 만료).
+ *       목록 조회 뒤에 새로 인덱싱된 세션을 지우지 않도록, 저장소에서 다시 읽어 없다고 확인된 ID만 지운다.</li>
+ *   <li>{@link SessionInformation#expireNow()}는 세션에 만료 표시를 저장해 다음 요청에서
+ *       {@code ConcurrentSessionFilter}가 로그아웃 처리하게 한다.</li>
+ * </ul>
+ */
+@Slf4j
+public class RedisIndexedSessionRegistry implements SessionRegistry {
+
+    static final String EXPIRED_ATTRIBUTE = RedisIndexedSessionRegistry.class.getName() + ".EXPIRED";
+
+    private static final String INDEX_KEY_PREFIX =
+            "index:" + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":";
+
+    private final FindByIndexNameSessionRepository<Session> sessionRepository;
+    private final RedisOperations<String, Object> sessionRedisOperations;
+    private final String namespace;
+
+    /**
+     * @param sessionRepository      세션을 읽고 만료 표시를 저장할 저장소(근거리 캐시를 거치도록 최상위 저장소를 넘긴다)
+     * @param sessionRedisOperations 저장소가 인덱스를 쓸 때 쓰는 RedisOperations(같은 직렬화기를 써야 ID가 일치한다)
+     * @param namespace              Spring Session 키 접두사(예: {@code spring:session})
+     */
+    @SuppressWarnings("unchecked")
+    public RedisIndexedSessionRegistry(
+            FindByIndexNameSessionRepository<? extends Session> sessionRepository,
+            RedisOperations<String, Object> sessionRedisOperations,
+            String namespace) {
+        this.sessionRepository = (FindByIndexNameSessionRepository<Session>) sessionRepository;
+        this.sessionRedisOperations = sessionRedisOperations;
+        this.namespace = namespace.endsWith(":") ? namespace : namespace + ":";
+    }
+
+    /**
+     * 전체 주체 목록은 Redis 전체 스캔이 필요하므로 지원하지 않는다(Spring Session 레지스트리와 같다).
+     */
+    @Override
+    public List<Object> getAllPrincipals() {
+        throw new UnsupportedOperationException("전체 주체 목록 조회는 지원하지 않습니다.");
+    }
+
+    @Override
+    public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+        var principalName = resolvePrincipalName(principal);
+        Map<String, Session> sessions = sessionRepository.findByPrincipalName(principalName);
+        pruneStaleIndexEntries(principalName, sessions.keySet());
+
+        var infos = new ArrayList<SessionInformation>(sessions.size());
+        for (var session : sessions.values()) {
+            var info = toSessionInformation(session, principalName);
+            if (includeExpiredSessions || !info.isExpired()) {
+                infos.add(info);
+            }
+        }
+        return infos;
+    }
+
+    @Override
+    @Nullable
+    public SessionInformation getSessionInformation(String sessionId) {
+        var session = sessionRepository.findById(sessionId);
+        if (session == null) {
+            return null;
+        }
+        var principalName = principalNameOf(session);
+        return (principalName == null) ? null : toSessionInformation(session, principalName);
+    }
+
+    @Override
+    public void refreshLastRequest(String sessionId) {
+        // 마지막 접근 시각은 세션 저장소가 갱신한다.
+    }
+
+    @Override
+    public void registerNewSession(String sessionId, Object principal) {
+        // 주체 인덱스는 세션 저장 시 저장소가 기록한다.
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        // 세션 삭제 시 저장소가 인덱스에서도 지운다.
+    }
+
+    /**
+     * 인덱스에는 있지만 저장소에서 읽히지 않은(TTL 만료) 세션 ID를 지운다.
+     * SMEMBERS 는 {@code findByPrincipalName} 보다 나중에 읽으므로 그 사이 로그인한 세션도 후보에 들어온다.
+     * 후보마다 {@code findById}로 저장소에 없음을 확인한 ID만 지워, 새 세션이 인덱스에서 빠져
+     * {@code maximumSessions} 판단을 벗어나지 않게 한다.
+     * 실패해도 다음 조회에서 다시 시도하므로 로그인 흐름은 막지 않는다.
+     */
+    private void pruneStaleIndexEntries(String principalName, Set<String> liveSessionIds) {
+        var indexKey = namespace + INDEX_KEY_PREFIX + principalName;
+        try {
+            var members = sessionRedisOperations.opsForSet().members(indexKey);
+            if (members == null || members.isEmpty()) {
+                return;
+            }
+            var stale = members.stream()
+                    .filter(member -> !(member instanceof String id && liveSessionIds.contains(id)))
+                    .filter(member -> !(member instanceof String id) || sessionRepository.findById(id) == null)
+                    .toArray();
+            if (stale.length > 0) {
+                sessionRedisOperations.opsForSet().remove(indexKey, stale);
+                log.debug("[SESSION] 만료된 세션 인덱스 정리 - count={}", stale.length);
+            }
+        } catch (Exception e) {
+            log.debug("[SESSION] 세션 인덱스 정리 실패 - exception={}", e.getClass().getSimpleName());
+        }
+    }
+
+    private SessionInformation toSessionInformation(Session session, String principalName) {
+        var info = new IndexedSessionInformation(principalName, session.getId(),
+                Date.from(session.getLastAccessedTime()));
+        if (Boolean.TRUE.equals(session.getAttribute(EXPIRED_ATTRIBUTE))) {
+            info.markExpired();
+        }
+        return info;
+    }
+
+    @Nullable
+    private static String principalNameOf(Session session) {
+        String indexed = session.getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
+        if (indexed != null) {
+            return indexed;
+        }
+        Object context = session.getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        if (context instanceof SecurityContext securityContext && securityContext.getAuthentication() != null) {
+            return securityContext.getAuthentication().getName();
+        }
+        return null;
+    }
+
+    private static String resolvePrincipalName(Object principal) {
+        return switch (principal) {
+            case UserDetails userDetails -> userDetails.getUsername();
+            case AuthenticatedPrincipal authenticatedPrincipal -> authenticatedPrincipal.getName();
+            case Principal javaPrincipal -> javaPrincipal.getName();
+            default -> principal.toString();
+        };
+    }
+
+    private final class IndexedSessionInformation extends SessionInformation {
+
+        private IndexedSessionInformation(String principalName, String sessionId, Date lastRequest) {
+            super(principalName, sessionId, lastRequest);
+        }
+
+        private void markExpired() {
+            super.expireNow();
+        }
+
+        @Override
+        public void expireNow() {
+            super.expireNow();
+            var session = sessionRepository.findById(getSessionId());
+            if (session == null) {
+                return;
+            }
+            session.setAttribute(EXPIRED_ATTRIBUTE, Boolean.TRUE);
+            sessionRepository.save(session);
+            log.info("[SESSION] 동시 세션 제한으로 이전 세션 만료 - sessionId={}...",
+                    getSessionId().substring(0, Math.min(8, getSessionId().length())));
+        }
+    }
+}
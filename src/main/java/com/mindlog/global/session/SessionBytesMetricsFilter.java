@@ -0,0 +1,66 @@
+package com.mindlog.global.session;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 세션 저장소에서 읽고 쓴 바이트 수를 {@code mindlog.session.bytes} 분포로 기록한다.
+ *
+ * <p>세션 커밋은 SessionRepositoryFilter가 체인을 빠져나올 때 일어나므로, 쓰기까지 포함하려면
+ * 그보다 바깥(가장 높은 우선순위)에 있어야 한다.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SessionBytesMetricsFilter extends OncePerRequestFilter {
+
+    private final @Nullable DistributionSummary readBytes;
+    private final @Nullable DistributionSummary writtenBytes;
+
+    public SessionBytesMetricsFilter(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        var meterRegistry = meterRegistryProvider.getIfAvailable();
+        this.readBytes = (meterRegistry == null) ? null : summary(meterRegistry, "read");
+        this.writtenBytes = (meterRegistry == null) ? null : summary(meterRegistry, "written");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        if (readBytes == null || writtenBytes == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SessionBytesTracker.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            var snapshot = SessionBytesTracker.finish();
+            // 정적 리소스처럼 세션을 건드리지 않은 요청은 분포를 흐리지 않도록 제외한다.
+            if (snapshot.readBytes() > 0 || snapshot.writtenBytes() > 0) {
+                readBytes.record(snapshot.readBytes());
+                writtenBytes.record(snapshot.writtenBytes());
+            }
+        }
+    }
+
+    private static DistributionSummary summary(MeterRegistry meterRegistry, String direction) {
+        return DistributionSummary.builder("mindlog.session.bytes")
+                .description("요청당 세션 저장소 입출력 바이트")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+}
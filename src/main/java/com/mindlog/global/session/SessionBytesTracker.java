@@ -0,0 +1,45 @@
+package com.mindlog.global.session;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 한 요청 동안 세션 저장소에서 읽고 쓴 바이트 수를 스레드 단위로 모은다.
+ *
+ * <p>세션 로드/저장은 요청을 처리하는 스레드에서 일어나므로 {@link SessionBytesMetricsFilter}가
+ * 요청 시작에 {@link #start()}, 끝에 {@link #finish()}를 호출해 요청별 값을 얻는다.
+ * 추적 중이 아닌 스레드(배치, 워밍업 등)의 직렬화는 무시한다.</p>
+ */
+public final class SessionBytesTracker {
+
+    private static final ThreadLocal<long @Nullable []> COUNTERS = new ThreadLocal<>();
+
+    private SessionBytesTracker() {
+    }
+
+    public static void start() {
+        COUNTERS.set(new long[2]);
+    }
+
+    public static Snapshot finish() {
+        var counters = COUNTERS.get();
+        COUNTERS.remove();
+        return (counters == null) ? new Snapshot(0L, 0L) : new Snapshot(counters[0], counters[1]);
+    }
+
+    static void addRead(int bytes) {
+        var counters = COUNTERS.get();
+        if (counters != null) {
+            counters[0] += bytes;
+        }
+    }
+
+    static void addWritten(int bytes) {
+        var counters = COUNTERS.get();
+        if (counters != null) {
+            counters[1] += bytes;
+        }
+    }
+
+    public record Snapshot(long readBytes, long writtenBytes) {
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package com.mindlog.global.session;
+
+import org.jspecify.annotations.NullMarked;
@@ -28,6 +28,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -41,6 +42,9 @@ class AuthContractWebMvcTest {
     @Mock
     private AuthHandoverService authHandoverService;
 
+    @Mock
+    private SessionAuthenticationStrategy concurrentSessionControlStrategy;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -50,7 +54,7 @@ class AuthContractWebMvcTest {
         var authController = new AuthController(authLoginService);
         ReflectionTestUtils.setField(authController, "supabaseUrl", "https://supabase.example.com");
 
-        var authExchangeController = new AuthExchangeController(authHandoverService);
+        var authExchangeController = new AuthExchangeController(authHandoverService, concurrentSessionControlStrategy);
 
         mockMvc = MockMvcBuilders.standaloneSetup(authController, authExchangeController).build();
     }
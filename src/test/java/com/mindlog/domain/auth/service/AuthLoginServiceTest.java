@@ -3,14 +3,20 @@ package com.mindlog.domain.auth.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.mindlog.domain.profile.entity.Profile;
 import com.mindlog.domain.profile.entity.UserRole;
 import com.mindlog.domain.profile.repository.ProfileRepository;
+import com.mindlog.global.security.MindlogPrincipal;
 import com.mindlog.global.security.SupabaseAuthService;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,9 +28,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
 
 @ExtendWith(MockitoExtension.class)
 class AuthLoginServiceTest {
@@ -38,6 +48,12 @@ class AuthLoginServiceTest {
     @Mock
     private AuthHandoverService authHandoverService;
 
+    @Mock
+    private SessionAuthenticationStrategy concurrentSessionControlStrategy;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthLoginService authLoginService;
 
@@ -58,8 +74,9 @@ class AuthLoginServiceTest {
                 "refresh-token-1",
                 "테스터",
                 "https://avatar.test"));
-        when(profileRepository.findById(profileId)).thenReturn(Optional.empty());
-        when(profileRepository.save(any(Profile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(profileRepository.upsertForLogin(
+                eq(profileId), eq("tester@example.com"), eq("테스터"), anyString(), eq("https://avatar.test")))
+                .thenReturn(syncView("USER", true));
 
         var request = new MockHttpServletRequest();
         var response = new MockHttpServletResponse();
@@ -71,7 +88,11 @@ class AuthLoginServiceTest {
         assertThat(request.getSession().getAttribute("USER_NAME")).isEqualTo("테스터");
         assertThat(request.getSession().getAttribute("REFRESH_TOKEN")).isEqualTo("refresh-token-1");
         assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(userId);
-        verify(profileRepository).save(any(Profile.class));
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .isEqualTo(new MindlogPrincipal(profileId, "테스터", List.of(MindlogPrincipal.ROLE_USER)));
+        verify(profileRepository, never()).findById(any());
+        verify(concurrentSessionControlStrategy).onAuthentication(any(), any(), any());
+        verify(eventPublisher).publishEvent(any(AuthenticationSuccessEvent.class));
     }
 
     @Test
@@ -86,13 +107,8 @@ class AuthLoginServiceTest {
                 null,
                 "네이티브유저",
                 null));
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(Profile.builder()
-                .id(profileId)
-                .email("native@example.com")
-                .name("네이티브유저")
-                .userName("native_user")
-                .role(UserRole.USER)
-                .build()));
+        when(profileRepository.upsertForLogin(eq(profileId), anyString(), anyString(), anyString(), any()))
+                .thenReturn(syncView("USER", false));
         when(authHandoverService.createOneTimeToken(any(), anyMap())).thenReturn("handover-token-1");
 
         var result = authLoginService.processLoginForNativeApp("code-2", "verifier-2");
@@ -108,6 +124,92 @@ class AuthLoginServiceTest {
         assertThat(attrs).doesNotContainKey("REFRESH_TOKEN");
     }
 
+    @Test
+    @DisplayName("로그인 처리 - 관리자 프로필이면 주체에 관리자 권한을 함께 담는다")
+    void processLogin_AdminProfileGetsAdminRole() throws Exception {
+        var userId = UUID.randomUUID().toString();
+        var profileId = UUID.fromString(userId);
+        when(supabaseAuthService.exchangeCodeForToken("code-3", "verifier-3")).thenReturn(tokenData(
+                userId,
+                "admin@example.com",
+                "access-token-3",
+                null,
+                "관리자",
+                null));
+        when(profileRepository.upsertForLogin(eq(profileId), anyString(), anyString(), anyString(), any()))
+                .thenReturn(syncView("ADMIN", false));
+
+        authLoginService.processLogin("code-3", "verifier-3", new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        var principal = (MindlogPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.profileId()).isEqualTo(profileId);
+        assertThat(principal.roles()).containsExactly(MindlogPrincipal.ROLE_USER, MindlogPrincipal.ROLE_ADMIN);
+    }
+
+    @Test
+    @DisplayName("로그인 처리 - 최근 동기화한 프로필은 다시 upsert하지 않는다")
+    void processLogin_RecentlySyncedProfileSkipsUpsert() throws Exception {
+        ReflectionTestUtils.setField(authLoginService, "profileSyncCacheTtlSeconds", 600L);
+        var userId = UUID.randomUUID().toString();
+        var profileId = UUID.fromString(userId);
+        when(supabaseAuthService.exchangeCodeForToken(anyString(), anyString())).thenReturn(tokenData(
+                userId,
+                "repeat@example.com",
+                "access-token-4",
+                null,
+                "재방문",
+                null));
+        when(profileRepository.upsertForLogin(eq(profileId), anyString(), anyString(), anyString(), any()))
+                .thenReturn(syncView("USER", false));
+
+        authLoginService.processLogin("code-4", "verifier-4", new MockHttpServletRequest(), new MockHttpServletResponse());
+        authLoginService.processLogin("code-5", "verifier-5", new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        verify(profileRepository, times(1)).upsertForLogin(eq(profileId), anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 처리 - 동시 신규 삽입으로 upsert 결과가 비면 저장된 프로필을 다시 읽는다")
+    void processLogin_ConcurrentInsertFallsBackToLookup() throws Exception {
+        var userId = UUID.randomUUID().toString();
+        var profileId = UUID.fromString(userId);
+        when(supabaseAuthService.exchangeCodeForToken("code-6", "verifier-6")).thenReturn(tokenData(
+                userId,
+                "race@example.com",
+                "access-token-6",
+                null,
+                "동시",
+                null));
+        when(profileRepository.upsertForLogin(eq(profileId), anyString(), anyString(), anyString(), any()))
+                .thenReturn(null);
+        when(profileRepository.findById(profileId)).thenReturn(Optional.of(Profile.builder()
+                .id(profileId)
+                .email("race@example.com")
+                .name("동시")
+                .userName("race_user")
+                .role(UserRole.USER)
+                .build()));
+
+        authLoginService.processLogin("code-6", "verifier-6", new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        var principal = (MindlogPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.roles()).containsExactly(MindlogPrincipal.ROLE_USER);
+    }
+
+    private ProfileRepository.ProfileSyncView syncView(String role, boolean inserted) {
+        return new ProfileRepository.ProfileSyncView() {
+            @Override
+            public String getRole() {
+                return role;
+            }
+
+            @Override
+            public Boolean getInserted() {
+                return inserted;
+            }
+        };
+    }
+
     private Map<String, Object> tokenData(
             String userId,
             String email,
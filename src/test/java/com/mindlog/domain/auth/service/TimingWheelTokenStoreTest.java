@@ -0,0 +1,120 @@
+package com.mindlog.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTokenStoreTest {
+
+    private MutableClock clock;
+    private TimingWheelTokenStore<String> store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-19T00:00:00Z"));
+        store = new TimingWheelTokenStore<>(Duration.ofSeconds(60), 3, clock);
+    }
+
+    @Test
+    void removeReturnsValueOnlyOnce() {
+        store.put("token-1", "value-1");
+
+        assertThat(store.remove("token-1")).isEqualTo("value-1");
+        assertThat(store.remove("token-1")).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void rejectsNewTokensAtCapacity() {
+        assertThat(store.put("token-1", "value")).isTrue();
+        assertThat(store.put("token-2", "value")).isTrue();
+        assertThat(store.put("token-3", "value")).isTrue();
+
+        assertThat(store.put("token-4", "value")).isFalse();
+        assertThat(store.size()).isEqualTo(3);
+
+        store.remove("token-1");
+        assertThat(store.put("token-4", "value")).isTrue();
+    }
+
+    @Test
+    void advanceExpiresOnlyTokensWhoseSecondHasPassed() {
+        store.put("early", "value");
+        clock.advance(Duration.ofSeconds(30));
+        store.put("late", "value");
+
+        clock.advance(Duration.ofSeconds(31));
+        store.advance();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.remove("early")).isNull();
+        assertThat(store.remove("late")).isEqualTo("value");
+    }
+
+    @Test
+    void tokenExpiringMidSecondIsReapedOnTheNextTickNotAfterARevolution() {
+        clock.advance(Duration.ofMillis(500));
+        store.put("token-1", "value");
+
+        clock.advance(Duration.ofMillis(59_700));
+        store.advance();
+        assertThat(store.size()).isEqualTo(1);
+
+        clock.advance(Duration.ofMillis(800));
+        store.advance();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void expiredTokenIsNotReturnedBeforeReaperRuns() {
+        store.put("token-1", "value");
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(store.remove("token-1")).isNull();
+    }
+
+    @Test
+    void reaperLaggingMoreThanOneRevolutionStillClearsEverything() {
+        store.put("token-1", "value");
+        store.put("token-2", "value");
+        clock.advance(Duration.ofMinutes(10));
+
+        store.advance();
+
+        assertThat(store.size()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -102,7 +103,7 @@ class DiaryControllerWebMvcTest {
     @Test
     void search_WhenCalled_PassesSearchParamsToService() throws Exception {
         when(diaryService.searchDiaries(
-                eq(profileId), eq("행복"), eq(null), eq(null),
+                eq(profileId), eq("행복"), eq(null), eq(null), eq(null), eq(null),
                 eq(true), eq(0), eq(12)))
                 .thenReturn(new PageImpl<>(List.of()));
 
@@ -114,10 +115,29 @@ class DiaryControllerWebMvcTest {
                 .andExpect(view().name("diaries/index"));
 
         verify(diaryService).searchDiaries(
-                eq(profileId), eq("행복"), eq(null), eq(null),
+                eq(profileId), eq("행복"), eq(null), eq(null), eq(null), eq(null),
                 eq(true), eq(0), eq(12));
     }
 
+    @Test
+    void search_WhenOnlyTagFilterGiven_PassesNullKeywordAndTagId() throws Exception {
+        when(diaryService.searchDiaries(
+                eq(profileId), eq(null), eq(null), eq(null), eq(7L), eq(null),
+                eq(false), eq(1), eq(12)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        mockMvc.perform(get("/diaries")
+                        .param("tagId", "7")
+                        .param("sort", "oldest")
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("diaries/index"))
+                .andExpect(model().attribute("tagId", 7L))
+                .andExpect(model().attribute("isSearchMode", true));
+
+        verify(diaryFormService).getTagOptions(eq(profileId));
+    }
+
     @Test
     void create_WhenValidationFails_Returns422() throws Exception {
         var formData = new DiaryFormDTO(
@@ -0,0 +1,205 @@
+package com.mindlog.domain.diary.repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 태그/카테고리 필터 쿼리가 운영 인덱스(scripts/sql/20261019_diary_emotions_filter_indexes.sql)를 타는지
+ * 실제 PostgreSQL의 EXPLAIN 으로 확인한다.
+ * 인덱스 스크립트는 CONCURRENTLY 를 쓰므로 테스트 트랜잭션 없이 autocommit 으로 적용하고,
+ * 여러 프로필에 걸친 일기/감정 행을 채운 뒤 VACUUM ANALYZE 한 통계로 플랜을 만든다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class DiaryFilterIndexPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine")
+            .withUrlParam("stringtype", "unspecified");
+
+    private static final int PROFILE_COUNT = 200;
+    private static final int DIARIES_PER_PROFILE = 300;
+    private static final int TAG_COUNT = 20;
+    private static final LocalDate FROM_DATE = LocalDate.of(1970, 1, 1);
+    private static final LocalDate TO_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final String TAG_INDEX = "idx_diary_emotions_profile_tag_date";
+    private static final String CATEGORY_INDEX = "idx_diary_emotions_profile_category_date";
+
+    private static boolean seeded;
+    private static UUID profileId;
+    private static long tagId;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        if (seeded) {
+            return;
+        }
+        applyScript(Path.of("scripts/sql/20260212_diary_search_indexes.sql"));
+        applyScript(Path.of("scripts/sql/20261019_diary_emotions_filter_indexes.sql"));
+        seed();
+        seeded = true;
+    }
+
+    @Test
+    @DisplayName("태그 필터 목록은 (profile_id, emotion_tag_id, diary_date, diary_id) 인덱스로 후보를 고른다")
+    void findByTagBeforeCursor_UsesTagIndex() {
+        String plan = explain(queryOf("findByTagBeforeCursor"), new MapSqlParameterSource()
+                .addValue("profileId", profileId)
+                .addValue("tagId", tagId)
+                .addValue("category", null, Types.VARCHAR)
+                .addValue("fromDate", FROM_DATE)
+                .addValue("cursorDate", TO_DATE)
+                .addValue("cursorId", Long.MAX_VALUE)
+                .addValue("limit", 21));
+
+        assertUsesIndex(plan, TAG_INDEX);
+    }
+
+    @Test
+    @DisplayName("카테고리 필터 목록은 (profile_id, category_snapshot, diary_date, diary_id) 인덱스로 후보를 고른다")
+    void findByCategoryBeforeCursor_UsesCategoryIndex() {
+        String plan = explain(queryOf("findByCategoryBeforeCursor"), new MapSqlParameterSource()
+                .addValue("profileId", profileId)
+                .addValue("category", "NEGATIVE")
+                .addValue("fromDate", FROM_DATE)
+                .addValue("cursorDate", TO_DATE)
+                .addValue("cursorId", Long.MAX_VALUE)
+                .addValue("limit", 21));
+
+        assertUsesIndex(plan, CATEGORY_INDEX);
+    }
+
+    @Test
+    @DisplayName("검색의 태그 EXISTS 세미 조인은 태그 인덱스를 키 전체로 탄다")
+    void search_WithTagFilter_UsesTagIndex() {
+        String plan = explain(queryOf("searchByKeywordOrderByDateDesc") + " LIMIT 20", searchParams()
+                .addValue("tagId", tagId)
+                .addValue("category", null, Types.VARCHAR));
+
+        assertUsesIndex(plan, TAG_INDEX);
+    }
+
+    @Test
+    @DisplayName("검색의 카테고리 EXISTS 세미 조인은 카테고리 인덱스를 키 전체로 탄다")
+    void search_WithCategoryFilter_UsesCategoryIndex() {
+        String plan = explain(queryOf("searchByKeywordOrderByDateDesc") + " LIMIT 20", searchParams()
+                .addValue("tagId", null, Types.BIGINT)
+                .addValue("category", "NEGATIVE"));
+
+        assertUsesIndex(plan, CATEGORY_INDEX);
+    }
+
+    private MapSqlParameterSource searchParams() {
+        return new MapSqlParameterSource()
+                .addValue("profileId", profileId)
+                .addValue("keyword", null, Types.VARCHAR)
+                .addValue("fromDate", FROM_DATE)
+                .addValue("toDate", TO_DATE);
+    }
+
+    private void assertUsesIndex(String plan, String indexName) {
+        assertThat(plan)
+                .as("EXPLAIN 결과:%n%s", plan)
+                .contains(indexName)
+                .doesNotContain("Seq Scan on diary_emotions")
+                .doesNotContain("Seq Scan on diaries")
+                .doesNotContain("Sort Key: de.");
+    }
+
+    private String explain(String sql, MapSqlParameterSource params) {
+        return String.join("\n", namedJdbcTemplate.queryForList("EXPLAIN " + sql, params, String.class));
+    }
+
+    private static String queryOf(String methodName) {
+        return Arrays.stream(DiaryRepository.class.getDeclaredMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow()
+                .getAnnotation(Query.class)
+                .value();
+    }
+
+    private void applyScript(Path script) throws IOException {
+        String body = Files.readAllLines(script).stream()
+                .filter(line -> !line.trim().startsWith("--"))
+                .collect(Collectors.joining("\n"));
+        for (String statement : body.split(";")) {
+            if (!statement.isBlank()) {
+                jdbcTemplate.execute(statement);
+            }
+        }
+    }
+
+    private void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO public.emotion_tags (name, color, category, is_default, usage_count, created_at, updated_at)
+                SELECT 'tag-' || n, '#000000',
+                       CASE n % 3 WHEN 0 THEN 'POSITIVE' WHEN 1 THEN 'NEGATIVE' ELSE 'NEUTRAL' END,
+                       true, 0, now(), now()
+                FROM generate_series(1, ?) AS n
+                """, TAG_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO public.diaries (profile_id, date, short_content, situation, is_deleted, created_at, updated_at)
+                SELECT md5('profile-' || p)::uuid, DATE '2020-01-01' + d, 'content ' || d, 'situation ' || d,
+                       false, now(), now()
+                FROM generate_series(1, ?) AS p, generate_series(1, ?) AS d
+                """, PROFILE_COUNT, DIARIES_PER_PROFILE);
+        // 일기마다 서로 다른 태그 두 개를 단다.
+        jdbcTemplate.update("""
+                WITH tags AS (
+                    SELECT t.id, t.name, t.color, t.category, row_number() OVER (ORDER BY t.id) - 1 AS n
+                    FROM public.emotion_tags t
+                )
+                INSERT INTO public.diary_emotions (diary_id, profile_id, diary_date, emotion_tag_id, category_snapshot,
+                                                   tag_name_snapshot, color_snapshot, intensity, source,
+                                                   created_at, updated_at)
+                SELECT d.id, d.profile_id, d.date, t.id, t.category, t.name, t.color, 3, 'MANUAL', now(), now()
+                FROM public.diaries d
+                JOIN tags t ON t.n IN (d.id % ?, (d.id + 7) % ?)
+                """, TAG_COUNT, TAG_COUNT);
+        jdbcTemplate.execute("VACUUM ANALYZE public.emotion_tags");
+        jdbcTemplate.execute("VACUUM ANALYZE public.diaries");
+        jdbcTemplate.execute("VACUUM ANALYZE public.diary_emotions");
+
+        profileId = jdbcTemplate.queryForObject("SELECT md5('profile-1')::uuid", UUID.class);
+        tagId = jdbcTemplate.queryForObject("SELECT min(id) FROM public.emotion_tags", Long.class);
+    }
+}
@@ -1,23 +1,41 @@
 package com.mindlog.domain.diary.service;
 
+import com.mindlog.domain.diary.dto.DiaryKeysetPage;
+import com.mindlog.domain.diary.dto.DiaryListItemResponse;
+import com.mindlog.domain.diary.dto.DiaryMonthlySummary;
 import com.mindlog.domain.diary.dto.DiaryRequest;
 import com.mindlog.domain.diary.dto.DiaryResponse;
+import com.mindlog.domain.diary.dto.OnThisDayEntry;
 import com.mindlog.domain.diary.entity.Diary;
 import com.mindlog.domain.diary.repository.DiaryRepository;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.PeriodEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.TagCooccurrenceRepository;
+import com.mindlog.domain.insight.service.EmotionAnomalyService;
+import com.mindlog.domain.insight.service.InsightSnapshotService;
+import com.mindlog.domain.tag.dto.DiaryTagSummary;
+import com.mindlog.domain.tag.dto.TagResponse;
+import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.domain.tag.entity.EmotionTag;
 import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
 import com.mindlog.domain.tag.repository.DiaryTagRepository;
 import com.mindlog.domain.tag.repository.EmotionTagRepository;
+import com.mindlog.global.cache.ProfileCacheEvictor;
 import com.mindlog.global.exception.DiaryAccessDeniedException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +44,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -42,7 +61,18 @@ class DiaryServiceTest {
     @Mock
     private EmotionTagRepository emotionTagRepository;
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private DailyEmotionRollupRepository dailyEmotionRollupRepository;
+    @Mock
+    private PeriodEmotionRollupRepository periodEmotionRollupRepository;
+    @Mock
+    private TagCooccurrenceRepository tagCooccurrenceRepository;
+    @Mock
+    private EmotionAnomalyService emotionAnomalyService;
+    @Mock
+    private ProfileCacheEvictor profileCacheEvictor;
+
+    @Mock
+    private InsightSnapshotService insightSnapshotService;
 
     @InjectMocks
     private DiaryService diaryService;
@@ -64,8 +94,8 @@ class DiaryServiceTest {
         });
 
         List<EmotionTag> tags = List.of(
-            EmotionTag.builder().name("tag1").build(),
-            EmotionTag.builder().name("tag2").build()
+            emotionTag(1L, "tag1", EmotionCategory.POSITIVE),
+            emotionTag(2L, "tag2", EmotionCategory.NEGATIVE)
         );
         given(emotionTagRepository.findAllById(anyList())).willReturn(tags);
 
@@ -75,6 +105,161 @@ class DiaryServiceTest {
         // then
         verify(diaryRepository).save(any(Diary.class));
         verify(diaryTagRepository).saveAll(anyList());
+        verify(dailyEmotionRollupRepository).increment(
+                profileId, today, 1L, "POSITIVE", "tag1", null, 1L, 3L);
+        verify(dailyEmotionRollupRepository).increment(
+                profileId, today, 2L, "NEGATIVE", "tag2", null, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("일기 생성 - 요청한 태그 일부를 찾지 못하면 집계를 건너뛰지 않고 예외")
+    void createDiary_WhenTagMissing_Throws() {
+        UUID profileId = UUID.randomUUID();
+        DiaryRequest request = new DiaryRequest(
+                LocalDate.now(), "content", null, null, null, null, null, null, null, List.of(1L, 2L)
+        );
+        given(diaryRepository.save(any(Diary.class))).willAnswer(inv -> inv.getArgument(0));
+        given(emotionTagRepository.findAllById(anyList()))
+                .willReturn(List.of(emotionTag(1L, "tag1", EmotionCategory.POSITIVE)));
+
+        assertThatThrownBy(() -> diaryService.createDiary(profileId, request))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private EmotionTag emotionTag(Long id, String name, EmotionCategory category) {
+        EmotionTag tag = EmotionTag.builder()
+                .name(name)
+                .category(category)
+                .build();
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+
+    @Test
+    @DisplayName("오늘의 추억 - 올해 이전의 같은 월/일 일기를 몇 년 전인지와 함께 반환한다")
+    void getOnThisDay_ReturnsPreviousYears() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate today = LocalDate.of(2026, 10, 19);
+        var row = mock(DiaryRepository.DiaryMonthlySummaryRow.class);
+        given(row.toSummary()).willReturn(
+                new DiaryMonthlySummary(7L, LocalDate.of(2024, 10, 19), "content", null));
+        given(diaryRepository.findSameMonthDayBefore(profileId, 1019, LocalDate.of(2026, 1, 1), 5))
+                .willReturn(List.of(row));
+
+        List<OnThisDayEntry> entries = diaryService.getOnThisDay(profileId, today);
+
+        assertThat(entries).containsExactly(
+                new OnThisDayEntry(7L, LocalDate.of(2024, 10, 19), 2, "content", null));
+    }
+
+    @Test
+    @DisplayName("필터 목록 - 한 건 더 읽어 다음 페이지 여부와 키셋 커서를 계산한다")
+    void getFilteredDiaries_ReturnsKeysetCursor() {
+        UUID profileId = UUID.randomUUID();
+        var first = summaryRow(new DiaryMonthlySummary(9L, LocalDate.of(2026, 3, 2), "a", null));
+        var second = summaryRow(new DiaryMonthlySummary(5L, LocalDate.of(2026, 3, 1), "b", null));
+        var extra = mock(DiaryRepository.DiaryMonthlySummaryRow.class);
+        given(diaryRepository.findByCategoryBeforeCursor(
+                profileId, "NEGATIVE", LocalDate.EPOCH, LocalDate.of(9999, 12, 31), Long.MAX_VALUE, 3))
+                .willReturn(List.of(first, second, extra));
+
+        DiaryKeysetPage page = diaryService.getFilteredDiaries(
+                profileId, null, EmotionCategory.NEGATIVE, null, null, null, 2);
+
+        assertThat(page.items()).extracting(item -> item.id()).containsExactly(9L, 5L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursorDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(page.nextCursorId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("필터 목록 - 태그가 있으면 태그 인덱스 쿼리로 커서 이후를 조회한다")
+    void getFilteredDiaries_UsesTagQueryWithCursor() {
+        UUID profileId = UUID.randomUUID();
+        var only = summaryRow(new DiaryMonthlySummary(3L, LocalDate.of(2025, 12, 31), "c", null));
+        given(diaryRepository.findByTagBeforeCursor(
+                profileId, 7L, null, LocalDate.EPOCH, LocalDate.of(2026, 1, 1), 4L, 21))
+                .willReturn(List.of(only));
+
+        DiaryKeysetPage page = diaryService.getFilteredDiaries(
+                profileId, 7L, null, null, LocalDate.of(2026, 1, 1), 4L, 20);
+
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursorId()).isNull();
+    }
+
+    @Test
+    @DisplayName("필터 목록 - 태그와 카테고리가 모두 없으면 예외")
+    void getFilteredDiaries_RequiresFilter() {
+        assertThatThrownBy(() -> diaryService.getFilteredDiaries(
+                UUID.randomUUID(), null, null, null, null, null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DiaryRepository.DiaryMonthlySummaryRow summaryRow(DiaryMonthlySummary summary) {
+        var row = mock(DiaryRepository.DiaryMonthlySummaryRow.class);
+        given(row.toSummary()).willReturn(summary);
+        return row;
+    }
+
+    @Test
+    @DisplayName("일기 생성 - 긴 상황 본문은 문자소 경계에서 자른 발췌문으로 저장된다")
+    void createDiary_StoresGraphemeSafeExcerpt() {
+        UUID profileId = UUID.randomUUID();
+        // 가족 이모지(ZWJ 결합)가 120번째 문자소에 걸치도록 만든다.
+        String family = "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67";
+        String situation = "가".repeat(119) + family + "  나머지\n본문";
+        DiaryRequest request = new DiaryRequest(
+                LocalDate.now(), "content", situation, null, null, null, null, null, null, List.of()
+        );
+        given(diaryRepository.save(any(Diary.class))).willAnswer(inv -> inv.getArgument(0));
+
+        diaryService.createDiary(profileId, request);
+
+        var captor = ArgumentCaptor.forClass(Diary.class);
+        verify(diaryRepository).save(captor.capture());
+        assertThat(captor.getValue().getExcerpt()).isEqualTo("가".repeat(119) + family);
+    }
+
+    @Test
+    @DisplayName("월별 목록 - 같은 태그는 인스턴스를 공유해 직렬화 크기가 줄어든다")
+    void getMonthlyDiaries_SharesTagInstances() throws Exception {
+        UUID profileId = UUID.randomUUID();
+        List<DiaryRepository.DiaryMonthlySummaryRow> rows = new ArrayList<>();
+        List<DiaryTagSummary> tagSummaries = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            rows.add(summaryRow(new DiaryMonthlySummary(id, LocalDate.of(2026, 3, (int) id), "c", null)));
+            tagSummaries.add(new DiaryTagSummary(id, 1L, "불안", "#F59E0B", EmotionCategory.NEGATIVE, false));
+            tagSummaries.add(new DiaryTagSummary(id, 2L, "감사", "#10B981", EmotionCategory.POSITIVE, false));
+        }
+        given(diaryRepository.findMonthlySummaryByProfileIdAndDateBetween(
+                profileId, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)))
+                .willReturn(rows);
+        given(diaryEmotionRepository.findTagSummaryByDiaryIds(anyList())).willReturn(tagSummaries);
+
+        var diaries = diaryService.getMonthlyDiaries(profileId, 2026, 3, false);
+
+        assertThat(diaries).hasSize(30);
+        assertThat(diaries.get(0).tags().get(0)).isSameAs(diaries.get(29).tags().get(0));
+
+        var copied = diaries.stream()
+                .map(item -> new DiaryListItemResponse(item.id(), item.date(), item.shortContent(), item.excerpt(),
+                        item.tags().stream()
+                                .map(tag -> new TagResponse(tag.id(), new String(tag.name()), new String(tag.color()),
+                                        new String(tag.category()), tag.isDefault()))
+                                .toList()))
+                .toList();
+        assertThat(serializedSize(new ArrayList<>(diaries)))
+                .isLessThan(serializedSize(new ArrayList<>(copied)));
+    }
+
+    private int serializedSize(Serializable value) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.size();
     }
 
     @Test
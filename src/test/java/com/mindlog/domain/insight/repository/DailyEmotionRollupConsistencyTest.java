@@ -0,0 +1,219 @@
+package com.mindlog.domain.insight.repository;
+
+import com.mindlog.domain.diary.dto.DiaryRequest;
+import com.mindlog.domain.diary.service.DiaryService;
+import com.mindlog.domain.insight.service.EmotionAnomalyService;
+import com.mindlog.domain.insight.service.EmotionRollupRebuildService;
+import com.mindlog.domain.insight.service.InsightSnapshotService;
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import com.mindlog.domain.tag.entity.EmotionTag;
+import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
+import com.mindlog.domain.tag.repository.EmotionTagRepository;
+import com.mindlog.global.cache.ProfileCacheEvictor;
+import com.mindlog.global.config.JpaAuditConfig;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL에서 일기 작성/수정/삭제 후 daily_emotion_rollups가 원본 diary_emotions 집계와 행 단위로 일치하는지 검증한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditConfig.class, DiaryService.class, EmotionRollupRebuildService.class})
+@Testcontainers(disabledWithoutDocker = true)
+class DailyEmotionRollupConsistencyTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine")
+            .withUrlParam("stringtype", "unspecified");
+
+    private static final LocalDate FROM = LocalDate.of(2026, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 2, 28);
+
+    @MockitoBean
+    private EmotionAnomalyService emotionAnomalyService;
+    @MockitoBean
+    private InsightSnapshotService insightSnapshotService;
+    @MockitoBean
+    private ProfileCacheEvictor profileCacheEvictor;
+
+    @Autowired
+    private DiaryService diaryService;
+    @Autowired
+    private EmotionRollupRebuildService emotionRollupRebuildService;
+    @Autowired
+    private EmotionTagRepository emotionTagRepository;
+    @Autowired
+    private DiaryEmotionRepository diaryEmotionRepository;
+    @Autowired
+    private DailyEmotionRollupRepository dailyEmotionRollupRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID profileId = UUID.randomUUID();
+    private final UUID otherProfileId = UUID.randomUUID();
+    private Long joyId;
+    private Long anxietyId;
+    private Long calmId;
+
+    @BeforeEach
+    void setUp() {
+        joyId = saveTag("기쁨", "#f59e0b", EmotionCategory.POSITIVE);
+        anxietyId = saveTag("불안", "#ef4444", EmotionCategory.NEGATIVE);
+        calmId = saveTag("평온", null, EmotionCategory.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("일기 작성/수정/삭제 후 일 단위 집계가 원본 집계와 행 단위로 일치한다")
+    void rollupsMatchRawAfterWrites() {
+        writeEditAndDeleteDiaries();
+
+        assertRollupsMatchRaw();
+    }
+
+    @Test
+    @DisplayName("재구축 결과도 원본 집계와 행 단위로 일치한다")
+    void rebuildMatchesRaw() {
+        writeEditAndDeleteDiaries();
+        entityManager.createNativeQuery("DELETE FROM public.daily_emotion_rollups").executeUpdate();
+
+        emotionRollupRebuildService.rebuildProfile(profileId);
+        emotionRollupRebuildService.rebuildProfile(otherProfileId);
+
+        assertRollupsMatchRaw();
+    }
+
+    private void writeEditAndDeleteDiaries() {
+        var first = diaryService.createDiary(profileId, request(FROM, List.of(joyId, anxietyId)));
+        var second = diaryService.createDiary(profileId, request(FROM, List.of(joyId)));
+        var third = diaryService.createDiary(profileId, request(FROM.plusDays(2), List.of(anxietyId, calmId)));
+        diaryService.createDiary(otherProfileId, request(FROM, List.of(joyId, calmId)));
+
+        // 날짜와 태그를 함께 바꾸면 이전 날짜 집계는 줄고 새 날짜 집계는 늘어야 한다.
+        diaryService.updateDiary(profileId, first, request(FROM.plusDays(1), List.of(calmId, anxietyId)));
+        diaryService.updateDiary(profileId, second, request(FROM, List.of()));
+        diaryService.deleteDiary(profileId, third);
+        diaryService.createDiary(profileId, request(FROM.plusDays(2), List.of(joyId, calmId)));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("태그 쌍 감소로 0이 된 동시 출현 행만 지워지고 나머지는 원본 쌍 집계와 일치한다")
+    void cooccurrencesMatchRawAfterWrites() {
+        writeEditAndDeleteDiaries();
+
+        @SuppressWarnings("unchecked")
+        List<String> raw = entityManager.createNativeQuery("""
+                SELECT CONCAT_WS('|', a.profile_id, a.emotion_tag_id, b.emotion_tag_id, COUNT(DISTINCT a.diary_id))
+                FROM public.diary_emotions a
+                JOIN public.diary_emotions b
+                  ON b.diary_id = a.diary_id
+                 AND b.emotion_tag_id > a.emotion_tag_id
+                WHERE EXISTS (SELECT 1 FROM public.diaries d WHERE d.id = a.diary_id AND d.is_deleted = false)
+                GROUP BY a.profile_id, a.emotion_tag_id, b.emotion_tag_id
+                ORDER BY 1
+                """).getResultList();
+        @SuppressWarnings("unchecked")
+        List<String> stored = entityManager.createNativeQuery("""
+                SELECT CONCAT_WS('|', profile_id, tag_a_id, tag_b_id, pair_count)
+                FROM public.tag_cooccurrences
+                ORDER BY 1
+                """).getResultList();
+
+        // 기쁨-불안 쌍은 수정으로 0이 되어 지워지고, 다른 프로필의 쌍은 그대로 남아야 한다.
+        assertThat(raw).hasSize(3);
+        assertThat(stored).containsExactlyElementsOf(raw);
+    }
+
+    private void assertRollupsMatchRaw() {
+        @SuppressWarnings("unchecked")
+        List<String> raw = entityManager.createNativeQuery("""
+                SELECT CONCAT_WS('|', de.profile_id, de.diary_date, de.emotion_tag_id, de.category_snapshot,
+                                 COUNT(*), SUM(de.intensity), MAX(de.tag_name_snapshot), MAX(de.color_snapshot))
+                FROM public.diary_emotions de
+                WHERE EXISTS (SELECT 1 FROM public.diaries d WHERE d.id = de.diary_id AND d.is_deleted = false)
+                GROUP BY de.profile_id, de.diary_date, de.emotion_tag_id, de.category_snapshot
+                ORDER BY 1
+                """).getResultList();
+        @SuppressWarnings("unchecked")
+        List<String> rollup = entityManager.createNativeQuery("""
+                SELECT CONCAT_WS('|', profile_id, rollup_date, emotion_tag_id, category,
+                                 mention_count, intensity_sum, tag_name, color)
+                FROM public.daily_emotion_rollups
+                ORDER BY 1
+                """).getResultList();
+
+        assertThat(raw).hasSize(6);
+        assertThat(rollup).containsExactlyElementsOf(raw);
+
+        assertThat(dailyEmotionRollupRepository.findDailyTrendInRange(profileId, FROM, TO).stream()
+                .map(this::trendRow)
+                .toList())
+                .containsExactlyElementsOf(diaryEmotionRepository.findDailyTrendInRange(
+                                profileId, FROM, TO,
+                                EmotionCategory.POSITIVE, EmotionCategory.NEGATIVE, EmotionCategory.NEUTRAL)
+                        .stream()
+                        .map(this::trendRow)
+                        .toList());
+        assertThat(dailyEmotionRollupRepository.findTopTagsInRange(profileId, FROM, TO, PageRequest.of(0, 30)).stream()
+                .map(this::tagRow)
+                .toList())
+                .containsExactlyElementsOf(diaryEmotionRepository.findTopTagsInRange(
+                                profileId, FROM, TO, PageRequest.of(0, 30))
+                        .stream()
+                        .map(this::tagRow)
+                        .toList());
+    }
+
+    private Long saveTag(String name, String color, EmotionCategory category) {
+        return emotionTagRepository.save(EmotionTag.builder()
+                        .name(name)
+                        .color(color)
+                        .category(category)
+                        .isDefault(true)
+                        .build())
+                .getId();
+    }
+
+    private DiaryRequest request(LocalDate date, List<Long> tagIds) {
+        return new DiaryRequest(date, "content", null, null, null, null, null, null, null, tagIds);
+    }
+
+    private String trendRow(DiaryEmotionRepository.DailyTrendView view) {
+        return String.join("|",
+                String.valueOf(view.getDate()),
+                String.valueOf(view.getPositiveCount()),
+                String.valueOf(view.getNegativeCount()),
+                String.valueOf(view.getNeutralCount()),
+                String.valueOf(view.getTotalCount()),
+                String.valueOf(view.getAvgIntensity()));
+    }
+
+    private String tagRow(DiaryEmotionRepository.TagCountView view) {
+        return String.join("|",
+                String.valueOf(view.getTagId()),
+                view.getTagName(),
+                String.valueOf(view.getColor()),
+                String.valueOf(view.getCategory()),
+                String.valueOf(view.getCount()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.mindlog.domain.insight.repository;
+
+import com.mindlog.domain.insight.entity.EmotionAnomalyState;
+import com.mindlog.domain.insight.service.EmotionAnomalyService;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL과 운영 DDL(scripts/sql/20261019_emotion_anomaly_states.sql)로 이상 탐지 상태 쓰기 경로를 검증한다.
+ * 엔티티에서 만든 테이블은 지우고 운영 스크립트로 다시 만들어, 네이티브 INSERT의 컬럼 이름까지 확인한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmotionAnomalyService.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Sql(statements = "DROP TABLE IF EXISTS public.emotion_anomaly_states")
+@Sql(scripts = "file:scripts/sql/20261019_emotion_anomaly_states.sql")
+class EmotionAnomalyStatePersistenceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine")
+            .withUrlParam("stringtype", "unspecified");
+
+    private static final LocalDate DAY = LocalDate.of(2026, 2, 1);
+
+    @Autowired
+    private EmotionAnomalyService emotionAnomalyService;
+    @Autowired
+    private EmotionAnomalyStateRepository emotionAnomalyStateRepository;
+    @Autowired
+    private DailyEmotionRollupRepository dailyEmotionRollupRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID profileId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("첫 변화량 기록이 운영 DDL에 상태 행을 만들고 이후 변화량을 누적한다")
+    void recordDelta_CreatesAndUpdatesStateRow() {
+        emotionAnomalyService.recordDelta(profileId, DAY, 1L, 2L);
+        emotionAnomalyService.recordDelta(profileId, DAY, 1L, 1L);
+        entityManager.flush();
+        entityManager.clear();
+
+        var state = emotionAnomalyStateRepository.findById(profileId).orElseThrow();
+        assertThat(state.getLatestDate()).isEqualTo(DAY);
+        assertThat(state.getLatestNegativeCount()).isEqualTo(2L);
+        assertThat(state.getLatestTotalCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("재구축은 상태 행이 없어도 일 단위 집계를 날짜순으로 재생한다")
+    void rebuild_ReplaysDailyRollups() {
+        dailyEmotionRollupRepository.increment(profileId, DAY, 1L, "NEGATIVE", "불안", null, 1L, 3L);
+        dailyEmotionRollupRepository.increment(profileId, DAY.plusDays(1), 2L, "POSITIVE", "기쁨", null, 2L, 6L);
+
+        emotionAnomalyService.rebuild(profileId);
+        entityManager.flush();
+        entityManager.clear();
+
+        var state = emotionAnomalyStateRepository.findById(profileId).orElseThrow();
+        assertThat(state.getLatestDate()).isEqualTo(DAY.plusDays(1));
+        assertThat(state.getLatestTotalCount()).isEqualTo(2L);
+        assertThat(state.getObservedDays()).isEqualTo(1);
+        assertThat(state).extracting(EmotionAnomalyState::getLatestNegativeCount).isEqualTo(0L);
+    }
+}
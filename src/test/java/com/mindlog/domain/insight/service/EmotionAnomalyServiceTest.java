@@ -0,0 +1,103 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.entity.EmotionAnomalyState;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.EmotionAnomalyStateRepository;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionAnomalyServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private EmotionAnomalyStateRepository emotionAnomalyStateRepository;
+    @Mock
+    private DailyEmotionRollupRepository dailyEmotionRollupRepository;
+
+    private EmotionAnomalyService emotionAnomalyService;
+    private UUID profileId;
+    private EmotionAnomalyState state;
+
+    @BeforeEach
+    void setUp() {
+        emotionAnomalyService = new EmotionAnomalyService(
+                emotionAnomalyStateRepository, dailyEmotionRollupRepository, 0.2, 2.0, 7, 2L);
+        profileId = UUID.randomUUID();
+        state = EmotionAnomalyState.initial(profileId);
+    }
+
+    @Test
+    @DisplayName("이상 탐지 - 평소보다 부정 비율이 크게 높은 날을 표시한다")
+    void recordDelta_FlagsNegativeSpike() {
+        given(emotionAnomalyStateRepository.findForUpdate(profileId)).willReturn(Optional.of(state));
+        given(emotionAnomalyStateRepository.findById(profileId)).willReturn(Optional.of(state));
+
+        // 10일 동안 부정 비율 20~30%
+        for (int day = 0; day < 10; day++) {
+            long negative = (day % 2 == 0) ? 1L : 2L;
+            emotionAnomalyService.recordDelta(profileId, START.plusDays(day), negative, 5L);
+        }
+        assertThat(emotionAnomalyService.getStatus(profileId).flagged()).isFalse();
+
+        emotionAnomalyService.recordDelta(profileId, START.plusDays(10), 5L, 5L);
+
+        var status = emotionAnomalyService.getStatus(profileId);
+        assertThat(status.date()).isEqualTo(START.plusDays(10));
+        assertThat(status.flagged()).isTrue();
+        assertThat(status.negativeRatio()).isEqualTo(1.0);
+        assertThat(status.baselineRatio()).isBetween(0.2, 0.4);
+        assertThat(status.zScore()).isGreaterThanOrEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("이상 탐지 - 같은 날짜의 삭제는 그날 집계를 되돌려 표시를 해제한다")
+    void recordDelta_SameDayRevertClearsFlag() {
+        given(emotionAnomalyStateRepository.findForUpdate(profileId)).willReturn(Optional.of(state));
+
+        for (int day = 0; day < 8; day++) {
+            emotionAnomalyService.recordDelta(profileId, START.plusDays(day), 1L, 4L);
+        }
+        emotionAnomalyService.recordDelta(profileId, START.plusDays(8), 4L, 4L);
+        assertThat(state.isFlagged()).isTrue();
+
+        emotionAnomalyService.recordDelta(profileId, START.plusDays(8), -4L, -4L);
+        emotionAnomalyService.recordDelta(profileId, START.plusDays(8), 1L, 4L);
+
+        assertThat(state.isFlagged()).isFalse();
+        assertThat(state.getObservedDays()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("이상 탐지 - 관측 일수가 부족하면 표시하지 않는다")
+    void recordDelta_NotEnoughHistory() {
+        given(emotionAnomalyStateRepository.findForUpdate(profileId)).willReturn(Optional.of(state));
+
+        emotionAnomalyService.recordDelta(profileId, START, 0L, 5L);
+        emotionAnomalyService.recordDelta(profileId, START.plusDays(1), 5L, 5L);
+
+        assertThat(state.isFlagged()).isFalse();
+        assertThat(state.getZScore()).isZero();
+    }
+
+    @Test
+    @DisplayName("이상 탐지 - 변화량이 없으면 상태 행을 건드리지 않는다")
+    void recordDelta_NoChange() {
+        emotionAnomalyService.recordDelta(profileId, START, 0L, 0L);
+
+        verify(emotionAnomalyStateRepository, never()).insertIfAbsent(profileId);
+    }
+}
@@ -1,25 +1,44 @@
 package com.mindlog.domain.insight.service;
 
 import com.mindlog.domain.insight.dto.EmotionAnalysisResponse;
+import com.mindlog.domain.insight.dto.EmotionComparisonResponse;
+import com.mindlog.domain.insight.dto.TagStatDelta;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.insight.repository.PeriodEmotionRollupRepository;
 import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,9 +47,27 @@ class EmotionInsightServiceTest {
     @Mock
     private DiaryEmotionRepository diaryEmotionRepository;
 
+    @Mock
+    private DailyEmotionRollupRepository dailyEmotionRollupRepository;
+
+    @Mock
+    private PeriodEmotionRollupRepository periodEmotionRollupRepository;
+
+    @Mock
+    private InsightSnapshotService insightSnapshotService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private EmotionInsightService emotionInsightService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(emotionInsightService, "multiResolutionThresholdDays", 92);
+        ReflectionTestUtils.setField(emotionInsightService, "queryTimeoutMs", 5_000L);
+    }
+
     @Test
     @DisplayName("감정 분석 - 카테고리/상위태그/추이를 조합해서 반환한다")
     void getEmotionAnalysis_Success() {
@@ -62,6 +99,121 @@ class EmotionInsightServiceTest {
         assertThat(response.weeklyTrend().stream().mapToLong(it -> it.totalCount()).sum()).isEqualTo(4L);
     }
 
+    @Test
+    @DisplayName("감정 분석 - 병렬 조회 허가가 없으면 호출 스레드에서 순차 실행하고 실패는 부분 결과로 남긴다")
+    void getEmotionAnalysis_RunsInlineWhenNoPermitAvailable() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 10);
+        var permits = new Semaphore(0);
+        ReflectionTestUtils.setField(emotionInsightService, "insightQueryPermits", permits);
+        var callerThread = Thread.currentThread();
+        var queryThreads = new ArrayList<Thread>();
+
+        given(diaryEmotionRepository.findTopTagsInRange(eq(profileId), eq(from), eq(to), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    queryThreads.add(Thread.currentThread());
+                    throw new QueryTimeoutException("statement timeout");
+                });
+        given(diaryEmotionRepository.findDailyTrendInRange(
+                profileId, from, to, EmotionCategory.POSITIVE, EmotionCategory.NEGATIVE, EmotionCategory.NEUTRAL
+        )).willAnswer(invocation -> {
+            queryThreads.add(Thread.currentThread());
+            return List.of(dailyTrend(LocalDate.of(2026, 2, 1), 1L, 0L, 0L, 1L, 3.0));
+        });
+
+        EmotionAnalysisResponse response = emotionInsightService.getEmotionAnalysis(profileId, from, to, 5);
+
+        assertThat(queryThreads).hasSize(2).allMatch(thread -> thread == callerThread);
+        assertThat(response.totalMentions()).isEqualTo(1L);
+        assertThat(response.failedSections()).containsExactly("topTags");
+        assertThat(permits.availablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("감정 분석 - 병렬 조회가 끝나면 허가를 모두 돌려준다")
+    void getEmotionAnalysis_ReleasesPermitsAfterParallelQueries() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 10);
+        var permits = new Semaphore(1);
+        ReflectionTestUtils.setField(emotionInsightService, "insightQueryPermits", permits);
+
+        given(diaryEmotionRepository.findTopTagsInRange(eq(profileId), eq(from), eq(to), any(Pageable.class)))
+                .willThrow(new QueryTimeoutException("statement timeout"));
+
+        emotionInsightService.getEmotionAnalysis(profileId, from, to, 5);
+
+        assertThat(permits.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("감정 분석 - 기본 조회는 야간 스냅샷이 있으면 원본 집계를 읽지 않는다")
+    void getEmotionAnalysis_UsesSnapshotForDefaultRange() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(29);
+        var snapshot = new EmotionAnalysisResponse(from, to, 7L, List.of(), List.of(), from, List.of(), List.of(), List.of());
+        given(insightSnapshotService.find(profileId, from, to)).willReturn(Optional.of(snapshot));
+
+        EmotionAnalysisResponse response = emotionInsightService.getEmotionAnalysis(profileId, null, null, null);
+
+        assertThat(response).isSameAs(snapshot);
+        verify(diaryEmotionRepository, never()).findTopTagsInRange(any(), any(), any(), any(Pageable.class));
+        verify(dailyEmotionRollupRepository, never()).findTopTagsInRange(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("감정 분석 - 기간을 지정한 조회는 스냅샷을 보지 않는다")
+    void getEmotionAnalysis_SkipsSnapshotForExplicitRange() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 10);
+
+        emotionInsightService.getEmotionAnalysis(profileId, from, to, null);
+
+        verify(insightSnapshotService, never()).find(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("감정 분석 - 한 하위 조회가 실패하면 나머지 섹션으로 부분 결과를 반환한다")
+    void getEmotionAnalysis_PartialResultWhenBranchFails() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 10);
+
+        given(diaryEmotionRepository.findTopTagsInRange(eq(profileId), eq(from), eq(to), any(Pageable.class)))
+                .willThrow(new QueryTimeoutException("statement timeout"));
+        given(diaryEmotionRepository.findDailyTrendInRange(
+                profileId, from, to, EmotionCategory.POSITIVE, EmotionCategory.NEGATIVE, EmotionCategory.NEUTRAL
+        )).willReturn(List.of(dailyTrend(LocalDate.of(2026, 2, 2), 2L, 1L, 0L, 3L, 3.0)));
+
+        EmotionAnalysisResponse response = emotionInsightService.getEmotionAnalysis(profileId, from, to, 5);
+
+        assertThat(response.partial()).isTrue();
+        assertThat(response.failedSections()).containsExactly("topTags");
+        assertThat(response.topTags()).isEmpty();
+        assertThat(response.totalMentions()).isEqualTo(3L);
+        assertThat(response.weeklyTrend()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("감정 분석 - 모든 하위 조회가 실패하면 예외를 던진다")
+    void getEmotionAnalysis_AllBranchesFail() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 10);
+
+        given(diaryEmotionRepository.findTopTagsInRange(eq(profileId), eq(from), eq(to), any(Pageable.class)))
+                .willThrow(new QueryTimeoutException("statement timeout"));
+        given(diaryEmotionRepository.findDailyTrendInRange(
+                profileId, from, to, EmotionCategory.POSITIVE, EmotionCategory.NEGATIVE, EmotionCategory.NEUTRAL
+        )).willThrow(new QueryTimeoutException("statement timeout"));
+
+        assertThatThrownBy(() -> emotionInsightService.getEmotionAnalysis(profileId, from, to, 5))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     @DisplayName("감정 분석 - from이 to보다 늦으면 예외를 던진다")
     void getEmotionAnalysis_InvalidDateRange() {
@@ -97,6 +249,260 @@ class EmotionInsightServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("감정 분석 - 집계 테이블 경로에서는 원본 diary_emotions 집계를 호출하지 않는다")
+    void getEmotionAnalysis_ReadsFromRollup() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 10);
+        ReflectionTestUtils.setField(emotionInsightService, "readFromRollup", true);
+
+        given(dailyEmotionRollupRepository.findTopTagsInRange(eq(profileId), eq(from), eq(to), any(Pageable.class)))
+                .willReturn(List.of());
+        given(dailyEmotionRollupRepository.findDailyTrendInRange(profileId, from, to))
+                .willReturn(List.of(dailyTrend(LocalDate.of(2026, 2, 3), 0L, 2L, 0L, 2L, 4.5)));
+
+        EmotionAnalysisResponse response = emotionInsightService.getEmotionAnalysis(profileId, from, to, 5);
+
+        assertThat(response.totalMentions()).isEqualTo(2L);
+        verify(diaryEmotionRepository, never()).findTopTagsInRange(any(), any(), any(), any());
+        verify(diaryEmotionRepository, never()).findDailyTrendInRange(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("감정 분석 - 긴 기간은 주 집계와 자투리 일 집계를 조합해 원본 경로와 같은 주간 추이/합계를 만든다")
+    void getEmotionAnalysis_MultiResolutionMatchesRaw() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 5, 20);
+        var fixture = new ArrayList<DiaryEmotionRepository.DailyTrendView>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(3)) {
+            long positive = day.getDayOfMonth() % 3;
+            long negative = 1L;
+            long neutral = day.getDayOfMonth() % 2;
+            fixture.add(dailyTrend(day, positive, negative, neutral, positive + negative + neutral,
+                    (double) (day.getDayOfMonth() % 4 + 1)));
+        }
+
+        given(diaryEmotionRepository.findTopTagsInRange(eq(profileId), eq(from), eq(to), any(Pageable.class)))
+                .willReturn(List.of());
+        given(diaryEmotionRepository.findDailyTrendInRange(
+                profileId, from, to, EmotionCategory.POSITIVE, EmotionCategory.NEGATIVE, EmotionCategory.NEUTRAL
+        )).willReturn(fixture);
+        given(dailyEmotionRollupRepository.findDailyTrendInRange(eq(profileId), any(LocalDate.class), any(LocalDate.class)))
+                .willAnswer(invocation -> filterRange(fixture, invocation.getArgument(1), invocation.getArgument(2)));
+        given(periodEmotionRollupRepository.findPeriodTrendInRange(eq(profileId), eq("WEEK"), any(LocalDate.class), any(LocalDate.class)))
+                .willAnswer(invocation -> rollUpWeeks(fixture, invocation.getArgument(2), invocation.getArgument(3)));
+        given(periodEmotionRollupRepository.findTopTagsAcrossResolutions(
+                eq(profileId), eq("MONTH"), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .willReturn(List.of());
+
+        ReflectionTestUtils.setField(emotionInsightService, "readFromRollup", false);
+        EmotionAnalysisResponse raw = emotionInsightService.getEmotionAnalysis(profileId, from, to, 10);
+        ReflectionTestUtils.setField(emotionInsightService, "readFromRollup", true);
+        EmotionAnalysisResponse multi = emotionInsightService.getEmotionAnalysis(profileId, from, to, 10);
+
+        assertThat(multi.totalMentions()).isEqualTo(raw.totalMentions());
+        assertThat(multi.categories()).isEqualTo(raw.categories());
+        // 주 집계 경로는 평균 강도를 합계/건수로 다시 나누므로 부동소수 오차만 허용한다.
+        assertThat(multi.weeklyTrend())
+                .usingRecursiveComparison()
+                .withComparatorForType((a, b) -> Math.abs(a - b) < 1e-9 ? 0 : Double.compare(a, b), Double.class)
+                .isEqualTo(raw.weeklyTrend());
+        assertThat(raw.dailyTrendFromDate()).isEqualTo(from);
+        assertThat(multi.fromDate()).isEqualTo(from);
+        assertThat(multi.dailyTrendFromDate()).isEqualTo(to.minusDays(91));
+        assertThat(multi.dailyTrend()).isEqualTo(raw.dailyTrend().stream()
+                .filter(it -> !it.date().isBefore(multi.dailyTrendFromDate()))
+                .toList());
+        // 2026-01-05(월) ~ 2026-05-17(일) 주는 주 집계에서, 1/1~1/4와 5/18~5/20만 일 집계에서 읽는다.
+        verify(periodEmotionRollupRepository).findPeriodTrendInRange(
+                profileId, "WEEK", LocalDate.of(2026, 1, 5), LocalDate.of(2026, 5, 11));
+        verify(dailyEmotionRollupRepository).findDailyTrendInRange(profileId, from, LocalDate.of(2026, 1, 4));
+        verify(dailyEmotionRollupRepository).findDailyTrendInRange(profileId, LocalDate.of(2026, 5, 18), to);
+    }
+
+    @Test
+    @DisplayName("감정 분석 - 긴 기간 상위 태그는 완전한 월과 앞뒤 자투리 날짜로 나눠 조회한다")
+    void getEmotionAnalysis_MultiResolutionTopTagsPlan() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2025, 3, 15);
+        LocalDate to = LocalDate.of(2026, 3, 10);
+        ReflectionTestUtils.setField(emotionInsightService, "readFromRollup", true);
+
+        given(dailyEmotionRollupRepository.findDailyTrendInRange(eq(profileId), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of());
+        given(periodEmotionRollupRepository.findPeriodTrendInRange(eq(profileId), anyString(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of());
+        given(periodEmotionRollupRepository.findTopTagsAcrossResolutions(
+                eq(profileId), eq("MONTH"), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+                .willReturn(List.of(tagCount(1L, "기쁨", "#f59e0b", EmotionCategory.POSITIVE, 40L)));
+
+        EmotionAnalysisResponse response = emotionInsightService.getEmotionAnalysis(profileId, from, to, 5);
+
+        assertThat(response.topTags()).hasSize(1);
+        verify(periodEmotionRollupRepository).findTopTagsAcrossResolutions(
+                eq(profileId),
+                eq("MONTH"),
+                eq(LocalDate.of(2025, 4, 1)),
+                eq(LocalDate.of(2026, 2, 1)),
+                eq(from),
+                eq(LocalDate.of(2025, 3, 31)),
+                eq(LocalDate.of(2026, 3, 1)),
+                eq(to),
+                any(Pageable.class));
+        verify(diaryEmotionRepository, never()).findTopTagsInRange(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비교 모드 - 두 기간을 합친 범위를 한 번만 조회해 기간별 변화량을 만든다")
+    void getEmotionComparison_SingleFetch() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 14);
+        ReflectionTestUtils.setField(emotionInsightService, "readFromRollup", true);
+
+        given(dailyEmotionRollupRepository.streamDailyTagCountsInRange(profileId, LocalDate.of(2026, 1, 18), to))
+                .willReturn(Stream.of(
+                        dailyTagCount(LocalDate.of(2026, 1, 20), 1L, "기쁨", EmotionCategory.POSITIVE, 2L, 6L),
+                        dailyTagCount(LocalDate.of(2026, 1, 29), 2L, "불안", EmotionCategory.NEGATIVE, 1L, 4L),
+                        dailyTagCount(LocalDate.of(2026, 2, 3), 1L, "기쁨", EmotionCategory.POSITIVE, 3L, 9L),
+                        dailyTagCount(LocalDate.of(2026, 2, 10), 3L, "평온", EmotionCategory.NEUTRAL, 1L, 2L)
+                ));
+
+        EmotionComparisonResponse response = emotionInsightService.getEmotionComparison(profileId, from, to, 10);
+
+        assertThat(response.previousFromDate()).isEqualTo(LocalDate.of(2026, 1, 18));
+        assertThat(response.previousToDate()).isEqualTo(LocalDate.of(2026, 1, 31));
+        assertThat(response.currentTotalMentions()).isEqualTo(4L);
+        assertThat(response.previousTotalMentions()).isEqualTo(3L);
+        assertThat(response.totalMentionsDelta()).isEqualTo(1L);
+        assertThat(response.categories().stream().filter(it -> it.category().equals("NEGATIVE")).findFirst().orElseThrow().countDelta())
+                .isEqualTo(-1L);
+        assertThat(response.topTags()).extracting(TagStatDelta::tagId).containsExactly(1L, 3L, 2L);
+        assertThat(response.topTags().getFirst().countDelta()).isEqualTo(1L);
+        assertThat(response.weeklyTrend()).hasSize(2);
+        assertThat(response.weeklyTrend().getFirst().totalCountDelta()).isEqualTo(1L);
+        assertThat(response.weeklyTrend().get(1).totalCountDelta()).isZero();
+        assertThat(response.previousPeriodType()).isEqualTo("PREVIOUS_DAYS");
+        assertThat(response.previousPeriodDays()).isEqualTo(14L);
+        verify(dailyEmotionRollupRepository).streamDailyTagCountsInRange(profileId, LocalDate.of(2026, 1, 18), to);
+        verify(diaryEmotionRepository, never()).streamDailyTagCountsInRange(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비교 모드 - 같은 조회로 현재 기간 분석을 함께 만들어 별도 분석 조회가 필요 없다")
+    void getEmotionComparison_IncludesCurrentAnalysis() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 14);
+        ReflectionTestUtils.setField(emotionInsightService, "readFromRollup", true);
+
+        given(dailyEmotionRollupRepository.streamDailyTagCountsInRange(profileId, LocalDate.of(2026, 1, 18), to))
+                .willReturn(Stream.of(
+                        dailyTagCount(LocalDate.of(2026, 1, 20), 1L, "기쁨", EmotionCategory.POSITIVE, 2L, 6L),
+                        dailyTagCount(LocalDate.of(2026, 2, 3), 1L, "기쁨", EmotionCategory.POSITIVE, 3L, 9L),
+                        dailyTagCount(LocalDate.of(2026, 2, 3), 2L, "불안", EmotionCategory.NEGATIVE, 1L, 5L),
+                        dailyTagCount(LocalDate.of(2026, 2, 10), 3L, "평온", EmotionCategory.NEUTRAL, 1L, 2L)
+                ));
+
+        EmotionAnalysisResponse current = emotionInsightService.getEmotionComparison(profileId, from, to, 10).current();
+
+        assertThat(current.fromDate()).isEqualTo(from);
+        assertThat(current.toDate()).isEqualTo(to);
+        assertThat(current.totalMentions()).isEqualTo(5L);
+        assertThat(current.categories()).extracting(it -> it.count()).containsExactly(3L, 1L, 1L);
+        assertThat(current.topTags()).extracting(it -> it.tagId()).containsExactly(1L, 3L, 2L);
+        assertThat(current.dailyTrend()).hasSize(2);
+        assertThat(current.dailyTrend().getFirst().date()).isEqualTo(LocalDate.of(2026, 2, 3));
+        assertThat(current.dailyTrend().getFirst().totalCount()).isEqualTo(4L);
+        assertThat(current.dailyTrend().getFirst().avgIntensity()).isEqualTo(3.5);
+        assertThat(current.weeklyTrend()).extracting(it -> it.totalCount()).containsExactly(4L, 1L);
+        assertThat(current.partial()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비교 모드 - 상위 태그는 분석 화면처럼 이름 스냅샷별로 묶어 이름을 바꾼 태그를 따로 센다")
+    void getEmotionComparison_GroupsTopTagsBySnapshotLikeAnalysis() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 2, 1);
+        LocalDate to = LocalDate.of(2026, 2, 14);
+        ReflectionTestUtils.setField(emotionInsightService, "readFromRollup", true);
+
+        given(dailyEmotionRollupRepository.streamDailyTagCountsInRange(profileId, LocalDate.of(2026, 1, 18), to))
+                .willReturn(Stream.of(
+                        dailyTagCount(LocalDate.of(2026, 1, 20), 1L, "기쁨", EmotionCategory.POSITIVE, 1L, 3L),
+                        dailyTagCount(LocalDate.of(2026, 2, 3), 1L, "기쁨", EmotionCategory.POSITIVE, 2L, 6L),
+                        dailyTagCount(LocalDate.of(2026, 2, 10), 1L, "즐거움", EmotionCategory.POSITIVE, 1L, 3L)
+                ));
+
+        EmotionComparisonResponse response = emotionInsightService.getEmotionComparison(profileId, from, to, 10);
+
+        assertThat(response.current().topTags())
+                .extracting(it -> it.name(), it -> it.count())
+                .containsExactly(tuple("기쁨", 2L), tuple("즐거움", 1L));
+        assertThat(response.topTags())
+                .extracting(TagStatDelta::name, TagStatDelta::currentCount, TagStatDelta::previousCount)
+                .containsExactly(tuple("기쁨", 2L, 1L), tuple("즐거움", 1L, 0L));
+    }
+
+    @Test
+    @DisplayName("비교 모드 - 달력 월 전체를 고르면 직전 달력 월과 비교한다")
+    void getEmotionComparison_CalendarMonthComparesPreviousMonth() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        LocalDate to = LocalDate.of(2026, 10, 31);
+        ReflectionTestUtils.setField(emotionInsightService, "readFromRollup", true);
+
+        given(dailyEmotionRollupRepository.streamDailyTagCountsInRange(profileId, LocalDate.of(2026, 9, 1), to))
+                .willReturn(Stream.of(
+                        dailyTagCount(LocalDate.of(2026, 9, 30), 1L, "기쁨", EmotionCategory.POSITIVE, 1L, 3L),
+                        dailyTagCount(LocalDate.of(2026, 10, 31), 1L, "기쁨", EmotionCategory.POSITIVE, 2L, 6L)
+                ));
+
+        EmotionComparisonResponse response = emotionInsightService.getEmotionComparison(profileId, from, to, 10);
+
+        assertThat(response.previousFromDate()).isEqualTo(LocalDate.of(2026, 9, 1));
+        assertThat(response.previousToDate()).isEqualTo(LocalDate.of(2026, 9, 30));
+        assertThat(response.previousPeriodType()).isEqualTo("PREVIOUS_MONTHS");
+        assertThat(response.previousPeriodDays()).isEqualTo(30L);
+        assertThat(response.previousTotalMentions()).isEqualTo(1L);
+        assertThat(response.currentTotalMentions()).isEqualTo(2L);
+    }
+
+    private List<DiaryEmotionRepository.DailyTrendView> filterRange(
+            List<DiaryEmotionRepository.DailyTrendView> fixture,
+            LocalDate from,
+            LocalDate to
+    ) {
+        return fixture.stream()
+                .filter(it -> !it.getDate().isBefore(from) && !it.getDate().isAfter(to))
+                .toList();
+    }
+
+    private List<DiaryEmotionRepository.DailyTrendView> rollUpWeeks(
+            List<DiaryEmotionRepository.DailyTrendView> fixture,
+            LocalDate fromWeekStart,
+            LocalDate toWeekStart
+    ) {
+        Map<LocalDate, long[]> sums = new TreeMap<>();
+        for (var day : filterRange(fixture, fromWeekStart, toWeekStart.plusDays(6))) {
+            var weekStart = day.getDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            var sum = sums.computeIfAbsent(weekStart, ignored -> new long[5]);
+            sum[0] += day.getPositiveCount();
+            sum[1] += day.getNegativeCount();
+            sum[2] += day.getNeutralCount();
+            sum[3] += day.getTotalCount();
+            sum[4] += Math.round(day.getAvgIntensity() * day.getTotalCount());
+        }
+        return sums.entrySet().stream()
+                .map(entry -> {
+                    var sum = entry.getValue();
+                    return dailyTrend(entry.getKey(), sum[0], sum[1], sum[2], sum[3], (double) sum[4] / sum[3]);
+                })
+                .toList();
+    }
+
     private DiaryEmotionRepository.CategoryCountView categoryCount(EmotionCategory category, Long count) {
         return new DiaryEmotionRepository.CategoryCountView() {
             @Override
@@ -186,4 +592,50 @@ class EmotionInsightServiceTest {
             }
         };
     }
+
+    private DiaryEmotionRepository.DailyTagCountView dailyTagCount(
+            LocalDate date,
+            Long tagId,
+            String tagName,
+            EmotionCategory category,
+            Long mentionCount,
+            Long intensitySum
+    ) {
+        return new DiaryEmotionRepository.DailyTagCountView() {
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public Long getTagId() {
+                return tagId;
+            }
+
+            @Override
+            public String getTagName() {
+                return tagName;
+            }
+
+            @Override
+            public String getColor() {
+                return "#64748b";
+            }
+
+            @Override
+            public EmotionCategory getCategory() {
+                return category;
+            }
+
+            @Override
+            public Long getMentionCount() {
+                return mentionCount;
+            }
+
+            @Override
+            public Long getIntensitySum() {
+                return intensitySum;
+            }
+        };
+    }
 }
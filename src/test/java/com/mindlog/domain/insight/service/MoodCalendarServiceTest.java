@@ -0,0 +1,88 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.MoodCalendarResponse;
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class MoodCalendarServiceTest {
+
+    @Mock
+    private MoodCalendarLoader moodCalendarLoader;
+
+    @InjectMocks
+    private MoodCalendarService moodCalendarService;
+
+    @Test
+    @DisplayName("감정 캘린더 - 작성일/대표 감정/최장 연속 작성일을 계산한다")
+    void getCalendar_Success() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        var calendar = MoodCalendar.builder(2026)
+                .entry(LocalDate.of(2026, 1, 1), EmotionCategory.POSITIVE)
+                .entry(LocalDate.of(2026, 2, 27), null)
+                .entry(LocalDate.of(2026, 2, 28), EmotionCategory.NEGATIVE)
+                .entry(LocalDate.of(2026, 3, 1), EmotionCategory.NEUTRAL)
+                .entry(LocalDate.of(2026, 3, 9), EmotionCategory.POSITIVE)
+                .build();
+        given(moodCalendarLoader.load(profileId, 2026)).willReturn(calendar);
+
+        MoodCalendarResponse response = moodCalendarService.getCalendar(profileId, null, today);
+
+        assertThat(response.year()).isEqualTo(2026);
+        assertThat(response.entryDays()).isEqualTo(5);
+        assertThat(response.longestStreak()).isEqualTo(3);
+        // 오늘은 아직 쓰지 않았으므로 어제(3/9)까지의 연속 작성일
+        assertThat(response.currentStreak()).isEqualTo(1);
+        assertThat(response.days()).hasSize(5);
+        assertThat(response.days().get(1).category()).isNull();
+        assertThat(response.days().get(2).category()).isEqualTo("NEGATIVE");
+    }
+
+    @Test
+    @DisplayName("감정 캘린더 - 연속 작성일이 연초까지 이어지면 이전 연도를 이어서 센다")
+    void currentStreak_CrossesYearBoundary() {
+        UUID profileId = UUID.randomUUID();
+        LocalDate today = LocalDate.of(2026, 1, 2);
+        var thisYear = MoodCalendar.builder(2026)
+                .entry(LocalDate.of(2026, 1, 1), EmotionCategory.POSITIVE)
+                .entry(LocalDate.of(2026, 1, 2), EmotionCategory.POSITIVE)
+                .build();
+        var lastYear = MoodCalendar.builder(2025)
+                .entry(LocalDate.of(2025, 12, 29), EmotionCategory.NEGATIVE)
+                .entry(LocalDate.of(2025, 12, 30), EmotionCategory.NEGATIVE)
+                .entry(LocalDate.of(2025, 12, 31), EmotionCategory.NEUTRAL)
+                .build();
+        given(moodCalendarLoader.load(profileId, 2026)).willReturn(thisYear);
+        given(moodCalendarLoader.load(profileId, 2025)).willReturn(lastYear);
+
+        assertThat(moodCalendarService.currentStreak(profileId, today)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("감정 캘린더 - 작성 기록이 없으면 연속 작성일은 0이다")
+    void currentStreak_NoEntries() {
+        UUID profileId = UUID.randomUUID();
+        given(moodCalendarLoader.load(profileId, 2026)).willReturn(MoodCalendar.builder(2026).build());
+
+        assertThat(moodCalendarService.currentStreak(profileId, LocalDate.of(2026, 6, 1))).isZero();
+    }
+
+    @Test
+    @DisplayName("감정 캘린더 - 범위를 벗어난 연도는 예외를 던진다")
+    void getCalendar_InvalidYear() {
+        assertThatThrownBy(() -> moodCalendarService.getCalendar(UUID.randomUUID(), 10000, LocalDate.of(2026, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.PlatformEmotionStats;
+import com.mindlog.domain.insight.repository.DailyEmotionRollupRepository;
+import com.mindlog.domain.tag.entity.EmotionCategory;
+import com.mindlog.domain.tag.repository.DiaryEmotionRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PlatformEmotionStatsServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private DailyEmotionRollupRepository dailyEmotionRollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PlatformEmotionStatsService platformEmotionStatsService;
+
+    @BeforeEach
+    void setUp() {
+        platformEmotionStatsService = new PlatformEmotionStatsService(dailyEmotionRollupRepository, transactionManager, 2);
+        ReflectionTestUtils.setField(platformEmotionStatsService, "scanTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(platformEmotionStatsService, "closedPeriodTtlMinutes", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        platformEmotionStatsService.shutdownScanExecutor();
+    }
+
+    @Test
+    @DisplayName("전체 통계 - 월 파티션 결과를 합쳐 카테고리 비율과 기본 태그 순위를 만든다")
+    void getStats_MergesMonthlyPartitions() {
+        given(dailyEmotionRollupRepository.findPlatformCategoryCounts(
+                LocalDate.of(2026, 9, 1), LocalDate.of(2026, 10, 1)))
+                .willReturn(List.of(
+                        categoryCount(EmotionCategory.POSITIVE, 6L),
+                        categoryCount(EmotionCategory.NEGATIVE, 2L)));
+        given(dailyEmotionRollupRepository.findPlatformCategoryCounts(
+                LocalDate.of(2026, 10, 1), LocalDate.of(2026, 11, 1)))
+                .willReturn(List.of(categoryCount(EmotionCategory.NEUTRAL, 2L)));
+        given(dailyEmotionRollupRepository.findPlatformDefaultTagCounts(
+                LocalDate.of(2026, 9, 1), LocalDate.of(2026, 10, 1)))
+                .willReturn(List.of(
+                        tagCount(1L, "기쁨", EmotionCategory.POSITIVE, 6L),
+                        tagCount(2L, "불안", EmotionCategory.NEGATIVE, 2L)));
+        given(dailyEmotionRollupRepository.findPlatformDefaultTagCounts(
+                LocalDate.of(2026, 10, 1), LocalDate.of(2026, 11, 1)))
+                .willReturn(List.of(tagCount(2L, "불안", EmotionCategory.NEGATIVE, 5L)));
+
+        PlatformEmotionStats stats = platformEmotionStatsService.getStats(
+                YearMonth.of(2026, 9), YearMonth.of(2026, 12), TODAY);
+
+        assertThat(stats.toMonth()).isEqualTo(YearMonth.of(2026, 10));
+        assertThat(stats.totalMentions()).isEqualTo(10L);
+        assertThat(stats.categories())
+                .extracting(it -> it.category() + ":" + it.count())
+                .containsExactly("POSITIVE:6", "NEGATIVE:2", "NEUTRAL:2");
+        assertThat(stats.monthlyTrend()).extracting(it -> it.month())
+                .containsExactly(YearMonth.of(2026, 9), YearMonth.of(2026, 10));
+        assertThat(stats.monthlyTrend().getFirst().positiveRatio()).isEqualTo(0.75);
+        assertThat(stats.topDefaultTags())
+                .extracting(it -> it.name() + ":" + it.count())
+                .containsExactly("불안:7", "기쁨:6");
+        assertThat(stats.cachedMonths()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 통계 - 지난 달 파티션은 재사용하고 이번 달만 다시 스캔한다")
+    void getStats_ReusesClosedMonths() {
+        given(dailyEmotionRollupRepository.findPlatformCategoryCounts(any(), any()))
+                .willReturn(List.of(categoryCount(EmotionCategory.POSITIVE, 1L)));
+
+        platformEmotionStatsService.getStats(YearMonth.of(2026, 8), YearMonth.of(2026, 10), TODAY);
+        PlatformEmotionStats second = platformEmotionStatsService.getStats(
+                YearMonth.of(2026, 8), YearMonth.of(2026, 10), TODAY);
+
+        assertThat(second.cachedMonths()).isEqualTo(2);
+        assertThat(second.totalMentions()).isEqualTo(3L);
+        verify(dailyEmotionRollupRepository, times(2))
+                .findPlatformCategoryCounts(LocalDate.of(2026, 10, 1), LocalDate.of(2026, 11, 1));
+        verify(dailyEmotionRollupRepository, times(1))
+                .findPlatformCategoryCounts(LocalDate.of(2026, 8, 1), LocalDate.of(2026, 9, 1));
+    }
+
+    @Test
+    @DisplayName("전체 통계 - 파티션 스캔이 실패하면 부분 결과 대신 예외를 던진다")
+    void getStats_FailsWhenPartitionFails() {
+        given(dailyEmotionRollupRepository.findPlatformCategoryCounts(any(), any()))
+                .willThrow(new IllegalStateException("statement timeout"));
+
+        assertThatThrownBy(() -> platformEmotionStatsService.getStats(
+                YearMonth.of(2026, 10), YearMonth.of(2026, 10), TODAY))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("전체 통계 - 최대 기간을 넘으면 예외를 던진다")
+    void getStats_RejectsTooLongRange() {
+        assertThatThrownBy(() -> platformEmotionStatsService.getStats(
+                YearMonth.of(2024, 1), YearMonth.of(2026, 10), TODAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DailyEmotionRollupRepository.CategoryCountView categoryCount(EmotionCategory category, Long count) {
+        return new DailyEmotionRollupRepository.CategoryCountView() {
+            @Override
+            public EmotionCategory getCategory() {
+                return category;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private DiaryEmotionRepository.TagCountView tagCount(Long tagId, String tagName, EmotionCategory category, Long count) {
+        return new DiaryEmotionRepository.TagCountView() {
+            @Override
+            public Long getTagId() {
+                return tagId;
+            }
+
+            @Override
+            public String getTagName() {
+                return tagName;
+            }
+
+            @Override
+            public String getColor() {
+                return "#000000";
+            }
+
+            @Override
+            public EmotionCategory getCategory() {
+                return category;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
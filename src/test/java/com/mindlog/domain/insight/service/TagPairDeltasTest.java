@@ -0,0 +1,71 @@
+package com.mindlog.domain.insight.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TagPairDeltasTest {
+
+    @Test
+    @DisplayName("태그 쌍 집계 - 정렬된 (작은 id, 큰 id) 쌍으로 모든 조합을 만든다")
+    void addAllPairs_AllCombinations() {
+        var deltas = new TagPairDeltas();
+
+        deltas.addAllPairs(Arrays.asList(3L, 1L, 2L, 2L, null), 1);
+
+        assertThat(collect(deltas)).containsExactlyInAnyOrder("1-2:1", "1-3:1", "2-3:1");
+    }
+
+    @Test
+    @DisplayName("태그 쌍 집계 - 교체 시 유지된 쌍은 상쇄되고 바뀐 쌍만 남는다")
+    void addAllPairs_ReplaceKeepsOnlyChangedPairs() {
+        var deltas = new TagPairDeltas();
+
+        deltas.addAllPairs(List.of(1L, 2L, 3L), -1);
+        deltas.addAllPairs(List.of(1L, 2L, 4L), 1);
+
+        assertThat(collect(deltas)).containsExactlyInAnyOrder("1-3:-1", "2-3:-1", "1-4:1", "2-4:1");
+        assertThat(deltas.hasNegative()).isTrue();
+    }
+
+    @Test
+    @DisplayName("태그 쌍 집계 - 슬롯이 부족하면 확장해도 값이 유지된다")
+    void addAllPairs_Resize() {
+        var deltas = new TagPairDeltas();
+        var tagIds = LongStream.rangeClosed(1, 40).boxed().toList();
+
+        deltas.addAllPairs(tagIds, 2);
+
+        assertThat(deltas.nonZeroCount()).isEqualTo(40 * 39 / 2);
+        assertThat(collect(deltas)).allMatch(it -> it.endsWith(":2"));
+    }
+
+    @Test
+    @DisplayName("태그 쌍 집계 - 태그가 하나뿐이면 쌍이 없다")
+    void addAllPairs_SingleTag() {
+        var deltas = new TagPairDeltas();
+
+        deltas.addAllPairs(List.of(7L), 1);
+
+        assertThat(deltas.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("태그 쌍 키 - 32비트를 넘는 id는 거부한다")
+    void pairKey_RejectsOverflow() {
+        assertThatThrownBy(() -> TagPairDeltas.pairKey(1L, 1L << 32))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> collect(TagPairDeltas deltas) {
+        var result = new ArrayList<String>();
+        deltas.forEachNonZero((tagAId, tagBId, delta) -> result.add(tagAId + "-" + tagBId + ":" + delta));
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+package com.mindlog.domain.insight.service;
+
+import com.mindlog.domain.insight.dto.WeeklyTrendPoint;
+import com.mindlog.domain.insight.entity.RollupResolution;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrendBucketAggregatorTest {
+
+    @Test
+    @DisplayName("주 단위 - 월요일 시작 주로 묶고 값이 있는 주만 반환한다")
+    void week_GroupsByIsoWeek() {
+        // 2026-03-04(수) ~ 2026-03-24(화)
+        var aggregator = TrendBucketAggregator.of(
+                RollupResolution.WEEK, LocalDate.of(2026, 3, 4), LocalDate.of(2026, 3, 24));
+
+        add(aggregator, LocalDate.of(2026, 3, 4), 2, 1, 0, 3.0);
+        add(aggregator, LocalDate.of(2026, 3, 8), 0, 1, 1, 1.0);
+        add(aggregator, LocalDate.of(2026, 3, 23), 1, 0, 0, 5.0);
+
+        var trend = aggregator.toTrend();
+
+        assertThat(trend).extracting(WeeklyTrendPoint::weekStart)
+                .containsExactly(LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 23));
+        var first = trend.getFirst();
+        assertThat(first.weekEnd()).isEqualTo(LocalDate.of(2026, 3, 8));
+        assertThat(first.totalCount()).isEqualTo(5L);
+        assertThat(first.positiveCount()).isEqualTo(2L);
+        assertThat(first.negativeCount()).isEqualTo(2L);
+        assertThat(first.avgIntensity()).isEqualTo((3.0 * 3 + 1.0 * 2) / 5);
+        assertThat(first.negativeRatio()).isEqualTo(0.4);
+    }
+
+    @Test
+    @DisplayName("월 단위 - 월 길이가 달라도 달력 월 경계로 묶는다")
+    void month_UsesCalendarBoundaries() {
+        var aggregator = TrendBucketAggregator.of(
+                RollupResolution.MONTH, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 10));
+
+        add(aggregator, LocalDate.of(2024, 1, 31), 1, 0, 0, 2.0);
+        add(aggregator, LocalDate.of(2024, 2, 29), 0, 1, 0, 4.0);
+        add(aggregator, LocalDate.of(2024, 3, 1), 0, 0, 1, 3.0);
+
+        var trend = aggregator.toTrend();
+
+        assertThat(trend).extracting(WeeklyTrendPoint::weekStart).containsExactly(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1));
+        assertThat(trend.get(1).weekEnd()).isEqualTo(LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    @DisplayName("N일 단위 - 시작일부터 N일씩 자르고, 순서가 어긋난 입력도 같은 결과를 낸다")
+    void customDays_HandlesOutOfOrderInput() {
+        var from = LocalDate.of(2026, 1, 1);
+        var to = LocalDate.of(2026, 1, 10);
+        var aggregator = TrendBucketAggregator.ofDays(3, from, to);
+
+        add(aggregator, LocalDate.of(2026, 1, 10), 1, 0, 0, 1.0);
+        add(aggregator, LocalDate.of(2026, 1, 2), 1, 0, 0, 1.0);
+        add(aggregator, LocalDate.of(2026, 1, 3), 0, 1, 0, 1.0);
+        add(aggregator, LocalDate.of(2026, 1, 4), 0, 0, 1, 1.0);
+        add(aggregator, LocalDate.of(2025, 12, 31), 9, 9, 9, 1.0);
+
+        var trend = aggregator.toTrend();
+
+        assertThat(trend).extracting(WeeklyTrendPoint::weekStart).containsExactly(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 4), LocalDate.of(2026, 1, 10));
+        assertThat(trend).extracting(WeeklyTrendPoint::totalCount).containsExactly(2L, 1L, 1L);
+        assertThat(trend.getLast().weekEnd()).isEqualTo(LocalDate.of(2026, 1, 12));
+    }
+
+    @Test
+    @DisplayName("N일 단위 - 길이가 1일 미만이면 예외")
+    void customDays_RejectsNonPositiveWidth() {
+        assertThatThrownBy(() -> TrendBucketAggregator.ofDays(0, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void add(TrendBucketAggregator aggregator, LocalDate date, long positive, long negative, long neutral,
+                     double avgIntensity) {
+        aggregator.add(date.toEpochDay(), positive, negative, neutral, positive + negative + neutral, avgIntensity);
+    }
+}
@@ -0,0 +1,108 @@
+package com.mindlog.domain.tag.repository;
+
+import com.mindlog.domain.tag.dto.TagSnapshotSyncProgress;
+import com.mindlog.domain.tag.entity.TagSnapshotSyncJob;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL에서 태그 스냅샷 전파 작업 행의 예약/가져가기/완료 규칙을 검증한다.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class TagSnapshotSyncJobRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private TagSnapshotSyncJobRepository tagSnapshotSyncJobRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID profileId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("같은 태그를 다시 예약하면 요청 번호가 오르고 PENDING 으로 돌아간다")
+    void upsertPending_IncrementsRequestSeq() {
+        tagSnapshotSyncJobRepository.upsertPending(7L, profileId);
+        tagSnapshotSyncJobRepository.upsertPending(7L, profileId);
+        entityManager.clear();
+
+        var job = tagSnapshotSyncJobRepository.findById(7L).orElseThrow();
+        assertThat(job.getRequestSeq()).isEqualTo(2L);
+        assertThat(job.toProgress().status()).isEqualTo(TagSnapshotSyncProgress.Status.PENDING);
+    }
+
+    @Test
+    @DisplayName("실행 중에 재요청되면 이전 실행의 진행/완료 기록은 반영되지 않는다")
+    void finish_IgnoresSupersededRun() {
+        tagSnapshotSyncJobRepository.upsertPending(7L, profileId);
+        var claimed = claim();
+        assertThat(claimed.getRequestSeq()).isEqualTo(1L);
+
+        tagSnapshotSyncJobRepository.upsertPending(7L, profileId);
+
+        assertThat(tagSnapshotSyncJobRepository.updateProgress(7L, 1L, 500L, 1)).isZero();
+        assertThat(tagSnapshotSyncJobRepository.finish(7L, 1L, "COMPLETED")).isZero();
+        entityManager.clear();
+        var job = tagSnapshotSyncJobRepository.findById(7L).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(TagSnapshotSyncProgress.Status.PENDING);
+        assertThat(job.getRequestSeq()).isEqualTo(2L);
+
+        var reclaimed = claim();
+        assertThat(tagSnapshotSyncJobRepository.updateProgress(7L, reclaimed.getRequestSeq(), 500L, 1)).isEqualTo(1);
+        assertThat(tagSnapshotSyncJobRepository.finish(7L, reclaimed.getRequestSeq(), "COMPLETED")).isEqualTo(1);
+        entityManager.clear();
+        var progress = tagSnapshotSyncJobRepository.findById(7L).orElseThrow().toProgress();
+        assertThat(progress.status()).isEqualTo(TagSnapshotSyncProgress.Status.COMPLETED);
+        assertThat(progress.updatedRows()).isEqualTo(500L);
+        assertThat(progress.completedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("진행 기록이 멈춘 RUNNING 작업만 다시 가져간다")
+    void lockNextOpenJob_ReclaimsOnlyStaleRunningJobs() {
+        tagSnapshotSyncJobRepository.upsertPending(7L, profileId);
+        claim();
+
+        var staleBefore = Instant.now().minus(5, ChronoUnit.MINUTES);
+        assertThat(tagSnapshotSyncJobRepository.lockNextOpenJob(staleBefore)).isEmpty();
+
+        entityManager.createNativeQuery("""
+                UPDATE public.tag_snapshot_sync_jobs
+                SET updated_at = now() - interval '10 minutes'
+                WHERE tag_id = 7
+                """).executeUpdate();
+        entityManager.clear();
+
+        assertThat(tagSnapshotSyncJobRepository.lockNextOpenJob(staleBefore))
+                .map(TagSnapshotSyncJob::getTagId)
+                .contains(7L);
+    }
+
+    private TagSnapshotSyncJob claim() {
+        entityManager.clear();
+        var job = tagSnapshotSyncJobRepository.lockNextOpenJob(Instant.now().minus(5, ChronoUnit.MINUTES))
+                .orElseThrow();
+        job.start();
+        entityManager.flush();
+        return job;
+    }
+}
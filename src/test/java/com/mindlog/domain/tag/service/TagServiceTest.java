@@ -1,5 +1,6 @@
 package com.mindlog.domain.tag.service;
 
+import com.mindlog.domain.tag.dto.TagSnapshotSyncProgress;
 import com.mindlog.domain.tag.entity.EmotionCategory;
 import com.mindlog.domain.tag.entity.EmotionTag;
 import com.mindlog.domain.tag.repository.EmotionTagRepository;
@@ -27,6 +28,9 @@ class TagServiceTest {
     @Mock
     private EmotionTagRepository emotionTagRepository;
 
+    @Mock
+    private TagSnapshotSyncService tagSnapshotSyncService;
+
     @InjectMocks
     private TagService tagService;
 
@@ -186,4 +190,72 @@ class TagServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("삭제할 태그를 찾을 수 없습니다.");
     }
+
+    @Test
+    @DisplayName("커스텀 태그 수정 - 태그를 즉시 갱신하고 스냅샷 전파를 예약한다")
+    void updateCustomTag_RequestsSnapshotSync() {
+        UUID profileId = UUID.randomUUID();
+        Long tagId = 7L;
+        EmotionTag customTag = EmotionTag.builder()
+                .profileId(profileId)
+                .name("피곤")
+                .color("#aaaaaa")
+                .isDefault(false)
+                .category(EmotionCategory.NEUTRAL)
+                .build();
+
+        given(emotionTagRepository.findByIdAndProfileId(tagId, profileId)).willReturn(Optional.of(customTag));
+        given(emotionTagRepository.existsByProfileIdAndName(profileId, "지침")).willReturn(false);
+        given(tagSnapshotSyncService.requestSync(profileId, tagId)).willReturn(TagSnapshotSyncProgress.pending(tagId));
+
+        var result = tagService.updateCustomTag(profileId, tagId, " 지침 ", "#ef4444", EmotionCategory.NEGATIVE);
+
+        assertThat(customTag.getName()).isEqualTo("지침");
+        assertThat(customTag.getColor()).isEqualTo("#ef4444");
+        assertThat(customTag.getCategory()).isEqualTo(EmotionCategory.NEGATIVE);
+        assertThat(result.snapshotSync()).isNotNull();
+        assertThat(result.snapshotSync().status()).isEqualTo(TagSnapshotSyncProgress.Status.PENDING);
+        assertThat(result.snapshotSyncScheduled()).isTrue();
+        verify(emotionTagRepository).saveAndFlush(customTag);
+        verify(tagSnapshotSyncService).requestSync(profileId, tagId);
+    }
+
+    @Test
+    @DisplayName("커스텀 태그 수정 - 변경 사항이 없으면 스냅샷 전파를 예약하지 않는다")
+    void updateCustomTag_NoChange_SkipsSnapshotSync() {
+        UUID profileId = UUID.randomUUID();
+        Long tagId = 7L;
+        EmotionTag customTag = EmotionTag.builder()
+                .profileId(profileId)
+                .name("피곤")
+                .color("#aaaaaa")
+                .isDefault(false)
+                .category(EmotionCategory.NEUTRAL)
+                .build();
+
+        given(emotionTagRepository.findByIdAndProfileId(tagId, profileId)).willReturn(Optional.of(customTag));
+
+        var result = tagService.updateCustomTag(profileId, tagId, "피곤", "#aaaaaa", EmotionCategory.NEUTRAL);
+
+        assertThat(result.snapshotSyncScheduled()).isFalse();
+        verify(tagSnapshotSyncService, never()).requestSync(any(), any());
+    }
+
+    @Test
+    @DisplayName("커스텀 태그 수정 - 기본 태그는 수정할 수 없다")
+    void updateCustomTag_DefaultTag() {
+        UUID profileId = UUID.randomUUID();
+        Long tagId = 1L;
+        EmotionTag defaultTag = EmotionTag.builder()
+                .name("기본")
+                .isDefault(true)
+                .category(EmotionCategory.POSITIVE)
+                .build();
+
+        given(emotionTagRepository.findByIdAndProfileId(tagId, profileId)).willReturn(Optional.of(defaultTag));
+
+        assertThatThrownBy(() -> tagService.updateCustomTag(profileId, tagId, "새이름", "#000", EmotionCategory.POSITIVE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("기본 태그는 수정할 수 없습니다.");
+    }
 }
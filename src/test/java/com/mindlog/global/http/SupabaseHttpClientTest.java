@@ -0,0 +1,101 @@
+package com.mindlog.global.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mindlog.global.exception.SupabaseAuthException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SupabaseHttpClientTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile int failuresBeforeSuccess;
+    private HttpServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private SupabaseHttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/auth/v1", exchange -> {
+            int call = calls.incrementAndGet();
+            int status = (call <= failuresBeforeSuccess) ? 503 : 200;
+            var body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stubServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new SupabaseHttpClient(
+                "http://127.0.0.1:" + stubServer.getAddress().getPort(),
+                "anon-key",
+                new SupabaseHttpClient.Settings(
+                        Duration.ofSeconds(1),
+                        Duration.ofSeconds(2),
+                        4,
+                        Duration.ofMillis(100),
+                        3,
+                        Duration.ofMillis(1),
+                        Duration.ofMillis(5),
+                        3,
+                        Duration.ofMinutes(1)),
+                meterRegistry,
+                Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void retriesIdempotentCallOnServerError() throws Exception {
+        failuresBeforeSuccess = 2;
+
+        var response = client.get("settings", "/auth/v1/settings");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(calls).hasValue(3);
+        assertThat(meterRegistry.get("mindlog.supabase.http.retries").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("mindlog.supabase.http.requests")
+                .tag("endpoint", "settings")
+                .tag("outcome", "SUCCESS")
+                .timer()
+                .count()).isEqualTo(1L);
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentCall() throws Exception {
+        failuresBeforeSuccess = 1;
+
+        var response = client.postJson("token.refresh", "/auth/v1/token", "{}", false);
+
+        assertThat(response.statusCode()).isEqualTo(503);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveFailuresAndFailsFast() throws Exception {
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+
+        client.postJson("token.pkce", "/auth/v1/token", "{}", false);
+        client.postJson("token.pkce", "/auth/v1/token", "{}", false);
+        client.postJson("token.pkce", "/auth/v1/token", "{}", false);
+
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.postJson("token.pkce", "/auth/v1/token", "{}", false))
+                .isInstanceOf(SupabaseAuthException.class);
+        assertThat(calls).hasValue(3);
+    }
+}
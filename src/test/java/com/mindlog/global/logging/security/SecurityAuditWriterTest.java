@@ -0,0 +1,125 @@
+package com.mindlog.global.logging.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityAuditWriterTest {
+
+    @Mock
+    private SecurityAuditEventRepository repository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path fallbackDir;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private void stubTransaction() {
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void writesBufferedEventsInOneBatchInsert() {
+        stubTransaction();
+        var writer = writer(16, 10);
+
+        for (int i = 0; i < 10; i++) {
+            writer.submit(record("AUTH_SUCCESS", true));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(meterRegistry.get("mindlog.security.audit.writes").tag("target", "db").counter().count())
+                        .isEqualTo(10.0));
+        verify(repository).insertBatch(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void fallsBackToNdjsonFileWhenInsertFails() throws Exception {
+        when(repository.insertBatch(any(), any(), any(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        stubTransaction();
+        var writer = writer(16, 10);
+
+        writer.submit(record("LOGOUT", true));
+
+        var file = fallbackDir.resolve("security-audit.ndjson");
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(file).exists());
+        assertThat(Files.readAllLines(file))
+                .singleElement()
+                .satisfies(line -> assertThat(line).contains("\"eventType\":\"LOGOUT\"", "\"principal\":\"user-1\""));
+    }
+
+    @Test
+    void shedsNonCriticalEventsBeforeDroppingCriticalOnes() {
+        // linger를 길게 두어 라이터가 버퍼를 비우기 전에 상한 동작만 확인한다.
+        var writer = new SecurityAuditWriter(
+                repository,
+                transactionTemplate,
+                new ObjectMapper(),
+                new SecurityAuditWriter.Settings(true, 4, 100, 60_000L, fallbackDir, 1024L, 2),
+                meterRegistry);
+
+        writer.submit(record("AUTH_SUCCESS", true));
+        writer.submit(record("AUTH_SUCCESS", true));
+        writer.submit(record("AUTH_SUCCESS", true));
+        writer.submit(record("AUTHZ_DENIED", false));
+        writer.submit(record("AUTH_SUCCESS", true));
+        writer.submit(record("AUTH_SUCCESS", true));
+
+        assertThat(eventCount("accepted")).isEqualTo(4.0);
+        assertThat(eventCount("shed")).isEqualTo(1.0);
+        assertThat(eventCount("dropped")).isEqualTo(1.0);
+        verify(repository, never()).insertBatch(any(), any(), any(), any(), any());
+    }
+
+    private SecurityAuditWriter writer(int capacity, int batchSize) {
+        return new SecurityAuditWriter(
+                repository,
+                transactionTemplate,
+                new ObjectMapper(),
+                new SecurityAuditWriter.Settings(true, capacity, batchSize, 500L, fallbackDir, 1024L * 1024L, 2),
+                meterRegistry);
+    }
+
+    private double eventCount(String outcome) {
+        return meterRegistry.get("mindlog.security.audit.events").tag("outcome", outcome).counter().count();
+    }
+
+    private static SecurityAuditRecord record(String eventType, boolean critical) {
+        return new SecurityAuditRecord(Instant.now(), eventType, "user-1", null, "127.0.0.1", critical);
+    }
+}
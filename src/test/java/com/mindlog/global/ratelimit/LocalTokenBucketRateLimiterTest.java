@@ -0,0 +1,49 @@
+package com.mindlog.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mindlog.global.ratelimit.TokenBucketRateLimiter.BucketSpec;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LocalTokenBucketRateLimiterTest {
+
+    private static final BucketSpec SPEC = new BucketSpec(2, 1.0);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final LocalTokenBucketRateLimiter limiter = new LocalTokenBucketRateLimiter(nanos::get);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejectsWithRetryAfter() {
+        assertThat(limiter.tryConsume("ip:1", SPEC).allowed()).isTrue();
+        assertThat(limiter.tryConsume("ip:1", SPEC).allowed()).isTrue();
+
+        var rejected = limiter.tryConsume("ip:1", SPEC);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1L);
+    }
+
+    @Test
+    void refillsOverTimeAndKeepsKeysIndependent() {
+        limiter.tryConsume("ip:1", SPEC);
+        limiter.tryConsume("ip:1", SPEC);
+        assertThat(limiter.tryConsume("ip:2", SPEC).allowed()).isTrue();
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertThat(limiter.tryConsume("ip:1", SPEC).allowed()).isTrue();
+        assertThat(limiter.tryConsume("ip:1", SPEC).allowed()).isFalse();
+    }
+
+    @Test
+    void evictsOnlyBucketsThatAreFullAgain() {
+        limiter.tryConsume("ip:1", SPEC);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.tryConsume("ip:2", SPEC);
+
+        assertThat(limiter.evictIdle()).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
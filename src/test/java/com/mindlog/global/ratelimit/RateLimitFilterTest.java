@@ -0,0 +1,126 @@
+package com.mindlog.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mindlog.global.ratelimit.RateLimitService.RateLimitRule;
+import com.mindlog.global.ratelimit.TokenBucketRateLimiter.BucketSpec;
+import com.mindlog.global.security.MindlogPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Semaphore searchConcurrency;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchConcurrency = new Semaphore(1);
+        var service = new RateLimitService(
+                true,
+                List.of(
+                        new RateLimitRule("auth", PathPatternRequestMatcher.pathPattern("/auth/**"),
+                                new BucketSpec(1, 0.1), false, null),
+                        new RateLimitRule("search", PathPatternRequestMatcher.pathPattern("/diaries"),
+                                new BucketSpec(10, 1.0), true, searchConcurrency)),
+                new LocalTokenBucketRateLimiter(),
+                null,
+                meterRegistry);
+        filter = new RateLimitFilter(service);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsWith429AndRetryAfterOnceIpBucketIsEmpty() throws Exception {
+        assertThat(doFilter(request("/auth/login", "10.0.0.1")).getStatus()).isEqualTo(200);
+
+        var response = doFilter(request("/auth/login", "10.0.0.1"));
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("10");
+        assertThat(response.getContentAsString()).contains("\"retryAfterSeconds\":10");
+        assertThat(doFilter(request("/auth/login", "10.0.0.2")).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("mindlog.ratelimit.decisions")
+                .tag("rule", "auth")
+                .tag("outcome", RateLimitService.OUTCOME_LIMITED)
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void searchBucketFollowsProfileAcrossIps() throws Exception {
+        var profileId = UUID.randomUUID();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                MindlogPrincipal.user(profileId, "user"), null, List.of()));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(doFilter(request("/diaries", "10.0.0." + i)).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(doFilter(request("/diaries", "10.0.0.99")).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void rejectsWhenConcurrencySlotsAreTakenAndReleasesAfterChain() throws Exception {
+        searchConcurrency.acquire();
+
+        assertThat(doFilter(request("/diaries", "10.0.0.1")).getStatus()).isEqualTo(429);
+
+        searchConcurrency.release();
+        assertThat(doFilter(request("/diaries", "10.0.0.1")).getStatus()).isEqualTo(200);
+        assertThat(searchConcurrency.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void passesUnmatchedRequestsThrough() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(doFilter(request("/", "10.0.0.1")).getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void diarySearchMatcherCoversKeywordAndFilterOnlySearches() {
+        var matcher = RateLimitService.diarySearchMatcher();
+
+        assertThat(matcher.matches(request("/diaries", "10.0.0.1"))).isFalse();
+        assertThat(matcher.matches(withParam(request("/diaries", "10.0.0.1"), "q", " "))).isFalse();
+        assertThat(matcher.matches(withParam(request("/diaries", "10.0.0.1"), "q", "회사"))).isTrue();
+        assertThat(matcher.matches(withParam(request("/diaries", "10.0.0.1"), "category", "NEGATIVE"))).isTrue();
+        assertThat(matcher.matches(withParam(request("/diaries", "10.0.0.1"), "tagId", "7"))).isTrue();
+        assertThat(matcher.matches(withParam(request("/diaries/3", "10.0.0.1"), "category", "NEGATIVE"))).isFalse();
+    }
+
+    private static MockHttpServletRequest withParam(MockHttpServletRequest request, String name, String value) {
+        request.setParameter(name, value);
+        return request;
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String remoteAddr) {
+        var request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,99 @@
+package com.mindlog.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mindlog.domain.profile.entity.Profile;
+import com.mindlog.domain.profile.entity.UserRole;
+import com.mindlog.domain.profile.repository.ProfileRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+@ExtendWith(MockitoExtension.class)
+class LegacyPrincipalUpgradeFilterTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    private LegacyPrincipalUpgradeFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LegacyPrincipalUpgradeFilter(profileRepository);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void upgradesStringPrincipalUsingSessionUserName() throws Exception {
+        var profileId = UUID.randomUUID();
+        setLegacyAuthentication(profileId.toString());
+        var request = new MockHttpServletRequest();
+        request.getSession().setAttribute("USER_NAME", "기존유저");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        var principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal).isEqualTo(new MindlogPrincipal(profileId, "기존유저", List.of(MindlogPrincipal.ROLE_USER)));
+        var saved = (SecurityContext) request.getSession()
+                .getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        assertThat(saved.getAuthentication().getPrincipal()).isEqualTo(principal);
+        verifyNoInteractions(profileRepository);
+    }
+
+    @Test
+    void looksUpProfileNameOnceWhenSessionHasNoUserName() throws Exception {
+        var profileId = UUID.randomUUID();
+        setLegacyAuthentication(profileId.toString());
+        when(profileRepository.findById(profileId)).thenReturn(Optional.of(Profile.builder()
+                .id(profileId)
+                .email("legacy@example.com")
+                .name("프로필이름")
+                .userName("legacy_user")
+                .role(UserRole.USER)
+                .build()));
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        var principal = (MindlogPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.displayName()).isEqualTo("프로필이름");
+    }
+
+    @Test
+    void leavesNonUuidPrincipalUntouched() throws Exception {
+        setLegacyAuthentication("anonymousUser");
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo("anonymousUser");
+        verifyNoInteractions(profileRepository);
+    }
+
+    private void setLegacyAuthentication(String principal) {
+        var context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal,
+                "token",
+                List.of(new SimpleGrantedAuthority(MindlogPrincipal.ROLE_USER))));
+        SecurityContextHolder.setContext(context);
+    }
+}
@@ -0,0 +1,180 @@
+package com.mindlog.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindlog.global.http.SupabaseHttpClient;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 로컬 스텁 인증 서버(JDK HttpServer)를 상대로 선제 갱신 흐름을 확인한다.
+ */
+class SupabaseTokenLifecycleServiceTest {
+
+    private static final String JWT_SECRET = "test-jwt-secret-with-at-least-32-bytes!!";
+
+    private final AtomicInteger refreshCalls = new AtomicInteger();
+    private HttpServer stubServer;
+    private String supabaseUrl;
+    private MapSessionRepository sessionRepository;
+    private SupabaseTokenLifecycleService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        supabaseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+        stubServer.createContext("/auth/v1/token", exchange -> {
+            refreshCalls.incrementAndGet();
+            try {
+                // 동시 요청이 진행 중인 갱신과 겹치도록 잠깐 지연한다.
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            var body = """
+                    {"access_token":"%s","refresh_token":"refresh-2","expires_in":3600}
+                    """.formatted(jwt(Instant.now().plusSeconds(3600))).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stubServer.start();
+
+        var supabaseAuthService = new SupabaseAuthService(new ObjectMapper(), new SupabaseHttpClient(
+                supabaseUrl,
+                "anon-key",
+                new SupabaseHttpClient.Settings(
+                        Duration.ofSeconds(1), Duration.ofSeconds(2), 4, Duration.ofMillis(100),
+                        1, Duration.ofMillis(10), Duration.ofMillis(10), 5, Duration.ofSeconds(30)),
+                new SimpleMeterRegistry(),
+                Clock.systemUTC()));
+
+        sessionRepository = new MapSessionRepository(new ConcurrentHashMap<>());
+        service = new SupabaseTokenLifecycleService(
+                new SupabaseJwtVerifier(supabaseUrl, JWT_SECRET),
+                supabaseAuthService,
+                sessionRepository);
+        ReflectionTestUtils.setField(service, "refreshEnabled", true);
+        ReflectionTestUtils.setField(service, "refreshAheadSeconds", 300L);
+        ReflectionTestUtils.setField(service, "retryBackoffSeconds", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        stubServer.stop(0);
+    }
+
+    @Test
+    void doesNothingWhileTokenIsFarFromExpiry() {
+        var session = storedSession(jwt(Instant.now().plusSeconds(3600)), Instant.now().plusSeconds(3600));
+
+        var scheduled = service.onRequest(httpSession(session));
+
+        assertThat(scheduled).isFalse();
+        assertThat(refreshCalls).hasValue(0);
+    }
+
+    @Test
+    void concurrentRequestsNearExpiryTriggerSingleRefresh() {
+        var session = storedSession(jwt(Instant.now().plusSeconds(60)), Instant.now().plusSeconds(60));
+        var httpSession = httpSession(session);
+
+        var first = service.onRequest(httpSession);
+        var second = service.onRequest(httpSession);
+        var third = service.onRequest(httpSession);
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(third).isFalse();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            MapSession refreshed = sessionRepository.findById(session.getId());
+            assertThat(refreshed.<String>getAttribute(SupabaseTokenLifecycleService.REFRESH_TOKEN_KEY))
+                    .isEqualTo("refresh-2");
+        });
+        assertThat(refreshCalls).hasValue(1);
+
+        MapSession refreshed = sessionRepository.findById(session.getId());
+        long expiresAt = refreshed.getAttribute(SupabaseTokenLifecycleService.ACCESS_TOKEN_EXPIRES_AT_KEY);
+        assertThat(Instant.ofEpochSecond(expiresAt)).isAfter(Instant.now().plusSeconds(3000));
+    }
+
+    @Test
+    void fillsMissingExpiryFromLocallyVerifiedTokenWithoutRemoteCall() {
+        var expiresAt = Instant.now().plusSeconds(3600);
+        var session = storedSession(jwt(expiresAt), null);
+
+        assertThat(service.onRequest(httpSession(session))).isTrue();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            MapSession stored = sessionRepository.findById(session.getId());
+            assertThat(stored.<Long>getAttribute(SupabaseTokenLifecycleService.ACCESS_TOKEN_EXPIRES_AT_KEY))
+                    .isEqualTo(expiresAt.getEpochSecond());
+        });
+        assertThat(refreshCalls).hasValue(0);
+    }
+
+    @Test
+    void tokenWithForeignSignatureIsRefreshedRatherThanTrusted() {
+        var session = storedSession("eyJhbGciOiJIUzI1NiJ9.eyJleHAiOjk5OTk5OTk5OTl9.invalid", null);
+
+        service.onRequest(httpSession(session));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> refreshCalls.get() == 1);
+    }
+
+    private MapSession storedSession(String accessToken, Instant expiresAt) {
+        var session = new MapSession();
+        session.setAttribute(SupabaseTokenLifecycleService.ACCESS_TOKEN_KEY, accessToken);
+        session.setAttribute(SupabaseTokenLifecycleService.REFRESH_TOKEN_KEY, "refresh-1");
+        if (expiresAt != null) {
+            session.setAttribute(SupabaseTokenLifecycleService.ACCESS_TOKEN_EXPIRES_AT_KEY, expiresAt.getEpochSecond());
+        }
+        sessionRepository.save(session);
+        return session;
+    }
+
+    private MockHttpSession httpSession(MapSession session) {
+        var httpSession = new MockHttpSession(null, session.getId());
+        for (var name : session.getAttributeNames()) {
+            httpSession.setAttribute(name, session.getAttribute(name));
+        }
+        return httpSession;
+    }
+
+    private String jwt(Instant expiresAt) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        var header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        var payload = encoder.encodeToString("""
+                {"iss":"%s/auth/v1","sub":"00000000-0000-0000-0000-000000000001","exp":%d}
+                """.formatted(supabaseUrl, expiresAt.getEpochSecond()).strip().getBytes(StandardCharsets.UTF_8));
+        try {
+            var mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(JWT_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            var signature = mac.doFinal((header + "." + payload).getBytes(StandardCharsets.UTF_8));
+            return header + "." + payload + "." + encoder.encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
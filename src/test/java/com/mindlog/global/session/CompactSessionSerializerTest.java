@@ -0,0 +1,85 @@
+package com.mindlog.global.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mindlog.global.security.MindlogPrincipal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader());
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+    @Test
+    void roundTripsRegisteredScalarTypes() {
+        assertThat(serializer.deserialize(serializer.serialize("액세스-토큰"))).isEqualTo("액세스-토큰");
+        assertThat(serializer.deserialize(serializer.serialize(1_760_000_000_000L))).isEqualTo(1_760_000_000_000L);
+        assertThat(serializer.deserialize(serializer.serialize(2_592_000))).isEqualTo(2_592_000);
+        assertThat(serializer.deserialize(serializer.serialize(Boolean.TRUE))).isEqualTo(Boolean.TRUE);
+        assertThat(serializer.serialize(1L)).hasSize(9);
+    }
+
+    @Test
+    void writesTypedSecurityContextCompactly() {
+        var context = securityContext(new MindlogPrincipal(
+                UUID.randomUUID(),
+                "테스터",
+                List.of(MindlogPrincipal.ROLE_USER)));
+
+        var compact = serializer.serialize(context);
+        var restored = (SecurityContext) serializer.deserialize(compact);
+
+        assertThat(restored).isEqualTo(context);
+        assertThat(restored.getAuthentication().getPrincipal()).isEqualTo(context.getAuthentication().getPrincipal());
+        assertThat(restored.getAuthentication().getCredentials()).isEqualTo("access-token");
+        assertThat(compact.length).isLessThan(jdkSerializer.serialize(context).length / 5);
+    }
+
+    @Test
+    void fallsBackToJdkForUnregisteredTypes() {
+        var legacyContext = new SecurityContextImpl(new UsernamePasswordAuthenticationToken(
+                UUID.randomUUID().toString(),
+                "token",
+                List.of(new SimpleGrantedAuthority(MindlogPrincipal.ROLE_USER))));
+
+        var restored = serializer.deserialize(serializer.serialize(legacyContext));
+
+        assertThat(restored).isEqualTo(legacyContext);
+    }
+
+    @Test
+    void readsFieldsWrittenWithJdkSerialization() {
+        var context = securityContext(MindlogPrincipal.user(UUID.randomUUID(), "기존유저"));
+
+        assertThat(serializer.deserialize(jdkSerializer.serialize("USER"))).isEqualTo("USER");
+        assertThat(serializer.deserialize(jdkSerializer.serialize(42L))).isEqualTo(42L);
+        assertThat(serializer.deserialize(jdkSerializer.serialize(context))).isEqualTo(context);
+    }
+
+    @Test
+    void tracksBytesOnlyWhileRequestIsTracked() {
+        serializer.serialize("untracked");
+
+        SessionBytesTracker.start();
+        var written = serializer.serialize("tracked");
+        serializer.deserialize(written);
+        var snapshot = SessionBytesTracker.finish();
+
+        assertThat(snapshot.writtenBytes()).isEqualTo(written.length);
+        assertThat(snapshot.readBytes()).isEqualTo(written.length);
+    }
+
+    private SecurityContext securityContext(MindlogPrincipal principal) {
+        return new SecurityContextImpl(new UsernamePasswordAuthenticationToken(
+                principal,
+                "access-token",
+                principal.authorities()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.mindlog.global.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheSessionRepositoryTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private MapSessionRepository store;
+    private NearCacheSessionRepository repository;
+    private String sessionId;
+
+    @BeforeEach
+    void setUp() {
+        store = spy(new MapSessionRepository(new ConcurrentHashMap<>()));
+        repository = new NearCacheSessionRepository(
+                store,
+                redisTemplate,
+                Duration.ofSeconds(30),
+                100,
+                Clock.fixed(Instant.parse("2026-10-19T00:00:00Z"), ZoneOffset.UTC));
+
+        Session created = repository.createSession();
+        created.setAttribute("USER_NAME", "테스터");
+        repository.save(created);
+        sessionId = created.getId();
+    }
+
+    @Test
+    void servesRepeatedLookupsFromCacheWithoutStoreWrites() {
+        var first = repository.findById(sessionId);
+        repository.save(first);
+        var second = repository.findById(sessionId);
+        repository.save(second);
+
+        assertThat(second.<String>getAttribute("USER_NAME")).isEqualTo("테스터");
+        verify(store, never()).findById(sessionId);
+        verify(store, times(1)).save(any());
+    }
+
+    @Test
+    void writesChangedAttributesThroughStoreAndNotifiesOtherNodes() {
+        var session = repository.findById(sessionId);
+        session.setAttribute("ACCESS_TOKEN", "new-token");
+        repository.save(session);
+
+        assertThat(store.findById(sessionId).<String>getAttribute("ACCESS_TOKEN")).isEqualTo("new-token");
+        assertThat(repository.findById(sessionId).<String>getAttribute("ACCESS_TOKEN")).isEqualTo("new-token");
+        verify(redisTemplate, times(2)).convertAndSend(eq(NearCacheSessionRepository.INVALIDATION_CHANNEL), anyString());
+    }
+
+    @Test
+    void changeSessionIdMovesSessionToNewIdInStore() {
+        var session = repository.findById(sessionId);
+        var newId = session.changeSessionId();
+        repository.save(session);
+
+        assertThat(newId).isNotEqualTo(sessionId);
+        assertThat(session.getId()).isEqualTo(newId);
+        assertThat(store.findById(newId)).isNotNull();
+        assertThat(repository.findById(sessionId)).isNull();
+    }
+
+    @Test
+    void deleteAndRemoteInvalidationEvictEntries() {
+        repository.deleteById(sessionId);
+        assertThat(repository.findById(sessionId)).isNull();
+
+        Session other = repository.createSession();
+        repository.save(other);
+        assertThat(repository.size()).isEqualTo(1);
+
+        repository.onMessage(new DefaultMessage(
+                NearCacheSessionRepository.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("remote-node|" + other.getId()).getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(repository.size()).isZero();
+    }
+
+    @Test
+    void doesNotResurrectSessionDeletedElsewhere() {
+        var session = repository.findById(sessionId);
+        store.deleteById(sessionId);
+
+        session.setAttribute("ACCESS_TOKEN", "late-write");
+        repository.save(session);
+
+        assertThat(store.findById(sessionId)).isNull();
+    }
+}
@@ -0,0 +1,120 @@
+package com.mindlog.global.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mindlog.global.security.MindlogPrincipal;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+@ExtendWith(MockitoExtension.class)
+class RedisIndexedSessionRegistryTest {
+
+    private static final UUID PROFILE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final String INDEX_KEY = "spring:session:index:"
+            + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":" + PROFILE_ID;
+
+    @Mock
+    private FindByIndexNameSessionRepository<Session> sessionRepository;
+
+    @Mock
+    private RedisOperations<String, Object> redisOperations;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    private RedisIndexedSessionRegistry registry;
+    private MindlogPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RedisIndexedSessionRegistry(sessionRepository, redisOperations, "spring:session");
+        principal = MindlogPrincipal.user(PROFILE_ID, "테스터");
+    }
+
+    @Test
+    void getAllSessionsRemovesIndexEntriesOfSessionsThatNoLongerExist() {
+        var live = indexedSession("live-session");
+        when(sessionRepository.findByPrincipalName(PROFILE_ID.toString())).thenReturn(Map.of(live.getId(), live));
+        when(redisOperations.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(INDEX_KEY)).thenReturn(Set.of("live-session", "expired-session"));
+        when(sessionRepository.findById("expired-session")).thenReturn(null);
+
+        var sessions = registry.getAllSessions(principal, false);
+
+        assertThat(sessions).extracting(info -> info.getSessionId()).containsExactly("live-session");
+        assertThat(sessions.getFirst().getPrincipal()).isEqualTo(PROFILE_ID.toString());
+        verify(setOperations).remove(INDEX_KEY, "expired-session");
+    }
+
+    @Test
+    void getAllSessionsLeavesIndexUntouchedWhenEveryEntryIsLive() {
+        var live = indexedSession("live-session");
+        when(sessionRepository.findByPrincipalName(PROFILE_ID.toString())).thenReturn(Map.of(live.getId(), live));
+        when(redisOperations.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(INDEX_KEY)).thenReturn(Set.of("live-session"));
+
+        registry.getAllSessions(principal, false);
+
+        verify(setOperations, never()).remove(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void getAllSessionsKeepsIndexEntryOfSessionCreatedAfterPrincipalLookup() {
+        var live = indexedSession("live-session");
+        var created = indexedSession("new-session");
+        when(sessionRepository.findByPrincipalName(PROFILE_ID.toString())).thenReturn(Map.of(live.getId(), live));
+        when(redisOperations.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(INDEX_KEY)).thenReturn(Set.of("live-session", "new-session"));
+        when(sessionRepository.findById("new-session")).thenReturn(created);
+
+        registry.getAllSessions(principal, false);
+
+        verify(setOperations, never()).remove(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void expireNowMarksSessionSoOtherInstancesSeeItAsExpired() {
+        var live = indexedSession("live-session");
+        when(sessionRepository.findByPrincipalName(PROFILE_ID.toString())).thenReturn(Map.of(live.getId(), live));
+        when(redisOperations.opsForSet()).thenReturn(setOperations);
+        when(sessionRepository.findById("live-session")).thenReturn(live);
+
+        registry.getAllSessions(principal, false).getFirst().expireNow();
+
+        verify(sessionRepository).save(live);
+        var info = registry.getSessionInformation("live-session");
+        assertThat(info).isNotNull();
+        assertThat(info.isExpired()).isTrue();
+        assertThat(registry.getAllSessions(principal, false)).isEmpty();
+        assertThat(registry.getAllSessions(principal, true)).hasSize(1);
+    }
+
+    @Test
+    void getSessionInformationReturnsNullForUnknownSession() {
+        when(sessionRepository.findById("missing")).thenReturn(null);
+
+        assertThat(registry.getSessionInformation("missing")).isNull();
+    }
+
+    private MapSession indexedSession(String id) {
+        var session = new MapSession(id);
+        session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, PROFILE_ID.toString());
+        return session;
+    }
+}